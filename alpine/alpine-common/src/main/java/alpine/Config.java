@@ -176,6 +176,12 @@ public class Config {
         HTTP_TIMEOUT_CONNECTION                ("alpine.http.timeout.connection",    30),
         HTTP_TIMEOUT_POOL                      ("alpine.http.timeout.pool",          60),
         HTTP_TIMEOUT_SOCKET                    ("alpine.http.timeout.socket",        30),
+        HTTP_COMPRESSION_ENABLED               ("alpine.http.compression.enabled",   true),
+        HTTP_COMPRESSION_ENCODINGS             ("alpine.http.compression.encodings", "zstd, gzip"),
+        HTTP_COMPRESSION_MIN_SIZE              ("alpine.http.compression.min.size",  1024),
+        HTTP_COMPRESSION_MEDIA_TYPES           ("alpine.http.compression.media.types", "application/json, application/*+json, application/x-ndjson, application/xml, application/*+xml, text/*"),
+        HTTP_COMPRESSION_GZIP_LEVEL            ("alpine.http.compression.gzip.level", 4),
+        HTTP_COMPRESSION_ZSTD_LEVEL            ("alpine.http.compression.zstd.level", 3),
         CORS_ENABLED                           ("alpine.cors.enabled",               true),
         CORS_ALLOW_ORIGIN                      ("alpine.cors.allow.origin",          "*"),
         CORS_ALLOW_METHODS                     ("alpine.cors.allow.methods",         "GET, POST, PUT, DELETE, OPTIONS"),
@@ -185,7 +191,12 @@ public class Config {
         CORS_MAX_AGE                           ("alpine.cors.max.age",               3600),
         WATCHDOG_LOGGING_INTERVAL              ("alpine.watchdog.logging.interval",  0),
         API_KEY_PREFIX                         ("alpine.api.key.prefix",             "alpine_"),
-        AUTH_JWT_TTL_SECONDS                   ("alpine.auth.jwt.ttl.seconds",       7 * 24 * 60 * 60);
+        EVENT_SERVICE_LOG_ENABLED              ("alpine.event.service.log.enabled",  true),
+        EVENT_SERVICE_LOG_EXCLUDED_SUBSCRIBERS ("alpine.event.service.log.excluded.subscribers", null),
+        EVENT_SERVICE_LOG_BUFFER_SIZE          ("alpine.event.service.log.buffer.size", 1000),
+        EVENT_SERVICE_LOG_FLUSH_INTERVAL_MS    ("alpine.event.service.log.flush.interval.ms", 5000),
+        AUTH_JWT_TTL_SECONDS                   ("alpine.auth.jwt.ttl.seconds",       7 * 24 * 60 * 60),
+        AUTH_PRINCIPAL_CACHE_TTL_SECONDS       ("alpine.auth.principal.cache.ttl.seconds", 5);
         // @formatter:on
 
         private String propertyName;
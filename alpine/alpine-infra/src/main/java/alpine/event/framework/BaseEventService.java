@@ -20,23 +20,32 @@ package alpine.event.framework;
 
 import alpine.common.logging.Logger;
 import alpine.common.metrics.Metrics;
-import alpine.model.EventServiceLog;
-import alpine.persistence.AlpineQueryManager;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.Timer;
 import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 
+import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.sql.Timestamp;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import static alpine.common.util.ExecutorUtil.getExecutorStats;
 
@@ -61,6 +70,15 @@ public abstract class BaseEventService implements IEventService {
             .build()
     );
     private final ExecutorService dynamicExecutor = Executors.newWorkStealingPool();
+    private final Map<String, NamedExecutor> namedExecutors = new ConcurrentHashMap<>();
+    private final Map<Class<? extends Event>, NamedExecutor> namedExecutorByEventType = new ConcurrentHashMap<>();
+    private final Map<Class<? extends Subscriber>, Constructor<? extends Subscriber>> subscriberConstructors = new ConcurrentHashMap<>();
+
+    /**
+     * An executor dedicated to events of specific types.
+     */
+    private record NamedExecutor(EventExecutorConfig config, ThreadPoolExecutor executor) {
+    }
 
     /**
      * @param executor an ExecutorService instance
@@ -78,6 +96,70 @@ public abstract class BaseEventService implements IEventService {
         this.logger = logger;
     }
 
+    /**
+     * Register a named executor, and dispatch events of the given types to it.
+     * <p>
+     * This allows long-running events to be isolated from each other, such that
+     * they do not queue behind one another on the shared executor.
+     *
+     * @param config     The {@link EventExecutorConfig} of the executor
+     * @param eventTypes Types of events to dispatch to the executor
+     * @throws IllegalStateException When an executor with the same name is already registered,
+     *                               or any of the event types is already assigned to another executor
+     * @since 5.6.0
+     */
+    public synchronized void registerExecutor(final EventExecutorConfig config,
+                                              final Collection<Class<? extends Event>> eventTypes) {
+        if (namedExecutors.containsKey(config.name())) {
+            throw new IllegalStateException("An executor with name %s is already registered".formatted(config.name()));
+        }
+        for (final Class<? extends Event> eventType : eventTypes) {
+            final NamedExecutor existingExecutor = namedExecutorByEventType.get(eventType);
+            if (existingExecutor != null) {
+                throw new IllegalStateException("Events of type %s are already dispatched to executor %s"
+                        .formatted(eventType.getName(), existingExecutor.config().name()));
+            }
+        }
+
+        final String executorName = "%s-%s".formatted(getClass().getSimpleName(), config.name());
+        final ThreadFactory threadFactory;
+        if (config.virtualThreads()) {
+            threadFactory = Thread.ofVirtual()
+                    .name(executorName + "-", 0)
+                    .uncaughtExceptionHandler(new LoggableUncaughtExceptionHandler())
+                    .factory();
+        } else {
+            threadFactory = new BasicThreadFactory.Builder()
+                    .namingPattern(executorName + "-%d")
+                    .uncaughtExceptionHandler(new LoggableUncaughtExceptionHandler())
+                    .build();
+        }
+
+        final BlockingQueue<Runnable> queue = config.queueCapacity() > 0
+                ? new ArrayBlockingQueue<>(config.queueCapacity())
+                : new LinkedBlockingQueue<>();
+
+        // Rejections are handled in #publish, such that chain tracking can be cleaned up.
+        final var executor = new ThreadPoolExecutor(config.threads(), config.threads(), 0L, TimeUnit.MILLISECONDS,
+                queue, threadFactory, new ThreadPoolExecutor.AbortPolicy());
+        Metrics.registerExecutorService(executor, executorName);
+        Gauge.builder("alpine_event_executor_queue_size", executor, e -> e.getQueue().size())
+                .description("Number of events waiting to be processed")
+                .tags("executor", config.name(), "publisher", this.getClass().getName())
+                .register(Metrics.getRegistry());
+
+        final var namedExecutor = new NamedExecutor(config, executor);
+        namedExecutors.put(config.name(), namedExecutor);
+        for (final Class<? extends Event> eventType : eventTypes) {
+            namedExecutorByEventType.put(eventType, namedExecutor);
+        }
+
+        logger.info("Registered executor %s with %d %s threads and %s queue for %d event types".formatted(
+                config.name(), config.threads(), config.virtualThreads() ? "virtual" : "platform",
+                config.queueCapacity() > 0 ? "a capacity " + config.queueCapacity() : "an unbounded",
+                eventTypes.size()));
+    }
+
     /**
      * {@inheritDoc}
      * @since 1.0.0
@@ -98,63 +180,132 @@ public abstract class BaseEventService implements IEventService {
                 }
             }
 
-            // Check to see if the Event is Unblocked. If so, use a separate executor pool from normal events
-            final ExecutorService executorService = event instanceof UnblockedEvent  ? dynamicExecutor : executor;
-
-            executorService.execute(() -> {
-                try (AlpineQueryManager qm = new AlpineQueryManager()) {
-                    final EventServiceLog eventServiceLog = qm.createEventServiceLog(clazz);
-                    final Subscriber subscriber = clazz.getDeclaredConstructor().newInstance();
-                    final Timer.Sample timerSample = Timer.start();
-                    try {
-                        subscriber.inform(event);
-                    } finally {
-                        timerSample.stop(Timer.builder("alpine_event_processing")
-                                .tag("event", event.getClass().getSimpleName())
-                                .tag("subscriber", clazz.getSimpleName())
-                                .register(Metrics.getRegistry()));
-                    }
-                    qm.updateEventServiceLog(eventServiceLog);
-                    if (event instanceof ChainableEvent) {
-                        ChainableEvent chainableEvent = (ChainableEvent)event;
-                        logger.debug("Calling onSuccess");
-                        for (ChainLink chainLink: chainableEvent.onSuccess()) {
-                            if (chainLink.getSuccessEventService() != null) {
-                                Method method = chainLink.getSuccessEventService().getMethod("getInstance");
-                                IEventService es = (IEventService) method.invoke(chainLink.getSuccessEventService(), new Object[0]);
-                                es.publish(chainLink.getSuccessEvent());
-                            } else {
-                                Event.dispatch(chainLink.getSuccessEvent());
-                            }
-                        }
+            // Check to see if the Event is Unblocked. If so, use a separate executor pool from normal events.
+            // Events for which a named executor is registered are dispatched to that executor instead.
+            final NamedExecutor namedExecutor = namedExecutorByEventType.get(event.getClass());
+            final ExecutorService executorService;
+            final String executorName;
+            if (namedExecutor != null) {
+                executorService = namedExecutor.executor();
+                executorName = namedExecutor.config().name();
+            } else if (event instanceof UnblockedEvent) {
+                executorService = dynamicExecutor;
+                executorName = "unblocked";
+            } else {
+                executorService = executor;
+                executorName = "default";
+            }
+
+            final long enqueuedAtNanos = System.nanoTime();
+            final Runnable task = () -> {
+                Timer.builder("alpine_event_queue_wait")
+                        .description("Time events spent waiting to be processed")
+                        .tags("executor", executorName, "publisher", this.getClass().getName())
+                        .register(Metrics.getRegistry())
+                        .record(System.nanoTime() - enqueuedAtNanos, TimeUnit.NANOSECONDS);
+                inform(event, clazz);
+            };
+
+            try {
+                executorService.execute(task);
+            } catch (RejectedExecutionException e) {
+                final EventExecutorConfig.RejectionPolicy rejectionPolicy = namedExecutor != null
+                        ? namedExecutor.config().rejectionPolicy()
+                        : EventExecutorConfig.RejectionPolicy.ABORT;
+                if (rejectionPolicy == EventExecutorConfig.RejectionPolicy.CALLER_RUNS && !executorService.isShutdown()) {
+                    logger.debug("Executor %s is saturated; Informing subscriber %s in calling thread"
+                            .formatted(executorName, clazz.getName()));
+                    task.run();
+                    continue;
+                }
+
+                if (event instanceof ChainableEvent) {
+                    removeTrackedEvent((ChainableEvent) event);
+                }
+                if (rejectionPolicy == EventExecutorConfig.RejectionPolicy.DISCARD) {
+                    logger.warn("Executor %s rejected event %s for subscriber %s; Discarding it"
+                            .formatted(executorName, event.getClass().getName(), clazz.getName()));
+                    continue;
+                }
+
+                throw e;
+            }
+        }
+        recordPublishedMetric(event);
+    }
+
+    private void inform(final Event event, final Class<? extends Subscriber> clazz) {
+        try {
+            final Subscriber subscriber = getSubscriberConstructor(clazz).newInstance();
+            final var started = new Timestamp(System.currentTimeMillis());
+            final Timer.Sample timerSample = Timer.start();
+            boolean succeeded = false;
+            try {
+                subscriber.inform(event);
+                succeeded = true;
+            } finally {
+                timerSample.stop(Timer.builder("alpine_event_processing")
+                        .tag("event", event.getClass().getSimpleName())
+                        .tag("subscriber", clazz.getSimpleName())
+                        .register(Metrics.getRegistry()));
+
+                // Logs are written asynchronously and in batches, to keep database
+                // interactions off the event processing path. Failed executions are
+                // recorded without completion timestamp. Executions that are still
+                // in progress only become visible once they finished.
+                EventServiceLogWriter.getInstance().record(clazz, started,
+                        succeeded ? new Timestamp(System.currentTimeMillis()) : null);
+            }
+            if (event instanceof ChainableEvent) {
+                ChainableEvent chainableEvent = (ChainableEvent)event;
+                logger.debug("Calling onSuccess");
+                for (ChainLink chainLink: chainableEvent.onSuccess()) {
+                    if (chainLink.getSuccessEventService() != null) {
+                        Method method = chainLink.getSuccessEventService().getMethod("getInstance");
+                        IEventService es = (IEventService) method.invoke(chainLink.getSuccessEventService(), new Object[0]);
+                        es.publish(chainLink.getSuccessEvent());
+                    } else {
+                        Event.dispatch(chainLink.getSuccessEvent());
                     }
-                } catch (NoSuchMethodException | InvocationTargetException | InstantiationException | IllegalAccessException | SecurityException e) {
-                    logger.error("An error occurred while informing subscriber: " + e);
-                    if (event instanceof ChainableEvent) {
-                        ChainableEvent chainableEvent = (ChainableEvent)event;
-                        logger.debug("Calling onFailure");
-                        for (ChainLink chainLink: chainableEvent.onFailure()) {
-                            if (chainLink.getFailureEventService() != null) {
-                                try {
-                                    Method method = chainLink.getFailureEventService().getMethod("getInstance");
-                                    IEventService es = (IEventService) method.invoke(chainLink.getFailureEventService(), new Object[0]);
-                                    es.publish(chainLink.getFailureEvent());
-                                } catch (NoSuchMethodException | InvocationTargetException | IllegalAccessException ex) {
-                                    logger.error("Exception while calling onFailure callback", ex);
-                                }
-                            } else {
-                                Event.dispatch(chainLink.getFailureEvent());
-                            }
+                }
+            }
+        } catch (NoSuchMethodException | InvocationTargetException | InstantiationException | IllegalAccessException | SecurityException e) {
+            logger.error("An error occurred while informing subscriber: " + e);
+            if (event instanceof ChainableEvent) {
+                ChainableEvent chainableEvent = (ChainableEvent)event;
+                logger.debug("Calling onFailure");
+                for (ChainLink chainLink: chainableEvent.onFailure()) {
+                    if (chainLink.getFailureEventService() != null) {
+                        try {
+                            Method method = chainLink.getFailureEventService().getMethod("getInstance");
+                            IEventService es = (IEventService) method.invoke(chainLink.getFailureEventService(), new Object[0]);
+                            es.publish(chainLink.getFailureEvent());
+                        } catch (NoSuchMethodException | InvocationTargetException | IllegalAccessException ex) {
+                            logger.error("Exception while calling onFailure callback", ex);
                         }
-                    }
-                } finally {
-                    if (event instanceof ChainableEvent) {
-                        removeTrackedEvent((ChainableEvent)event);
+                    } else {
+                        Event.dispatch(chainLink.getFailureEvent());
                     }
                 }
-            });
+            }
+        } finally {
+            if (event instanceof ChainableEvent) {
+                removeTrackedEvent((ChainableEvent)event);
+            }
         }
-        recordPublishedMetric(event);
+    }
+
+    /**
+     * Subscribers are instantiated for every event they are informed about.
+     * Their constructors are cached to avoid repeated reflective lookups.
+     */
+    private Constructor<? extends Subscriber> getSubscriberConstructor(final Class<? extends Subscriber> clazz) throws NoSuchMethodException {
+        Constructor<? extends Subscriber> constructor = subscriberConstructors.get(clazz);
+        if (constructor == null) {
+            constructor = clazz.getDeclaredConstructor();
+            subscriberConstructors.put(clazz, constructor);
+        }
+        return constructor;
     }
 
     /**
@@ -255,6 +406,7 @@ public abstract class BaseEventService implements IEventService {
         logger.info("Shutting down EventService");
         executor.shutdown();
         dynamicExecutor.shutdown();
+        namedExecutors.values().forEach(namedExecutor -> namedExecutor.executor().shutdown());
     }
 
     /**
@@ -266,23 +418,37 @@ public abstract class BaseEventService implements IEventService {
 
         final Instant waitTimeout = Instant.now().plus(timeout);
         Instant statsLastLoggedAt = null;
-        while (!executor.isTerminated() || !dynamicExecutor.isTerminated()) {
+        while (!executor.isTerminated() || !dynamicExecutor.isTerminated() || !areNamedExecutorsTerminated()) {
             if (waitTimeout.isBefore(Instant.now())) {
-                logger.warn("Timeout exceeded while waiting for executors to finish: executor=%s, dynamicExecutor=%s"
-                        .formatted(getExecutorStats(executor), getExecutorStats(dynamicExecutor)));
+                logger.warn("Timeout exceeded while waiting for executors to finish: executor=%s, dynamicExecutor=%s%s"
+                        .formatted(getExecutorStats(executor), getExecutorStats(dynamicExecutor), getNamedExecutorStats()));
                 return false;
             }
 
             final Instant now = Instant.now();
             if (statsLastLoggedAt == null || now.minus(5, ChronoUnit.SECONDS).isAfter(statsLastLoggedAt)) {
-                logger.info("Waiting for executors to terminate: executor=%s, dynamicExecutor=%s"
-                        .formatted(getExecutorStats(executor), getExecutorStats(dynamicExecutor)));
+                logger.info("Waiting for executors to terminate: executor=%s, dynamicExecutor=%s%s"
+                        .formatted(getExecutorStats(executor), getExecutorStats(dynamicExecutor), getNamedExecutorStats()));
                 statsLastLoggedAt = now;
             }
         }
 
         logger.info("Executors terminated successfully");
+        EventServiceLogWriter.getInstance().flush();
         return true;
     }
 
+    private boolean areNamedExecutorsTerminated() {
+        return namedExecutors.values().stream().allMatch(namedExecutor -> namedExecutor.executor().isTerminated());
+    }
+
+    private String getNamedExecutorStats() {
+        final var sb = new StringBuilder();
+        for (final NamedExecutor namedExecutor : namedExecutors.values()) {
+            sb.append(", ").append(namedExecutor.config().name()).append("=")
+                    .append(getExecutorStats(namedExecutor.executor()));
+        }
+        return sb.toString();
+    }
+
 }
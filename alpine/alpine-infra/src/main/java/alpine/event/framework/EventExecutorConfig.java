@@ -0,0 +1,116 @@
+/*
+ * This file is part of Alpine.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Steve Springett. All Rights Reserved.
+ */
+package alpine.event.framework;
+
+import alpine.Config;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Configuration of a named executor that events of specific types are dispatched to.
+ * <p>
+ * Named executors can be configured via pass-through properties:
+ * <ul>
+ *     <li>{@code alpine.event.executor.<name>.threads}: Number of worker threads</li>
+ *     <li>{@code alpine.event.executor.<name>.virtual.threads}: Whether to use virtual threads</li>
+ *     <li>{@code alpine.event.executor.<name>.queue.capacity}: Maximum number of queued events, {@code 0} for unbounded</li>
+ *     <li>{@code alpine.event.executor.<name>.rejection.policy}: One of {@link RejectionPolicy}</li>
+ * </ul>
+ *
+ * @param name             Name of the executor
+ * @param threads          Number of worker threads
+ * @param virtualThreads   Whether to use virtual threads instead of platform threads
+ * @param queueCapacity    Maximum number of queued events, or {@code 0} for an unbounded queue
+ * @param rejectionPolicy  The {@link RejectionPolicy} to apply when the queue is full
+ * @see BaseEventService#registerExecutor(EventExecutorConfig, java.util.Collection)
+ * @since 5.6.0
+ */
+public record EventExecutorConfig(String name, int threads, boolean virtualThreads,
+                                  int queueCapacity, RejectionPolicy rejectionPolicy) {
+
+    /**
+     * Policies to apply when an event can not be queued, because the executor's queue is full.
+     */
+    public enum RejectionPolicy {
+
+        /**
+         * Fail the publishing of the event with a {@link java.util.concurrent.RejectedExecutionException}.
+         */
+        ABORT,
+
+        /**
+         * Inform the subscriber in the thread that published the event.
+         */
+        CALLER_RUNS,
+
+        /**
+         * Log and discard the event.
+         */
+        DISCARD
+
+    }
+
+    private static final String PROPERTY_PREFIX = "event.executor";
+
+    public EventExecutorConfig {
+        Objects.requireNonNull(name, "name must not be null");
+        Objects.requireNonNull(rejectionPolicy, "rejectionPolicy must not be null");
+        if (!name.matches("^[a-z0-9]+$")) {
+            throw new IllegalArgumentException("name must consist of lowercase alphanumeric characters only, but is: " + name);
+        }
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads must be greater than 0, but is: " + threads);
+        }
+        if (queueCapacity < 0) {
+            throw new IllegalArgumentException("queueCapacity must not be negative, but is: " + queueCapacity);
+        }
+    }
+
+    /**
+     * Create an {@link EventExecutorConfig} from the application's configuration.
+     *
+     * @param name           Name of the executor
+     * @param defaultThreads Number of worker threads to use when not explicitly configured
+     * @return An {@link EventExecutorConfig}
+     */
+    public static EventExecutorConfig fromConfig(final String name, final int defaultThreads) {
+        return fromProperties(name, Config.getInstance().getPassThroughProperties(PROPERTY_PREFIX), defaultThreads);
+    }
+
+    static EventExecutorConfig fromProperties(final String name, final Map<String, String> properties, final int defaultThreads) {
+        final String prefix = "%s.%s.".formatted(PROPERTY_PREFIX, name);
+
+        final String threads = properties.get(prefix + "threads");
+        final String virtualThreads = properties.get(prefix + "virtual.threads");
+        final String queueCapacity = properties.get(prefix + "queue.capacity");
+        final String rejectionPolicy = properties.get(prefix + "rejection.policy");
+
+        return new EventExecutorConfig(
+                name,
+                threads != null ? Integer.parseInt(threads.trim()) : defaultThreads,
+                Boolean.parseBoolean(virtualThreads),
+                queueCapacity != null ? Integer.parseInt(queueCapacity.trim()) : 0,
+                rejectionPolicy != null
+                        ? RejectionPolicy.valueOf(rejectionPolicy.trim().toUpperCase(Locale.ROOT))
+                        : RejectionPolicy.ABORT);
+    }
+
+}
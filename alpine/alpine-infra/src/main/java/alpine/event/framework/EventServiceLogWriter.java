@@ -0,0 +1,177 @@
+/*
+ * This file is part of Alpine.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Steve Springett. All Rights Reserved.
+ */
+package alpine.event.framework;
+
+import alpine.Config;
+import alpine.common.logging.Logger;
+import alpine.common.metrics.Metrics;
+import alpine.model.EventServiceLog;
+import alpine.persistence.AlpineQueryManager;
+import io.micrometer.core.instrument.Counter;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Asynchronously records {@link EventServiceLog}s in batches.
+ * <p>
+ * Finished executions of {@link LoggableSubscriber}s are buffered in memory, and periodically
+ * written to the database in a single transaction. This avoids synchronous database writes
+ * on the event processing path. When the buffer is full, the oldest entries are dropped.
+ * <p>
+ * Unlike with synchronous logging, executions are only recorded once they finished.
+ * Executions that failed are recorded without completion timestamp.
+ *
+ * @since 5.6.0
+ */
+final class EventServiceLogWriter {
+
+    private static final Logger LOGGER = Logger.getLogger(EventServiceLogWriter.class);
+    private static final EventServiceLogWriter INSTANCE = new EventServiceLogWriter(
+            Config.getInstance().getPropertyAsBoolean(Config.AlpineKey.EVENT_SERVICE_LOG_ENABLED),
+            Set.copyOf(Config.getInstance().getPropertyAsList(Config.AlpineKey.EVENT_SERVICE_LOG_EXCLUDED_SUBSCRIBERS)),
+            Config.getInstance().getPropertyAsInt(Config.AlpineKey.EVENT_SERVICE_LOG_BUFFER_SIZE),
+            Config.getInstance().getPropertyAsLong(Config.AlpineKey.EVENT_SERVICE_LOG_FLUSH_INTERVAL_MS),
+            EventServiceLogWriter::persist);
+
+    private final boolean enabled;
+    private final Set<String> excludedSubscribers;
+    private final BlockingQueue<EventServiceLog> buffer;
+    private final long flushIntervalMillis;
+    private final Consumer<List<EventServiceLog>> batchConsumer;
+    private final Counter droppedCounter;
+    private ScheduledExecutorService flushExecutor;
+
+    EventServiceLogWriter(final boolean enabled, final Set<String> excludedSubscribers, final int bufferSize,
+                          final long flushIntervalMillis, final Consumer<List<EventServiceLog>> batchConsumer) {
+        this.enabled = enabled;
+        this.excludedSubscribers = excludedSubscribers;
+        this.buffer = new ArrayBlockingQueue<>(Math.max(1, bufferSize));
+        this.flushIntervalMillis = Math.max(100, flushIntervalMillis);
+        this.batchConsumer = batchConsumer;
+        this.droppedCounter = Counter.builder("alpine_event_service_log_dropped_total")
+                .description("Total number of event service log entries dropped due to a full buffer")
+                .register(Metrics.getRegistry());
+    }
+
+    static EventServiceLogWriter getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * @param clazz The {@link Subscriber} class
+     * @return {@code true} when executions of {@code clazz} shall be logged, otherwise {@code false}
+     */
+    boolean isLoggable(final Class<? extends Subscriber> clazz) {
+        return enabled
+                && LoggableSubscriber.class.isAssignableFrom(clazz)
+                && !excludedSubscribers.contains(clazz.getName())
+                && !excludedSubscribers.contains(clazz.getSimpleName());
+    }
+
+    /**
+     * Record a finished execution of a {@link Subscriber}.
+     *
+     * @param clazz     The {@link Subscriber} class
+     * @param started   When the execution started
+     * @param completed When the execution completed, or {@code null} when it failed
+     */
+    void record(final Class<? extends Subscriber> clazz, final Timestamp started, final Timestamp completed) {
+        if (!isLoggable(clazz)) {
+            return;
+        }
+
+        final var log = new EventServiceLog();
+        log.setSubscriberClass(clazz.getCanonicalName());
+        log.setStarted(started);
+        log.setCompleted(completed);
+
+        // Behave like a ring buffer: Make room by dropping the oldest entry.
+        while (!buffer.offer(log)) {
+            if (buffer.poll() != null) {
+                droppedCounter.increment();
+            }
+        }
+
+        ensureFlushScheduled();
+    }
+
+    /**
+     * Write all buffered entries.
+     */
+    void flush() {
+        final var batch = new ArrayList<EventServiceLog>(buffer.size());
+        buffer.drainTo(batch);
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            batchConsumer.accept(batch);
+            LOGGER.debug("Recorded %d event service logs".formatted(batch.size()));
+        } catch (RuntimeException e) {
+            LOGGER.error("Failed to record %d event service logs".formatted(batch.size()), e);
+        }
+    }
+
+    /**
+     * Stop periodic flushing, and write all buffered entries.
+     */
+    synchronized void shutdown() {
+        if (flushExecutor != null) {
+            flushExecutor.shutdown();
+            flushExecutor = null;
+        }
+
+        flush();
+    }
+
+    int getBufferedCount() {
+        return buffer.size();
+    }
+
+    private synchronized void ensureFlushScheduled() {
+        if (flushExecutor != null) {
+            return;
+        }
+
+        flushExecutor = Executors.newSingleThreadScheduledExecutor(new BasicThreadFactory.Builder()
+                .namingPattern("Alpine-EventServiceLogWriter")
+                .daemon(true)
+                .uncaughtExceptionHandler(new LoggableUncaughtExceptionHandler())
+                .build());
+        flushExecutor.scheduleWithFixedDelay(this::flush, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private static void persist(final List<EventServiceLog> logs) {
+        try (final var qm = new AlpineQueryManager()) {
+            qm.persist(logs);
+        }
+    }
+
+}
@@ -29,12 +29,17 @@ public class Pagination {
     public enum Strategy {
         OFFSET,
         PAGES,
+        /**
+         * @since 5.6.0
+         */
+        CURSOR,
         NONE
     }
 
     private final Strategy strategy;
     private int offset;
     private int limit;
+    private String cursor;
 
     /**
      * Creates a new Pagination object with the specified offset and limit, or page number
@@ -51,8 +56,11 @@ public class Pagination {
     /**
      * Creates a new Pagination object with the specified offset and limit, or page number
      * and size. If any parameters are null, a value of 0 will be used.
+     * <p>
+     * When using the {@link Strategy#CURSOR} strategy, {@code o1} is the opaque cursor
+     * returned with the previous page, or {@code null} to request the first page.
      * @param strategy the pagination strategy to use
-     * @param o1 the offset or page number to use
+     * @param o1 the offset, page number, or cursor to use
      * @param o2 the number of results to limit a result-set to (aka, the size of the page)
      */
     public Pagination(final Strategy strategy, final String o1, final String o2) {
@@ -61,6 +69,9 @@ public class Pagination {
             calculateStrategy(strategy, parseIntegerFromParam(o1, 0), parseIntegerFromParam(o2, 100));
         } else if (Strategy.PAGES == strategy) {
             calculateStrategy(strategy, parseIntegerFromParam(o1, 1), parseIntegerFromParam(o2, 100));
+        } else if (Strategy.CURSOR == strategy) {
+            this.cursor = (o1 == null || o1.isBlank()) ? null : o1.trim();
+            calculateStrategy(strategy, 0, parseIntegerFromParam(o2, 100));
         }
     }
 
@@ -71,7 +82,7 @@ public class Pagination {
      * @param o2 the number of results to limit a result-set to (aka, the size of the page)
      */
     private void calculateStrategy(final Strategy strategy, final int o1, final int o2) {
-        if (Strategy.OFFSET == strategy) {
+        if (Strategy.OFFSET == strategy || Strategy.CURSOR == strategy) {
             this.offset = o1;
             this.limit = o2;
         } else if (Strategy.PAGES == strategy) {
@@ -104,13 +115,32 @@ public class Pagination {
         return limit;
     }
 
+    /**
+     * Returns the cursor pointing to the position after which results shall be returned.
+     * Only applicable to the {@link Strategy#CURSOR} strategy.
+     * @return the cursor, or {@code null} if the first page is requested
+     * @since 5.6.0
+     */
+    public String getCursor() {
+        return cursor;
+    }
+
     /**
      * Returns if pagination is being used for this request. A page number and page size
      * greater than 0 will return true. If either of those are 0, method will return false.
      * @return if paginiation is used for this request
      */
     public boolean isPaginated() {
-        return (Strategy.OFFSET == strategy || Strategy.PAGES == strategy) && limit > 0;
+        return (Strategy.OFFSET == strategy || Strategy.PAGES == strategy || Strategy.CURSOR == strategy) && limit > 0;
+    }
+
+    /**
+     * Returns if cursor-based pagination is requested.
+     * @return if cursor-based pagination is used for this request
+     * @since 5.6.0
+     */
+    public boolean isCursorBased() {
+        return Strategy.CURSOR == strategy && limit > 0;
     }
 
     /**
@@ -0,0 +1,66 @@
+/*
+ * This file is part of Alpine.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Steve Springett. All Rights Reserved.
+ */
+package alpine.event.framework;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class EventExecutorConfigTest {
+
+    @Test
+    void shouldUseDefaultsWhenNotConfigured() {
+        final EventExecutorConfig config = EventExecutorConfig.fromProperties("bom", Map.of(), 4);
+        assertThat(config.name()).isEqualTo("bom");
+        assertThat(config.threads()).isEqualTo(4);
+        assertThat(config.virtualThreads()).isFalse();
+        assertThat(config.queueCapacity()).isZero();
+        assertThat(config.rejectionPolicy()).isEqualTo(EventExecutorConfig.RejectionPolicy.ABORT);
+    }
+
+    @Test
+    void shouldUseConfiguredValues() {
+        final EventExecutorConfig config = EventExecutorConfig.fromProperties("bom", Map.of(
+                "event.executor.bom.threads", "8",
+                "event.executor.bom.virtual.threads", "true",
+                "event.executor.bom.queue.capacity", "100",
+                "event.executor.bom.rejection.policy", "caller_runs",
+                "event.executor.clone.threads", "2"), 4);
+        assertThat(config.threads()).isEqualTo(8);
+        assertThat(config.virtualThreads()).isTrue();
+        assertThat(config.queueCapacity()).isEqualTo(100);
+        assertThat(config.rejectionPolicy()).isEqualTo(EventExecutorConfig.RejectionPolicy.CALLER_RUNS);
+    }
+
+    @Test
+    void shouldRejectInvalidValues() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> EventExecutorConfig.fromProperties("bom", Map.of("event.executor.bom.threads", "0"), 4));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> EventExecutorConfig.fromProperties("bom", Map.of("event.executor.bom.queue.capacity", "-1"), 4));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> EventExecutorConfig.fromProperties("bom", Map.of("event.executor.bom.rejection.policy", "foo"), 4));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> EventExecutorConfig.fromProperties("bom-upload", Map.of(), 4));
+    }
+
+}
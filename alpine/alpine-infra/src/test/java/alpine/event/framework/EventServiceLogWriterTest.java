@@ -0,0 +1,102 @@
+/*
+ * This file is part of Alpine.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Steve Springett. All Rights Reserved.
+ */
+package alpine.event.framework;
+
+import alpine.model.EventServiceLog;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventServiceLogWriterTest {
+
+    public static class LoggableTestSubscriber implements LoggableSubscriber {
+        @Override
+        public void inform(final Event event) {
+        }
+    }
+
+    public static class OtherLoggableTestSubscriber implements LoggableSubscriber {
+        @Override
+        public void inform(final Event event) {
+        }
+    }
+
+    public static class NonLoggableTestSubscriber implements Subscriber {
+        @Override
+        public void inform(final Event event) {
+        }
+    }
+
+    @Test
+    void shouldOnlyRecordLoggableSubscribers() {
+        final var batches = new ArrayList<List<EventServiceLog>>();
+        final var writer = new EventServiceLogWriter(true, Set.of(), 10, 60_000, batches::add);
+
+        writer.record(LoggableTestSubscriber.class, new Timestamp(1), new Timestamp(2));
+        writer.record(NonLoggableTestSubscriber.class, new Timestamp(1), new Timestamp(2));
+        writer.flush();
+        writer.shutdown();
+
+        assertThat(batches).satisfiesExactly(batch -> assertThat(batch).satisfiesExactly(log -> {
+            assertThat(log.getSubscriberClass()).isEqualTo(LoggableTestSubscriber.class.getCanonicalName());
+            assertThat(log.getStarted()).isEqualTo(new Timestamp(1));
+            assertThat(log.getCompleted()).isEqualTo(new Timestamp(2));
+        }));
+    }
+
+    @Test
+    void shouldNotRecordWhenDisabledOrExcluded() {
+        final var batches = new ArrayList<List<EventServiceLog>>();
+
+        final var disabledWriter = new EventServiceLogWriter(false, Set.of(), 10, 60_000, batches::add);
+        disabledWriter.record(LoggableTestSubscriber.class, new Timestamp(1), new Timestamp(2));
+        disabledWriter.shutdown();
+
+        final var excludingWriter = new EventServiceLogWriter(true,
+                Set.of(LoggableTestSubscriber.class.getSimpleName()), 10, 60_000, batches::add);
+        excludingWriter.record(LoggableTestSubscriber.class, new Timestamp(1), new Timestamp(2));
+        excludingWriter.record(OtherLoggableTestSubscriber.class, new Timestamp(1), new Timestamp(2));
+        excludingWriter.shutdown();
+
+        assertThat(batches).satisfiesExactly(batch -> assertThat(batch).satisfiesExactly(log ->
+                assertThat(log.getSubscriberClass()).isEqualTo(OtherLoggableTestSubscriber.class.getCanonicalName())));
+    }
+
+    @Test
+    void shouldDropOldestEntriesWhenBufferIsFull() {
+        final var batches = new ArrayList<List<EventServiceLog>>();
+        final var writer = new EventServiceLogWriter(true, Set.of(), 2, 60_000, batches::add);
+
+        writer.record(LoggableTestSubscriber.class, new Timestamp(1), new Timestamp(1));
+        writer.record(LoggableTestSubscriber.class, new Timestamp(2), new Timestamp(2));
+        writer.record(LoggableTestSubscriber.class, new Timestamp(3), new Timestamp(3));
+        assertThat(writer.getBufferedCount()).isEqualTo(2);
+        writer.shutdown();
+
+        assertThat(batches).satisfiesExactly(batch -> assertThat(batch)
+                .extracting(EventServiceLog::getStarted)
+                .containsExactly(new Timestamp(2), new Timestamp(3)));
+    }
+
+}
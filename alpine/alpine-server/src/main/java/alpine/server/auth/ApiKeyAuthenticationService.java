@@ -86,20 +86,23 @@ public class ApiKeyAuthenticationService implements AuthenticationService {
             throw new AuthenticationException();
         }
 
-        try (final var qm = new AlpineQueryManager()) {
-            final ApiKey apiKey = qm.getApiKeyByPublicId(decodedApiKey.getPublicId());
-            if (apiKey == null) {
-                LOGGER.debug("No API key found for public ID " + decodedApiKey.getPublicId());
-                throw new AuthenticationException();
-            }
-
-            if (!MessageDigest.isEqual(decodedApiKey.getSecretHash().getBytes(), apiKey.getSecretHash().getBytes())) {
-                LOGGER.debug("API key secret hashes do not match");
-                throw new AuthenticationException();
+        final ApiKey apiKey = PrincipalCache.getInstance().getPrincipal(ApiKey.class, decodedApiKey.getPublicId(), publicId -> {
+            try (final var qm = new AlpineQueryManager()) {
+                return qm.getApiKeyByPublicId(publicId);
             }
+        });
+        if (apiKey == null) {
+            LOGGER.debug("No API key found for public ID " + decodedApiKey.getPublicId());
+            throw new AuthenticationException();
+        }
 
-            return apiKey;
+        // Secrets are verified for every request, irrespective of whether the API key was cached.
+        if (!MessageDigest.isEqual(decodedApiKey.getSecretHash().getBytes(), apiKey.getSecretHash().getBytes())) {
+            LOGGER.debug("API key secret hashes do not match");
+            throw new AuthenticationException();
         }
+
+        return apiKey;
     }
 
 }
@@ -21,6 +21,7 @@ package alpine.server.auth;
 import alpine.model.LdapUser;
 import alpine.model.ManagedUser;
 import alpine.model.OidcUser;
+import alpine.model.User;
 import alpine.persistence.AlpineQueryManager;
 import org.glassfish.jersey.server.ContainerRequest;
 
@@ -30,6 +31,7 @@ import javax.naming.AuthenticationException;
 import java.security.Principal;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiFunction;
 
 /**
  * An AuthenticationService implementation for JWTs that authenticates users
@@ -66,25 +68,23 @@ public class JwtAuthenticationService implements AuthenticationService {
             final JsonWebToken jwt = new JsonWebToken();
             final boolean isValid = jwt.validateToken(bearer);
             if (isValid) {
-                try (AlpineQueryManager qm = new AlpineQueryManager()) {
-                    if (jwt.getSubject() == null || jwt.getExpiration() == null) {
-                        throw new AuthenticationException("Token does not contain a valid subject or expiration");
+                if (jwt.getSubject() == null || jwt.getExpiration() == null) {
+                    throw new AuthenticationException("Token does not contain a valid subject or expiration");
+                }
+                if (jwt.getIdentityProvider() == null || IdentityProvider.LOCAL == jwt.getIdentityProvider()) {
+                    final ManagedUser managedUser = getUser(ManagedUser.class, jwt.getSubject(), AlpineQueryManager::getManagedUser);
+                    if (managedUser != null) {
+                        return managedUser.isSuspended() ? null : managedUser;
+                    }
+                } else if (IdentityProvider.LDAP == jwt.getIdentityProvider()) {
+                    final LdapUser ldapUser = getUser(LdapUser.class, jwt.getSubject(), AlpineQueryManager::getLdapUser);
+                    if (ldapUser != null) {
+                        return ldapUser;
                     }
-                    if (jwt.getIdentityProvider() == null || IdentityProvider.LOCAL == jwt.getIdentityProvider()) {
-                        final ManagedUser managedUser = qm.getManagedUser(jwt.getSubject());
-                        if (managedUser != null) {
-                            return managedUser.isSuspended() ? null : managedUser;
-                        }
-                    } else if (IdentityProvider.LDAP == jwt.getIdentityProvider()) {
-                        final LdapUser ldapUser =  qm.getLdapUser(jwt.getSubject());
-                        if (ldapUser != null) {
-                            return ldapUser;
-                        }
-                    } else if (IdentityProvider.OPENID_CONNECT == jwt.getIdentityProvider()) {
-                        final OidcUser oidcUser = qm.getOidcUser(jwt.getSubject());
-                        if (oidcUser != null) {
-                            return oidcUser;
-                        }
+                } else if (IdentityProvider.OPENID_CONNECT == jwt.getIdentityProvider()) {
+                    final OidcUser oidcUser = getUser(OidcUser.class, jwt.getSubject(), AlpineQueryManager::getOidcUser);
+                    if (oidcUser != null) {
+                        return oidcUser;
                     }
                 }
             }
@@ -92,6 +92,15 @@ public class JwtAuthenticationService implements AuthenticationService {
         return null;
     }
 
+    private static <T extends User> T getUser(final Class<T> userClass, final String username,
+                                              final BiFunction<AlpineQueryManager, String, T> userLoader) {
+        return PrincipalCache.getInstance().getPrincipal(userClass, username, ignored -> {
+            try (final var qm = new AlpineQueryManager()) {
+                return userLoader.apply(qm, username);
+            }
+        });
+    }
+
     /**
      * Returns the token (as a String), if it exists, otherwise returns null.
      *
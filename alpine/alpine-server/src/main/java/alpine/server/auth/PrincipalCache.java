@@ -0,0 +1,129 @@
+/*
+ * This file is part of Alpine.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Steve Springett. All Rights Reserved.
+ */
+package alpine.server.auth;
+
+import alpine.Config;
+import alpine.model.ApiKey;
+import alpine.model.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.security.Principal;
+import java.time.Duration;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * A short-lived cache of authenticated {@link Principal}s and their effective permissions.
+ * <p>
+ * Authentication and authorization happen for every request. Clients like CI pipelines tend to
+ * issue lots of requests in short succession, using the same credentials. Caching principals and
+ * their permissions avoids querying the database for the same information over and over again.
+ * <p>
+ * Entries expire after {@link Config.AlpineKey#AUTH_PRINCIPAL_CACHE_TTL_SECONDS}. The entire cache is
+ * additionally invalidated whenever API keys, users, teams, or permissions are modified by this instance.
+ * Modifications made by other instances take effect once the respective entries expired.
+ * Setting the TTL to {@code 0} disables caching.
+ *
+ * @since 5.6.0
+ */
+public final class PrincipalCache {
+
+    private record CacheKey(Class<?> type, Object identifier) {
+    }
+
+    private static final PrincipalCache INSTANCE = new PrincipalCache(
+            Duration.ofSeconds(Config.getInstance().getPropertyAsInt(Config.AlpineKey.AUTH_PRINCIPAL_CACHE_TTL_SECONDS)));
+
+    private final Cache<CacheKey, Principal> principalCache;
+    private final Cache<CacheKey, Set<String>> permissionsCache;
+
+    PrincipalCache(final Duration ttl) {
+        if (ttl.isZero() || ttl.isNegative()) {
+            this.principalCache = null;
+            this.permissionsCache = null;
+        } else {
+            this.principalCache = Caffeine.newBuilder()
+                    .expireAfterWrite(ttl)
+                    .maximumSize(10_000)
+                    .build();
+            this.permissionsCache = Caffeine.newBuilder()
+                    .expireAfterWrite(ttl)
+                    .maximumSize(10_000)
+                    .build();
+        }
+    }
+
+    public static PrincipalCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Retrieves a {@link Principal} from cache, or loads it if it is not cached.
+     * <p>
+     * {@code null} results of {@code loader} are not cached.
+     *
+     * @param type       The type of the {@link Principal}
+     * @param identifier The identifier of the {@link Principal}, e.g. a username or API key public ID
+     * @param loader     The {@link Function} to load the {@link Principal} with
+     * @param <T>        Type of the {@link Principal}
+     * @return The {@link Principal}, or {@code null} if {@code loader} did not yield one
+     */
+    public <T extends Principal> T getPrincipal(final Class<T> type, final String identifier,
+                                                final Function<String, T> loader) {
+        if (principalCache == null) {
+            return loader.apply(identifier);
+        }
+
+        final Principal principal = principalCache.get(new CacheKey(type, identifier), key -> loader.apply(identifier));
+        return type.cast(principal);
+    }
+
+    /**
+     * Retrieves the effective permissions of a {@link Principal} from cache, or loads them if they are not cached.
+     *
+     * @param principal The {@link Principal} to retrieve effective permissions for
+     * @param loader    The {@link Function} to load effective permissions with
+     * @return The effective permissions
+     */
+    public Set<String> getEffectivePermissions(final Principal principal,
+                                               final Function<Principal, Set<String>> loader) {
+        final CacheKey cacheKey = switch (principal) {
+            case ApiKey apiKey -> new CacheKey(ApiKey.class, apiKey.getId());
+            case User user -> new CacheKey(user.getClass(), user.getId());
+            default -> null;
+        };
+        if (permissionsCache == null || cacheKey == null) {
+            return loader.apply(principal);
+        }
+
+        return permissionsCache.get(cacheKey, key -> Set.copyOf(loader.apply(principal)));
+    }
+
+    /**
+     * Invalidates all cached {@link Principal}s and effective permissions.
+     */
+    public void invalidateAll() {
+        if (principalCache != null) {
+            principalCache.invalidateAll();
+            permissionsCache.invalidateAll();
+        }
+    }
+
+}
@@ -0,0 +1,72 @@
+/*
+ * This file is part of Alpine.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Steve Springett. All Rights Reserved.
+ */
+package alpine.server.auth;
+
+import alpine.model.ApiKey;
+import alpine.model.Permission;
+import alpine.model.Team;
+import alpine.model.User;
+
+import javax.jdo.listener.DeleteLifecycleListener;
+import javax.jdo.listener.InstanceLifecycleEvent;
+import javax.jdo.listener.StoreLifecycleListener;
+
+/**
+ * An instance lifecycle listener that invalidates the {@link PrincipalCache}
+ * whenever any of the {@link #OBSERVED_CLASSES} is modified or deleted.
+ *
+ * @since 5.6.0
+ */
+public final class PrincipalCacheInvalidationListener implements StoreLifecycleListener, DeleteLifecycleListener {
+
+    /**
+     * Classes whose modification may change who can authenticate, or which permissions they have.
+     * Subclasses are observed as well, which covers all {@link User} types.
+     */
+    public static final Class<?>[] OBSERVED_CLASSES = {ApiKey.class, Permission.class, Team.class, User.class};
+
+    private final PrincipalCache principalCache;
+
+    public PrincipalCacheInvalidationListener() {
+        this(PrincipalCache.getInstance());
+    }
+
+    PrincipalCacheInvalidationListener(final PrincipalCache principalCache) {
+        this.principalCache = principalCache;
+    }
+
+    @Override
+    public void preStore(final InstanceLifecycleEvent event) {
+    }
+
+    @Override
+    public void postStore(final InstanceLifecycleEvent event) {
+        principalCache.invalidateAll();
+    }
+
+    @Override
+    public void preDelete(final InstanceLifecycleEvent event) {
+    }
+
+    @Override
+    public void postDelete(final InstanceLifecycleEvent event) {
+        principalCache.invalidateAll();
+    }
+
+}
@@ -22,6 +22,7 @@ import alpine.common.validation.RegexSequence;
 import alpine.persistence.OrderDirection;
 import alpine.persistence.Pagination;
 import alpine.resources.AlpineRequest;
+import alpine.server.resources.AllowCursorPagination;
 import org.apache.commons.lang3.StringUtils;
 import org.glassfish.jersey.server.ContainerRequest;
 
@@ -29,7 +30,10 @@ import jakarta.annotation.Priority;
 import jakarta.ws.rs.Priorities;
 import jakarta.ws.rs.container.ContainerRequestContext;
 import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.ext.Provider;
 import java.security.Principal;
 import java.util.Set;
@@ -38,6 +42,9 @@ import java.util.Set;
 @Priority(Priorities.USER)
 public class ApiFilter implements ContainerRequestFilter {
 
+    @Context
+    private ResourceInfo resourceInfo;
+
     @Override
     public void filter(ContainerRequestContext requestContext) {
         if (requestContext instanceof ContainerRequest) {
@@ -64,8 +71,21 @@ public class ApiFilter implements ContainerRequestFilter {
                 orderDirection = OrderDirection.UNSPECIFIED;
             }
 
+            if (queryParams.containsKey("cursor") && !isCursorPaginationAllowed()) {
+                // Silently falling back to offset-based pagination would have clients
+                // iterate over the first page over and over again.
+                requestContext.abortWith(Response
+                        .status(Response.Status.BAD_REQUEST)
+                        .entity("Cursor-based pagination is not supported by this endpoint")
+                        .build());
+                return;
+            }
+
             final Pagination pagination;
-            if (StringUtils.isNotBlank(offset)) {
+            if (queryParams.containsKey("cursor")) {
+                // An empty cursor requests the first page of a cursor-paginated collection.
+                pagination = new Pagination(Pagination.Strategy.CURSOR, queryParams.getFirst("cursor"), size);
+            } else if (StringUtils.isNotBlank(offset)) {
                 pagination = new Pagination(Pagination.Strategy.OFFSET, offset, size);
             } else if (StringUtils.isNotBlank(page) && StringUtils.isNotBlank(size)) {
                 pagination = new Pagination(Pagination.Strategy.PAGES, page, size);
@@ -78,6 +98,12 @@ public class ApiFilter implements ContainerRequestFilter {
         }
     }
 
+    private boolean isCursorPaginationAllowed() {
+        return resourceInfo != null
+                && resourceInfo.getResourceMethod() != null
+                && resourceInfo.getResourceMethod().isAnnotationPresent(AllowCursorPagination.class);
+    }
+
     /**
      * Provides a facility to retrieve a param by more than one name. Different libraries
      * and frameworks, expect (in some cases) different names for the same param.
@@ -23,6 +23,7 @@ import alpine.model.ApiKey;
 import alpine.model.User;
 import alpine.persistence.AlpineQueryManager;
 import alpine.server.auth.PermissionRequired;
+import alpine.server.auth.PrincipalCache;
 import org.glassfish.jersey.server.ContainerRequest;
 import org.owasp.security.logging.SecurityMarkers;
 
@@ -69,10 +70,11 @@ public class AuthorizationFilter implements ContainerRequestFilter {
             final PermissionRequired annotation = resourceInfo.getResourceMethod().getDeclaredAnnotation(PermissionRequired.class);
             final Set<String> permissions = Set.of(annotation.value());
 
-            final Set<String> effectivePermissions;
-            try (final var qm = new AlpineQueryManager()) {
-                effectivePermissions = qm.getEffectivePermissions(principal);
-            }
+            final Set<String> effectivePermissions = PrincipalCache.getInstance().getEffectivePermissions(principal, ignored -> {
+                try (final var qm = new AlpineQueryManager()) {
+                    return qm.getEffectivePermissions(principal);
+                }
+            });
 
             final boolean hasNoRequiredPermission = Collections.disjoint(permissions, effectivePermissions);
             if (hasNoRequiredPermission) {
@@ -0,0 +1,208 @@
+/*
+ * This file is part of Alpine.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Steve Springett. All Rights Reserved.
+ */
+package alpine.server.filters;
+
+import alpine.common.metrics.Metrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import org.apache.commons.io.output.CountingOutputStream;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An {@link OutputStream} that compresses data written to it, once it exceeds a size threshold.
+ * <p>
+ * Data is buffered until the threshold is reached. Only then the compressor is created,
+ * and {@code onCompressionStarted} is invoked, such that the {@code Content-Encoding}
+ * header can still be set before the response is committed. When the stream is closed
+ * before reaching the threshold, buffered data is written without compression.
+ *
+ * @since 5.6.0
+ */
+final class CompressingOutputStream extends OutputStream {
+
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
+    private final OutputStream delegate;
+    private final ContentEncoding encoding;
+    private final int level;
+    private final int minSize;
+    private final Runnable onCompressionStarted;
+    private ByteArrayOutputStream buffer;
+    private CountingOutputStream compressedCountingStream;
+    private OutputStream compressor;
+    private long uncompressedBytes;
+    private long compressionNanos;
+    private boolean closed;
+
+    CompressingOutputStream(
+            final OutputStream delegate,
+            final ContentEncoding encoding,
+            final int level,
+            final int minSize,
+            final Runnable onCompressionStarted) {
+        this.delegate = delegate;
+        this.encoding = encoding;
+        this.level = level;
+        this.minSize = minSize;
+        this.onCompressionStarted = onCompressionStarted;
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+        write(new byte[]{(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) throws IOException {
+        ensureOpen();
+        if (len == 0) {
+            return;
+        }
+
+        if (compressor == null) {
+            final int bufferedBytes = buffer != null ? buffer.size() : 0;
+            if (bufferedBytes + len < minSize) {
+                if (buffer == null) {
+                    buffer = new ByteArrayOutputStream(Math.min(minSize, 8192));
+                }
+                buffer.write(b, off, len);
+                return;
+            }
+
+            startCompression();
+        }
+
+        compress(b, off, len);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        ensureOpen();
+
+        // Flushing before the threshold is reached would commit the response
+        // without knowing whether it is going to be compressed. Keep buffering.
+        if (compressor != null) {
+            final long cpuTimeBefore = currentCpuTimeNanos();
+            compressor.flush();
+            compressionNanos += currentCpuTimeNanos() - cpuTimeBefore;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        if (compressor == null) {
+            try (delegate) {
+                if (buffer != null) {
+                    buffer.writeTo(delegate);
+                }
+            }
+
+            recordSkipped();
+            return;
+        }
+
+        final long cpuTimeBefore = currentCpuTimeNanos();
+        compressor.close();
+        compressionNanos += currentCpuTimeNanos() - cpuTimeBefore;
+
+        recordCompressed();
+    }
+
+    private void startCompression() throws IOException {
+        onCompressionStarted.run();
+
+        compressedCountingStream = new CountingOutputStream(delegate);
+        compressor = encoding.compress(compressedCountingStream, level);
+
+        if (buffer != null) {
+            final byte[] bufferedBytes = buffer.toByteArray();
+            buffer = null;
+            compress(bufferedBytes, 0, bufferedBytes.length);
+        }
+    }
+
+    private void compress(final byte[] b, final int off, final int len) throws IOException {
+        final long cpuTimeBefore = currentCpuTimeNanos();
+        compressor.write(b, off, len);
+        compressionNanos += currentCpuTimeNanos() - cpuTimeBefore;
+        uncompressedBytes += len;
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+    }
+
+    private void recordCompressed() {
+        final long compressedBytes = compressedCountingStream.getByteCount();
+
+        Counter.builder("alpine_http_response_compression_uncompressed_bytes_total")
+                .description("Total number of response bytes before compression")
+                .tag("encoding", encoding.token())
+                .register(Metrics.getRegistry())
+                .increment(uncompressedBytes);
+        Counter.builder("alpine_http_response_compression_compressed_bytes_total")
+                .description("Total number of response bytes after compression")
+                .tag("encoding", encoding.token())
+                .register(Metrics.getRegistry())
+                .increment(compressedBytes);
+        if (compressedBytes > 0) {
+            DistributionSummary.builder("alpine_http_response_compression_ratio")
+                    .description("Ratio of uncompressed to compressed response size")
+                    .tag("encoding", encoding.token())
+                    .register(Metrics.getRegistry())
+                    .record((double) uncompressedBytes / compressedBytes);
+        }
+        Timer.builder("alpine_http_response_compression_cpu_time")
+                .description("CPU time spent compressing responses")
+                .tag("encoding", encoding.token())
+                .register(Metrics.getRegistry())
+                .record(compressionNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void recordSkipped() {
+        Counter.builder("alpine_http_response_compression_skipped_total")
+                .description("Total number of responses not compressed because they were below the minimum size")
+                .tag("encoding", encoding.token())
+                .register(Metrics.getRegistry())
+                .increment();
+    }
+
+    private static long currentCpuTimeNanos() {
+        // Thread CPU time excludes time spent blocked on writes to the client,
+        // but is not supported by every JVM. Fall back to wall-clock time if needed.
+        return THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported() && THREAD_MX_BEAN.isThreadCpuTimeEnabled()
+                ? THREAD_MX_BEAN.getCurrentThreadCpuTime()
+                : System.nanoTime();
+    }
+
+}
@@ -0,0 +1,115 @@
+/*
+ * This file is part of Alpine.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Steve Springett. All Rights Reserved.
+ */
+package alpine.server.filters;
+
+import alpine.Config;
+import jakarta.annotation.Priority;
+import jakarta.validation.constraints.NotNull;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.Provider;
+import jakarta.ws.rs.ext.ReaderInterceptor;
+import jakarta.ws.rs.ext.ReaderInterceptorContext;
+import jakarta.ws.rs.ext.WriterInterceptor;
+import jakarta.ws.rs.ext.WriterInterceptorContext;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Negotiates compression of response bodies, and decompresses request bodies.
+ * <p>
+ * Responses are compressed with the most preferred {@link ContentEncoding} accepted by the client,
+ * but only if their media type is eligible for compression, and their size exceeds the configured
+ * threshold. Refer to the {@code alpine.http.compression.*} properties for configuration options.
+ *
+ * @since 5.6.0
+ */
+@Provider
+@Priority(Priorities.ENTITY_CODER)
+public class CompressionInterceptor implements ReaderInterceptor, WriterInterceptor {
+
+    private final HttpHeaders httpHeaders;
+    private final CompressionPolicy policy;
+
+    /**
+     * Constructor.
+     * @param httpHeaders the The HttpHeaders
+     */
+    public CompressionInterceptor(@Context @NotNull HttpHeaders httpHeaders) {
+        this(httpHeaders, CompressionPolicy.fromConfig(Config.getInstance()));
+    }
+
+    CompressionInterceptor(final HttpHeaders httpHeaders, final CompressionPolicy policy) {
+        this.httpHeaders = httpHeaders;
+        this.policy = policy;
+    }
+
+    @Override
+    public Object aroundReadFrom(ReaderInterceptorContext context) throws IOException, WebApplicationException {
+        final List<String> header = context.getHeaders().get(HttpHeaders.CONTENT_ENCODING);
+        if (header != null && header.size() == 1) {
+            final ContentEncoding encoding = ContentEncoding.ofToken(header.get(0));
+            if (encoding != null) {
+                // DO NOT CLOSE STREAMS
+                context.setInputStream(encoding.decompress(context.getInputStream()));
+            }
+        }
+        return context.proceed();
+    }
+
+    @Override
+    public void aroundWriteTo(WriterInterceptorContext context) throws IOException, WebApplicationException {
+        final MultivaluedMap<String, Object> responseHeaders = context.getHeaders();
+        if (!policy.enabled()
+                || responseHeaders.containsKey(HttpHeaders.CONTENT_ENCODING)
+                || !policy.isCompressible(context.getMediaType())) {
+            context.proceed();
+            return;
+        }
+
+        // Caches must not serve a compressed response to clients that didn't ask for it.
+        final List<Object> varyHeader = responseHeaders.get(HttpHeaders.VARY);
+        if (varyHeader == null || varyHeader.stream().noneMatch(
+                value -> String.valueOf(value).toLowerCase().contains("accept-encoding"))) {
+            responseHeaders.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+
+        final ContentEncoding encoding = policy.negotiate(httpHeaders.getRequestHeader(HttpHeaders.ACCEPT_ENCODING));
+        if (encoding == null) {
+            context.proceed();
+            return;
+        }
+
+        // DO NOT CLOSE STREAMS
+        context.setOutputStream(new CompressingOutputStream(
+                context.getOutputStream(),
+                encoding,
+                policy.levelOf(encoding),
+                policy.minSize(),
+                () -> {
+                    responseHeaders.remove(HttpHeaders.CONTENT_LENGTH);
+                    responseHeaders.putSingle(HttpHeaders.CONTENT_ENCODING, encoding.token());
+                }));
+        context.proceed();
+    }
+
+}
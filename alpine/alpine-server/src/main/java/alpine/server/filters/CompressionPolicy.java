@@ -0,0 +1,192 @@
+/*
+ * This file is part of Alpine.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Steve Springett. All Rights Reserved.
+ */
+package alpine.server.filters;
+
+import alpine.Config;
+import alpine.common.logging.Logger;
+import jakarta.ws.rs.core.MediaType;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static alpine.Config.AlpineKey.HTTP_COMPRESSION_ENABLED;
+import static alpine.Config.AlpineKey.HTTP_COMPRESSION_ENCODINGS;
+import static alpine.Config.AlpineKey.HTTP_COMPRESSION_GZIP_LEVEL;
+import static alpine.Config.AlpineKey.HTTP_COMPRESSION_MEDIA_TYPES;
+import static alpine.Config.AlpineKey.HTTP_COMPRESSION_MIN_SIZE;
+import static alpine.Config.AlpineKey.HTTP_COMPRESSION_ZSTD_LEVEL;
+
+/**
+ * Policy that decides whether, and how, HTTP responses are compressed.
+ *
+ * @param enabled    Whether compression is enabled at all
+ * @param encodings  The {@link ContentEncoding}s offered to clients, in order of preference
+ * @param minSize    The minimum size in bytes a response must have to be compressed
+ * @param mediaTypes The media types eligible for compression, optionally with wildcard subtypes
+ * @param gzipLevel  The compression level to use for {@link ContentEncoding#GZIP}
+ * @param zstdLevel  The compression level to use for {@link ContentEncoding#ZSTD}
+ * @since 5.6.0
+ */
+record CompressionPolicy(
+        boolean enabled,
+        List<ContentEncoding> encodings,
+        int minSize,
+        List<String> mediaTypes,
+        int gzipLevel,
+        int zstdLevel) {
+
+    private static final Logger LOGGER = Logger.getLogger(CompressionPolicy.class);
+
+    CompressionPolicy {
+        encodings = List.copyOf(encodings);
+        mediaTypes = mediaTypes.stream()
+                .map(mediaType -> mediaType.trim().toLowerCase(Locale.ROOT))
+                .toList();
+    }
+
+    static CompressionPolicy fromConfig(final Config config) {
+        final var encodings = new ArrayList<ContentEncoding>();
+        for (final String token : config.getPropertyAsList(HTTP_COMPRESSION_ENCODINGS)) {
+            final ContentEncoding encoding = ContentEncoding.ofToken(token);
+            if (encoding == null) {
+                LOGGER.warn("Ignoring unsupported content encoding: " + token);
+            } else if (!encoding.isAvailable()) {
+                LOGGER.warn("Content encoding %s is not available on this platform; Ignoring it".formatted(token));
+            } else if (!encodings.contains(encoding)) {
+                encodings.add(encoding);
+            }
+        }
+
+        return new CompressionPolicy(
+                config.getPropertyAsBoolean(HTTP_COMPRESSION_ENABLED),
+                encodings,
+                Math.max(0, config.getPropertyAsInt(HTTP_COMPRESSION_MIN_SIZE)),
+                config.getPropertyAsList(HTTP_COMPRESSION_MEDIA_TYPES),
+                config.getPropertyAsInt(HTTP_COMPRESSION_GZIP_LEVEL),
+                config.getPropertyAsInt(HTTP_COMPRESSION_ZSTD_LEVEL));
+    }
+
+    int levelOf(final ContentEncoding encoding) {
+        return switch (encoding) {
+            case GZIP -> gzipLevel;
+            case ZSTD -> zstdLevel;
+        };
+    }
+
+    /**
+     * @param mediaType The {@link MediaType} of the response
+     * @return {@code true} when responses of the given {@link MediaType} shall be compressed
+     */
+    boolean isCompressible(final MediaType mediaType) {
+        if (mediaType == null) {
+            return false;
+        }
+
+        final String type = mediaType.getType().toLowerCase(Locale.ROOT);
+        final String subtype = mediaType.getSubtype().toLowerCase(Locale.ROOT);
+        for (final String allowedMediaType : mediaTypes) {
+            final int separatorIndex = allowedMediaType.indexOf('/');
+            if (separatorIndex < 0) {
+                continue;
+            }
+
+            final String allowedType = allowedMediaType.substring(0, separatorIndex);
+            final String allowedSubtype = allowedMediaType.substring(separatorIndex + 1);
+            if (!allowedType.equals("*") && !allowedType.equals(type)) {
+                continue;
+            }
+            if (allowedSubtype.equals("*") || allowedSubtype.equals(subtype)) {
+                return true;
+            }
+            if (allowedSubtype.startsWith("*+") && subtype.endsWith(allowedSubtype.substring(1))) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Select the {@link ContentEncoding} to use for a response, based on the values
+     * of the {@code Accept-Encoding} request header.
+     * <p>
+     * Of all offered encodings, the one with the highest quality value is selected.
+     * When multiple encodings share the same quality value, the order of {@link #encodings()} decides.
+     *
+     * @param acceptEncodingHeaders Values of the {@code Accept-Encoding} request header
+     * @return The selected {@link ContentEncoding}, or {@code null} when no offered encoding is acceptable
+     */
+    ContentEncoding negotiate(final List<String> acceptEncodingHeaders) {
+        if (acceptEncodingHeaders == null || acceptEncodingHeaders.isEmpty()) {
+            return null;
+        }
+
+        final Map<String, Double> qualityByToken = parseAcceptEncoding(acceptEncodingHeaders);
+        final Double wildcardQuality = qualityByToken.get("*");
+
+        ContentEncoding selectedEncoding = null;
+        double selectedQuality = 0;
+        for (final ContentEncoding encoding : encodings) {
+            final Double quality = qualityByToken.getOrDefault(encoding.token(), wildcardQuality);
+            if (quality != null && quality > selectedQuality) {
+                selectedEncoding = encoding;
+                selectedQuality = quality;
+            }
+        }
+
+        return selectedEncoding;
+    }
+
+    private static Map<String, Double> parseAcceptEncoding(final List<String> acceptEncodingHeaders) {
+        final var qualityByToken = new HashMap<String, Double>();
+        for (final String header : acceptEncodingHeaders) {
+            if (header == null) {
+                continue;
+            }
+
+            for (final String element : header.split(",")) {
+                final String[] parts = element.split(";");
+                final String token = parts[0].trim().toLowerCase(Locale.ROOT);
+                if (token.isEmpty()) {
+                    continue;
+                }
+
+                double quality = 1.0;
+                for (int i = 1; i < parts.length; i++) {
+                    final String parameter = parts[i].trim();
+                    if (parameter.startsWith("q=") || parameter.startsWith("Q=")) {
+                        try {
+                            quality = Double.parseDouble(parameter.substring(2).trim());
+                        } catch (NumberFormatException e) {
+                            quality = 0;
+                        }
+                    }
+                }
+
+                qualityByToken.put(token, quality);
+            }
+        }
+
+        return qualityByToken;
+    }
+
+}
@@ -0,0 +1,123 @@
+/*
+ * This file is part of Alpine.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Steve Springett. All Rights Reserved.
+ */
+package alpine.server.filters;
+
+import com.github.luben.zstd.ZstdInputStream;
+import com.github.luben.zstd.ZstdOutputStream;
+import com.github.luben.zstd.util.Native;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Content encodings supported for compression of HTTP request and response bodies.
+ *
+ * @since 5.6.0
+ */
+enum ContentEncoding {
+
+    GZIP("gzip") {
+        @Override
+        OutputStream compress(final OutputStream outputStream, final int level) throws IOException {
+            return new GZIPOutputStream(outputStream, BUFFER_SIZE) {
+                {
+                    def.setLevel(level);
+                }
+            };
+        }
+
+        @Override
+        InputStream decompress(final InputStream inputStream) throws IOException {
+            return new GZIPInputStream(inputStream, BUFFER_SIZE);
+        }
+
+        @Override
+        boolean isAvailable() {
+            return true;
+        }
+    },
+
+    ZSTD("zstd") {
+        @Override
+        OutputStream compress(final OutputStream outputStream, final int level) throws IOException {
+            return new ZstdOutputStream(outputStream, level);
+        }
+
+        @Override
+        InputStream decompress(final InputStream inputStream) throws IOException {
+            return new ZstdInputStream(inputStream);
+        }
+
+        @Override
+        boolean isAvailable() {
+            try {
+                Native.load();
+                return true;
+            } catch (LinkageError | RuntimeException e) {
+                return false;
+            }
+        }
+    };
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final String token;
+
+    ContentEncoding(final String token) {
+        this.token = token;
+    }
+
+    String token() {
+        return token;
+    }
+
+    /**
+     * Wrap a given {@link OutputStream} such that everything written to it is compressed.
+     * <p>
+     * Closing the returned stream finishes compression, and closes the wrapped stream.
+     */
+    abstract OutputStream compress(OutputStream outputStream, int level) throws IOException;
+
+    abstract InputStream decompress(InputStream inputStream) throws IOException;
+
+    /**
+     * @return {@code true} when this encoding can be used on the current platform
+     */
+    abstract boolean isAvailable();
+
+    static ContentEncoding ofToken(final String token) {
+        if (token == null) {
+            return null;
+        }
+
+        final String normalizedToken = token.trim().toLowerCase(Locale.ROOT);
+        for (final ContentEncoding encoding : values()) {
+            if (encoding.token.equals(normalizedToken)) {
+                return encoding;
+            }
+        }
+
+        return null;
+    }
+
+}
@@ -23,6 +23,8 @@ import alpine.common.logging.Logger;
 import alpine.common.metrics.Metrics;
 import alpine.persistence.IPersistenceManagerFactory;
 import alpine.persistence.JdoProperties;
+import alpine.server.auth.PrincipalCache;
+import alpine.server.auth.PrincipalCacheInvalidationListener;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 import io.micrometer.core.instrument.FunctionCounter;
@@ -106,6 +108,7 @@ public class PersistenceManagerFactory implements IPersistenceManagerFactory, Se
         }
 
         pmf = (JDOPersistenceManagerFactory) JDOHelper.getPersistenceManagerFactory(dnProps, "Alpine");
+        registerLifecycleListeners(pmf);
 
         if (Config.getInstance().getPropertyAsBoolean(Config.AlpineKey.METRICS_ENABLED)) {
             LOGGER.info("Registering DataNucleus metrics");
@@ -126,6 +129,7 @@ public class PersistenceManagerFactory implements IPersistenceManagerFactory, Se
     public static PersistenceManager createPersistenceManager() {
         if (pmf == null && Config.isUnitTestsEnabled()) {
             pmf = (JDOPersistenceManagerFactory)JDOHelper.getPersistenceManagerFactory(JdoProperties.unit(), "Alpine");
+            registerLifecycleListeners(pmf);
         }
         if (pmf == null) {
             throw new IllegalStateException("Context is not initialized yet.");
@@ -155,6 +159,7 @@ public class PersistenceManagerFactory implements IPersistenceManagerFactory, Se
         }
 
         PersistenceManagerFactory.pmf = pmf;
+        registerLifecycleListeners(pmf);
     }
 
     /**
@@ -170,6 +175,14 @@ public class PersistenceManagerFactory implements IPersistenceManagerFactory, Se
             pmf.close();
             pmf = null;
         }
+
+        // Cached principals may refer to objects of the datastore that was just torn down.
+        PrincipalCache.getInstance().invalidateAll();
+    }
+
+    private static void registerLifecycleListeners(final JDOPersistenceManagerFactory pmf) {
+        pmf.addInstanceLifecycleListener(new PrincipalCacheInvalidationListener(),
+                PrincipalCacheInvalidationListener.OBSERVED_CLASSES);
     }
 
     private void registerDataNucleusMetrics(final JDOPersistenceManagerFactory pmf) {
@@ -154,6 +154,51 @@ public class ApiKeyAuthenticationServiceTest {
                 .isThrownBy(authService::authenticate);
     }
 
+    @Test
+    void authenticationShouldThrowAuthenticationExceptionForCachedKeyAfterRegeneration() throws AuthenticationException {
+        final ApiKey apiKey;
+        try (final var qm = new AlpineQueryManager()) {
+            final Team team = qm.createTeam("Test");
+            apiKey = qm.createApiKey(team);
+        }
+        final String oldKey = apiKey.getKey();
+
+        final var containerRequestMock = mock(ContainerRequest.class);
+        when(containerRequestMock.getHeaderString("X-Api-Key"))
+                .thenReturn(oldKey);
+        final var authService = new ApiKeyAuthenticationService(containerRequestMock, false);
+        assertThat(authService.authenticate()).isNotNull();
+
+        try (final var qm = new AlpineQueryManager()) {
+            qm.regenerateApiKey(qm.getApiKeyByPublicId(apiKey.getPublicId()));
+        }
+
+        assertThatExceptionOfType(AuthenticationException.class)
+                .isThrownBy(authService::authenticate);
+    }
+
+    @Test
+    void authenticationShouldThrowAuthenticationExceptionForCachedKeyAfterDeletion() throws AuthenticationException {
+        final ApiKey apiKey;
+        try (final var qm = new AlpineQueryManager()) {
+            final Team team = qm.createTeam("Test");
+            apiKey = qm.createApiKey(team);
+        }
+
+        final var containerRequestMock = mock(ContainerRequest.class);
+        when(containerRequestMock.getHeaderString("X-Api-Key"))
+                .thenReturn(apiKey.getKey());
+        final var authService = new ApiKeyAuthenticationService(containerRequestMock, false);
+        assertThat(authService.authenticate()).isNotNull();
+
+        try (final var qm = new AlpineQueryManager()) {
+            qm.delete(qm.getApiKeyByPublicId(apiKey.getPublicId()));
+        }
+
+        assertThatExceptionOfType(AuthenticationException.class)
+                .isThrownBy(authService::authenticate);
+    }
+
     @Test
     public void authenticationShouldThrowAuthenticationExceptionForInvalidKey() {
         ApiKey apiKey;
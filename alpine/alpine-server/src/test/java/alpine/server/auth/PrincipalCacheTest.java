@@ -0,0 +1,108 @@
+/*
+ * This file is part of Alpine.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Steve Springett. All Rights Reserved.
+ */
+package alpine.server.auth;
+
+import alpine.model.ApiKey;
+import alpine.model.ManagedUser;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrincipalCacheTest {
+
+    @Test
+    void shouldCachePrincipal() {
+        final var cache = new PrincipalCache(Duration.ofMinutes(1));
+        final var loadCount = new AtomicInteger();
+
+        final var apiKey = new ApiKey();
+        apiKey.setPublicId("foo");
+
+        assertThat(cache.getPrincipal(ApiKey.class, "foo", publicId -> {
+            loadCount.incrementAndGet();
+            return apiKey;
+        })).isSameAs(apiKey);
+        assertThat(cache.getPrincipal(ApiKey.class, "foo", publicId -> {
+            loadCount.incrementAndGet();
+            return apiKey;
+        })).isSameAs(apiKey);
+        assertThat(loadCount).hasValue(1);
+
+        // Principals of different types must not collide.
+        assertThat(cache.getPrincipal(ManagedUser.class, "foo", username -> null)).isNull();
+    }
+
+    @Test
+    void shouldNotCacheAbsentPrincipal() {
+        final var cache = new PrincipalCache(Duration.ofMinutes(1));
+        final var loadCount = new AtomicInteger();
+
+        for (int i = 0; i < 2; i++) {
+            assertThat(cache.getPrincipal(ApiKey.class, "foo", publicId -> {
+                loadCount.incrementAndGet();
+                return null;
+            })).isNull();
+        }
+        assertThat(loadCount).hasValue(2);
+    }
+
+    @Test
+    void shouldCacheEffectivePermissions() {
+        final var cache = new PrincipalCache(Duration.ofMinutes(1));
+        final var loadCount = new AtomicInteger();
+
+        final var user = new ManagedUser();
+        user.setId(666);
+
+        for (int i = 0; i < 2; i++) {
+            assertThat(cache.getEffectivePermissions(user, principal -> {
+                loadCount.incrementAndGet();
+                return Set.of("FOO");
+            })).containsOnly("FOO");
+        }
+        assertThat(loadCount).hasValue(1);
+
+        cache.invalidateAll();
+
+        assertThat(cache.getEffectivePermissions(user, principal -> {
+            loadCount.incrementAndGet();
+            return Set.of("BAR");
+        })).containsOnly("BAR");
+        assertThat(loadCount).hasValue(2);
+    }
+
+    @Test
+    void shouldNotCacheWhenDisabled() {
+        final var cache = new PrincipalCache(Duration.ZERO);
+        final var loadCount = new AtomicInteger();
+
+        for (int i = 0; i < 2; i++) {
+            cache.getEffectivePermissions(new ApiKey(), principal -> {
+                loadCount.incrementAndGet();
+                return Set.of("FOO");
+            });
+        }
+        assertThat(loadCount).hasValue(2);
+    }
+
+}
@@ -0,0 +1,147 @@
+/*
+ * This file is part of Alpine.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Steve Springett. All Rights Reserved.
+ */
+package alpine.server.filters;
+
+import com.github.luben.zstd.ZstdInputStream;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.WriterInterceptorContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class CompressionInterceptorTest {
+
+    private static final CompressionPolicy POLICY = new CompressionPolicy(
+            true,
+            List.of(ContentEncoding.ZSTD, ContentEncoding.GZIP),
+            1024,
+            List.of("application/json", "application/*+json", "text/*"),
+            4,
+            3);
+
+    private HttpHeaders httpHeadersMock;
+    private WriterInterceptorContext contextMock;
+    private MultivaluedMap<String, Object> responseHeaders;
+    private ByteArrayOutputStream responseBody;
+
+    @BeforeEach
+    public void setUp() {
+        httpHeadersMock = mock(HttpHeaders.class);
+        contextMock = mock(WriterInterceptorContext.class);
+        responseHeaders = new MultivaluedHashMap<>();
+        responseBody = new ByteArrayOutputStream();
+        doReturn(responseHeaders).when(contextMock).getHeaders();
+        doReturn(responseBody).when(contextMock).getOutputStream();
+    }
+
+    @Test
+    public void testCompressesWithPreferredEncoding() throws Exception {
+        final byte[] payload = "{\"foo\":\"bar\"}".repeat(1000).getBytes(StandardCharsets.UTF_8);
+
+        writeResponse(MediaType.APPLICATION_JSON_TYPE, "gzip, deflate, zstd", payload);
+
+        assertThat(responseHeaders.getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("zstd");
+        assertThat(responseHeaders.getFirst(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(responseBody.size()).isLessThan(payload.length);
+        try (final var inputStream = new ZstdInputStream(new ByteArrayInputStream(responseBody.toByteArray()))) {
+            assertThat(inputStream.readAllBytes()).isEqualTo(payload);
+        }
+    }
+
+    @Test
+    public void testCompressesWithEncodingOfHighestQuality() throws Exception {
+        final byte[] payload = "{\"foo\":\"bar\"}".repeat(1000).getBytes(StandardCharsets.UTF_8);
+
+        writeResponse(new MediaType("application", "vnd.cyclonedx+json"), "zstd;q=0.5, gzip", payload);
+
+        assertThat(responseHeaders.getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        try (final var inputStream = new GZIPInputStream(new ByteArrayInputStream(responseBody.toByteArray()))) {
+            assertThat(inputStream.readAllBytes()).isEqualTo(payload);
+        }
+    }
+
+    @Test
+    public void testDoesNotCompressBelowMinSize() throws Exception {
+        final byte[] payload = "{\"foo\":\"bar\"}".getBytes(StandardCharsets.UTF_8);
+
+        writeResponse(MediaType.APPLICATION_JSON_TYPE, "gzip, zstd", payload);
+
+        assertThat(responseHeaders.containsKey(HttpHeaders.CONTENT_ENCODING)).isFalse();
+        assertThat(responseHeaders.getFirst(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(responseBody.toByteArray()).isEqualTo(payload);
+    }
+
+    @Test
+    public void testDoesNotCompressIneligibleMediaType() throws Exception {
+        doReturn(new MediaType("application", "octet-stream")).when(contextMock).getMediaType();
+        doReturn(List.of("gzip")).when(httpHeadersMock).getRequestHeader(HttpHeaders.ACCEPT_ENCODING);
+
+        new CompressionInterceptor(httpHeadersMock, POLICY).aroundWriteTo(contextMock);
+
+        verify(contextMock, never()).setOutputStream(any());
+        verify(contextMock).proceed();
+        assertThat(responseHeaders).isEmpty();
+    }
+
+    @Test
+    public void testNegotiate() {
+        assertThat(POLICY.negotiate(null)).isNull();
+        assertThat(POLICY.negotiate(List.of("identity"))).isNull();
+        assertThat(POLICY.negotiate(List.of("gzip;q=0, zstd;q=0"))).isNull();
+        assertThat(POLICY.negotiate(List.of("*"))).isEqualTo(ContentEncoding.ZSTD);
+        assertThat(POLICY.negotiate(List.of("*;q=0.5", "gzip"))).isEqualTo(ContentEncoding.GZIP);
+        assertThat(POLICY.negotiate(List.of("br, GZIP"))).isEqualTo(ContentEncoding.GZIP);
+    }
+
+    private void writeResponse(final MediaType mediaType, final String acceptEncoding, final byte[] payload) throws Exception {
+        doReturn(mediaType).when(contextMock).getMediaType();
+        doReturn(List.of(acceptEncoding)).when(httpHeadersMock).getRequestHeader(HttpHeaders.ACCEPT_ENCODING);
+
+        new CompressionInterceptor(httpHeadersMock, POLICY).aroundWriteTo(contextMock);
+
+        final ArgumentCaptor<OutputStream> outputStreamCaptor = ArgumentCaptor.forClass(OutputStream.class);
+        verify(contextMock).setOutputStream(outputStreamCaptor.capture());
+        verify(contextMock).proceed();
+
+        // Write in chunks to exercise buffering up to the threshold.
+        try (final OutputStream outputStream = outputStreamCaptor.getValue()) {
+            for (int offset = 0; offset < payload.length; offset += 100) {
+                outputStream.write(payload, offset, Math.min(100, payload.length - offset));
+            }
+        }
+    }
+
+}
@@ -24,17 +24,33 @@ public enum ConfigKey implements Config.Key {
 
     ALPINE_WORKER_POOL_DRAIN_TIMEOUT_DURATION("alpine.worker.pool.drain.timeout.duration", "PT30S"),
 
+    EVENT_QUEUE_DURABLE_ENABLED("event.queue.durable.enabled", false),
+    EVENT_QUEUE_DURABLE_CONCURRENCY("event.queue.durable.concurrency", 0),
+    EVENT_QUEUE_DURABLE_POLL_INTERVAL_DURATION("event.queue.durable.poll.interval.duration", "PT1S"),
+    EVENT_QUEUE_DURABLE_LEASE_DURATION("event.queue.durable.lease.duration", "PT5M"),
+    EVENT_QUEUE_DURABLE_MAX_ATTEMPTS("event.queue.durable.max.attempts", 5),
+    EVENT_QUEUE_DURABLE_RETRY_INITIAL_DELAY_DURATION("event.queue.durable.retry.initial.delay.duration", "PT10S"),
+    EVENT_QUEUE_DURABLE_RETRY_MULTIPLIER("event.queue.durable.retry.multiplier", 2),
+    EVENT_QUEUE_DURABLE_RETRY_MAX_DELAY_DURATION("event.queue.durable.retry.max.delay.duration", "PT30M"),
+
     KAFKA_AUTO_OFFSET_RESET("kafka.auto.offset.reset", "earliest"),
     KAFKA_BOOTSTRAP_SERVERS("kafka.bootstrap.servers", null),
     KAFKA_KEY_STORE_PASSWORD("kafka.keystore.password", ""),
     KAFKA_KEY_STORE_PATH("kafka.keystore.path", ""),
     KAFKA_MTLS_ENABLED("kafka.mtls.enabled", false),
+    KAFKA_OUTBOX_ENABLED("kafka.outbox.enabled", false),
+    KAFKA_OUTBOX_POLL_INTERVAL_DURATION("kafka.outbox.poll.interval.duration", "PT0.5S"),
+    KAFKA_OUTBOX_BATCH_SIZE("kafka.outbox.batch.size", 1000),
     KAFKA_PRODUCER_DRAIN_TIMEOUT_DURATION("kafka.producer.drain.timeout.duration", "PT30S"),
     KAFKA_TLS_ENABLED("kafka.tls.enabled", false),
     KAFKA_TLS_PROTOCOL("kafka.security.protocol", ""),
     DT_KAFKA_TOPIC_PREFIX("dt.kafka.topic.prefix", ""),
     KAFKA_TRUST_STORE_PASSWORD("kafka.truststore.password", ""),
     KAFKA_TRUST_STORE_PATH("kafka.truststore.path", ""),
+    KAFKA_VULN_ANALYSIS_COMMAND_PARTITIONING("kafka.vuln.analysis.command.partitioning", "key"),
+
+    METRICS_UPDATE_WORKER_THREADS("metrics.update.worker.threads", 0),
+    METRICS_UPDATE_QUEUE_CAPACITY("metrics.update.queue.capacity", 1000),
 
     TASK_SCHEDULER_INITIAL_DELAY("task.scheduler.initial.delay", "180000"),
     TASK_SCHEDULER_POLLING_INTERVAL("task.scheduler.polling.interval", "60000"),
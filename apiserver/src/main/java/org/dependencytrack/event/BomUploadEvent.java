@@ -32,10 +32,22 @@ public class BomUploadEvent extends AbstractChainableEvent {
 
     private final Project project;
     private final FileMetadata fileMetadata;
+    private final String contentDigest;
 
     public BomUploadEvent(final Project project, final FileMetadata fileMetadata) {
+        this(project, fileMetadata, null);
+    }
+
+    /**
+     * @param contentDigest Hex-encoded SHA-256 digest of the BOM as uploaded.
+     *                      When provided, the file is assumed to be reference-counted
+     *                      via {@link org.dependencytrack.storage.BomUploadFiles}.
+     * @since 5.6.0
+     */
+    public BomUploadEvent(final Project project, final FileMetadata fileMetadata, final String contentDigest) {
         this.project = project;
         this.fileMetadata = fileMetadata;
+        this.contentDigest = contentDigest;
     }
 
     public Project getProject() {
@@ -45,4 +57,8 @@ public class BomUploadEvent extends AbstractChainableEvent {
     public FileMetadata getFileMetadata() {
         return fileMetadata;
     }
+
+    public String getContentDigest() {
+        return contentDigest;
+    }
 }
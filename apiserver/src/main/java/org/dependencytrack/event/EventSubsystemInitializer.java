@@ -20,19 +20,26 @@ package org.dependencytrack.event;
 
 import alpine.Config;
 import alpine.common.logging.Logger;
+import alpine.common.util.SystemUtil;
 import alpine.event.LdapSyncEvent;
+import alpine.event.framework.EventExecutorConfig;
 import alpine.event.framework.EventService;
 import alpine.event.framework.SingleThreadedEventService;
 import jakarta.servlet.ServletContextEvent;
 import jakarta.servlet.ServletContextListener;
 import org.dependencytrack.common.ConfigKey;
 import org.dependencytrack.event.maintenance.ComponentMetadataMaintenanceEvent;
+import org.dependencytrack.event.maintenance.FileStorageMaintenanceEvent;
 import org.dependencytrack.event.maintenance.MetricsMaintenanceEvent;
 import org.dependencytrack.event.maintenance.ProjectMaintenanceEvent;
 import org.dependencytrack.event.maintenance.TagMaintenanceEvent;
 import org.dependencytrack.event.maintenance.VulnerabilityDatabaseMaintenanceEvent;
 import org.dependencytrack.event.maintenance.VulnerabilityScanMaintenanceEvent;
 import org.dependencytrack.event.maintenance.WorkflowMaintenanceEvent;
+import org.dependencytrack.event.queue.BomUploadEventCodec;
+import org.dependencytrack.event.queue.CloneProjectEventCodec;
+import org.dependencytrack.event.queue.DurableEventQueue;
+import org.dependencytrack.event.queue.ProjectMetricsUpdateEventCodec;
 import org.dependencytrack.tasks.BomUploadProcessingTask;
 import org.dependencytrack.tasks.CallbackTask;
 import org.dependencytrack.tasks.CloneProjectTask;
@@ -53,18 +60,21 @@ import org.dependencytrack.tasks.TaskScheduler;
 import org.dependencytrack.tasks.VexUploadProcessingTask;
 import org.dependencytrack.tasks.VulnerabilityAnalysisTask;
 import org.dependencytrack.tasks.maintenance.ComponentMetadataMaintenanceTask;
+import org.dependencytrack.tasks.maintenance.FileStorageMaintenanceTask;
 import org.dependencytrack.tasks.maintenance.MetricsMaintenanceTask;
 import org.dependencytrack.tasks.maintenance.ProjectMaintenanceTask;
 import org.dependencytrack.tasks.maintenance.TagMaintenanceTask;
 import org.dependencytrack.tasks.maintenance.VulnerabilityDatabaseMaintenanceTask;
 import org.dependencytrack.tasks.maintenance.VulnerabilityScanMaintenanceTask;
 import org.dependencytrack.tasks.maintenance.WorkflowMaintenanceTask;
+import org.dependencytrack.tasks.metrics.MetricsUpdateExecutor;
 import org.dependencytrack.tasks.metrics.PortfolioMetricsUpdateTask;
 import org.dependencytrack.tasks.metrics.ProjectMetricsUpdateTask;
 import org.dependencytrack.tasks.metrics.VulnerabilityMetricsUpdateTask;
 import org.dependencytrack.tasks.vulnerabilitypolicy.VulnerabilityPolicyFetchTask;
 
 import java.time.Duration;
+import java.util.List;
 
 /**
  * Initializes the event subsystem and configures event subscribers.
@@ -92,6 +102,19 @@ public class EventSubsystemInitializer implements ServletContextListener {
     public void contextInitialized(final ServletContextEvent event) {
         LOGGER.info("Initializing asynchronous event subsystem");
 
+        // Dispatch long-running events to dedicated executors, such that they
+        // don't queue behind each other on the shared executor.
+        final int cpuCores = SystemUtil.getCpuCores();
+        EVENT_SERVICE.registerExecutor(
+                EventExecutorConfig.fromConfig("bom", cpuCores),
+                List.of(BomUploadEvent.class, VexUploadEvent.class));
+        EVENT_SERVICE.registerExecutor(
+                EventExecutorConfig.fromConfig("clone", Math.max(1, cpuCores / 2)),
+                List.of(CloneProjectEvent.class));
+        EVENT_SERVICE.registerExecutor(
+                EventExecutorConfig.fromConfig("metrics", cpuCores),
+                List.of(PortfolioMetricsUpdateEvent.class, ProjectMetricsUpdateEvent.class, VulnerabilityMetricsUpdateEvent.class));
+
         EVENT_SERVICE.subscribe(BomUploadEvent.class, BomUploadProcessingTask.class);
         EVENT_SERVICE.subscribe(VexUploadEvent.class, VexUploadProcessingTask.class);
         EVENT_SERVICE.subscribe(LdapSyncEvent.class, LdapSyncTaskWrapper.class);
@@ -127,6 +150,14 @@ public class EventSubsystemInitializer implements ServletContextListener {
         EVENT_SERVICE_ST.subscribe(VulnerabilityScanMaintenanceEvent.class, VulnerabilityScanMaintenanceTask.class);
         EVENT_SERVICE_ST.subscribe(WorkflowMaintenanceEvent.class, WorkflowMaintenanceTask.class);
         EVENT_SERVICE_ST.subscribe(ProjectMaintenanceEvent.class, ProjectMaintenanceTask.class);
+        EVENT_SERVICE_ST.subscribe(FileStorageMaintenanceEvent.class, FileStorageMaintenanceTask.class);
+
+        // Events of these types are queued in the database if the durable event queue is enabled.
+        final DurableEventQueue durableEventQueue = DurableEventQueue.getInstance();
+        durableEventQueue.register(BomUploadEvent.class, new BomUploadEventCodec(), BomUploadProcessingTask.class);
+        durableEventQueue.register(CloneProjectEvent.class, new CloneProjectEventCodec(), CloneProjectTask.class);
+        durableEventQueue.register(ProjectMetricsUpdateEvent.class, new ProjectMetricsUpdateEventCodec(), ProjectMetricsUpdateTask.class);
+        durableEventQueue.start();
 
         TaskScheduler.getInstance();
     }
@@ -138,6 +169,7 @@ public class EventSubsystemInitializer implements ServletContextListener {
     public void contextDestroyed(final ServletContextEvent event) {
         LOGGER.info("Shutting down asynchronous event subsystem");
         TaskScheduler.getInstance().shutdown();
+        DurableEventQueue.getInstance().shutdown(DRAIN_TIMEOUT_DURATION);
 
         EVENT_SERVICE.unsubscribe(BomUploadProcessingTask.class);
         EVENT_SERVICE.unsubscribe(VexUploadProcessingTask.class);
@@ -162,6 +194,7 @@ public class EventSubsystemInitializer implements ServletContextListener {
         EVENT_SERVICE.unsubscribe(IntegrityAnalysisTask.class);
         EVENT_SERVICE.unsubscribe(VulnerabilityPolicyFetchTask.class);
         EVENT_SERVICE.shutdown(DRAIN_TIMEOUT_DURATION);
+        MetricsUpdateExecutor.getInstance().shutdown(DRAIN_TIMEOUT_DURATION);
 
         EVENT_SERVICE_ST.unsubscribe(ComponentMetadataMaintenanceTask.class);
         EVENT_SERVICE_ST.unsubscribe(MetricsMaintenanceTask.class);
@@ -170,6 +203,7 @@ public class EventSubsystemInitializer implements ServletContextListener {
         EVENT_SERVICE_ST.unsubscribe(VulnerabilityScanMaintenanceTask.class);
         EVENT_SERVICE_ST.unsubscribe(WorkflowMaintenanceTask.class);
         EVENT_SERVICE_ST.unsubscribe(ProjectMaintenanceTask.class);
+        EVENT_SERVICE_ST.unsubscribe(FileStorageMaintenanceTask.class);
         EVENT_SERVICE_ST.shutdown(DRAIN_TIMEOUT_DURATION);
     }
 }
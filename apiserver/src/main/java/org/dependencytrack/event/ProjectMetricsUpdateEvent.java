@@ -21,6 +21,7 @@ package org.dependencytrack.event;
 import alpine.event.framework.AbstractChainableEvent;
 import alpine.event.framework.Event;
 import org.dependencytrack.model.Project;
+import org.dependencytrack.tasks.metrics.MetricsUpdateExecutor;
 
 import java.util.UUID;
 
@@ -32,13 +33,23 @@ import java.util.UUID;
 public class ProjectMetricsUpdateEvent extends AbstractChainableEvent {
 
     private final UUID uuid;
+    private final MetricsUpdateExecutor.Priority priority;
 
     public ProjectMetricsUpdateEvent(final UUID uuid) {
+        this(uuid, MetricsUpdateExecutor.Priority.USER_TRIGGERED);
+    }
+
+    public ProjectMetricsUpdateEvent(final UUID uuid, final MetricsUpdateExecutor.Priority priority) {
         this.uuid = uuid;
+        this.priority = priority;
     }
 
     public UUID getUuid() {
         return uuid;
     }
 
+    public MetricsUpdateExecutor.Priority getPriority() {
+        return priority;
+    }
+
 }
@@ -24,15 +24,23 @@ import jakarta.servlet.ServletContextEvent;
 import jakarta.servlet.ServletContextListener;
 import net.javacrumbs.shedlock.core.LockingTaskExecutor;
 import org.dependencytrack.common.ConfigKey;
+import org.dependencytrack.model.Component;
 import org.dependencytrack.persistence.QueryManager;
+import org.dependencytrack.persistence.jdbi.ComponentDao;
+import org.dependencytrack.persistence.jdbi.ComponentDao.ComponentPurlRow;
 import org.dependencytrack.tasks.IntegrityMetaInitializerTask;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.inJdbiTransaction;
 import static org.dependencytrack.util.LockProvider.executeWithLock;
 import static org.dependencytrack.util.TaskUtil.getLockConfigForTask;
 
 public class PurlMigrator implements ServletContextListener {
 
     private static final Logger LOGGER = Logger.getLogger(PurlMigrator.class);
+    private static final int REPOSITORY_COORDINATES_BATCH_SIZE = 1000;
     private final boolean integrityInitializerEnabled;
 
     public PurlMigrator() {
@@ -46,6 +54,8 @@ public class PurlMigrator implements ServletContextListener {
 
     @Override
     public void contextInitialized(final ServletContextEvent event) {
+        computeRepositoryCoordinates();
+
         if (integrityInitializerEnabled) {
             try {
                 executeWithLock(
@@ -59,6 +69,50 @@ public class PurlMigrator implements ServletContextListener {
         }
     }
 
+    /**
+     * Compute the repository coordinates of components that existed before
+     * {@link Component#getPurlRepositoryType()} was introduced.
+     * <p>
+     * Coordinates are computed by {@link Component#setPurl(String)}, such that
+     * they are guaranteed to match those of newly created components.
+     */
+    void computeRepositoryCoordinates() {
+        int numComponentsUpdated = 0;
+        int numComponentsInBatch;
+        do {
+            numComponentsInBatch = inJdbiTransaction(handle -> {
+                final var dao = handle.attach(ComponentDao.class);
+
+                final List<ComponentPurlRow> rows = dao.getComponentsWithoutPurlRepositoryCoordinates(REPOSITORY_COORDINATES_BATCH_SIZE);
+                if (rows.isEmpty()) {
+                    return 0;
+                }
+
+                final var ids = new ArrayList<Long>(rows.size());
+                final var repositoryTypes = new ArrayList<String>(rows.size());
+                final var namespaces = new ArrayList<String>(rows.size());
+                final var names = new ArrayList<String>(rows.size());
+                for (final ComponentPurlRow row : rows) {
+                    final var component = new Component();
+                    component.setPurl(row.purl());
+
+                    ids.add(row.id());
+                    repositoryTypes.add(component.getPurlRepositoryType().name());
+                    namespaces.add(component.getPurlNamespace());
+                    names.add(component.getPurlName());
+                }
+
+                dao.updatePurlRepositoryCoordinates(ids, repositoryTypes, namespaces, names);
+                return rows.size();
+            });
+            numComponentsUpdated += numComponentsInBatch;
+        } while (numComponentsInBatch == REPOSITORY_COORDINATES_BATCH_SIZE);
+
+        if (numComponentsUpdated > 0) {
+            LOGGER.info("Computed repository coordinates of %d components".formatted(numComponentsUpdated));
+        }
+    }
+
     private void process() {
         LOGGER.info("Initializing integrity meta component sync");
         try (final var qm = new QueryManager()) {
@@ -22,10 +22,19 @@ import org.dependencytrack.event.kafka.KafkaTopics.Topic;
 
 import java.util.Map;
 
-public record KafkaEvent<K, V>(Topic<K, V> topic, K key, V value, Map<String, String> headers) {
+/**
+ * @param partitionKey An optional key to determine the partition of the record by,
+ *                     in place of the record key. Records with the same partition key
+ *                     are sent to the same partition, even if their record keys differ.
+ */
+public record KafkaEvent<K, V>(Topic<K, V> topic, K key, V value, Map<String, String> headers, String partitionKey) {
 
     public KafkaEvent(final Topic<K, V> topic, final K key, final V value) {
         this(topic, key, value, null);
     }
 
+    public KafkaEvent(final Topic<K, V> topic, final K key, final V value, final Map<String, String> headers) {
+        this(topic, key, value, headers, null);
+    }
+
 }
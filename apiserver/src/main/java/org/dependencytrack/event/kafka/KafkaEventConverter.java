@@ -18,15 +18,18 @@
  */
 package org.dependencytrack.event.kafka;
 
+import alpine.Config;
 import alpine.event.framework.Event;
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.google.protobuf.Message;
+import org.dependencytrack.common.ConfigKey;
 import org.dependencytrack.event.ComponentRepositoryMetaAnalysisEvent;
 import org.dependencytrack.event.ComponentVulnerabilityAnalysisEvent;
 import org.dependencytrack.event.EpssMirrorEvent;
 import org.dependencytrack.event.GitHubAdvisoryMirrorEvent;
 import org.dependencytrack.event.NistMirrorEvent;
 import org.dependencytrack.event.OsvMirrorEvent;
+import org.dependencytrack.event.PortfolioVulnerabilityAnalysisEvent;
 import org.dependencytrack.event.kafka.KafkaTopics.Topic;
 import org.dependencytrack.model.Vulnerability;
 import org.dependencytrack.parser.dependencytrack.NotificationModelConverter;
@@ -126,10 +129,34 @@ public final class KafkaEventConverter {
                 KafkaTopics.VULN_ANALYSIS_COMMAND,
                 scanKey, scanCommand,
                 Map.of(KafkaEventHeaders.VULN_ANALYSIS_LEVEL, event.level().name(),
-                        KafkaEventHeaders.IS_NEW_COMPONENT, String.valueOf(event.isNewComponent()))
+                        KafkaEventHeaders.IS_NEW_COMPONENT, String.valueOf(event.isNewComponent())),
+                determineScanPartitionKey(event.token())
         );
     }
 
+    /**
+     * Scan tokens identify the analysis of a single project, with the exception of portfolio analyses.
+     * Partitioning by scan token thus sends all commands of a project's analysis to the same partition,
+     * which allows the vulnerability analyzer consuming them to process a project's components together.
+     * <p>
+     * This only affects the distribution of analysis commands. Scan results are keyed and partitioned
+     * by the analyzer, and are consumed by {@code VulnerabilityScanResultProcessor} as before.
+     * <p>
+     * Co-locating commands comes at the cost of parallelism for the analysis of a single large project,
+     * which is why it is opt-in.
+     */
+    private static String determineScanPartitionKey(final UUID scanToken) {
+        final String partitioning = Config.getInstance().getProperty(ConfigKey.KAFKA_VULN_ANALYSIS_COMMAND_PARTITIONING);
+        if (!"scan-token".equalsIgnoreCase(partitioning)
+            || PortfolioVulnerabilityAnalysisEvent.CHAIN_IDENTIFIER.equals(scanToken)) {
+            // Portfolio analyses share a single token. Partitioning them by token would
+            // send the entire portfolio to a single partition.
+            return null;
+        }
+
+        return scanToken.toString();
+    }
+
     static KafkaEvent<String, AnalysisCommand> convert(final ComponentRepositoryMetaAnalysisEvent event) {
         if (event == null || event.purlCoordinates() == null) {
             return null;
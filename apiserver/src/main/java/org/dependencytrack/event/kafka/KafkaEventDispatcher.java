@@ -26,7 +26,9 @@ import org.apache.kafka.clients.producer.Callback;
 import org.apache.kafka.clients.producer.Producer;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.PartitionInfo;
 import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.utils.Utils;
 
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
@@ -35,6 +37,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
 
@@ -45,15 +48,20 @@ public class KafkaEventDispatcher {
 
     private static final Logger LOGGER = Logger.getLogger(KafkaEventDispatcher.class);
 
-    private final Producer<byte[], byte[]> producer;
+    private final Function<KafkaProducerProfile, Producer<byte[], byte[]>> producerResolver;
 
     public KafkaEventDispatcher() {
-        this(KafkaProducerInitializer.getProducer());
+        this(KafkaProducerInitializer::getProducer);
     }
 
     @VisibleForTesting
     KafkaEventDispatcher(final Producer<byte[], byte[]> producer) {
-        this.producer = producer;
+        this(ignored -> producer);
+    }
+
+    @VisibleForTesting
+    KafkaEventDispatcher(final Function<KafkaProducerProfile, Producer<byte[], byte[]>> producerResolver) {
+        this.producerResolver = producerResolver;
     }
 
     public CompletableFuture<RecordMetadata> dispatchEvent(final Event event) {
@@ -94,12 +102,16 @@ public class KafkaEventDispatcher {
         }
 
         final var records = new ArrayList<ProducerRecord<byte[], byte[]>>(events.size());
+        final var producers = new ArrayList<Producer<byte[], byte[]>>(events.size());
         for (final KafkaEvent<?, ?> event : events) {
-            records.add(convert(event));
+            final Producer<byte[], byte[]> producer = producerResolver.apply(event.topic().producerProfile());
+            records.add(convert(event, producer));
+            producers.add(producer);
         }
 
         final var futures = new ArrayList<CompletableFuture<RecordMetadata>>(records.size());
-        for (final ProducerRecord<byte[], byte[]> record : records) {
+        for (int i = 0; i < records.size(); i++) {
+            final ProducerRecord<byte[], byte[]> record = records.get(i);
             final CompletableFuture<RecordMetadata> future = new CompletableFuture<>();
             final Callback producerCallback = (metadata, exception) -> {
                 if (exception != null) {
@@ -110,31 +122,69 @@ public class KafkaEventDispatcher {
                 }
             };
 
-            producer.send(record, producerCallback);
+            producers.get(i).send(record, producerCallback);
             futures.add(future);
         }
 
         return futures;
     }
 
-    private static <K, V> ProducerRecord<byte[], byte[]> convert(final KafkaEvent<K, V> event) {
-        final byte[] keyBytes;
+    private static ProducerRecord<byte[], byte[]> convert(final KafkaEvent<?, ?> event, final Producer<byte[], byte[]> producer) {
+        return createRecord(producer, event.topic().name(), serializeKey(event), serializeValue(event),
+                event.headers(), event.partitionKey());
+    }
+
+    static <K, V> byte[] serializeKey(final KafkaEvent<K, V> event) {
         try (final Serde<K> keySerde = event.topic().keySerde()) {
-            keyBytes = keySerde.serializer().serialize(event.topic().name(), event.key());
+            return keySerde.serializer().serialize(event.topic().name(), event.key());
         }
+    }
 
-        final byte[] valueBytes;
+    static <K, V> byte[] serializeValue(final KafkaEvent<K, V> event) {
         try (final Serde<V> valueSerde = event.topic().valueSerde()) {
-            valueBytes = valueSerde.serializer().serialize(event.topic().name(), event.value());
+            return valueSerde.serializer().serialize(event.topic().name(), event.value());
         }
+    }
 
-        final var record = new ProducerRecord<>(event.topic().name(), keyBytes, valueBytes);
-        if (event.headers() != null) {
-            for (final Map.Entry<String, String> header : event.headers().entrySet()) {
+    static ProducerRecord<byte[], byte[]> createRecord(
+            final Producer<byte[], byte[]> producer,
+            final String topicName,
+            final byte[] keyBytes,
+            final byte[] valueBytes,
+            final Map<String, String> headers,
+            final String partitionKey) {
+        final Integer partition = partitionKey != null
+                ? determinePartition(producer, topicName, partitionKey)
+                : null;
+
+        final var record = new ProducerRecord<>(topicName, partition, keyBytes, valueBytes);
+        if (headers != null) {
+            for (final Map.Entry<String, String> header : headers.entrySet()) {
                 record.headers().add(header.getKey(), header.getValue().getBytes(StandardCharsets.UTF_8));
             }
         }
 
         return record;
     }
-}
\ No newline at end of file
+
+    /**
+     * Determine the partition for a given partition key, using the same hashing
+     * as the producer's built-in partitioner uses for record keys.
+     *
+     * @return The partition, or {@code null} when the topic's partitions are unknown,
+     * in which case the producer's partitioner decides based on the record key
+     */
+    private static Integer determinePartition(
+            final Producer<byte[], byte[]> producer,
+            final String topicName,
+            final String partitionKey) {
+        final List<PartitionInfo> partitions = producer.partitionsFor(topicName);
+        if (partitions == null || partitions.isEmpty()) {
+            return null;
+        }
+
+        final byte[] partitionKeyBytes = partitionKey.getBytes(StandardCharsets.UTF_8);
+        return Utils.toPositive(Utils.murmur2(partitionKeyBytes)) % partitions.size();
+    }
+
+}
@@ -0,0 +1,331 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.event.kafka;
+
+import alpine.Config;
+import alpine.common.logging.Logger;
+import alpine.common.metrics.Metrics;
+import alpine.event.framework.Event;
+import alpine.event.framework.LoggableUncaughtExceptionHandler;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.dependencytrack.common.ConfigKey;
+import org.dependencytrack.persistence.jdbi.KafkaOutboxDao;
+import org.dependencytrack.persistence.jdbi.KafkaOutboxDao.OutboxRecord;
+import org.jdbi.v3.core.Handle;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.inJdbiTransaction;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiHandle;
+
+/**
+ * A transactional outbox for {@link KafkaEvent}s.
+ * <p>
+ * Events are written to the {@code KAFKA_OUTBOX} table as part of the database transaction
+ * that produced them, such that they are only published when the transaction commits, and
+ * survive crashes of the API server. A relay publishes outbox records in large batches,
+ * in the order in which they were written, and deletes them once the broker acknowledged them.
+ * <p>
+ * Only one batch across all API server instances is published at any given time.
+ * A relay claims a batch in a short transaction, coordinated with other relays using a
+ * transaction-scoped advisory lock, and publishes it without holding a transaction or lock.
+ * Other relays do not claim further records while a claim is active. Records are delivered
+ * at least once: should the relay crash after publishing a batch, but before deleting it,
+ * the batch is published again once its claim expired.
+ *
+ * @since 5.6.0
+ */
+public final class KafkaOutbox {
+
+    private static final Logger LOGGER = Logger.getLogger(KafkaOutbox.class);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<Map<String, String>> HEADERS_TYPE = new TypeReference<>() {
+    };
+    private static final KafkaOutbox INSTANCE = new KafkaOutbox();
+
+    /**
+     * Duration after which claims of relays that crashed while publishing expire.
+     * <p>
+     * Exceeds the producers' delivery timeout (2 minutes by default), such that
+     * a batch that is still being published is never claimed by another relay.
+     */
+    private static final Duration CLAIM_DURATION = Duration.ofMinutes(5);
+
+    private final boolean enabled;
+    private final Duration pollInterval;
+    private final int batchSize;
+    private final Function<KafkaProducerProfile, Producer<byte[], byte[]>> producerResolver;
+    private ScheduledExecutorService relayExecutor;
+
+    private KafkaOutbox() {
+        this(Config.getInstance().getPropertyAsBoolean(ConfigKey.KAFKA_OUTBOX_ENABLED),
+                Duration.parse(Config.getInstance().getProperty(ConfigKey.KAFKA_OUTBOX_POLL_INTERVAL_DURATION)),
+                Config.getInstance().getPropertyAsInt(ConfigKey.KAFKA_OUTBOX_BATCH_SIZE),
+                KafkaProducerInitializer::getProducer);
+    }
+
+    KafkaOutbox(final boolean enabled, final Duration pollInterval, final int batchSize,
+                final Function<KafkaProducerProfile, Producer<byte[], byte[]>> producerResolver) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be greater than 0, but is " + batchSize);
+        }
+
+        this.enabled = enabled;
+        this.pollInterval = pollInterval;
+        this.batchSize = batchSize;
+        this.producerResolver = producerResolver;
+    }
+
+    public static KafkaOutbox getInstance() {
+        return INSTANCE;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Write {@link KafkaEvent}s to the outbox.
+     * <p>
+     * The events are written using the given {@link Handle}, and thus become visible to
+     * the relay only once the {@link Handle}'s transaction committed.
+     *
+     * @param handle The {@link Handle} to use
+     * @param events The {@link KafkaEvent}s to write
+     * @throws IllegalStateException When the headers of an event could not be encoded
+     */
+    public void enqueueAll(final Handle handle, final Collection<KafkaEvent<?, ?>> events) {
+        if (events == null || events.isEmpty()) {
+            return;
+        }
+
+        final var topics = new ArrayList<String>(events.size());
+        final var producerProfiles = new ArrayList<String>(events.size());
+        final var keys = new ArrayList<byte[]>(events.size());
+        final var values = new ArrayList<byte[]>(events.size());
+        final var headers = new ArrayList<String>(events.size());
+        final var partitionKeys = new ArrayList<String>(events.size());
+        for (final KafkaEvent<?, ?> event : events) {
+            topics.add(event.topic().name());
+            producerProfiles.add(event.topic().producerProfile().name());
+            keys.add(KafkaEventDispatcher.serializeKey(event));
+            values.add(KafkaEventDispatcher.serializeValue(event));
+            headers.add(encodeHeaders(event.headers()));
+            partitionKeys.add(event.partitionKey());
+        }
+
+        handle.attach(KafkaOutboxDao.class).enqueueAll(topics, producerProfiles, keys, values, headers, partitionKeys);
+        LOGGER.debug("Enqueued %d events in outbox".formatted(events.size()));
+    }
+
+    /**
+     * Convert {@link Event}s to {@link KafkaEvent}s, and write them to the outbox.
+     *
+     * @param handle The {@link Handle} to use
+     * @param events The {@link Event}s to write
+     * @see #enqueueAll(Handle, Collection)
+     */
+    public void enqueueAllEvents(final Handle handle, final Collection<? extends Event> events) {
+        if (events == null || events.isEmpty()) {
+            return;
+        }
+
+        final List<KafkaEvent<?, ?>> kafkaEvents = events.stream()
+                .<KafkaEvent<?, ?>>map(KafkaEventConverter::convert)
+                .toList();
+        enqueueAll(handle, kafkaEvents);
+    }
+
+    /**
+     * Start relaying outbox records to Kafka.
+     * <p>
+     * Has no effect when the outbox is disabled, or the relay has already been started.
+     */
+    public synchronized void start() {
+        if (!enabled || relayExecutor != null) {
+            return;
+        }
+
+        LOGGER.info("Starting Kafka outbox relay with batch size %d".formatted(batchSize));
+        relayExecutor = Executors.newSingleThreadScheduledExecutor(new BasicThreadFactory.Builder()
+                .namingPattern("KafkaOutbox-Relay-%d")
+                .daemon(true)
+                .uncaughtExceptionHandler(new LoggableUncaughtExceptionHandler())
+                .build());
+        relayExecutor.scheduleWithFixedDelay(this::relayAll, pollInterval.toMillis(), pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stop relaying outbox records, and wait for an ongoing batch to complete.
+     * <p>
+     * Records that have not been published remain in the outbox, and are
+     * published by the relay of another, or the next, API server instance.
+     *
+     * @param timeout Maximum duration to wait for an ongoing batch to complete
+     */
+    public synchronized void shutdown(final Duration timeout) {
+        if (relayExecutor == null) {
+            return;
+        }
+
+        LOGGER.info("Shutting down Kafka outbox relay");
+        relayExecutor.shutdown();
+
+        try {
+            if (!relayExecutor.awaitTermination(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                LOGGER.warn("Timeout exceeded while waiting for the ongoing batch to be published");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        relayExecutor = null;
+    }
+
+    private void relayAll() {
+        try {
+            // Keep going while full batches are being relayed, to drain backlogs
+            // without waiting for the poll interval in between batches.
+            int relayedRecords;
+            do {
+                relayedRecords = relay();
+            } while (relayedRecords == batchSize && !Thread.currentThread().isInterrupted());
+        } catch (RuntimeException e) {
+            LOGGER.error("Failed to relay outbox records; Will retry in %s".formatted(pollInterval), e);
+        }
+    }
+
+    /**
+     * Publish a single batch of outbox records, and delete them once they were acknowledged.
+     * <p>
+     * The batch is claimed in a transaction of its own, such that neither a transaction nor
+     * the relay lock is held while waiting for the broker to acknowledge the records.
+     *
+     * @return Number of published records
+     * @throws IllegalStateException When publishing failed, in which case all records of the batch remain in the outbox
+     */
+    int relay() {
+        final List<OutboxRecord> outboxRecords = inJdbiTransaction(handle -> {
+            final var dao = handle.attach(KafkaOutboxDao.class);
+            if (!dao.tryAcquireRelayLock() || dao.hasActiveClaims()) {
+                LOGGER.debug("Outbox is being relayed by another instance");
+                return List.<OutboxRecord>of();
+            }
+
+            return dao.claimOldest(batchSize, CLAIM_DURATION.toSeconds());
+        });
+        if (outboxRecords.isEmpty()) {
+            return 0;
+        }
+
+        final List<Long> outboxRecordIds = outboxRecords.stream().map(OutboxRecord::id).toList();
+        try {
+            publish(outboxRecords);
+        } catch (RuntimeException e) {
+            // Make the batch available to be retried right away, instead of only after the claim expired.
+            try {
+                useJdbiHandle(handle -> handle.attach(KafkaOutboxDao.class).releaseClaims(outboxRecordIds));
+            } catch (RuntimeException releaseException) {
+                e.addSuppressed(releaseException);
+            }
+
+            throw e;
+        }
+
+        useJdbiHandle(handle -> handle.attach(KafkaOutboxDao.class).deleteAll(outboxRecordIds));
+
+        LOGGER.debug("Relayed %d outbox records".formatted(outboxRecords.size()));
+        Counter.builder("dtrack_kafka_outbox_records_relayed_total")
+                .description("Total number of outbox records published to Kafka by this instance")
+                .register(Metrics.getRegistry())
+                .increment(outboxRecords.size());
+
+        return outboxRecords.size();
+    }
+
+    private void publish(final List<OutboxRecord> outboxRecords) {
+        final var producers = new LinkedHashSet<Producer<byte[], byte[]>>();
+        final var futures = new ArrayList<Future<RecordMetadata>>(outboxRecords.size());
+        for (final OutboxRecord outboxRecord : outboxRecords) {
+            final Producer<byte[], byte[]> producer =
+                    producerResolver.apply(KafkaProducerProfile.valueOf(outboxRecord.producerProfile()));
+            producers.add(producer);
+
+            futures.add(producer.send(KafkaEventDispatcher.createRecord(producer,
+                    outboxRecord.topic(), outboxRecord.key(), outboxRecord.value(),
+                    decodeHeaders(outboxRecord.headers()), outboxRecord.partitionKey())));
+        }
+
+        // Send the batch off right away, instead of waiting for the producers' linger time.
+        producers.forEach(Producer::flush);
+
+        try {
+            for (final Future<RecordMetadata> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to publish %d outbox records".formatted(outboxRecords.size()), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while publishing %d outbox records".formatted(outboxRecords.size()), e);
+        }
+    }
+
+    private static String encodeHeaders(final Map<String, String> headers) {
+        if (headers == null || headers.isEmpty()) {
+            return null;
+        }
+
+        try {
+            return OBJECT_MAPPER.writeValueAsString(headers);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to encode record headers", e);
+        }
+    }
+
+    private static Map<String, String> decodeHeaders(final String headers) {
+        if (headers == null) {
+            return null;
+        }
+
+        try {
+            return OBJECT_MAPPER.readValue(headers, HEADERS_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to decode record headers", e);
+        }
+    }
+
+}
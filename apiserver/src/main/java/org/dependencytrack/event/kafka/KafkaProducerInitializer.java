@@ -28,7 +28,6 @@ import org.apache.kafka.clients.producer.MockProducer;
 import org.apache.kafka.clients.producer.Producer;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.config.SslConfigs;
-import org.apache.kafka.common.record.CompressionType;
 import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.dependencytrack.common.ConfigKey;
 
@@ -37,6 +36,7 @@ import jakarta.servlet.ServletContextListener;
 import java.time.Duration;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class KafkaProducerInitializer implements ServletContextListener {
 
@@ -44,71 +44,86 @@ public class KafkaProducerInitializer implements ServletContextListener {
     private static final Duration DRAIN_TIMEOUT_DURATION =
             Duration.parse(Config.getInstance().getProperty(ConfigKey.KAFKA_PRODUCER_DRAIN_TIMEOUT_DURATION));
 
-    private static Producer<byte[], byte[]> PRODUCER;
-    private static KafkaClientMetrics PRODUCER_METRICS;
+    private static final Map<KafkaProducerProfile, Producer<byte[], byte[]>> PRODUCERS = new ConcurrentHashMap<>();
+    private static final Map<KafkaProducerProfile, KafkaClientMetrics> PRODUCER_METRICS = new ConcurrentHashMap<>();
 
     @Override
     public void contextInitialized(final ServletContextEvent event) {
         LOGGER.info("Initializing Kafka producer");
 
-        PRODUCER = createProducer();
+        // Producers of other profiles are created on first use.
+        getProducer(KafkaProducerProfile.DEFAULT);
 
-        if (Config.getInstance().getPropertyAsBoolean(Config.AlpineKey.METRICS_ENABLED)) {
-            LOGGER.info("Registering Kafka producer metrics");
-            PRODUCER_METRICS = new KafkaClientMetrics(PRODUCER);
-            PRODUCER_METRICS.bindTo(Metrics.getRegistry());
-        }
+        KafkaOutbox.getInstance().start();
     }
 
     @Override
     public void contextDestroyed(final ServletContextEvent event) {
-        if (PRODUCER != null) {
-            LOGGER.info("Closing Kafka producer");
+        // Stop relaying before closing the producers the relay depends on.
+        KafkaOutbox.getInstance().shutdown(DRAIN_TIMEOUT_DURATION);
+
+        for (final Map.Entry<KafkaProducerProfile, Producer<byte[], byte[]>> entry : PRODUCERS.entrySet()) {
+            LOGGER.info("Closing Kafka producer for profile %s".formatted(entry.getKey()));
 
             // Close producer, but wait for a configurable amount of time for it to
             // send off all queued events.
-            PRODUCER.close(DRAIN_TIMEOUT_DURATION);
+            entry.getValue().close(DRAIN_TIMEOUT_DURATION);
 
-            if (PRODUCER_METRICS != null) {
-                PRODUCER_METRICS.close();
+            final KafkaClientMetrics producerMetrics = PRODUCER_METRICS.remove(entry.getKey());
+            if (producerMetrics != null) {
+                producerMetrics.close();
             }
         }
+
+        PRODUCERS.clear();
     }
 
     public static Producer<byte[], byte[]> getProducer() {
-        if (PRODUCER == null && Config.isUnitTestsEnabled()) {
+        return getProducer(KafkaProducerProfile.DEFAULT);
+    }
+
+    /**
+     * @param profile The {@link KafkaProducerProfile} to get the producer for
+     * @return The {@link Producer} for the given {@link KafkaProducerProfile}
+     * @since 5.6.0
+     */
+    public static Producer<byte[], byte[]> getProducer(final KafkaProducerProfile profile) {
+        if (Config.isUnitTestsEnabled()) {
             // Workaround for tests, as we can't use dependency injection in JerseyTest.
             // Analog to how it's done for instantiation of PersistenceManagerFactory:
             // https://github.com/stevespringett/Alpine/blob/alpine-parent-2.2.0/alpine-server/src/main/java/alpine/server/persistence/PersistenceManagerFactory.java#L127-L135
-            PRODUCER = new MockProducer<>(true, new ByteArraySerializer(), new ByteArraySerializer());
+            // All profiles share the same producer, such that tests can inspect all records in one place.
+            return PRODUCERS.computeIfAbsent(KafkaProducerProfile.DEFAULT,
+                    ignored -> new MockProducer<>(true, new ByteArraySerializer(), new ByteArraySerializer()));
         }
 
-        return PRODUCER;
+        return PRODUCERS.computeIfAbsent(profile, KafkaProducerInitializer::createProducer);
     }
 
     /**
-     * Closes the {@link KafkaProducer} and removes any reference to it.
+     * Closes all {@link KafkaProducer}s and removes any reference to them.
      * <p>
      * This method should be called in the {@code tearDown} method of unit- and integration
      * tests that interact with the persistence layer.
      */
     public static void tearDown() {
-        if (PRODUCER != null) {
-            PRODUCER.close();
-            PRODUCER = null;
-        }
+        PRODUCERS.values().forEach(Producer::close);
+        PRODUCERS.clear();
     }
 
-    private static Producer<byte[], byte[]> createProducer() {
+    private static Producer<byte[], byte[]> createProducer(final KafkaProducerProfile profile) {
+        LOGGER.info("Creating Kafka producer for profile %s".formatted(profile));
+
         final var properties = new Properties();
         properties.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, Config.getInstance().getProperty(ConfigKey.KAFKA_BOOTSTRAP_SERVERS));
-        properties.put(ProducerConfig.CLIENT_ID_CONFIG, "dtrack-apiserver-producer");
+        properties.put(ProducerConfig.CLIENT_ID_CONFIG, profile == KafkaProducerProfile.DEFAULT
+                ? "dtrack-apiserver-producer"
+                : "dtrack-apiserver-producer-" + profile.configName());
         properties.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class.getName());
         properties.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class.getName());
-        properties.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, CompressionType.SNAPPY.name);
         properties.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, "true");
-        properties.put(ProducerConfig.LINGER_MS_CONFIG, "100");
         properties.put(ProducerConfig.ACKS_CONFIG, "all");
+        properties.putAll(profile.producerProperties());
         if (Config.getInstance().getPropertyAsBoolean(ConfigKey.KAFKA_TLS_ENABLED)) {
             properties.put(CommonClientConfigs.SECURITY_PROTOCOL_CONFIG, Config.getInstance().getProperty(ConfigKey.KAFKA_TLS_PROTOCOL));
             properties.put(SslConfigs.SSL_TRUSTSTORE_LOCATION_CONFIG, Config.getInstance().getProperty(ConfigKey.KAFKA_TRUST_STORE_PATH));
@@ -119,17 +134,44 @@ public class KafkaProducerInitializer implements ServletContextListener {
             }
         }
 
-        final Map<String, String> passThroughProperties = Config.getInstance().getPassThroughProperties("kafka.producer");
+        // Profile-specific properties take precedence over properties for all profiles.
+        applyPassThroughProperties(properties, "kafka.producer");
+        applyPassThroughProperties(properties, "kafka.producer." + profile.configName());
+
+        final var producer = new KafkaProducer<byte[], byte[]>(properties);
+
+        if (Config.getInstance().getPropertyAsBoolean(Config.AlpineKey.METRICS_ENABLED)) {
+            // Besides producer-level metrics such as records-per-request-avg and batch-size-avg,
+            // this includes per-topic metrics such as record-send-rate and compression-rate.
+            LOGGER.info("Registering Kafka producer metrics for profile %s".formatted(profile));
+            final var producerMetrics = new KafkaClientMetrics(producer);
+            producerMetrics.bindTo(Metrics.getRegistry());
+            PRODUCER_METRICS.put(profile, producerMetrics);
+        }
+
+        return producer;
+    }
+
+    private static void applyPassThroughProperties(final Properties properties, final String prefix) {
+        final Map<String, String> passThroughProperties = Config.getInstance().getPassThroughProperties(prefix);
         for (final Map.Entry<String, String> passThroughProperty : passThroughProperties.entrySet()) {
-            final String key = passThroughProperty.getKey().replaceFirst("^kafka\\.producer\\.", "");
+            final String key = passThroughProperty.getKey().substring(prefix.length() + 1);
             if (ProducerConfig.configNames().contains(key)) {
                 properties.put(key, passThroughProperty.getValue());
-            } else {
+            } else if (!isProfileSpecificKey(key)) {
                 LOGGER.warn("%s is not a known Producer property; Ignoring".formatted(key));
             }
         }
+    }
+
+    private static boolean isProfileSpecificKey(final String key) {
+        for (final KafkaProducerProfile profile : KafkaProducerProfile.values()) {
+            if (key.startsWith(profile.configName() + ".")) {
+                return true;
+            }
+        }
 
-        return new KafkaProducer<>(properties);
+        return false;
     }
 
 }
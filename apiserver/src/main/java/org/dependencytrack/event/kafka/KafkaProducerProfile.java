@@ -0,0 +1,80 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.event.kafka;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.record.CompressionType;
+
+import java.util.Map;
+
+/**
+ * Tuning profiles for Kafka producers.
+ * <p>
+ * Each profile is backed by a separate producer instance, such that records of
+ * topics with different volume and latency requirements are batched separately.
+ * The profile used for a topic is defined by {@link KafkaTopics.Topic#producerProfile()}.
+ * <p>
+ * Producer properties of all profiles can be overridden with pass-through properties
+ * ({@code alpine.kafka.producer.<property>}), and for a specific profile with
+ * {@code alpine.kafka.producer.<profile>.<property>}, where {@code <profile>}
+ * is the lowercase name of the profile.
+ *
+ * @since 5.6.0
+ */
+public enum KafkaProducerProfile {
+
+    /**
+     * Balanced settings, suitable for most topics.
+     */
+    DEFAULT(Map.of(
+            ProducerConfig.COMPRESSION_TYPE_CONFIG, CompressionType.SNAPPY.name,
+            ProducerConfig.LINGER_MS_CONFIG, "100")),
+
+    /**
+     * Settings for topics with high record volume, where latency is secondary,
+     * e.g. vulnerability analysis commands. Favours large, well-compressed batches.
+     */
+    THROUGHPUT(Map.of(
+            ProducerConfig.COMPRESSION_TYPE_CONFIG, CompressionType.ZSTD.name,
+            ProducerConfig.LINGER_MS_CONFIG, "250",
+            ProducerConfig.BATCH_SIZE_CONFIG, String.valueOf(256 * 1024))),
+
+    /**
+     * Settings for topics with low record volume, where records
+     * should be delivered as soon as possible, e.g. notifications.
+     */
+    LATENCY(Map.of(
+            ProducerConfig.COMPRESSION_TYPE_CONFIG, CompressionType.LZ4.name,
+            ProducerConfig.LINGER_MS_CONFIG, "5"));
+
+    private final Map<String, String> producerProperties;
+
+    KafkaProducerProfile(final Map<String, String> producerProperties) {
+        this.producerProperties = producerProperties;
+    }
+
+    Map<String, String> producerProperties() {
+        return producerProperties;
+    }
+
+    String configName() {
+        return name().toLowerCase();
+    }
+
+}
@@ -32,6 +32,7 @@ import org.dependencytrack.event.ProjectPolicyEvaluationEvent;
 import org.dependencytrack.event.kafka.KafkaEvent;
 import org.dependencytrack.event.kafka.KafkaEventConverter;
 import org.dependencytrack.event.kafka.KafkaEventDispatcher;
+import org.dependencytrack.event.kafka.KafkaOutbox;
 import org.dependencytrack.event.kafka.processor.api.BatchProcessor;
 import org.dependencytrack.event.kafka.processor.exception.ProcessingException;
 import org.dependencytrack.model.VulnerabilityScan;
@@ -47,6 +48,7 @@ import org.dependencytrack.proto.notification.v1.Notification;
 import org.dependencytrack.proto.notification.v1.ProjectVulnAnalysisCompleteSubject;
 import org.dependencytrack.proto.vulnanalysis.v1.ScanResult;
 import org.dependencytrack.proto.vulnanalysis.v1.ScanStatus;
+import org.dependencytrack.tasks.metrics.MetricsUpdateExecutor;
 import org.jdbi.v3.core.Handle;
 
 import java.util.ArrayList;
@@ -79,6 +81,7 @@ public class ProcessedVulnerabilityScanResultProcessor implements BatchProcessor
     private static final Logger LOGGER = Logger.getLogger(ProcessedVulnerabilityScanResultProcessor.class);
 
     private final KafkaEventDispatcher eventDispatcher = new KafkaEventDispatcher();
+    private final KafkaOutbox kafkaOutbox = KafkaOutbox.getInstance();
     private final boolean shouldDispatchBomProcessedNotification;
 
     public ProcessedVulnerabilityScanResultProcessor() {
@@ -102,10 +105,17 @@ public class ProcessedVulnerabilityScanResultProcessor implements BatchProcessor
             if (shouldDispatchBomProcessedNotification) {
                 notifications.addAll(createBomProcessedNotifications(handle, completedVulnScans));
             }
+
+            if (kafkaOutbox.isEnabled()) {
+                // Notifications are published by the outbox relay once the transaction committed.
+                kafkaOutbox.enqueueAll(handle, notifications);
+            }
         });
 
-        eventDispatcher.dispatchAll(notifications);
-        LOGGER.debug("Dispatched %d notifications".formatted(notifications.size()));
+        if (!kafkaOutbox.isEnabled()) {
+            eventDispatcher.dispatchAll(notifications);
+            LOGGER.debug("Dispatched %d notifications".formatted(notifications.size()));
+        }
 
         for (final VulnerabilityScan completedVulnScan : completedVulnScans) {
             if (completedVulnScan.getStatus() != VulnerabilityScan.Status.COMPLETED) {
@@ -123,7 +133,7 @@ public class ProcessedVulnerabilityScanResultProcessor implements BatchProcessor
                 }
                 case PROJECT -> {
                     LOGGER.debug("Triggering policy evaluation for project %s".formatted(completedVulnScan.getTargetIdentifier()));
-                    metricsUpdateEvent = new ProjectMetricsUpdateEvent(completedVulnScan.getTargetIdentifier());
+                    metricsUpdateEvent = new ProjectMetricsUpdateEvent(completedVulnScan.getTargetIdentifier(), MetricsUpdateExecutor.Priority.BOM_PROCESSED);
                     policyEvalEvent = new ProjectPolicyEvaluationEvent(completedVulnScan.getTargetIdentifier());
                 }
                 default -> throw new IllegalStateException("""
@@ -29,7 +29,7 @@ public class ProcessorInitializer implements ServletContextListener {
 
     private static final Logger LOGGER = Logger.getLogger(ProcessorInitializer.class);
 
-    static final ProcessorManager PROCESSOR_MANAGER = new ProcessorManager();
+    public static final ProcessorManager PROCESSOR_MANAGER = new ProcessorManager();
 
     @Override
     public void contextInitialized(final ServletContextEvent event) {
@@ -31,6 +31,7 @@ import org.dependencytrack.event.kafka.KafkaEvent;
 import org.dependencytrack.event.kafka.KafkaEventConverter;
 import org.dependencytrack.event.kafka.KafkaEventDispatcher;
 import org.dependencytrack.event.kafka.KafkaEventHeaders;
+import org.dependencytrack.event.kafka.KafkaOutbox;
 import org.dependencytrack.event.kafka.KafkaTopics;
 import org.dependencytrack.event.kafka.KafkaUtil;
 import org.dependencytrack.event.kafka.processor.api.Processor;
@@ -63,6 +64,7 @@ import org.dependencytrack.util.AnalysisCommentFormatter.AnalysisCommentField;
 import org.dependencytrack.util.NotificationUtil;
 import org.dependencytrack.util.PersistenceUtil;
 import org.dependencytrack.util.PersistenceUtil.Differ;
+import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.mapper.reflect.ColumnName;
 import org.jdbi.v3.sqlobject.config.RegisterBeanMapper;
 import org.jdbi.v3.sqlobject.config.RegisterConstructorMapper;
@@ -102,7 +104,7 @@ import static org.dependencytrack.common.MdcKeys.MDC_COMPONENT_UUID;
 import static org.dependencytrack.common.MdcKeys.MDC_SCAN_TOKEN;
 import static org.dependencytrack.parser.dependencytrack.ModelConverterCdxToVuln.convert;
 import static org.dependencytrack.persistence.jdbi.JdbiFactory.inJdbiTransaction;
-import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiHandle;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiTransaction;
 import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
 import static org.dependencytrack.proto.notification.v1.Group.GROUP_NEW_VULNERABILITY;
 import static org.dependencytrack.proto.notification.v1.Group.GROUP_NEW_VULNERABLE_DEPENDENCY;
@@ -131,6 +133,7 @@ public class VulnerabilityScanResultProcessor implements Processor<ScanKey, Scan
 
     private final ThreadLocal<List<KafkaEvent<?, ?>>> eventsToDispatch = ThreadLocal.withInitial(ArrayList::new);
     private final KafkaEventDispatcher eventDispatcher = new KafkaEventDispatcher();
+    private final KafkaOutbox kafkaOutbox = KafkaOutbox.getInstance();
     private final VulnerabilityPolicyEvaluator vulnPolicyEvaluator;
 
     public VulnerabilityScanResultProcessor() {
@@ -154,20 +157,32 @@ public class VulnerabilityScanResultProcessor implements Processor<ScanKey, Scan
              var ignoredMdcScanToken = MDC.putCloseable(MDC_SCAN_TOKEN, scanKey.getScanToken())) {
             maybeQueueResultProcessedEvent(scanKey, scanResult);
 
-            processInternal(scanKey, scanResult, analysisLevel, isNewComponent);
+            final boolean isEventsEnqueued = processInternal(scanKey, scanResult, analysisLevel, isNewComponent);
 
-            // NB: Dispatching asynchronously here as blocking comes with a latency penalty
-            // that is too high, given the frequency at which records are processed.
-            eventDispatcher.dispatchAll(eventsToDispatch.get());
+            if (kafkaOutbox.isEnabled()) {
+                // Usually, events were written to the outbox in the transaction that persisted
+                // the last successful scanner result. They are written on their own only when
+                // no such transaction happened, e.g. because all scanners failed.
+                if (!isEventsEnqueued) {
+                    useJdbiTransaction(handle -> kafkaOutbox.enqueueAll(handle, eventsToDispatch.get()));
+                }
+            } else {
+                // NB: Dispatching asynchronously here as blocking comes with a latency penalty
+                // that is too high, given the frequency at which records are processed.
+                eventDispatcher.dispatchAll(eventsToDispatch.get());
+            }
         } finally {
             eventsToDispatch.get().clear();
         }
     }
 
-    private void processInternal(final ScanKey scanKey,
-                                 final ScanResult scanResult,
-                                 final VulnerabilityAnalysisLevel analysisLevel,
-                                 final boolean isNewComponent) {
+    /**
+     * @return {@code true} when the events to dispatch were written to the outbox, otherwise {@code false}
+     */
+    private boolean processInternal(final ScanKey scanKey,
+                                    final ScanResult scanResult,
+                                    final VulnerabilityAnalysisLevel analysisLevel,
+                                    final boolean isNewComponent) {
         try (final var qm = new QueryManager()) {
             // Do not unload fields upon commit (why is this even the default WTF).
             qm.getPersistenceManager().setProperty(PROPERTY_RETAIN_VALUES, "true");
@@ -176,19 +191,33 @@ public class VulnerabilityScanResultProcessor implements Processor<ScanKey, Scan
             final Component component = withJdbiHandle(handle -> handle.attach(Dao.class).getComponentByUuid(UUID.fromString(scanKey.getComponentUuid())));
             if (component == null) {
                 LOGGER.warn("Received result for component, but it does not exist");
-                return;
+                return false;
+            }
+
+            // Events are written to the outbox in the transaction that persists the last successful
+            // scanner result, such that they are published if and only if all results were persisted.
+            final List<ScannerResult> scannerResults = scanResult.getScannerResultsList();
+            int lastSuccessfulIndex = -1;
+            if (kafkaOutbox.isEnabled()) {
+                for (int i = 0; i < scannerResults.size(); i++) {
+                    if (scannerResults.get(i).getStatus() == ScanStatus.SCAN_STATUS_SUCCESSFUL) {
+                        lastSuccessfulIndex = i;
+                    }
+                }
             }
 
-            for (final ScannerResult scannerResult : scanResult.getScannerResultsList()) {
-                processScannerResult(qm, component, scanKey, scannerResult, analysisLevel, isNewComponent);
+            for (int i = 0; i < scannerResults.size(); i++) {
+                processScannerResult(qm, component, scanKey, scannerResults.get(i), analysisLevel, isNewComponent, i == lastSuccessfulIndex);
             }
+
+            return lastSuccessfulIndex >= 0;
         }
     }
 
     private void processScannerResult(final QueryManager qm, final Component component,
                                       final ScanKey scanKey, final ScannerResult scannerResult,
                                       final VulnerabilityAnalysisLevel analysisLevel,
-                                      final boolean isNewComponent) {
+                                      final boolean isNewComponent, final boolean shouldEnqueueEvents) {
         if (scannerResult.getStatus() == SCAN_STATUS_FAILED) {
             final var message = "Scan of component %s with %s failed (scanKey: %s): %s"
                     .formatted(component.uuid(), scannerResult.getScanner(), prettyPrint(scanKey), scannerResult.getFailureReason());
@@ -228,11 +257,9 @@ public class VulnerabilityScanResultProcessor implements Processor<ScanKey, Scan
 
         // Perform analysis for only actionable policies.
         final List<Vulnerability> newVulnUuids = synchronizeFindingsAndAnalyses(qm, component, syncedVulns,
-                scannerResult.getScanner(), actionablePolicies);
+                scannerResult.getScanner(), actionablePolicies, isNewComponent, analysisLevel, shouldEnqueueEvents);
         LOGGER.debug("Identified %d new vulnerabilities for %s with %s (scanKey: %s)"
                 .formatted(newVulnUuids.size(), scanKey.getComponentUuid(), scannerResult.getScanner(), prettyPrint(scanKey)));
-
-        maybeQueueNotifications(qm, component, isNewComponent, analysisLevel, newVulnUuids);
     }
 
     /**
@@ -432,18 +459,26 @@ public class VulnerabilityScanResultProcessor implements Processor<ScanKey, Scan
      * <p>
      * If a {@link Vulnerability} was not previously associated with the {@link Component},
      * a {@link FindingAttribution} will be created for the {@link Scanner}.
+     * <p>
+     * Notifications for newly identified {@link Vulnerability}s are queued as part of the same transaction.
      *
-     * @param qm                 The {@link QueryManager} to use
-     * @param component          The {@link Component} to associate with
-     * @param vulns              The {@link Vulnerability}s to associate with
-     * @param scanner            The {@link Scanner} that identified the association
-     * @param policiesByVulnUuid Matched {@link VulnerabilityPolicy}s grouped by {@link Vulnerability#getUuid()}
+     * @param qm                  The {@link QueryManager} to use
+     * @param component           The {@link Component} to associate with
+     * @param vulns               The {@link Vulnerability}s to associate with
+     * @param scanner             The {@link Scanner} that identified the association
+     * @param policiesByVulnUuid  Matched {@link VulnerabilityPolicy}s grouped by {@link Vulnerability#getUuid()}
+     * @param isNewComponent      Whether {@code component} is new
+     * @param analysisLevel       The {@link VulnerabilityAnalysisLevel}
+     * @param shouldEnqueueEvents Whether to write all queued events to the outbox as part of the transaction
      * @return A {@link List} of {@link Vulnerability}s, that were not previously associated with the {@link Component},
      * and which have not been suppressed via {@link VulnerabilityPolicy}.
      */
     private List<Vulnerability> synchronizeFindingsAndAnalyses(final QueryManager qm, final Component component,
                                                                final Collection<Vulnerability> vulns, final Scanner scanner,
-                                                               final Map<UUID, VulnerabilityPolicy> policiesByVulnUuid) {
+                                                               final Map<UUID, VulnerabilityPolicy> policiesByVulnUuid,
+                                                               final boolean isNewComponent,
+                                                               final VulnerabilityAnalysisLevel analysisLevel,
+                                                               final boolean shouldEnqueueEvents) {
         return inJdbiTransaction(handle -> {
             final var dao = handle.attach(Dao.class);
 
@@ -455,7 +490,14 @@ public class VulnerabilityScanResultProcessor implements Processor<ScanKey, Scan
                     .toList();
             dao.createFindingAttributions(findingAttributions);
 
-            return maybeApplyPolicyAnalyses(qm, dao, component, vulns, newFindingVulnIds, policiesByVulnUuid);
+            final List<Vulnerability> newVulns = maybeApplyPolicyAnalyses(qm, dao, component, vulns, newFindingVulnIds, policiesByVulnUuid);
+            maybeQueueNotifications(handle, component, isNewComponent, analysisLevel, newVulns);
+
+            if (shouldEnqueueEvents) {
+                kafkaOutbox.enqueueAll(handle, eventsToDispatch.get());
+            }
+
+            return newVulns;
         });
     }
 
@@ -734,50 +776,48 @@ public class VulnerabilityScanResultProcessor implements Processor<ScanKey, Scan
      * Send {@link Group#GROUP_NEW_VULNERABLE_DEPENDENCY} and {@link Group#GROUP_NEW_VULNERABILITY} notifications
      * for a given {@link Component}, <em>if it was found to have at least one non-suppressed vulnerability</em>.
      *
-     * @param qm             The {@link QueryManager} to use
+     * @param handle         The {@link Handle} to use
      * @param component      The {@link Component} to send notifications for
      * @param isNewComponent Whether {@code component} is new
      * @param analysisLevel  The {@link VulnerabilityAnalysisLevel}
      * @param newVulns       Newly identified {@link Vulnerability}s
      */
-    private void maybeQueueNotifications(final QueryManager qm, final Component component, final boolean isNewComponent,
+    private void maybeQueueNotifications(final Handle handle, final Component component, final boolean isNewComponent,
                                          final VulnerabilityAnalysisLevel analysisLevel, final List<Vulnerability> newVulns) {
         if (newVulns.isEmpty()) {
             return;
         }
 
         final Timestamp notificationTimestamp = Timestamps.now();
-        useJdbiHandle(handle -> {
-            final var dao = handle.attach(NotificationSubjectDao.class);
-
-            if (isNewComponent) {
-                dao.getForNewVulnerableDependency(component.uuid())
-                        .map(subject -> org.dependencytrack.proto.notification.v1.Notification.newBuilder()
-                                .setScope(SCOPE_PORTFOLIO)
-                                .setGroup(GROUP_NEW_VULNERABLE_DEPENDENCY)
-                                .setLevel(LEVEL_INFORMATIONAL)
-                                .setTimestamp(notificationTimestamp)
-                                .setTitle(generateNotificationTitle(NotificationConstants.Title.NEW_VULNERABLE_DEPENDENCY, subject.getProject()))
-                                .setContent(generateNotificationContent(subject.getComponent(), subject.getVulnerabilitiesList()))
-                                .setSubject(Any.pack(subject))
-                                .build())
-                        .map(KafkaEventConverter::convert)
-                        .ifPresent(eventsToDispatch.get()::add);
-            }
+        final var dao = handle.attach(NotificationSubjectDao.class);
 
-            dao.getForNewVulnerabilities(component.uuid(), newVulns.stream().map(Vulnerability::getUuid).toList(), analysisLevel).stream()
+        if (isNewComponent) {
+            dao.getForNewVulnerableDependency(component.uuid())
                     .map(subject -> org.dependencytrack.proto.notification.v1.Notification.newBuilder()
                             .setScope(SCOPE_PORTFOLIO)
-                            .setGroup(GROUP_NEW_VULNERABILITY)
+                            .setGroup(GROUP_NEW_VULNERABLE_DEPENDENCY)
                             .setLevel(LEVEL_INFORMATIONAL)
                             .setTimestamp(notificationTimestamp)
-                            .setTitle(generateNotificationTitle(NotificationConstants.Title.NEW_VULNERABILITY, subject.getProject()))
-                            .setContent(generateNotificationContent(subject.getVulnerability()))
+                            .setTitle(generateNotificationTitle(NotificationConstants.Title.NEW_VULNERABLE_DEPENDENCY, subject.getProject()))
+                            .setContent(generateNotificationContent(subject.getComponent(), subject.getVulnerabilitiesList()))
                             .setSubject(Any.pack(subject))
                             .build())
                     .map(KafkaEventConverter::convert)
-                    .forEach(eventsToDispatch.get()::add);
-        });
+                    .ifPresent(eventsToDispatch.get()::add);
+        }
+
+        dao.getForNewVulnerabilities(component.uuid(), newVulns.stream().map(Vulnerability::getUuid).toList(), analysisLevel).stream()
+                .map(subject -> org.dependencytrack.proto.notification.v1.Notification.newBuilder()
+                        .setScope(SCOPE_PORTFOLIO)
+                        .setGroup(GROUP_NEW_VULNERABILITY)
+                        .setLevel(LEVEL_INFORMATIONAL)
+                        .setTimestamp(notificationTimestamp)
+                        .setTitle(generateNotificationTitle(NotificationConstants.Title.NEW_VULNERABILITY, subject.getProject()))
+                        .setContent(generateNotificationContent(subject.getVulnerability()))
+                        .setSubject(Any.pack(subject))
+                        .build())
+                .map(KafkaEventConverter::convert)
+                .forEach(eventsToDispatch.get()::add);
     }
 
     private boolean canUpdateVulnerability(final Vulnerability vuln, final Scanner scanner) {
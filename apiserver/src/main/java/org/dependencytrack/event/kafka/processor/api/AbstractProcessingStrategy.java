@@ -46,10 +46,13 @@ abstract class AbstractProcessingStrategy<K, V> implements ProcessingStrategy {
 
     private final Serde<K> keySerde;
     private final Serde<V> valueSerde;
+    private final DeadLetterPublisher deadLetterPublisher;
 
-    AbstractProcessingStrategy(final Serde<K> keySerde, final Serde<V> valueSerde) {
+    AbstractProcessingStrategy(final Serde<K> keySerde, final Serde<V> valueSerde,
+                               final DeadLetterPublisher deadLetterPublisher) {
         this.keySerde = keySerde;
         this.valueSerde = valueSerde;
+        this.deadLetterPublisher = deadLetterPublisher;
     }
 
     /**
@@ -76,6 +79,20 @@ abstract class AbstractProcessingStrategy<K, V> implements ProcessingStrategy {
                 deserializedKey, deserializedValue, record.headers(), record.leaderEpoch());
     }
 
+    /**
+     * Handle {@link ConsumerRecord}s that can not be processed successfully, and would otherwise be skipped.
+     * <p>
+     * If dead-lettering is enabled for the processor, the records are published to its dead letter topic.
+     *
+     * @param records The {@link ConsumerRecord}s that failed to be processed
+     * @param cause   The cause of the failure
+     */
+    void handleFailedRecords(final List<ConsumerRecord<byte[], byte[]>> records, final Throwable cause) {
+        if (deadLetterPublisher != null) {
+            deadLetterPublisher.publish(records, cause);
+        }
+    }
+
     private static final List<Class<? extends Exception>> KNOWN_TRANSIENT_EXCEPTIONS = List.of(
             ConnectTimeoutException.class,
             ConnectionInUseException.class,
@@ -0,0 +1,154 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.event.kafka.processor.api;
+
+import alpine.common.logging.Logger;
+import alpine.common.metrics.Metrics;
+import alpine.event.framework.LoggableUncaughtExceptionHandler;
+import alpine.server.persistence.PersistenceManagerFactory;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Gauge;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.dependencytrack.util.PersistenceUtil;
+
+import javax.jdo.PersistenceManager;
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically adjusts the limits of {@link AdaptiveConcurrencyLimiter}s,
+ * based on consumer lag and saturation of the database connection pool.
+ *
+ * @since 5.6.0
+ */
+final class AdaptiveConcurrencyController implements AutoCloseable {
+
+    private record ManagedLimiter(AdaptiveConcurrencyLimiter limiter, String consumerClientId) {
+    }
+
+    private static final Logger LOGGER = Logger.getLogger(AdaptiveConcurrencyController.class);
+    private static final String CONSUMER_LAG_METRIC_NAME = "kafka.consumer.fetch.manager.records.lag.max";
+
+    private final Map<String, ManagedLimiter> limiters = new LinkedHashMap<>();
+    private final Duration adjustmentInterval;
+    private ScheduledExecutorService executor;
+    private HikariDataSource dataSource;
+
+    AdaptiveConcurrencyController(final Duration adjustmentInterval) {
+        this.adjustmentInterval = adjustmentInterval;
+    }
+
+    void register(final String processorName, final String consumerClientId, final AdaptiveConcurrencyLimiter limiter) {
+        limiters.put(processorName, new ManagedLimiter(limiter, consumerClientId));
+    }
+
+    boolean isEmpty() {
+        return limiters.isEmpty();
+    }
+
+    void start() {
+        if (limiters.isEmpty() || executor != null) {
+            return;
+        }
+
+        limiters.values().forEach(managedLimiter -> managedLimiter.limiter().registerMetrics());
+
+        executor = Executors.newSingleThreadScheduledExecutor(new BasicThreadFactory.Builder()
+                .namingPattern("ProcessorManager-AdaptiveConcurrencyController")
+                .daemon(true)
+                .uncaughtExceptionHandler(new LoggableUncaughtExceptionHandler())
+                .build());
+        executor.scheduleWithFixedDelay(this::adjustLimits,
+                adjustmentInterval.toMillis(), adjustmentInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    private void adjustLimits() {
+        final boolean isDatabasePoolSaturated = isDatabasePoolSaturated();
+
+        for (final Map.Entry<String, ManagedLimiter> entry : limiters.entrySet()) {
+            final ManagedLimiter managedLimiter = entry.getValue();
+            try {
+                final long consumerLag = getConsumerLag(managedLimiter.consumerClientId());
+                final AdaptiveConcurrencyLimiter limiter = managedLimiter.limiter();
+                limiter.adjust(limiter.collectSignals(consumerLag, isDatabasePoolSaturated));
+            } catch (RuntimeException e) {
+                LOGGER.warn("Failed to adjust limits of processor %s".formatted(entry.getKey()), e);
+            }
+        }
+    }
+
+    private static long getConsumerLag(final String consumerClientId) {
+        // Lag metrics are only available when metrics are enabled.
+        return Metrics.getRegistry().find(CONSUMER_LAG_METRIC_NAME)
+                .tag("client.id", consumerClientId)
+                .gauges().stream()
+                .mapToDouble(Gauge::value)
+                .filter(value -> !Double.isNaN(value))
+                .mapToLong(value -> (long) value)
+                .max()
+                .orElse(-1);
+    }
+
+    private boolean isDatabasePoolSaturated() {
+        final HikariDataSource hikariDataSource = getDataSource();
+        if (hikariDataSource == null) {
+            return false;
+        }
+
+        final HikariPoolMXBean poolMXBean = hikariDataSource.getHikariPoolMXBean();
+        if (poolMXBean == null) {
+            return false;
+        }
+
+        return poolMXBean.getThreadsAwaitingConnection() > 0
+                || poolMXBean.getActiveConnections() >= hikariDataSource.getMaximumPoolSize();
+    }
+
+    private HikariDataSource getDataSource() {
+        if (dataSource != null) {
+            return dataSource;
+        }
+
+        try (final PersistenceManager pm = PersistenceManagerFactory.createPersistenceManager()) {
+            final DataSource pmfDataSource = PersistenceUtil.getDataSource(pm.getPersistenceManagerFactory());
+            if (pmfDataSource instanceof final HikariDataSource hikariDataSource) {
+                dataSource = hikariDataSource;
+            }
+        } catch (RuntimeException e) {
+            LOGGER.debug("Failed to determine database connection pool", e);
+        }
+
+        return dataSource;
+    }
+
+}
@@ -0,0 +1,305 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.event.kafka.processor.api;
+
+import alpine.common.logging.Logger;
+import alpine.common.metrics.Metrics;
+import io.micrometer.core.instrument.Gauge;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Limits the concurrency and batch size with which a processor processes records,
+ * and adjusts those limits based on observed {@link Signals}.
+ * <p>
+ * Limits are adjusted using additive increase / multiplicative decrease:
+ * <ul>
+ *     <li>When the database connection pool is saturated, or processing latency degrades
+ *     significantly compared to the observed baseline, limits are reduced by a factor.</li>
+ *     <li>When consumer lag builds up, and the current concurrency limit is fully utilized,
+ *     limits are increased in small steps.</li>
+ *     <li>When the processor is mostly idle, the concurrency limit is slowly reduced,
+ *     such that database connections are released for other work.</li>
+ * </ul>
+ * The parallel consumer's {@code max.concurrency} and {@code max.batch.size}
+ * act as upper bounds for the respective limits.
+ *
+ * @since 5.6.0
+ */
+final class AdaptiveConcurrencyLimiter {
+
+    /**
+     * Signals observed for a processor since the previous adjustment.
+     *
+     * @param avgRecordLatencyMillis Average processing latency per record, or {@link Double#NaN} if no records were processed
+     * @param consumerLag            Maximum consumer lag across all assigned partitions, or {@code -1} if unknown
+     * @param databasePoolSaturated  Whether the database connection pool is saturated
+     * @param peakInFlight           Maximum number of concurrently processed polls
+     */
+    record Signals(double avgRecordLatencyMillis, long consumerLag, boolean databasePoolSaturated, int peakInFlight) {
+    }
+
+    private static final Logger LOGGER = Logger.getLogger(AdaptiveConcurrencyLimiter.class);
+    private static final double DECREASE_FACTOR = 0.75;
+    private static final double BASELINE_ADAPTION_RATE = 0.05;
+
+    private final String processorName;
+    private final boolean isBatch;
+    private final int minConcurrency;
+    private final int maxConcurrency;
+    private final int minBatchSize;
+    private final int maxBatchSize;
+    private final double latencyTolerance;
+    private final long lagThreshold;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition permitReleased = lock.newCondition();
+    private final LongAdder processingNanos = new LongAdder();
+    private final LongAdder recordsProcessed = new LongAdder();
+    private int concurrencyLimit;
+    private int inFlight;
+    private int peakInFlight;
+    private volatile int batchSizeLimit;
+    private double baselineLatencyMillis = Double.NaN;
+
+    AdaptiveConcurrencyLimiter(final String processorName, final boolean isBatch,
+                               final int minConcurrency, final int maxConcurrency,
+                               final int minBatchSize, final int maxBatchSize,
+                               final double latencyTolerance, final long lagThreshold) {
+        if (minConcurrency < 1 || minConcurrency > maxConcurrency) {
+            throw new IllegalArgumentException("minConcurrency must be between 1 and %d, but is %d"
+                    .formatted(maxConcurrency, minConcurrency));
+        }
+        if (minBatchSize < 1 || minBatchSize > maxBatchSize) {
+            throw new IllegalArgumentException("minBatchSize must be between 1 and %d, but is %d"
+                    .formatted(maxBatchSize, minBatchSize));
+        }
+        if (latencyTolerance <= 1) {
+            throw new IllegalArgumentException("latencyTolerance must be greater than 1, but is " + latencyTolerance);
+        }
+
+        this.processorName = processorName;
+        this.isBatch = isBatch;
+        this.minConcurrency = minConcurrency;
+        this.maxConcurrency = maxConcurrency;
+        this.minBatchSize = minBatchSize;
+        this.maxBatchSize = maxBatchSize;
+        this.latencyTolerance = latencyTolerance;
+        this.lagThreshold = lagThreshold;
+        this.concurrencyLimit = maxConcurrency;
+        this.batchSizeLimit = maxBatchSize;
+    }
+
+    void registerMetrics() {
+        Gauge.builder("dtrack_kafka_processor_adaptive_concurrency_limit", this, AdaptiveConcurrencyLimiter::getConcurrencyLimit)
+                .description("Current concurrency limit of the processor")
+                .tag("processor", processorName)
+                .register(Metrics.getRegistry());
+        Gauge.builder("dtrack_kafka_processor_adaptive_in_flight", this, AdaptiveConcurrencyLimiter::getInFlight)
+                .description("Number of polls currently being processed by the processor")
+                .tag("processor", processorName)
+                .register(Metrics.getRegistry());
+        if (isBatch) {
+            Gauge.builder("dtrack_kafka_processor_adaptive_batch_size_limit", this, AdaptiveConcurrencyLimiter::getBatchSizeLimit)
+                    .description("Current batch size limit of the processor")
+                    .tag("processor", processorName)
+                    .register(Metrics.getRegistry());
+        }
+    }
+
+    /**
+     * Process {@code records} once the concurrency limit permits it.
+     * <p>
+     * For batch processors, {@code records} are split into batches no larger than the current batch size limit.
+     *
+     * @param records   The records to process
+     * @param processor The processor to delegate to
+     * @param <T>       Type of the records
+     */
+    <T> void execute(final List<T> records, final Consumer<List<T>> processor) {
+        acquire();
+        final long startTimeNanos = System.nanoTime();
+        try {
+            final int batchSize = batchSizeLimit;
+            if (!isBatch || records.size() <= batchSize) {
+                processor.accept(records);
+            } else {
+                for (int i = 0; i < records.size(); i += batchSize) {
+                    processor.accept(records.subList(i, Math.min(i + batchSize, records.size())));
+                }
+            }
+
+            processingNanos.add(System.nanoTime() - startTimeNanos);
+            recordsProcessed.add(records.size());
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * Collect {@link Signals} observed since the previous invocation of this method.
+     *
+     * @param consumerLag           Maximum consumer lag across all assigned partitions, or {@code -1} if unknown
+     * @param databasePoolSaturated Whether the database connection pool is saturated
+     * @return The collected {@link Signals}
+     */
+    Signals collectSignals(final long consumerLag, final boolean databasePoolSaturated) {
+        final long nanos = processingNanos.sumThenReset();
+        final long records = recordsProcessed.sumThenReset();
+        final double avgRecordLatencyMillis = records > 0
+                ? (double) TimeUnit.NANOSECONDS.toMicros(nanos) / 1000 / records
+                : Double.NaN;
+
+        final int peak;
+        lock.lock();
+        try {
+            peak = peakInFlight;
+            peakInFlight = inFlight;
+        } finally {
+            lock.unlock();
+        }
+
+        return new Signals(avgRecordLatencyMillis, consumerLag, databasePoolSaturated, peak);
+    }
+
+    /**
+     * Adjust the concurrency and batch size limits based on the given {@link Signals}.
+     *
+     * @param signals The observed {@link Signals}
+     */
+    void adjust(final Signals signals) {
+        final boolean isLatencyDegraded = isLatencyDegraded(signals.avgRecordLatencyMillis());
+        final boolean isLagging = signals.consumerLag() < 0
+                ? signals.peakInFlight() >= concurrencyLimit
+                : signals.consumerLag() > lagThreshold && signals.peakInFlight() >= concurrencyLimit;
+
+        final int newConcurrencyLimit;
+        final int newBatchSizeLimit;
+        if (signals.databasePoolSaturated() || isLatencyDegraded) {
+            newConcurrencyLimit = Math.max(minConcurrency, (int) (concurrencyLimit * DECREASE_FACTOR));
+            newBatchSizeLimit = Math.max(minBatchSize, (int) (batchSizeLimit * DECREASE_FACTOR));
+        } else if (isLagging) {
+            newConcurrencyLimit = Math.min(maxConcurrency, concurrencyLimit + 1);
+            newBatchSizeLimit = Math.min(maxBatchSize, batchSizeLimit + Math.max(1, batchSizeLimit / 4));
+        } else if (signals.peakInFlight() < concurrencyLimit / 2) {
+            newConcurrencyLimit = Math.max(minConcurrency, concurrencyLimit - 1);
+            newBatchSizeLimit = batchSizeLimit;
+        } else {
+            newConcurrencyLimit = concurrencyLimit;
+            newBatchSizeLimit = batchSizeLimit;
+        }
+
+        updateBaselineLatency(signals.avgRecordLatencyMillis());
+
+        if (newConcurrencyLimit != concurrencyLimit || newBatchSizeLimit != batchSizeLimit) {
+            LOGGER.debug("""
+                    Adjusting limits of processor %s: concurrency %d -> %d, batch size %d -> %d \
+                    (signals: %s, baselineLatencyMillis: %.2f)""".formatted(processorName,
+                    concurrencyLimit, newConcurrencyLimit, batchSizeLimit, newBatchSizeLimit, signals, baselineLatencyMillis));
+            setConcurrencyLimit(newConcurrencyLimit);
+            batchSizeLimit = newBatchSizeLimit;
+        }
+    }
+
+    int getConcurrencyLimit() {
+        lock.lock();
+        try {
+            return concurrencyLimit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int getBatchSizeLimit() {
+        return batchSizeLimit;
+    }
+
+    int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isLatencyDegraded(final double avgRecordLatencyMillis) {
+        return !Double.isNaN(avgRecordLatencyMillis)
+                && !Double.isNaN(baselineLatencyMillis)
+                && avgRecordLatencyMillis > baselineLatencyMillis * latencyTolerance;
+    }
+
+    private void updateBaselineLatency(final double avgRecordLatencyMillis) {
+        if (Double.isNaN(avgRecordLatencyMillis)) {
+            return;
+        }
+
+        // The baseline follows decreases immediately, but increases only slowly.
+        // This way, it approximates the latency under low load, while still
+        // accommodating for lasting changes of the workload.
+        if (Double.isNaN(baselineLatencyMillis) || avgRecordLatencyMillis < baselineLatencyMillis) {
+            baselineLatencyMillis = avgRecordLatencyMillis;
+        } else {
+            baselineLatencyMillis += (avgRecordLatencyMillis - baselineLatencyMillis) * BASELINE_ADAPTION_RATE;
+        }
+    }
+
+    private void setConcurrencyLimit(final int limit) {
+        lock.lock();
+        try {
+            concurrencyLimit = limit;
+            permitReleased.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void acquire() {
+        lock.lock();
+        try {
+            while (inFlight >= concurrencyLimit) {
+                permitReleased.await();
+            }
+
+            inFlight++;
+            peakInFlight = Math.max(peakInFlight, inFlight);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for processor %s to permit processing"
+                    .formatted(processorName), e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release() {
+        lock.lock();
+        try {
+            inFlight--;
+            permitReleased.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+}
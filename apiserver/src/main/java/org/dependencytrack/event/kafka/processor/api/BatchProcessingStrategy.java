@@ -43,8 +43,9 @@ class BatchProcessingStrategy<K, V> extends AbstractProcessingStrategy<K, V> {
     private final BatchProcessor<K, V> batchProcessor;
 
     BatchProcessingStrategy(final BatchProcessor<K, V> batchProcessor,
-                            final Serde<K> keySerde, final Serde<V> valueSerde) {
-        super(keySerde, valueSerde);
+                            final Serde<K> keySerde, final Serde<V> valueSerde,
+                            final DeadLetterPublisher deadLetterPublisher) {
+        super(keySerde, valueSerde, deadLetterPublisher);
         this.batchProcessor = batchProcessor;
     }
 
@@ -54,14 +55,16 @@ class BatchProcessingStrategy<K, V> extends AbstractProcessingStrategy<K, V> {
     @Override
     public void processRecords(final List<ConsumerRecord<byte[], byte[]>> records) {
         final var deserializedRecords = new ArrayList<ConsumerRecord<K, V>>(records.size());
+        final var deserializableRecords = new ArrayList<ConsumerRecord<byte[], byte[]>>(records.size());
         for (final ConsumerRecord<byte[], byte[]> record : records) {
             try (var ignoredMdcKafkaRecordTopic = MDC.putCloseable(MdcKeys.MDC_KAFKA_RECORD_TOPIC, record.topic());
                  var ignoredMdcKafkaRecordPartition = MDC.putCloseable(MdcKeys.MDC_KAFKA_RECORD_PARTITION, String.valueOf(record.partition()));
                  var ignoredMdcKafkaRecordOffset = MDC.putCloseable(MdcKeys.MDC_KAFKA_RECORD_OFFSET, String.valueOf(record.offset()))) {
                 deserializedRecords.add(deserialize(record));
+                deserializableRecords.add(record);
             } catch (SerializationException e) {
-                // TODO: Consider supporting error handlers, e.g. to send record to DLT.
                 LOGGER.error("Failed to deserialize record; Skipping", e);
+                handleFailedRecords(List.of(record), e);
             }
         }
 
@@ -79,7 +82,7 @@ class BatchProcessingStrategy<K, V> extends AbstractProcessingStrategy<K, V> {
             }
 
             LOGGER.error("Encountered non-retryable exception while processing %d records; Skipping".formatted(deserializedRecords.size()), e);
-            // TODO: Consider supporting error handlers, e.g. to send records to DLT.
+            handleFailedRecords(deserializableRecords, e);
             // Skip records to avoid poison-pill scenario.
         }
     }
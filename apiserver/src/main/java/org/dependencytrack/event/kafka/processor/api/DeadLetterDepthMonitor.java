@@ -0,0 +1,137 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.event.kafka.processor.api;
+
+import alpine.common.logging.Logger;
+import alpine.event.framework.LoggableUncaughtExceptionHandler;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.ListOffsetsResult.ListOffsetsResultInfo;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Periodically determines the depth of dead letter topics, i.e. the number of
+ * dead-lettered records that have not been replayed yet.
+ *
+ * @since 5.6.0
+ */
+final class DeadLetterDepthMonitor implements AutoCloseable {
+
+    private static final Logger LOGGER = Logger.getLogger(DeadLetterDepthMonitor.class);
+    private static final long ADMIN_TIMEOUT_MS = 3_000;
+
+    private final List<DeadLetterPublisher> publishers = new ArrayList<>();
+    private final Duration refreshInterval;
+    private final Supplier<AdminClient> adminClientSupplier;
+    private ScheduledExecutorService executor;
+
+    DeadLetterDepthMonitor(final Duration refreshInterval, final Supplier<AdminClient> adminClientSupplier) {
+        this.refreshInterval = refreshInterval;
+        this.adminClientSupplier = adminClientSupplier;
+    }
+
+    void register(final DeadLetterPublisher publisher) {
+        publishers.add(publisher);
+    }
+
+    void start() {
+        if (publishers.isEmpty() || executor != null) {
+            return;
+        }
+
+        executor = Executors.newSingleThreadScheduledExecutor(new BasicThreadFactory.Builder()
+                .namingPattern("ProcessorManager-DeadLetterDepthMonitor")
+                .daemon(true)
+                .uncaughtExceptionHandler(new LoggableUncaughtExceptionHandler())
+                .build());
+        executor.scheduleWithFixedDelay(this::refreshDepths,
+                0, refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    void refreshDepths() {
+        for (final DeadLetterPublisher publisher : publishers) {
+            try {
+                publisher.setDepth(getDepth(publisher.topicName(), publisher.replayGroupId()));
+            } catch (ExecutionException | TimeoutException | RuntimeException e) {
+                LOGGER.warn("Failed to determine depth of dead letter topic %s".formatted(publisher.topicName()), e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private long getDepth(final String topicName, final String replayGroupId)
+            throws ExecutionException, InterruptedException, TimeoutException {
+        final AdminClient adminClient = adminClientSupplier.get();
+
+        final TopicDescription topicDescription = adminClient.describeTopics(List.of(topicName))
+                .topicNameValues().get(topicName).get(ADMIN_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        final List<TopicPartition> partitions = topicDescription.partitions().stream()
+                .map(partitionInfo -> new TopicPartition(topicName, partitionInfo.partition()))
+                .toList();
+
+        final Map<TopicPartition, ListOffsetsResultInfo> earliestOffsets = adminClient.listOffsets(partitions.stream()
+                        .collect(Collectors.toMap(Function.identity(), ignored -> OffsetSpec.earliest())))
+                .all().get(ADMIN_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        final Map<TopicPartition, ListOffsetsResultInfo> latestOffsets = adminClient.listOffsets(partitions.stream()
+                        .collect(Collectors.toMap(Function.identity(), ignored -> OffsetSpec.latest())))
+                .all().get(ADMIN_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        final Map<TopicPartition, OffsetAndMetadata> replayedOffsets = adminClient.listConsumerGroupOffsets(replayGroupId)
+                .partitionsToOffsetAndMetadata().get(ADMIN_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+
+        long depth = 0;
+        for (final TopicPartition partition : partitions) {
+            long replayedOffset = earliestOffsets.get(partition).offset();
+            final OffsetAndMetadata replayedOffsetAndMetadata = replayedOffsets.get(partition);
+            if (replayedOffsetAndMetadata != null) {
+                replayedOffset = Math.max(replayedOffset, replayedOffsetAndMetadata.offset());
+            }
+
+            depth += Math.max(0, latestOffsets.get(partition).offset() - replayedOffset);
+        }
+
+        return depth;
+    }
+
+}
@@ -0,0 +1,176 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.event.kafka.processor.api;
+
+import alpine.common.logging.Logger;
+import alpine.common.metrics.Metrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Publishes records that a processor failed to process to a dead letter topic.
+ * <p>
+ * Dead-lettered records retain the key, value, and headers of the original record,
+ * such that they can be replayed to the original topic as-is. Details about the failure
+ * are recorded in additional {@code dtrack.dlt.*} headers.
+ * <p>
+ * Dead-lettered records can be replayed using a {@link DeadLetterReplayer}. The number of records
+ * that have not been replayed yet is exposed as the depth of the dead letter topic.
+ *
+ * @since 5.6.0
+ */
+final class DeadLetterPublisher {
+
+    static final String HEADER_PROCESSOR = "dtrack.dlt.processor";
+    static final String HEADER_ORIGINAL_TOPIC = "dtrack.dlt.original.topic";
+    static final String HEADER_ORIGINAL_PARTITION = "dtrack.dlt.original.partition";
+    static final String HEADER_ORIGINAL_OFFSET = "dtrack.dlt.original.offset";
+    static final String HEADER_EXCEPTION_CLASS = "dtrack.dlt.exception.class";
+    static final String HEADER_EXCEPTION_MESSAGE = "dtrack.dlt.exception.message";
+
+    private static final Logger LOGGER = Logger.getLogger(DeadLetterPublisher.class);
+
+    private final String processorName;
+    private final String topicName;
+    private final int maxAttempts;
+    private final Producer<byte[], byte[]> producer;
+    private final Counter publishedCounter;
+    private final AtomicLong depth = new AtomicLong();
+
+    DeadLetterPublisher(final String processorName, final String topicName,
+                        final int maxAttempts, final Producer<byte[], byte[]> producer) {
+        this.processorName = processorName;
+        this.topicName = topicName;
+        this.maxAttempts = maxAttempts;
+        this.producer = producer;
+        this.publishedCounter = Counter.builder("dtrack_kafka_processor_dead_letters_total")
+                .description("Total number of records published to the dead letter topic of a processor")
+                .tag("processor", processorName)
+                .tag("topic", topicName)
+                .register(Metrics.getRegistry());
+        Gauge.builder("dtrack_kafka_processor_dead_letter_depth", depth, AtomicLong::doubleValue)
+                .description("Number of records in the dead letter topic of a processor that have not been replayed yet")
+                .tag("processor", processorName)
+                .tag("topic", topicName)
+                .register(Metrics.getRegistry());
+    }
+
+    /**
+     * @param topicName Name of the topic to get the dead letter topic name for
+     * @return Name of the dead letter topic
+     */
+    static String deadLetterTopicName(final String topicName) {
+        return topicName + ".dlt";
+    }
+
+    /**
+     * @param processorName Name of the processor to get the replay consumer group ID for
+     * @return ID of the consumer group that tracks which dead-lettered records have been replayed
+     */
+    static String replayGroupId(final String processorName) {
+        return processorName + ".dlt.replay";
+    }
+
+    String topicName() {
+        return topicName;
+    }
+
+    String replayGroupId() {
+        return replayGroupId(processorName);
+    }
+
+    void setDepth(final long depth) {
+        this.depth.set(depth);
+    }
+
+    /**
+     * @param numberOfFailedAttempts Number of previously failed attempts, excluding the current one
+     * @return Whether a record has exhausted its retry attempts, and should be dead-lettered
+     */
+    boolean isRetryExhausted(final int numberOfFailedAttempts) {
+        return numberOfFailedAttempts + 1 >= maxAttempts;
+    }
+
+    /**
+     * Publish {@link ConsumerRecord}s to the dead letter topic, and wait for the broker to acknowledge them.
+     *
+     * @param records The {@link ConsumerRecord}s to publish
+     * @param cause   The cause of the failure
+     * @throws RecordPublishException When publishing failed, such that the records are retried instead of being lost
+     */
+    void publish(final List<ConsumerRecord<byte[], byte[]>> records, final Throwable cause) {
+        if (records.isEmpty()) {
+            return;
+        }
+
+        final var futures = new ArrayList<Future<RecordMetadata>>(records.size());
+        for (final ConsumerRecord<byte[], byte[]> record : records) {
+            final var headers = new RecordHeaders(record.headers().toArray());
+            headers.add(HEADER_PROCESSOR, processorName.getBytes(UTF_8));
+            headers.add(HEADER_ORIGINAL_TOPIC, record.topic().getBytes(UTF_8));
+            headers.add(HEADER_ORIGINAL_PARTITION, String.valueOf(record.partition()).getBytes(UTF_8));
+            headers.add(HEADER_ORIGINAL_OFFSET, String.valueOf(record.offset()).getBytes(UTF_8));
+            addCauseHeaders(headers, cause);
+
+            futures.add(producer.send(new ProducerRecord<>(topicName, null, record.key(), record.value(), headers)));
+        }
+
+        try {
+            for (final Future<RecordMetadata> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            throw new RecordPublishException("Failed to publish %d records to dead letter topic %s"
+                    .formatted(records.size(), topicName), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RecordPublishException("Interrupted while publishing %d records to dead letter topic %s"
+                    .formatted(records.size(), topicName), e);
+        }
+
+        LOGGER.warn("Published %d records to dead letter topic %s".formatted(records.size(), topicName));
+        publishedCounter.increment(records.size());
+    }
+
+    private static void addCauseHeaders(final Headers headers, final Throwable cause) {
+        if (cause == null) {
+            return;
+        }
+
+        headers.add(HEADER_EXCEPTION_CLASS, cause.getClass().getName().getBytes(UTF_8));
+        if (cause.getMessage() != null) {
+            headers.add(HEADER_EXCEPTION_MESSAGE, cause.getMessage().getBytes(UTF_8));
+        }
+    }
+
+}
@@ -0,0 +1,152 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.event.kafka.processor.api;
+
+import alpine.common.logging.Logger;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.InterruptException;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * Replays dead-lettered records to the topic of the processor that failed to process them.
+ * <p>
+ * Replay progress is tracked via the committed offsets of the processor's replay consumer group
+ * (see {@link DeadLetterPublisher#replayGroupId(String)}), such that subsequent replays continue
+ * where the previous one left off. Replayed records retain their key, value, and original headers.
+ *
+ * @since 5.6.0
+ */
+final class DeadLetterReplayer {
+
+    private static final Logger LOGGER = Logger.getLogger(DeadLetterReplayer.class);
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(1);
+
+    private final String deadLetterTopicName;
+    private final String targetTopicName;
+    private final Producer<byte[], byte[]> producer;
+
+    DeadLetterReplayer(final String deadLetterTopicName, final String targetTopicName,
+                       final Producer<byte[], byte[]> producer) {
+        this.deadLetterTopicName = deadLetterTopicName;
+        this.targetTopicName = targetTopicName;
+        this.producer = producer;
+    }
+
+    /**
+     * Replay up to {@code limit} dead-lettered records.
+     * <p>
+     * Offsets are committed only after the broker acknowledged the replayed records.
+     * Should publishing fail, records of the failed poll may be replayed again by a later replay.
+     *
+     * @param consumer The {@link Consumer} to read dead-lettered records with
+     * @param limit    The maximum number of records to replay
+     * @return The number of replayed records
+     * @throws KafkaException When publishing replayed records failed
+     */
+    int replay(final Consumer<byte[], byte[]> consumer, final int limit) {
+        final List<TopicPartition> partitions = consumer.partitionsFor(deadLetterTopicName).stream()
+                .map(partitionInfo -> new TopicPartition(partitionInfo.topic(), partitionInfo.partition()))
+                .toList();
+        consumer.assign(partitions);
+
+        // Only replay records that existed when the replay started.
+        final Map<TopicPartition, Long> endOffsets = consumer.endOffsets(partitions);
+
+        int replayedCount = 0;
+        while (replayedCount < limit && !isCaughtUp(consumer, endOffsets)) {
+            final ConsumerRecords<byte[], byte[]> records = consumer.poll(POLL_TIMEOUT);
+
+            final var futures = new ArrayList<Future<RecordMetadata>>(records.count());
+            final var offsetsToCommit = new HashMap<TopicPartition, OffsetAndMetadata>();
+            for (final ConsumerRecord<byte[], byte[]> record : records) {
+                if (replayedCount == limit) {
+                    break;
+                }
+
+                final var partition = new TopicPartition(record.topic(), record.partition());
+                if (record.offset() >= endOffsets.getOrDefault(partition, Long.MAX_VALUE)) {
+                    continue;
+                }
+
+                futures.add(producer.send(new ProducerRecord<>(targetTopicName, null,
+                        record.key(), record.value(), getReplayHeaders(record.headers()))));
+                offsetsToCommit.put(partition, new OffsetAndMetadata(record.offset() + 1));
+                replayedCount++;
+            }
+
+            try {
+                for (final Future<RecordMetadata> future : futures) {
+                    future.get();
+                }
+            } catch (ExecutionException e) {
+                throw new KafkaException("Failed to replay records from %s to %s"
+                        .formatted(deadLetterTopicName, targetTopicName), e.getCause());
+            } catch (InterruptedException e) {
+                throw new InterruptException("Interrupted while replaying records from %s to %s"
+                        .formatted(deadLetterTopicName, targetTopicName), e);
+            }
+
+            if (!offsetsToCommit.isEmpty()) {
+                consumer.commitSync(offsetsToCommit);
+            }
+        }
+
+        LOGGER.info("Replayed %d records from %s to %s".formatted(replayedCount, deadLetterTopicName, targetTopicName));
+        return replayedCount;
+    }
+
+    private static boolean isCaughtUp(final Consumer<?, ?> consumer, final Map<TopicPartition, Long> endOffsets) {
+        return endOffsets.entrySet().stream()
+                .allMatch(entry -> consumer.position(entry.getKey()) >= entry.getValue());
+    }
+
+    /**
+     * @param headers The {@link Headers} of a dead-lettered record
+     * @return The {@link Headers} of the original record, without dead letter or retry headers
+     */
+    static Headers getReplayHeaders(final Headers headers) {
+        final var replayHeaders = new RecordHeaders();
+        for (final Header header : headers) {
+            if (!header.key().startsWith("dtrack.dlt.") && !header.key().startsWith("dtrack.retry.")) {
+                replayHeaders.add(header);
+            }
+        }
+
+        return replayHeaders;
+    }
+
+}
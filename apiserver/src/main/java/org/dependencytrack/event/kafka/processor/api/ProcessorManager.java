@@ -21,10 +21,15 @@ package org.dependencytrack.event.kafka.processor.api;
 import alpine.Config;
 import alpine.common.logging.Logger;
 import alpine.common.metrics.Metrics;
+import com.google.common.annotations.VisibleForTesting;
 import io.confluent.parallelconsumer.ParallelConsumerOptions;
+import io.confluent.parallelconsumer.PCRetriableException;
 import io.confluent.parallelconsumer.ParallelConsumerOptions.ProcessingOrder;
 import io.confluent.parallelconsumer.ParallelEoSStreamProcessor;
 import io.confluent.parallelconsumer.ParallelStreamProcessor;
+import io.confluent.parallelconsumer.PollContext;
+import io.confluent.parallelconsumer.RecordContext;
+import io.confluent.parallelconsumer.state.ConsumerRecordId;
 import io.github.resilience4j.core.IntervalFunction;
 import io.micrometer.core.instrument.binder.kafka.KafkaClientMetrics;
 import org.apache.kafka.clients.admin.AdminClient;
@@ -35,28 +40,37 @@ import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.producer.Producer;
 import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.serialization.ByteArrayDeserializer;
 import org.dependencytrack.common.ConfigKey;
+import org.dependencytrack.event.kafka.KafkaProducerInitializer;
 import org.dependencytrack.event.kafka.KafkaTopics.Topic;
 import org.dependencytrack.util.ConfigUtil;
 import org.eclipse.microprofile.health.HealthCheckResponse;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import static org.apache.kafka.clients.CommonClientConfigs.BOOTSTRAP_SERVERS_CONFIG;
 import static org.apache.kafka.clients.CommonClientConfigs.CLIENT_ID_CONFIG;
 import static org.apache.kafka.clients.CommonClientConfigs.SECURITY_PROTOCOL_CONFIG;
+import static org.apache.kafka.clients.consumer.ConsumerConfig.AUTO_OFFSET_RESET_CONFIG;
 import static org.apache.kafka.clients.consumer.ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG;
 import static org.apache.kafka.clients.consumer.ConsumerConfig.GROUP_ID_CONFIG;
 import static org.apache.kafka.clients.consumer.ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG;
@@ -66,6 +80,18 @@ import static org.apache.kafka.common.config.SslConfigs.SSL_KEYSTORE_PASSWORD_CO
 import static org.apache.kafka.common.config.SslConfigs.SSL_TRUSTSTORE_LOCATION_CONFIG;
 import static org.apache.kafka.common.config.SslConfigs.SSL_TRUSTSTORE_PASSWORD_CONFIG;
 import static org.dependencytrack.common.ConfigKey.KAFKA_BOOTSTRAP_SERVERS;
+import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.PROPERTY_ADAPTIVE_ENABLED;
+import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.PROPERTY_ADAPTIVE_ENABLED_DEFAULT;
+import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.PROPERTY_ADAPTIVE_LAG_THRESHOLD;
+import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.PROPERTY_ADAPTIVE_LAG_THRESHOLD_DEFAULT;
+import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.PROPERTY_ADAPTIVE_LATENCY_TOLERANCE;
+import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.PROPERTY_ADAPTIVE_LATENCY_TOLERANCE_DEFAULT;
+import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.PROPERTY_ADAPTIVE_MIN_BATCH_SIZE;
+import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.PROPERTY_ADAPTIVE_MIN_BATCH_SIZE_DEFAULT;
+import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.PROPERTY_ADAPTIVE_MIN_CONCURRENCY;
+import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.PROPERTY_ADAPTIVE_MIN_CONCURRENCY_DEFAULT;
+import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.PROPERTY_DEAD_LETTER_ENABLED;
+import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.PROPERTY_DEAD_LETTER_ENABLED_DEFAULT;
 import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.PROPERTY_MAX_BATCH_SIZE;
 import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.PROPERTY_MAX_BATCH_SIZE_DEFAULT;
 import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.PROPERTY_MAX_CONCURRENCY;
@@ -74,12 +100,16 @@ import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.
 import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.PROPERTY_PROCESSING_ORDER_DEFAULT;
 import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.PROPERTY_RETRY_INITIAL_DELAY_MS;
 import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.PROPERTY_RETRY_INITIAL_DELAY_MS_DEFAULT;
+import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.PROPERTY_RETRY_MAX_ATTEMPTS;
+import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.PROPERTY_RETRY_MAX_ATTEMPTS_DEFAULT;
 import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.PROPERTY_RETRY_MAX_DELAY_MS;
 import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.PROPERTY_RETRY_MAX_DELAY_MS_DEFAULT;
 import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.PROPERTY_RETRY_MULTIPLIER;
 import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.PROPERTY_RETRY_MULTIPLIER_DEFAULT;
 import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.PROPERTY_RETRY_RANDOMIZATION_FACTOR;
 import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.PROPERTY_RETRY_RANDOMIZATION_FACTOR_DEFAULT;
+import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.PROPERTY_RETRY_TOPICS;
+import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.PROPERTY_RETRY_TOPICS_DEFAULT;
 import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.PROPERTY_SHUTDOWN_TIMEOUT_MS;
 import static org.dependencytrack.event.kafka.processor.api.ProcessorProperties.PROPERTY_SHUTDOWN_TIMEOUT_MS_DEFAULT;
 
@@ -87,15 +117,28 @@ public class ProcessorManager implements AutoCloseable {
 
     private static final Logger LOGGER = Logger.getLogger(ProcessorManager.class);
     private static final Pattern PROCESSOR_NAME_PATTERN = Pattern.compile("^[a-z.]+$");
+    private static final Duration ADAPTIVE_ADJUSTMENT_INTERVAL = Duration.ofSeconds(10);
+    private static final Duration DEAD_LETTER_DEPTH_REFRESH_INTERVAL = Duration.ofSeconds(30);
 
     private final Map<String, ManagedProcessor> managedProcessors = new LinkedHashMap<>();
     private final UUID instanceId;
     private final Config config;
+    private final AdaptiveConcurrencyController adaptiveConcurrencyController;
+    private final DeadLetterDepthMonitor deadLetterDepthMonitor;
+    private final Supplier<Producer<byte[], byte[]>> deadLetterProducerSupplier;
     private AdminClient adminClient;
 
     public ProcessorManager() {
+        this(KafkaProducerInitializer::getProducer);
+    }
+
+    @VisibleForTesting
+    ProcessorManager(final Supplier<Producer<byte[], byte[]>> deadLetterProducerSupplier) {
         this.instanceId = UUID.randomUUID();
         this.config = Config.getInstance();
+        this.adaptiveConcurrencyController = new AdaptiveConcurrencyController(ADAPTIVE_ADJUSTMENT_INTERVAL);
+        this.deadLetterDepthMonitor = new DeadLetterDepthMonitor(DEAD_LETTER_DEPTH_REFRESH_INTERVAL, this::adminClient);
+        this.deadLetterProducerSupplier = deadLetterProducerSupplier;
     }
 
     /**
@@ -109,9 +152,10 @@ public class ProcessorManager implements AutoCloseable {
      */
     public <K, V> void registerProcessor(final String name, final Topic<K, V> topic, final Processor<K, V> processor) {
         requireValidProcessorName(name);
-        final var processingStrategy = new SingleRecordProcessingStrategy<>(processor, topic.keySerde(), topic.valueSerde());
-        final ParallelStreamProcessor<byte[], byte[]> parallelConsumer = createParallelConsumer(name, topic, false);
-        managedProcessors.put(name, new ManagedProcessor(parallelConsumer, processingStrategy, topic.name()));
+        final DeadLetterPublisher deadLetterPublisher = createDeadLetterPublisher(name, topic);
+        final RetryTopicPublisher retryTopicPublisher = createRetryTopicPublisher(name, topic, deadLetterPublisher);
+        final var processingStrategy = new SingleRecordProcessingStrategy<>(processor, topic.keySerde(), topic.valueSerde(), deadLetterPublisher);
+        managedProcessors.put(name, createManagedProcessor(name, topic, processingStrategy, deadLetterPublisher, retryTopicPublisher, false));
     }
 
     /**
@@ -125,9 +169,10 @@ public class ProcessorManager implements AutoCloseable {
      */
     public <K, V> void registerBatchProcessor(final String name, final Topic<K, V> topic, final BatchProcessor<K, V> processor) {
         requireValidProcessorName(name);
-        final var processingStrategy = new BatchProcessingStrategy<>(processor, topic.keySerde(), topic.valueSerde());
-        final ParallelStreamProcessor<byte[], byte[]> parallelConsumer = createParallelConsumer(name, topic, true);
-        managedProcessors.put(name, new ManagedProcessor(parallelConsumer, processingStrategy, topic.name()));
+        final DeadLetterPublisher deadLetterPublisher = createDeadLetterPublisher(name, topic);
+        final RetryTopicPublisher retryTopicPublisher = createRetryTopicPublisher(name, topic, deadLetterPublisher);
+        final var processingStrategy = new BatchProcessingStrategy<>(processor, topic.keySerde(), topic.valueSerde(), deadLetterPublisher);
+        managedProcessors.put(name, createManagedProcessor(name, topic, processingStrategy, deadLetterPublisher, retryTopicPublisher, true));
     }
 
     @SuppressWarnings("resource")
@@ -138,13 +183,47 @@ public class ProcessorManager implements AutoCloseable {
             final String processorName = entry.getKey();
             final ManagedProcessor managedProcessor = entry.getValue();
 
-            LOGGER.info("Starting processor %s to consume from topic %s".formatted(processorName, managedProcessor.topic()));
-            managedProcessor.parallelConsumer().subscribe(List.of(managedProcessor.topic()));
-            managedProcessor.parallelConsumer().poll(pollCtx -> {
-                // NB: Unless batching is enabled, the below list only ever contains a single record.
-                final List<ConsumerRecord<byte[], byte[]>> polledRecords = pollCtx.getConsumerRecordsFlattened();
-                managedProcessor.processingStrategy().processRecords(polledRecords);
-            });
+            final List<String> topicNames = new ArrayList<>(List.of(managedProcessor.topic()));
+            if (managedProcessor.retryTopicPublisher() != null) {
+                topicNames.addAll(managedProcessor.retryTopicPublisher().topicNames());
+            }
+
+            LOGGER.info("Starting processor %s to consume from topics %s".formatted(processorName, topicNames));
+            managedProcessor.parallelConsumer().subscribe(topicNames);
+            managedProcessor.parallelConsumer().poll(pollCtx -> processPolledRecords(managedProcessor, pollCtx));
+        }
+
+        adaptiveConcurrencyController.start();
+        deadLetterDepthMonitor.start();
+    }
+
+    /**
+     * Replay records from the dead letter topic of a processor to the topic the processor consumes from.
+     * <p>
+     * Subsequent replays continue where the previous replay left off.
+     *
+     * @param processorName Name of the processor to replay dead-lettered records for
+     * @param limit         Maximum number of records to replay
+     * @return The number of replayed records
+     * @throws NoSuchElementException When no processor with the given name is registered
+     * @throws IllegalStateException  When dead-lettering is not enabled for the processor
+     * @since 5.6.0
+     */
+    public synchronized int replayDeadLetters(final String processorName, final int limit) {
+        final ManagedProcessor managedProcessor = managedProcessors.get(processorName);
+        if (managedProcessor == null) {
+            throw new NoSuchElementException("No processor with name %s is registered".formatted(processorName));
+        }
+
+        final DeadLetterPublisher deadLetterPublisher = managedProcessor.deadLetterPublisher();
+        if (deadLetterPublisher == null) {
+            throw new IllegalStateException("Dead-lettering is not enabled for processor %s".formatted(processorName));
+        }
+
+        final var replayer = new DeadLetterReplayer(deadLetterPublisher.topicName(),
+                managedProcessor.topic(), deadLetterProducerSupplier.get());
+        try (final Consumer<byte[], byte[]> consumer = createDeadLetterReplayConsumer(processorName, deadLetterPublisher.replayGroupId())) {
+            return replayer.replay(consumer, limit);
         }
     }
 
@@ -176,6 +255,9 @@ public class ProcessorManager implements AutoCloseable {
     @Override
     @SuppressWarnings("resource")
     public void close() {
+        adaptiveConcurrencyController.close();
+        deadLetterDepthMonitor.close();
+
         if (adminClient != null) {
             LOGGER.debug("Closing admin client");
             adminClient.close();
@@ -191,7 +273,16 @@ public class ProcessorManager implements AutoCloseable {
     }
 
     private void ensureTopicsExist() {
-        final List<String> topicNames = managedProcessors.values().stream().map(ManagedProcessor::topic).toList();
+        final var topicNames = new ArrayList<String>();
+        for (final ManagedProcessor managedProcessor : managedProcessors.values()) {
+            topicNames.add(managedProcessor.topic());
+            if (managedProcessor.retryTopicPublisher() != null) {
+                topicNames.addAll(managedProcessor.retryTopicPublisher().topicNames());
+            }
+            if (managedProcessor.deadLetterPublisher() != null) {
+                topicNames.add(managedProcessor.deadLetterPublisher().topicName());
+            }
+        }
         LOGGER.info("Verifying existence of subscribed topics: %s".formatted(topicNames));
 
         final DescribeTopicsResult topicsResult = adminClient().describeTopics(topicNames, new DescribeTopicsOptions().timeoutMs(3_000));
@@ -237,9 +328,13 @@ public class ProcessorManager implements AutoCloseable {
         }
     }
 
-    private ParallelStreamProcessor<byte[], byte[]> createParallelConsumer(final String processorName, final Topic<?, ?> topic, final boolean isBatch) {
+    private ManagedProcessor createManagedProcessor(final String processorName, final Topic<?, ?> topic,
+                                                    final ProcessingStrategy processingStrategy,
+                                                    final DeadLetterPublisher deadLetterPublisher,
+                                                    final RetryTopicPublisher retryTopicPublisher, final boolean isBatch) {
+        final String consumerClientId = "%s-%s-consumer".formatted(instanceId, processorName);
         final var optionsBuilder = ParallelConsumerOptions.<byte[], byte[]>builder()
-                .consumer(createConsumer(processorName))
+                .consumer(createConsumer(processorName, consumerClientId))
                 .ignoreReflectiveAccessExceptionsForAutoCommitDisabledCheck(true);
 
         final Map<String, String> properties = getPassThroughProperties(processorName.toLowerCase());
@@ -250,20 +345,22 @@ public class ProcessorManager implements AutoCloseable {
                 .orElse(PROPERTY_PROCESSING_ORDER_DEFAULT);
         optionsBuilder.ordering(processingOrder);
 
-        final int maxConcurrency = Optional.ofNullable(properties.get(PROPERTY_MAX_CONCURRENCY))
+        final int configuredMaxConcurrency = Optional.ofNullable(properties.get(PROPERTY_MAX_CONCURRENCY))
                 .map(Integer::parseInt)
                 .orElse(PROPERTY_MAX_CONCURRENCY_DEFAULT);
-        if (maxConcurrency == -1) {
-            final int numTopicPartitions = getTopicPartitionCount(topic.name());
+        final int maxConcurrency;
+        if (configuredMaxConcurrency == -1) {
+            maxConcurrency = getTopicPartitionCount(topic.name());
             LOGGER.debug("""
                     Max concurrency of processor %s is configured to match the partition count of topic %s (%d)\
-                    """.formatted(processorName, topic.name(), numTopicPartitions));
-            optionsBuilder.maxConcurrency(numTopicPartitions);
+                    """.formatted(processorName, topic.name(), maxConcurrency));
         } else {
-            optionsBuilder.maxConcurrency(maxConcurrency);
+            maxConcurrency = configuredMaxConcurrency;
         }
+        optionsBuilder.maxConcurrency(maxConcurrency);
 
         final Optional<String> optionalMaxBatchSizeProperty = Optional.ofNullable(properties.get(PROPERTY_MAX_BATCH_SIZE));
+        int maxBatchSize = 1;
         if (isBatch) {
             if (processingOrder == ProcessingOrder.PARTITION) {
                 LOGGER.warn("""
@@ -274,7 +371,7 @@ public class ProcessorManager implements AutoCloseable {
                         """.formatted(processorName, processingOrder));
             }
 
-            final int maxBatchSize = optionalMaxBatchSizeProperty
+            maxBatchSize = optionalMaxBatchSizeProperty
                     .map(Integer::parseInt)
                     .orElse(PROPERTY_MAX_BATCH_SIZE_DEFAULT);
             optionsBuilder.batchSize(maxBatchSize);
@@ -285,6 +382,14 @@ public class ProcessorManager implements AutoCloseable {
 
         final IntervalFunction retryIntervalFunction = getRetryIntervalFunction(properties);
         optionsBuilder.retryDelayProvider(recordCtx -> {
+            if (recordCtx.getLastFailureReason().filter(RetryNotDueException.class::isInstance).isPresent()) {
+                // Redeliver records from retry topics as soon as they are due, rather than backing off.
+                return RetryTopicPublisher.getNotBefore(recordCtx.headers())
+                        .map(notBefore -> Duration.between(Instant.now(), notBefore))
+                        .filter(delay -> !delay.isNegative())
+                        .orElse(Duration.ZERO);
+            }
+
             final long delayMillis = retryIntervalFunction.apply(recordCtx.getNumberOfFailedAttempts());
             return Duration.ofMillis(delayMillis);
         });
@@ -302,13 +407,224 @@ public class ProcessorManager implements AutoCloseable {
 
         final ParallelConsumerOptions<byte[], byte[]> options = optionsBuilder.build();
         LOGGER.debug("Creating parallel consumer for processor %s with options %s".formatted(processorName, options));
-        return ParallelStreamProcessor.createEosStreamProcessor(options);
+        final ParallelStreamProcessor<byte[], byte[]> parallelConsumer = ParallelStreamProcessor.createEosStreamProcessor(options);
+
+        final AdaptiveConcurrencyLimiter adaptiveLimiter =
+                createAdaptiveLimiter(processorName, properties, isBatch, maxConcurrency, maxBatchSize);
+        if (adaptiveLimiter != null) {
+            adaptiveConcurrencyController.register(processorName, consumerClientId, adaptiveLimiter);
+        }
+
+        return new ManagedProcessor(parallelConsumer, processingStrategy, topic.name(), adaptiveLimiter,
+                deadLetterPublisher, retryTopicPublisher, ConcurrentHashMap.newKeySet());
     }
 
-    private Consumer<byte[], byte[]> createConsumer(final String processorName) {
+    private static void processPolledRecords(final ManagedProcessor managedProcessor, final PollContext<byte[], byte[]> pollCtx) {
+        final DeadLetterPublisher deadLetterPublisher = managedProcessor.deadLetterPublisher();
+        final RetryTopicPublisher retryTopicPublisher = managedProcessor.retryTopicPublisher();
+
+        // NB: Unless batching is enabled, the below lists only ever contain a single record.
+        final var polledRecordCtxs = new ArrayList<RecordContext<byte[], byte[]>>();
+        for (final RecordContext<byte[], byte[]> recordCtx : pollCtx) {
+            // Records that were dead-lettered while other records of their batch were retried
+            // must not be processed again when the batch is retried.
+            if (!managedProcessor.deadLetteredRecordIds().remove(recordCtx.getRecordId())) {
+                polledRecordCtxs.add(recordCtx);
+            }
+        }
+        if (polledRecordCtxs.isEmpty()) {
+            return;
+        }
+
+        final List<ConsumerRecord<byte[], byte[]>> polledRecords = polledRecordCtxs.stream()
+                .map(RecordContext::getConsumerRecord)
+                .toList();
+        if (retryTopicPublisher != null) {
+            retryTopicPublisher.requireDue(polledRecords);
+        }
+
+        try {
+            if (managedProcessor.adaptiveLimiter() != null) {
+                managedProcessor.adaptiveLimiter().execute(polledRecords, managedProcessor.processingStrategy()::processRecords);
+            } else {
+                managedProcessor.processingStrategy().processRecords(polledRecords);
+            }
+        } catch (RecordPublishException e) {
+            // Records could not be moved to a retry or dead letter topic. Retry them in-place instead of losing them.
+            throw e;
+        } catch (PCRetriableException e) {
+            final Throwable cause = e.getCause() != null ? e.getCause() : e;
+
+            if (retryTopicPublisher != null) {
+                final List<ConsumerRecord<byte[], byte[]>> failedRecords = polledRecords.size() > 1
+                        ? processIndividually(managedProcessor.processingStrategy(), polledRecords)
+                        : polledRecords;
+
+                // Move the failed records to the next retry topic, such that records with the same key
+                // or in the same partition are not blocked by them.
+                final var exhaustedRecords = new ArrayList<ConsumerRecord<byte[], byte[]>>();
+                final var retryableRecords = new ArrayList<ConsumerRecord<byte[], byte[]>>();
+                for (final ConsumerRecord<byte[], byte[]> record : failedRecords) {
+                    if (retryTopicPublisher.isRetryExhausted(record)) {
+                        exhaustedRecords.add(record);
+                    } else {
+                        retryableRecords.add(record);
+                    }
+                }
+
+                if (!exhaustedRecords.isEmpty()) {
+                    LOGGER.error("Retry topics exhausted for %d/%d records; Dead-lettering"
+                            .formatted(exhaustedRecords.size(), polledRecords.size()), cause);
+                    deadLetterPublisher.publish(exhaustedRecords, cause);
+                }
+                if (!retryableRecords.isEmpty()) {
+                    LOGGER.warn("Moving %d/%d records to retry topics"
+                            .formatted(retryableRecords.size(), polledRecords.size()), cause);
+                    retryTopicPublisher.publish(retryableRecords);
+                }
+                return;
+            }
+
+            if (deadLetterPublisher == null) {
+                throw e;
+            }
+
+            final List<RecordContext<byte[], byte[]>> exhaustedRecordCtxs = polledRecordCtxs.stream()
+                    .filter(recordCtx -> deadLetterPublisher.isRetryExhausted(recordCtx.getNumberOfFailedAttempts()))
+                    .toList();
+            if (exhaustedRecordCtxs.isEmpty()) {
+                throw e;
+            }
+
+            // Move the exhausted records out of the way, such that records with the same key
+            // or in the same partition are not blocked by them any longer.
+            LOGGER.error("Retry attempts exhausted for %d/%d records; Dead-lettering"
+                    .formatted(exhaustedRecordCtxs.size(), polledRecordCtxs.size()), cause);
+            deadLetterPublisher.publish(exhaustedRecordCtxs.stream().map(RecordContext::getConsumerRecord).toList(), cause);
+            if (exhaustedRecordCtxs.size() == polledRecordCtxs.size()) {
+                return;
+            }
+
+            // The remaining records of the batch have attempts left, but can only be retried as a whole.
+            exhaustedRecordCtxs.stream()
+                    .map(RecordContext::getRecordId)
+                    .forEach(managedProcessor.deadLetteredRecordIds()::add);
+            throw e;
+        }
+    }
+
+    /**
+     * Process the records of a failed batch individually, such that only the records that
+     * actually fail are moved to retry topics, rather than the entire batch.
+     *
+     * @param processingStrategy The {@link ProcessingStrategy} to process records with
+     * @param records            The records of the failed batch
+     * @return The records that failed with a retryable error
+     */
+    private static List<ConsumerRecord<byte[], byte[]>> processIndividually(final ProcessingStrategy processingStrategy,
+                                                                            final List<ConsumerRecord<byte[], byte[]>> records) {
+        final var failedRecords = new ArrayList<ConsumerRecord<byte[], byte[]>>();
+        for (final ConsumerRecord<byte[], byte[]> record : records) {
+            try {
+                processingStrategy.processRecords(List.of(record));
+            } catch (RecordPublishException e) {
+                throw e;
+            } catch (PCRetriableException e) {
+                failedRecords.add(record);
+            }
+        }
+
+        return failedRecords;
+    }
+
+    private DeadLetterPublisher createDeadLetterPublisher(final String processorName, final Topic<?, ?> topic) {
+        final Map<String, String> properties = getPassThroughProperties(processorName.toLowerCase());
+
+        final boolean isDeadLetterEnabled = Optional.ofNullable(properties.get(PROPERTY_DEAD_LETTER_ENABLED))
+                .map(Boolean::parseBoolean)
+                .orElse(PROPERTY_DEAD_LETTER_ENABLED_DEFAULT);
+        if (!isDeadLetterEnabled) {
+            if (properties.containsKey(PROPERTY_RETRY_MAX_ATTEMPTS)) {
+                LOGGER.warn("Processor %s is configured with %s, but dead-lettering is not enabled; Ignoring property"
+                        .formatted(processorName, PROPERTY_RETRY_MAX_ATTEMPTS));
+            }
+
+            return null;
+        }
+
+        final int maxAttempts = Optional.ofNullable(properties.get(PROPERTY_RETRY_MAX_ATTEMPTS))
+                .map(Integer::parseInt)
+                .orElse(PROPERTY_RETRY_MAX_ATTEMPTS_DEFAULT);
+        final String deadLetterTopicName = DeadLetterPublisher.deadLetterTopicName(topic.name());
+
+        LOGGER.debug("Enabling dead-lettering to topic %s for processor %s after %d attempts"
+                .formatted(deadLetterTopicName, processorName, maxAttempts));
+        final var deadLetterPublisher = new DeadLetterPublisher(processorName, deadLetterTopicName, maxAttempts, deadLetterProducerSupplier.get());
+        deadLetterDepthMonitor.register(deadLetterPublisher);
+        return deadLetterPublisher;
+    }
+
+    private RetryTopicPublisher createRetryTopicPublisher(final String processorName, final Topic<?, ?> topic,
+                                                          final DeadLetterPublisher deadLetterPublisher) {
+        final Map<String, String> properties = getPassThroughProperties(processorName.toLowerCase());
+
+        final int retryTopics = Optional.ofNullable(properties.get(PROPERTY_RETRY_TOPICS))
+                .map(Integer::parseInt)
+                .orElse(PROPERTY_RETRY_TOPICS_DEFAULT);
+        if (retryTopics <= 0) {
+            return null;
+        }
+        if (deadLetterPublisher == null) {
+            LOGGER.warn("Processor %s is configured with %s, but dead-lettering is not enabled; Ignoring property"
+                    .formatted(processorName, PROPERTY_RETRY_TOPICS));
+            return null;
+        }
+        if (properties.containsKey(PROPERTY_RETRY_MAX_ATTEMPTS)) {
+            LOGGER.warn("Processor %s is configured with %s, but attempts are limited by %s; Ignoring property"
+                    .formatted(processorName, PROPERTY_RETRY_MAX_ATTEMPTS, PROPERTY_RETRY_TOPICS));
+        }
+
+        LOGGER.debug("Enabling %d retry topics for processor %s".formatted(retryTopics, processorName));
+        return new RetryTopicPublisher(processorName, topic.name(), retryTopics,
+                getRetryIntervalFunction(properties), deadLetterProducerSupplier.get());
+    }
+
+    private static AdaptiveConcurrencyLimiter createAdaptiveLimiter(final String processorName, final Map<String, String> properties,
+                                                                    final boolean isBatch, final int maxConcurrency, final int maxBatchSize) {
+        final boolean isAdaptive = Optional.ofNullable(properties.get(PROPERTY_ADAPTIVE_ENABLED))
+                .map(Boolean::parseBoolean)
+                .orElse(PROPERTY_ADAPTIVE_ENABLED_DEFAULT);
+        if (!isAdaptive) {
+            return null;
+        }
+
+        // The parallel consumer's limits can not be changed at runtime, and thus act as upper bounds.
+        final int minConcurrency = Math.min(maxConcurrency, Optional.ofNullable(properties.get(PROPERTY_ADAPTIVE_MIN_CONCURRENCY))
+                .map(Integer::parseInt)
+                .orElse(PROPERTY_ADAPTIVE_MIN_CONCURRENCY_DEFAULT));
+        final int minBatchSize = Math.min(maxBatchSize, Optional.ofNullable(properties.get(PROPERTY_ADAPTIVE_MIN_BATCH_SIZE))
+                .map(Integer::parseInt)
+                .orElse(PROPERTY_ADAPTIVE_MIN_BATCH_SIZE_DEFAULT));
+        final double latencyTolerance = Optional.ofNullable(properties.get(PROPERTY_ADAPTIVE_LATENCY_TOLERANCE))
+                .map(Double::parseDouble)
+                .orElse(PROPERTY_ADAPTIVE_LATENCY_TOLERANCE_DEFAULT);
+        final long lagThreshold = Optional.ofNullable(properties.get(PROPERTY_ADAPTIVE_LAG_THRESHOLD))
+                .map(Long::parseLong)
+                .orElse(PROPERTY_ADAPTIVE_LAG_THRESHOLD_DEFAULT);
+
+        LOGGER.debug("""
+                Enabling adaptive concurrency for processor %s \
+                (concurrency: %d-%d, batch size: %d-%d, latency tolerance: %.2f, lag threshold: %d)\
+                """.formatted(processorName, minConcurrency, maxConcurrency,
+                minBatchSize, maxBatchSize, latencyTolerance, lagThreshold));
+        return new AdaptiveConcurrencyLimiter(processorName, isBatch,
+                minConcurrency, maxConcurrency, minBatchSize, maxBatchSize, latencyTolerance, lagThreshold);
+    }
+
+    private Consumer<byte[], byte[]> createConsumer(final String processorName, final String clientId) {
         final var consumerConfig = new HashMap<String, Object>();
         consumerConfig.put(BOOTSTRAP_SERVERS_CONFIG, config.getProperty(KAFKA_BOOTSTRAP_SERVERS));
-        consumerConfig.put(CLIENT_ID_CONFIG, "%s-%s-consumer".formatted(instanceId, processorName));
+        consumerConfig.put(CLIENT_ID_CONFIG, clientId);
         consumerConfig.put(GROUP_ID_CONFIG, processorName);
         consumerConfig.putAll(getGlobalTlsConfig());
 
@@ -340,7 +656,22 @@ public class ProcessorManager implements AutoCloseable {
         return consumer;
     }
 
-    private AdminClient adminClient() {
+    private Consumer<byte[], byte[]> createDeadLetterReplayConsumer(final String processorName, final String groupId) {
+        final var consumerConfig = new HashMap<String, Object>();
+        consumerConfig.put(BOOTSTRAP_SERVERS_CONFIG, config.getProperty(KAFKA_BOOTSTRAP_SERVERS));
+        consumerConfig.put(CLIENT_ID_CONFIG, "%s-%s-dlt-replay-consumer".formatted(instanceId, processorName));
+        consumerConfig.put(GROUP_ID_CONFIG, groupId);
+        consumerConfig.putAll(getGlobalTlsConfig());
+        consumerConfig.put(KEY_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class.getName());
+        consumerConfig.put(VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class.getName());
+        consumerConfig.put(AUTO_OFFSET_RESET_CONFIG, "earliest");
+        consumerConfig.put(ENABLE_AUTO_COMMIT_CONFIG, false); // Commits are managed by DeadLetterReplayer
+
+        LOGGER.debug("Creating dead letter replay consumer for processor %s with options %s".formatted(processorName, consumerConfig));
+        return new KafkaConsumer<>(consumerConfig);
+    }
+
+    private synchronized AdminClient adminClient() {
         if (adminClient != null) {
             return adminClient;
         }
@@ -428,7 +759,11 @@ public class ProcessorManager implements AutoCloseable {
     }
 
     private record ManagedProcessor(ParallelStreamProcessor<byte[], byte[]> parallelConsumer,
-                                    ProcessingStrategy processingStrategy, String topic) {
+                                    ProcessingStrategy processingStrategy, String topic,
+                                    AdaptiveConcurrencyLimiter adaptiveLimiter,
+                                    DeadLetterPublisher deadLetterPublisher,
+                                    RetryTopicPublisher retryTopicPublisher,
+                                    Set<ConsumerRecordId> deadLetteredRecordIds) {
     }
 
 }
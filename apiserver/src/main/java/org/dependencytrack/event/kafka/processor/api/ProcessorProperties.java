@@ -22,6 +22,18 @@ import io.confluent.parallelconsumer.ParallelConsumerOptions.ProcessingOrder;
 
 final class ProcessorProperties {
 
+    static final String PROPERTY_ADAPTIVE_ENABLED = "adaptive.enabled";
+    static final boolean PROPERTY_ADAPTIVE_ENABLED_DEFAULT = false;
+    static final String PROPERTY_ADAPTIVE_MIN_CONCURRENCY = "adaptive.min.concurrency";
+    static final int PROPERTY_ADAPTIVE_MIN_CONCURRENCY_DEFAULT = 1;
+    static final String PROPERTY_ADAPTIVE_MIN_BATCH_SIZE = "adaptive.min.batch.size";
+    static final int PROPERTY_ADAPTIVE_MIN_BATCH_SIZE_DEFAULT = 1;
+    static final String PROPERTY_ADAPTIVE_LATENCY_TOLERANCE = "adaptive.latency.tolerance";
+    static final double PROPERTY_ADAPTIVE_LATENCY_TOLERANCE_DEFAULT = 2.0;
+    static final String PROPERTY_ADAPTIVE_LAG_THRESHOLD = "adaptive.lag.threshold";
+    static final long PROPERTY_ADAPTIVE_LAG_THRESHOLD_DEFAULT = 1000;
+    static final String PROPERTY_DEAD_LETTER_ENABLED = "dead.letter.enabled";
+    static final boolean PROPERTY_DEAD_LETTER_ENABLED_DEFAULT = false;
     static final String PROPERTY_MAX_BATCH_SIZE = "max.batch.size";
     static final int PROPERTY_MAX_BATCH_SIZE_DEFAULT = 10;
     static final String PROPERTY_MAX_CONCURRENCY = "max.concurrency";
@@ -34,8 +46,12 @@ final class ProcessorProperties {
     static final int PROPERTY_RETRY_MULTIPLIER_DEFAULT = 1;
     static final String PROPERTY_RETRY_RANDOMIZATION_FACTOR = "retry.randomization.factor";
     static final double PROPERTY_RETRY_RANDOMIZATION_FACTOR_DEFAULT = 0.3;
+    static final String PROPERTY_RETRY_MAX_ATTEMPTS = "retry.max.attempts";
+    static final int PROPERTY_RETRY_MAX_ATTEMPTS_DEFAULT = 10;
     static final String PROPERTY_RETRY_MAX_DELAY_MS = "retry.max.delay.ms";
     static final long PROPERTY_RETRY_MAX_DELAY_MS_DEFAULT = 60 * 1000; // 60s
+    static final String PROPERTY_RETRY_TOPICS = "retry.topics";
+    static final int PROPERTY_RETRY_TOPICS_DEFAULT = 0;
     static final String PROPERTY_SHUTDOWN_TIMEOUT_MS = "shutdown.timeout.ms";
     static final long PROPERTY_SHUTDOWN_TIMEOUT_MS_DEFAULT = 10 * 1000; // 10s
 
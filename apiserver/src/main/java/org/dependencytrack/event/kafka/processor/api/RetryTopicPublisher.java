@@ -0,0 +1,208 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.event.kafka.processor.api;
+
+import alpine.common.logging.Logger;
+import alpine.common.metrics.Metrics;
+import io.github.resilience4j.core.IntervalFunction;
+import io.micrometer.core.instrument.Counter;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Publishes records that a processor failed to process with a retryable error to its retry topics.
+ * <p>
+ * A processor with {@code N} retry topics has the topics {@code <topic>.retry.1} to {@code <topic>.retry.N}.
+ * Every failed attempt moves a record to the next retry topic, with a {@code dtrack.retry.not.before}
+ * header that defers its redelivery until the retry delay for the attempt elapsed. Records that failed
+ * on the last retry topic are exhausted, and are dead-lettered instead.
+ * <p>
+ * Because failed records leave the partition they were consumed from, they no longer block subsequent
+ * records with the same key or in the same partition. This also means that records with the same key
+ * may be processed out of order while one of them is being retried.
+ *
+ * @since 5.6.0
+ */
+final class RetryTopicPublisher {
+
+    static final String HEADER_ATTEMPT = "dtrack.retry.attempt";
+    static final String HEADER_NOT_BEFORE = "dtrack.retry.not.before";
+
+    private static final Logger LOGGER = Logger.getLogger(RetryTopicPublisher.class);
+
+    private final String topicName;
+    private final int maxAttempts;
+    private final IntervalFunction delayFunction;
+    private final Producer<byte[], byte[]> producer;
+    private final Counter publishedCounter;
+
+    RetryTopicPublisher(final String processorName, final String topicName, final int maxAttempts,
+                        final IntervalFunction delayFunction, final Producer<byte[], byte[]> producer) {
+        this.topicName = topicName;
+        this.maxAttempts = maxAttempts;
+        this.delayFunction = delayFunction;
+        this.producer = producer;
+        this.publishedCounter = Counter.builder("dtrack_kafka_processor_retries_total")
+                .description("Total number of records published to the retry topics of a processor")
+                .tag("processor", processorName)
+                .tag("topic", topicName)
+                .register(Metrics.getRegistry());
+    }
+
+    /**
+     * @param topicName Name of the topic to get the retry topic name for
+     * @param attempt   The retry attempt, starting at {@code 1}
+     * @return Name of the retry topic
+     */
+    static String retryTopicName(final String topicName, final int attempt) {
+        return "%s.retry.%d".formatted(topicName, attempt);
+    }
+
+    /**
+     * @return Names of all retry topics, in the order in which records move through them
+     */
+    List<String> topicNames() {
+        return IntStream.rangeClosed(1, maxAttempts)
+                .mapToObj(attempt -> retryTopicName(topicName, attempt))
+                .toList();
+    }
+
+    /**
+     * @param record The {@link ConsumerRecord} to check
+     * @return Whether the record has exhausted all retry topics, and should be dead-lettered
+     */
+    boolean isRetryExhausted(final ConsumerRecord<?, ?> record) {
+        return getAttempt(record.headers()) >= maxAttempts;
+    }
+
+    /**
+     * Ensure that none of the given {@link ConsumerRecord}s is consumed before its retry delay elapsed.
+     *
+     * @param records The {@link ConsumerRecord}s to check
+     * @throws RetryNotDueException When at least one of the records is not due yet
+     */
+    void requireDue(final List<ConsumerRecord<byte[], byte[]>> records) {
+        final Instant now = Instant.now();
+        final long notDueCount = records.stream()
+                .map(ConsumerRecord::headers)
+                .map(RetryTopicPublisher::getNotBefore)
+                .flatMap(Optional::stream)
+                .filter(now::isBefore)
+                .count();
+        if (notDueCount > 0) {
+            throw new RetryNotDueException("%d/%d records are not yet due for redelivery"
+                    .formatted(notDueCount, records.size()));
+        }
+    }
+
+    /**
+     * Publish {@link ConsumerRecord}s to their respective next retry topic, and wait for the broker to acknowledge them.
+     *
+     * @param records The {@link ConsumerRecord}s to publish
+     * @throws RecordPublishException When publishing failed, such that the records are retried instead of being lost
+     */
+    void publish(final List<ConsumerRecord<byte[], byte[]>> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+
+        final Instant now = Instant.now();
+        final var futures = new ArrayList<Future<RecordMetadata>>(records.size());
+        for (final ConsumerRecord<byte[], byte[]> record : records) {
+            final int attempt = getAttempt(record.headers()) + 1;
+            final Instant notBefore = now.plusMillis(delayFunction.apply(attempt));
+
+            final var headers = new RecordHeaders();
+            for (final Header header : record.headers()) {
+                if (!HEADER_ATTEMPT.equals(header.key()) && !HEADER_NOT_BEFORE.equals(header.key())) {
+                    headers.add(header);
+                }
+            }
+            headers.add(HEADER_ATTEMPT, String.valueOf(attempt).getBytes(UTF_8));
+            headers.add(HEADER_NOT_BEFORE, String.valueOf(notBefore.toEpochMilli()).getBytes(UTF_8));
+
+            final String retryTopicName = retryTopicName(topicName, attempt);
+            futures.add(producer.send(new ProducerRecord<>(retryTopicName, null, record.key(), record.value(), headers)));
+        }
+
+        try {
+            for (final Future<RecordMetadata> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            throw new RecordPublishException("Failed to publish %d records to retry topics of %s"
+                    .formatted(records.size(), topicName), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RecordPublishException("Interrupted while publishing %d records to retry topics of %s"
+                    .formatted(records.size(), topicName), e);
+        }
+
+        LOGGER.debug("Published %d records to retry topics of %s".formatted(records.size(), topicName));
+        publishedCounter.increment(records.size());
+    }
+
+    /**
+     * @param headers The {@link Headers} of a record
+     * @return The point in time before which the record must not be redelivered, if any
+     */
+    static Optional<Instant> getNotBefore(final Headers headers) {
+        final Header header = headers.lastHeader(HEADER_NOT_BEFORE);
+        if (header == null || header.value() == null) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(Instant.ofEpochMilli(Long.parseLong(new String(header.value(), UTF_8))));
+        } catch (NumberFormatException e) {
+            LOGGER.warn("Ignoring malformed %s header".formatted(HEADER_NOT_BEFORE), e);
+            return Optional.empty();
+        }
+    }
+
+    private static int getAttempt(final Headers headers) {
+        final Header header = headers.lastHeader(HEADER_ATTEMPT);
+        if (header == null || header.value() == null) {
+            return 0;
+        }
+
+        try {
+            return Integer.parseInt(new String(header.value(), UTF_8));
+        } catch (NumberFormatException e) {
+            LOGGER.warn("Ignoring malformed %s header".formatted(HEADER_ATTEMPT), e);
+            return 0;
+        }
+    }
+
+}
@@ -46,8 +46,9 @@ class SingleRecordProcessingStrategy<K, V> extends AbstractProcessingStrategy<K,
     private final Processor<K, V> processor;
 
     SingleRecordProcessingStrategy(final Processor<K, V> processor,
-                                   final Serde<K> keySerde, final Serde<V> valueSerde) {
-        super(keySerde, valueSerde);
+                                   final Serde<K> keySerde, final Serde<V> valueSerde,
+                                   final DeadLetterPublisher deadLetterPublisher) {
+        super(keySerde, valueSerde, deadLetterPublisher);
         this.processor = processor;
     }
 
@@ -78,7 +79,7 @@ class SingleRecordProcessingStrategy<K, V> extends AbstractProcessingStrategy<K,
             deserializedRecord = deserialize(record);
         } catch (SerializationException e) {
             LOGGER.error("Failed to deserialize consumer record %s; Skipping", e);
-            // TODO: Consider supporting error handlers, e.g. to send record to DLT.
+            handleFailedRecords(List.of(record), e);
             return; // Skip record to avoid poison-pill scenario.
         }
 
@@ -91,7 +92,7 @@ class SingleRecordProcessingStrategy<K, V> extends AbstractProcessingStrategy<K,
             }
 
             LOGGER.error("Encountered non-retryable exception while processing record; Skipping", e);
-            // TODO: Consider supporting error handlers, e.g. to send record to DLT.
+            handleFailedRecords(List.of(record), e);
             // Skip record to avoid poison-pill scenario.
         }
     }
@@ -18,9 +18,11 @@
  */
 package org.dependencytrack.event.kafka.serialization;
 
+import com.google.protobuf.CodedInputStream;
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.google.protobuf.MessageLite;
 import com.google.protobuf.Parser;
+import com.google.protobuf.UnsafeByteOperations;
 import org.apache.kafka.common.errors.SerializationException;
 import org.apache.kafka.common.serialization.Deserializer;
 
@@ -38,8 +40,17 @@ public class KafkaProtobufDeserializer<T extends MessageLite> implements Deseria
             return null;
         }
 
+        // Records are never modified after having been deserialized, so bytes fields
+        // (e.g. the payload of Any fields) can safely reference the record's array,
+        // instead of copying them. Aliasing only takes effect for input the parser
+        // considers immutable, hence the array is wrapped rather than passed directly.
+        final CodedInputStream inputStream = UnsafeByteOperations.unsafeWrap(data).newCodedInput();
+        inputStream.enableAliasing(true);
+
         try {
-            return parser.parseFrom(data);
+            final T message = parser.parseFrom(inputStream);
+            inputStream.checkLastTagWas(0);
+            return message;
         } catch (InvalidProtocolBufferException e) {
             throw new SerializationException(e);
         }
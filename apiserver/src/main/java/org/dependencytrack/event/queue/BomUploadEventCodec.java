@@ -0,0 +1,73 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.event.queue;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.protobuf.util.JsonFormat;
+import org.dependencytrack.event.BomUploadEvent;
+import org.dependencytrack.model.Project;
+import org.dependencytrack.persistence.QueryManager;
+import org.dependencytrack.proto.storage.v1alpha1.FileMetadata;
+
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * A {@link DurableEventCodec} for {@link BomUploadEvent}s.
+ * <p>
+ * Only the project's UUID is stored. The project is loaded again when the event is decoded.
+ *
+ * @since 5.6.0
+ */
+public final class BomUploadEventCodec implements DurableEventCodec<BomUploadEvent> {
+
+    @Override
+    public void encode(final BomUploadEvent event, final ObjectNode payload) throws IOException {
+        payload.put("projectUuid", event.getProject().getUuid().toString());
+        payload.put("fileMetadata", JsonFormat.printer().print(event.getFileMetadata()));
+        if (event.getContentDigest() != null) {
+            payload.put("contentDigest", event.getContentDigest());
+        }
+    }
+
+    @Override
+    public BomUploadEvent decode(final ObjectNode payload) throws IOException {
+        final UUID projectUuid = UUID.fromString(payload.get("projectUuid").asText());
+
+        final var fileMetadataBuilder = FileMetadata.newBuilder();
+        JsonFormat.parser().ignoringUnknownFields().merge(payload.get("fileMetadata").asText(), fileMetadataBuilder);
+
+        final String contentDigest = payload.hasNonNull("contentDigest")
+                ? payload.get("contentDigest").asText()
+                : null;
+
+        final Project project;
+        try (final var qm = new QueryManager()) {
+            final Project persistentProject = qm.getObjectByUuid(Project.class, projectUuid);
+            if (persistentProject == null) {
+                throw new IOException("Project %s does not exist".formatted(projectUuid));
+            }
+
+            project = qm.detach(Project.class, persistentProject.getId());
+        }
+
+        return new BomUploadEvent(project, fileMetadataBuilder.build(), contentDigest);
+    }
+
+}
@@ -0,0 +1,64 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.event.queue;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.dependencytrack.event.CloneProjectEvent;
+import org.dependencytrack.resources.v1.vo.CloneProjectRequest;
+
+/**
+ * A {@link DurableEventCodec} for {@link CloneProjectEvent}s.
+ *
+ * @since 5.6.0
+ */
+public final class CloneProjectEventCodec implements DurableEventCodec<CloneProjectEvent> {
+
+    @Override
+    public void encode(final CloneProjectEvent event, final ObjectNode payload) {
+        final CloneProjectRequest request = event.getRequest();
+        payload.put("project", request.getProject());
+        payload.put("version", request.getVersion());
+        payload.put("includeTags", request.includeTags());
+        payload.put("includeProperties", request.includeProperties());
+        payload.put("includeDependencies", request.includeDependencies());
+        payload.put("includeComponents", request.includeComponents());
+        payload.put("includeServices", request.includeServices());
+        payload.put("includeAuditHistory", request.includeAuditHistory());
+        payload.put("includeACL", request.includeACL());
+        payload.put("includePolicyViolations", request.includePolicyViolations());
+        payload.put("makeCloneLatest", request.makeCloneLatest());
+    }
+
+    @Override
+    public CloneProjectEvent decode(final ObjectNode payload) {
+        return new CloneProjectEvent(new CloneProjectRequest(
+                payload.get("project").asText(),
+                payload.hasNonNull("version") ? payload.get("version").asText() : null,
+                payload.path("includeTags").asBoolean(),
+                payload.path("includeProperties").asBoolean(),
+                payload.path("includeDependencies").asBoolean(),
+                payload.path("includeComponents").asBoolean(),
+                payload.path("includeServices").asBoolean(),
+                payload.path("includeAuditHistory").asBoolean(),
+                payload.path("includeACL").asBoolean(),
+                payload.path("includePolicyViolations").asBoolean(),
+                payload.path("makeCloneLatest").asBoolean()));
+    }
+
+}
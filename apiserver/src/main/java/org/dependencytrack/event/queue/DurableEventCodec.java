@@ -0,0 +1,42 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.event.queue;
+
+import alpine.event.framework.Event;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+
+/**
+ * Converts {@link Event}s of a specific type to and from a JSON representation,
+ * such that they can be stored in the {@link DurableEventQueue}.
+ * <p>
+ * Chain identifiers of {@link alpine.event.framework.ChainableEvent}s are retained
+ * by the {@link DurableEventQueue}, and need not be handled by codecs.
+ *
+ * @param <T> Type of the {@link Event}
+ * @since 5.6.0
+ */
+public interface DurableEventCodec<T extends Event> {
+
+    void encode(T event, ObjectNode payload) throws IOException;
+
+    T decode(ObjectNode payload) throws IOException;
+
+}
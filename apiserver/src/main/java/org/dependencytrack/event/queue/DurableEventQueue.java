@@ -0,0 +1,478 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.event.queue;
+
+import alpine.Config;
+import alpine.common.logging.Logger;
+import alpine.common.metrics.Metrics;
+import alpine.common.util.SystemUtil;
+import alpine.event.framework.ChainableEvent;
+import alpine.event.framework.Event;
+import alpine.event.framework.LoggableUncaughtExceptionHandler;
+import alpine.event.framework.Subscriber;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.dependencytrack.common.ConfigKey;
+import org.dependencytrack.persistence.jdbi.EventQueueDao;
+import org.dependencytrack.persistence.jdbi.EventQueueDao.QueuedEvent;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiHandle;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
+
+/**
+ * A durable, database-backed queue for {@link Event}s.
+ * <p>
+ * Events of registered types are stored in the {@code EVENT_QUEUE} table, instead of being
+ * held in the in-memory queues of the {@link alpine.event.framework.EventService}. All API server
+ * instances poll the table, and claim due events using {@code FOR UPDATE SKIP LOCKED}.
+ * This way, queued events survive restarts, and their processing is distributed
+ * across all instances.
+ * <p>
+ * Events are delivered at least once. A claimed event is leased to the claiming instance
+ * for a limited duration, which is extended for as long as its processing is ongoing.
+ * Should the instance die, the lease expires and the event is claimed by another instance.
+ * Events whose {@link Subscriber} throws are retried with exponential backoff, until
+ * the maximum number of attempts is exhausted.
+ * <p>
+ * Note that subscribers handling failures internally (e.g. by transitioning workflow steps
+ * to {@code FAILED}) are considered to have completed successfully, and are not retried.
+ *
+ * @since 5.6.0
+ */
+public final class DurableEventQueue {
+
+    private record Registration<T extends Event>(
+            Class<T> eventClass,
+            DurableEventCodec<T> codec,
+            Class<? extends Subscriber> subscriberClass) {
+
+        private void encode(final Event event, final ObjectNode payload) throws IOException {
+            codec.encode(eventClass.cast(event), payload);
+        }
+
+    }
+
+    private static final Logger LOGGER = Logger.getLogger(DurableEventQueue.class);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final String FIELD_CHAIN_IDENTIFIER = "chainIdentifier";
+    private static final String FIELD_EVENT = "event";
+    private static final DurableEventQueue INSTANCE = new DurableEventQueue();
+
+    private final boolean enabled;
+    private final int concurrency;
+    private final Duration pollInterval;
+    private final Duration leaseDuration;
+    private final int maxAttempts;
+    private final Duration retryInitialDelay;
+    private final int retryMultiplier;
+    private final Duration retryMaxDelay;
+    private final String instanceId;
+    private final Map<String, Registration<?>> registrations = new ConcurrentHashMap<>();
+    private final Set<Long> inFlightEventIds = ConcurrentHashMap.newKeySet();
+    private final Set<Long> pendingEventIds = ConcurrentHashMap.newKeySet();
+    private final Semaphore workerPermits;
+    private volatile ScheduledExecutorService pollExecutor;
+    private volatile ExecutorService workerExecutor;
+
+    private DurableEventQueue() {
+        this(Config.getInstance().getPropertyAsBoolean(ConfigKey.EVENT_QUEUE_DURABLE_ENABLED),
+                determineConcurrency(),
+                Duration.parse(Config.getInstance().getProperty(ConfigKey.EVENT_QUEUE_DURABLE_POLL_INTERVAL_DURATION)),
+                Duration.parse(Config.getInstance().getProperty(ConfigKey.EVENT_QUEUE_DURABLE_LEASE_DURATION)),
+                Config.getInstance().getPropertyAsInt(ConfigKey.EVENT_QUEUE_DURABLE_MAX_ATTEMPTS),
+                Duration.parse(Config.getInstance().getProperty(ConfigKey.EVENT_QUEUE_DURABLE_RETRY_INITIAL_DELAY_DURATION)),
+                Config.getInstance().getPropertyAsInt(ConfigKey.EVENT_QUEUE_DURABLE_RETRY_MULTIPLIER),
+                Duration.parse(Config.getInstance().getProperty(ConfigKey.EVENT_QUEUE_DURABLE_RETRY_MAX_DELAY_DURATION)));
+    }
+
+    DurableEventQueue(final boolean enabled, final int concurrency, final Duration pollInterval,
+                      final Duration leaseDuration, final int maxAttempts, final Duration retryInitialDelay,
+                      final int retryMultiplier, final Duration retryMaxDelay) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("concurrency must be greater than 0, but is " + concurrency);
+        }
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be greater than 0, but is " + maxAttempts);
+        }
+        if (retryMultiplier < 1) {
+            throw new IllegalArgumentException("retryMultiplier must be greater than 0, but is " + retryMultiplier);
+        }
+
+        this.enabled = enabled;
+        this.concurrency = concurrency;
+        this.pollInterval = pollInterval;
+        this.leaseDuration = leaseDuration;
+        this.maxAttempts = maxAttempts;
+        this.retryInitialDelay = retryInitialDelay;
+        this.retryMultiplier = retryMultiplier;
+        this.retryMaxDelay = retryMaxDelay;
+        this.instanceId = UUID.randomUUID().toString();
+        this.workerPermits = new Semaphore(concurrency);
+    }
+
+    public static DurableEventQueue getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Dispatch an {@link Event}.
+     * <p>
+     * When the durable queue is enabled, and a {@link DurableEventCodec} is registered
+     * for the event's type, the event is stored in the durable queue.
+     * Otherwise, it is dispatched via {@link Event#dispatch(Event)}.
+     *
+     * @param event The {@link Event} to dispatch
+     */
+    public static void dispatch(final Event event) {
+        if (INSTANCE.isEnabled() && INSTANCE.isRegistered(event.getClass())) {
+            INSTANCE.enqueue(event);
+        } else {
+            Event.dispatch(event);
+        }
+    }
+
+    /**
+     * Register an {@link Event} type for durable queueing.
+     *
+     * @param eventClass      The {@link Event} type
+     * @param codec           The {@link DurableEventCodec} to use for (de-)serialization
+     * @param subscriberClass The {@link Subscriber} to inform about events of the given type
+     * @param <T>             Type of the {@link Event}
+     */
+    public <T extends Event> void register(final Class<T> eventClass, final DurableEventCodec<T> codec,
+                                           final Class<? extends Subscriber> subscriberClass) {
+        registrations.put(eventClass.getName(), new Registration<>(eventClass, codec, subscriberClass));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isRegistered(final Class<? extends Event> eventClass) {
+        return registrations.containsKey(eventClass.getName());
+    }
+
+    /**
+     * Store an {@link Event} in the durable queue.
+     *
+     * @param event The {@link Event} to store
+     * @throws IllegalArgumentException When no {@link DurableEventCodec} is registered for the event's type
+     * @throws IllegalStateException    When the event could not be encoded
+     */
+    void enqueue(final Event event) {
+        final Registration<?> registration = registrations.get(event.getClass().getName());
+        if (registration == null) {
+            throw new IllegalArgumentException("No codec registered for event type " + event.getClass().getName());
+        }
+
+        final String payload;
+        try {
+            final ObjectNode envelope = OBJECT_MAPPER.createObjectNode();
+            if (event instanceof final ChainableEvent chainableEvent) {
+                envelope.put(FIELD_CHAIN_IDENTIFIER, chainableEvent.getChainIdentifier().toString());
+            }
+            registration.encode(event, envelope.putObject(FIELD_EVENT));
+            payload = envelope.toString();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to encode event of type " + event.getClass().getName(), e);
+        }
+
+        final long id = withJdbiHandle(handle -> handle.attach(EventQueueDao.class)
+                .enqueue(event.getClass().getName(), payload));
+        LOGGER.debug("Enqueued event of type %s with ID %d".formatted(event.getClass().getSimpleName(), id));
+    }
+
+    /**
+     * Start polling the durable queue.
+     * <p>
+     * Has no effect when the durable queue is disabled, or has already been started.
+     */
+    public synchronized void start() {
+        if (!enabled || pollExecutor != null) {
+            return;
+        }
+
+        LOGGER.info("Starting durable event queue with concurrency %d (instance: %s)".formatted(concurrency, instanceId));
+        workerExecutor = Executors.newFixedThreadPool(concurrency, new BasicThreadFactory.Builder()
+                .namingPattern("DurableEventQueue-Worker-%d")
+                .uncaughtExceptionHandler(new LoggableUncaughtExceptionHandler())
+                .build());
+        Metrics.registerExecutorService(workerExecutor, "DurableEventQueue");
+        Gauge.builder("dtrack_event_queue_in_flight", inFlightEventIds, Set::size)
+                .description("Number of durably queued events currently being processed by this instance")
+                .register(Metrics.getRegistry());
+
+        pollExecutor = Executors.newScheduledThreadPool(2, new BasicThreadFactory.Builder()
+                .namingPattern("DurableEventQueue-Poller-%d")
+                .daemon(true)
+                .uncaughtExceptionHandler(new LoggableUncaughtExceptionHandler())
+                .build());
+        pollExecutor.scheduleWithFixedDelay(this::poll, pollInterval.toMillis(), pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+
+        // Extend leases well before they expire, to tolerate slow or temporarily unavailable databases.
+        final long heartbeatIntervalMillis = Math.max(1000, leaseDuration.toMillis() / 3);
+        pollExecutor.scheduleWithFixedDelay(this::extendLeases, heartbeatIntervalMillis, heartbeatIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stop polling the durable queue, and wait for in-flight events to complete.
+     * <p>
+     * Claimed events whose processing has not started yet are released,
+     * such that other instances can claim them right away.
+     * Events that do not complete within {@code timeout} are picked up
+     * again once their lease expired.
+     *
+     * @param timeout Maximum duration to wait for in-flight events to complete
+     */
+    public synchronized void shutdown(final Duration timeout) {
+        if (pollExecutor == null) {
+            return;
+        }
+
+        LOGGER.info("Shutting down durable event queue");
+        pollExecutor.shutdown();
+        try {
+            // Wait for an ongoing poll to finish, so no more events are claimed after releasing.
+            if (!pollExecutor.awaitTermination(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                LOGGER.warn("Timeout exceeded while waiting for poller to stop");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        releasePendingEvents();
+        workerExecutor.shutdown();
+
+        try {
+            if (!workerExecutor.awaitTermination(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                LOGGER.warn("Timeout exceeded while waiting for %d in-flight events to complete; They will be retried once their lease expired"
+                        .formatted(inFlightEventIds.size()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        pollExecutor = null;
+        workerExecutor = null;
+    }
+
+    /**
+     * Claim as many due events as there are idle workers, and submit them for processing.
+     *
+     * @return Number of claimed events
+     */
+    int poll() {
+        final ExecutorService executor = workerExecutor;
+        if (executor == null || executor.isShutdown()) {
+            // Events claimed now could not be processed anyway.
+            return 0;
+        }
+
+        final int availablePermits = workerPermits.drainPermits();
+        if (availablePermits == 0) {
+            return 0;
+        }
+
+        List<QueuedEvent> claimedEvents = List.of();
+        try {
+            claimedEvents = withJdbiHandle(handle -> handle.attach(EventQueueDao.class)
+                    .claim(List.copyOf(registrations.keySet()), instanceId, leaseDuration, availablePermits));
+        } catch (RuntimeException e) {
+            LOGGER.error("Failed to poll for queued events", e);
+        } finally {
+            workerPermits.release(availablePermits - claimedEvents.size());
+        }
+
+        for (final QueuedEvent queuedEvent : claimedEvents) {
+            inFlightEventIds.add(queuedEvent.id());
+            pendingEventIds.add(queuedEvent.id());
+            try {
+                executor.execute(() -> {
+                    try {
+                        // The event may have been released during shutdown before processing started.
+                        if (pendingEventIds.remove(queuedEvent.id())) {
+                            process(queuedEvent);
+                        }
+                    } finally {
+                        inFlightEventIds.remove(queuedEvent.id());
+                        workerPermits.release();
+                    }
+                });
+            } catch (RuntimeException e) {
+                // The executor was shut down after the check above.
+                inFlightEventIds.remove(queuedEvent.id());
+                workerPermits.release();
+                if (pendingEventIds.remove(queuedEvent.id())) {
+                    release(List.of(queuedEvent.id()));
+                }
+            }
+        }
+
+        return claimedEvents.size();
+    }
+
+    /**
+     * Release all claimed events whose processing has not started yet.
+     */
+    void releasePendingEvents() {
+        final var eventIds = new ArrayList<Long>(pendingEventIds.size());
+        for (final Long eventId : List.copyOf(pendingEventIds)) {
+            // Workers may start processing concurrently; Only release events we won the race for.
+            if (pendingEventIds.remove(eventId)) {
+                eventIds.add(eventId);
+            }
+        }
+
+        if (!eventIds.isEmpty()) {
+            release(eventIds);
+        }
+    }
+
+    private void release(final List<Long> eventIds) {
+        try {
+            final int numReleased = withJdbiHandle(handle -> handle.attach(EventQueueDao.class)
+                    .release(eventIds, instanceId));
+            LOGGER.info("Released %d claimed events whose processing did not start yet".formatted(numReleased));
+        } catch (RuntimeException e) {
+            LOGGER.warn("Failed to release %d claimed events; They will be retried once their lease expired"
+                    .formatted(eventIds.size()), e);
+        }
+    }
+
+    private void extendLeases() {
+        if (inFlightEventIds.isEmpty()) {
+            return;
+        }
+
+        try {
+            final List<Long> eventIds = new ArrayList<>(inFlightEventIds);
+            useJdbiHandle(handle -> handle.attach(EventQueueDao.class)
+                    .extendLeases(eventIds, instanceId, leaseDuration));
+        } catch (RuntimeException e) {
+            LOGGER.warn("Failed to extend leases of %d in-flight events".formatted(inFlightEventIds.size()), e);
+        }
+    }
+
+    private void process(final QueuedEvent queuedEvent) {
+        final Registration<?> registration = registrations.get(queuedEvent.eventType());
+
+        final Event event;
+        try {
+            event = decode(registration, queuedEvent.payload());
+        } catch (IOException | RuntimeException e) {
+            LOGGER.error("Failed to decode event %d of type %s; Giving up".formatted(
+                    queuedEvent.id(), queuedEvent.eventType()), e);
+            useJdbiHandle(handle -> handle.attach(EventQueueDao.class)
+                    .fail(queuedEvent.id(), instanceId, e.getMessage()));
+            recordOutcome(queuedEvent, "failed");
+            return;
+        }
+
+        try {
+            final Subscriber subscriber = registration.subscriberClass().getDeclaredConstructor().newInstance();
+            subscriber.inform(event);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            handleFailure(queuedEvent, e);
+            return;
+        }
+
+        useJdbiHandle(handle -> handle.attach(EventQueueDao.class).complete(queuedEvent.id(), instanceId));
+        recordOutcome(queuedEvent, "completed");
+    }
+
+    private void handleFailure(final QueuedEvent queuedEvent, final Exception exception) {
+        if (queuedEvent.attempts() >= maxAttempts) {
+            LOGGER.error("Processing of event %d of type %s failed after %d attempts; Giving up".formatted(
+                    queuedEvent.id(), queuedEvent.eventType(), queuedEvent.attempts()), exception);
+            useJdbiHandle(handle -> handle.attach(EventQueueDao.class)
+                    .fail(queuedEvent.id(), instanceId, exception.getMessage()));
+            recordOutcome(queuedEvent, "failed");
+            return;
+        }
+
+        final Duration retryDelay = getRetryDelay(queuedEvent.attempts());
+        LOGGER.warn("Processing of event %d of type %s failed in attempt %d; Retrying in %s".formatted(
+                queuedEvent.id(), queuedEvent.eventType(), queuedEvent.attempts(), retryDelay), exception);
+        useJdbiHandle(handle -> handle.attach(EventQueueDao.class)
+                .scheduleRetry(queuedEvent.id(), instanceId, retryDelay, exception.getMessage()));
+        recordOutcome(queuedEvent, "retried");
+    }
+
+    /**
+     * @param attempts Number of attempts made so far
+     * @return The delay to apply before the next attempt
+     */
+    Duration getRetryDelay(final int attempts) {
+        Duration delay = retryInitialDelay;
+        for (int i = 1; i < attempts; i++) {
+            delay = delay.multipliedBy(retryMultiplier);
+            if (delay.compareTo(retryMaxDelay) >= 0) {
+                return retryMaxDelay;
+            }
+        }
+
+        return delay.compareTo(retryMaxDelay) > 0 ? retryMaxDelay : delay;
+    }
+
+    private static Event decode(final Registration<?> registration, final String payload) throws IOException {
+        if (registration == null) {
+            throw new IOException("No codec registered for event type");
+        }
+
+        final var envelope = (ObjectNode) OBJECT_MAPPER.readTree(payload);
+        final Event event = registration.codec().decode((ObjectNode) envelope.get(FIELD_EVENT));
+        if (event instanceof final ChainableEvent chainableEvent && envelope.hasNonNull(FIELD_CHAIN_IDENTIFIER)) {
+            chainableEvent.setChainIdentifier(UUID.fromString(envelope.get(FIELD_CHAIN_IDENTIFIER).asText()));
+        }
+
+        return event;
+    }
+
+    private static void recordOutcome(final QueuedEvent queuedEvent, final String outcome) {
+        Counter.builder("dtrack_event_queue_events_processed_total")
+                .description("Total number of durably queued events processed by this instance")
+                .tag("event_type", queuedEvent.eventType())
+                .tag("outcome", outcome)
+                .register(Metrics.getRegistry())
+                .increment();
+    }
+
+    private static int determineConcurrency() {
+        final int concurrency = Config.getInstance().getPropertyAsInt(ConfigKey.EVENT_QUEUE_DURABLE_CONCURRENCY);
+        return concurrency > 0 ? concurrency : SystemUtil.getCpuCores();
+    }
+
+}
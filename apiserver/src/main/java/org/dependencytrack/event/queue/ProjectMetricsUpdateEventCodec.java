@@ -0,0 +1,47 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.event.queue;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.dependencytrack.event.ProjectMetricsUpdateEvent;
+import org.dependencytrack.tasks.metrics.MetricsUpdateExecutor;
+
+import java.util.UUID;
+
+/**
+ * A {@link DurableEventCodec} for {@link ProjectMetricsUpdateEvent}s.
+ *
+ * @since 5.6.0
+ */
+public final class ProjectMetricsUpdateEventCodec implements DurableEventCodec<ProjectMetricsUpdateEvent> {
+
+    @Override
+    public void encode(final ProjectMetricsUpdateEvent event, final ObjectNode payload) {
+        payload.put("projectUuid", event.getUuid().toString());
+        payload.put("priority", event.getPriority().name());
+    }
+
+    @Override
+    public ProjectMetricsUpdateEvent decode(final ObjectNode payload) {
+        return new ProjectMetricsUpdateEvent(
+                UUID.fromString(payload.get("projectUuid").asText()),
+                MetricsUpdateExecutor.Priority.valueOf(payload.get("priority").asText()));
+    }
+
+}
@@ -107,6 +107,11 @@ public class Bom implements Serializable {
     @NotNull
     private UUID uuid;
 
+    @Persistent
+    @Column(name = "SHA256")
+    @Schema(description = "SHA-256 digest of the BOM as uploaded")
+    private String sha256;
+
     @Persistent
     @Column(name = "GENERATED")
     @Schema(type = "integer", format = "int64", requiredMode = Schema.RequiredMode.REQUIRED, description = "UNIX epoch timestamp in milliseconds")
@@ -183,4 +188,12 @@ public class Bom implements Serializable {
     public void setGenerated(Date generated) {
         this.generated = generated;
     }
+
+    public String getSha256() {
+        return sha256;
+    }
+
+    public void setSha256(String sha256) {
+        this.sha256 = sha256;
+    }
 }
@@ -34,6 +34,7 @@ import org.dependencytrack.model.validation.ValidSpdxExpression;
 import org.dependencytrack.persistence.converter.OrganizationalContactsJsonConverter;
 import org.dependencytrack.persistence.converter.OrganizationalEntityJsonConverter;
 import org.dependencytrack.resources.v1.serializers.CustomPackageURLSerializer;
+import org.dependencytrack.util.PurlUtil;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -286,6 +287,28 @@ public class Component implements Serializable {
     @JsonDeserialize(using = TrimmedStringDeserializer.class)
     private String purlCoordinates; // Field should contain only type, namespace, name, and version. Everything up to the qualifiers
 
+    /**
+     * The {@link RepositoryType}, namespace, and name derived from {@link #purl}.
+     * <p>
+     * Precomputed such that {@link RepositoryMetaComponent}s can be joined in SQL,
+     * without having to parse PURLs for every query. Computed for existing components
+     * by {@link org.dependencytrack.event.PurlMigrator}.
+     */
+    @Persistent
+    @Column(name = "PURL_REPOSITORY_TYPE", jdbcType = "VARCHAR")
+    @JsonIgnore
+    private RepositoryType purlRepositoryType;
+
+    @Persistent
+    @Column(name = "PURL_NAMESPACE", jdbcType = "VARCHAR")
+    @JsonIgnore
+    private String purlNamespace;
+
+    @Persistent
+    @Column(name = "PURL_NAME", jdbcType = "VARCHAR")
+    @JsonIgnore
+    private String purlName;
+
     @Persistent
     @Column(name = "SWIDTAGID")
     @Index(name = "COMPONENT_SWID_TAGID_IDX")
@@ -630,10 +653,45 @@ public class Component implements Serializable {
         } else {
             this.purl = null;
         }
+        setPurlRepositoryCoordinates(purl);
     }
 
     public void setPurl(String purl) {
         this.purl = purl;
+        setPurlRepositoryCoordinates(PurlUtil.silentPurl(purl));
+    }
+
+    public RepositoryType getPurlRepositoryType() {
+        return purlRepositoryType;
+    }
+
+    public String getPurlNamespace() {
+        return purlNamespace;
+    }
+
+    public String getPurlName() {
+        return purlName;
+    }
+
+    private void setPurlRepositoryCoordinates(final PackageURL purl) {
+        if (this.purl == null) {
+            this.purlRepositoryType = null;
+            this.purlNamespace = null;
+            this.purlName = null;
+            return;
+        }
+
+        // Invalid PURLs are marked as UNSUPPORTED, too. This way, components whose coordinates
+        // have not been computed yet (PURL_REPOSITORY_TYPE IS NULL) can be told apart.
+        final RepositoryType repositoryType = purl != null ? RepositoryType.resolve(purl) : RepositoryType.UNSUPPORTED;
+        this.purlRepositoryType = repositoryType;
+        if (repositoryType == RepositoryType.UNSUPPORTED) {
+            this.purlNamespace = null;
+            this.purlName = null;
+        } else {
+            this.purlNamespace = purl.getNamespace();
+            this.purlName = purl.getName();
+        }
     }
 
     @JsonSerialize(using = CustomPackageURLSerializer.class)
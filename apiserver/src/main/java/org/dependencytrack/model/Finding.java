@@ -60,6 +60,7 @@ public class Finding implements Serializable {
             optValue(component, "purl", findingRow.componentPurl());
         }
         optValue(component, "cpe", findingRow.componentCpe());
+        optValue(component, "latestVersion", findingRow.componentLatestVersion());
         optValue(component, "project", findingRow.projectUuid());
         optValue(component, "hasOccurrences", findingRow.componentHasOccurrences(), false);
 
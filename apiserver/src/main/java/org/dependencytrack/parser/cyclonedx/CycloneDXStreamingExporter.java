@@ -0,0 +1,603 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.parser.cyclonedx;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.cyclonedx.Version;
+import org.cyclonedx.exception.GeneratorException;
+import org.cyclonedx.generators.BomGeneratorFactory;
+import org.cyclonedx.model.Bom;
+import org.cyclonedx.model.Dependency;
+import org.dependencytrack.model.Analysis;
+import org.dependencytrack.model.Component;
+import org.dependencytrack.model.ComponentOccurrence;
+import org.dependencytrack.model.ComponentProperty;
+import org.dependencytrack.model.Project;
+import org.dependencytrack.model.ServiceComponent;
+import org.dependencytrack.model.Vulnerability;
+import org.dependencytrack.parser.cyclonedx.CycloneDXExporter.Format;
+import org.dependencytrack.parser.cyclonedx.CycloneDXExporter.Variant;
+import org.dependencytrack.parser.cyclonedx.util.ModelConverter;
+import org.dependencytrack.persistence.QueryManager;
+import org.dependencytrack.persistence.jdbi.AnalysisDao;
+import org.dependencytrack.persistence.jdbi.ComponentDao;
+import org.dependencytrack.persistence.jdbi.FindingDao;
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.result.ResultIterator;
+
+import javax.jdo.Query;
+import javax.xml.XMLConstants;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLEventFactory;
+import javax.xml.stream.XMLEventReader;
+import javax.xml.stream.XMLEventWriter;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.events.XMLEvent;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiTransaction;
+
+/**
+ * Exports projects as CycloneDX BOMs, writing the BOM to an {@link OutputStream}
+ * while components, dependencies, and findings are read from the database.
+ * <p>
+ * Produces the same documents as {@link CycloneDXExporter#create(Project)}, but only holds
+ * {@value #BATCH_SIZE} components or vulnerabilities in memory at any given time,
+ * as opposed to the entire project. Each batch is serialized with the regular
+ * CycloneDX generators, and the resulting elements are spliced into the output document.
+ *
+ * @since 5.6.0
+ */
+public class CycloneDXStreamingExporter {
+
+    private static final Version VERSION = Version.VERSION_15;
+    private static final int BATCH_SIZE = 500;
+    private static final Set<String> SECTION_NAMES = Set.of("components", "services", "dependencies", "vulnerabilities");
+
+    private final Variant variant;
+    private final Format format;
+
+    public CycloneDXStreamingExporter(final Variant variant, final Format format) {
+        this.variant = variant;
+        this.format = format;
+    }
+
+    /**
+     * Export the project identified by {@code projectUuid} to {@code outputStream}.
+     * <p>
+     * The caller is responsible for verifying that the project exists,
+     * and that access to it is permitted.
+     *
+     * @param projectUuid  UUID of the project to export
+     * @param outputStream The {@link OutputStream} to write to. Will not be closed.
+     * @throws IOException When writing to {@code outputStream} failed
+     */
+    public void export(final UUID projectUuid, final OutputStream outputStream) throws IOException {
+        try (final var qm = new QueryManager()) {
+            final Project project = qm.getObjectByUuid(Project.class, projectUuid);
+            if (project == null) {
+                throw new IllegalStateException("Project %s does not exist".formatted(projectUuid));
+            }
+
+            final var skeletonBom = new Bom();
+            skeletonBom.setSerialNumber("urn:uuid:" + UUID.randomUUID());
+            skeletonBom.setVersion(1);
+            skeletonBom.setMetadata(ModelConverter.createMetadata(project));
+
+            // PostgreSQL only honours the fetch size when auto-commit is disabled.
+            // Without a transaction, entire result sets would be loaded into memory.
+            useJdbiTransaction(handle -> {
+                try (final BomWriter writer = format == Format.XML
+                        ? new XmlBomWriter(outputStream)
+                        : new JsonBomWriter(outputStream)) {
+                    writer.writeSkeleton(skeletonBom);
+
+                    if (variant != Variant.VEX) {
+                        final Set<String> componentUuids = writeComponents(qm, handle, project, writer);
+                        writeServices(qm, project, writer);
+                        writeDependencies(handle, project, componentUuids, writer);
+                    }
+                    if (variant != Variant.INVENTORY) {
+                        writeVulnerabilities(qm, handle, project, writer);
+                    }
+
+                    writer.finish();
+                }
+            });
+        }
+    }
+
+    private Set<String> writeComponents(final QueryManager qm, final Handle handle, final Project project, final BomWriter writer) throws IOException {
+        final var componentDao = handle.attach(ComponentDao.class);
+        final var componentUuids = new HashSet<String>();
+
+        try (final ResultIterator<Component> componentIterator = componentDao
+                .streamComponentsForExport(project.getId(), variant == Variant.VDR).iterator()) {
+            final var batch = new ArrayList<Component>(BATCH_SIZE);
+            while (componentIterator.hasNext()) {
+                final Component component = componentIterator.next();
+                componentUuids.add(component.getUuid().toString());
+                batch.add(component);
+                if (batch.size() >= BATCH_SIZE) {
+                    writeComponentBatch(qm, componentDao, batch, writer);
+                }
+            }
+
+            writeComponentBatch(qm, componentDao, batch, writer);
+        }
+
+        writer.endSection();
+        return componentUuids;
+    }
+
+    private static void writeComponentBatch(final QueryManager qm, final ComponentDao componentDao,
+                                            final List<Component> batch, final BomWriter writer) throws IOException {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        final var componentById = new HashMap<Long, Component>(batch.size());
+        for (final Component component : batch) {
+            componentById.put(component.getId(), component);
+        }
+        final List<Long> componentIds = List.copyOf(componentById.keySet());
+
+        for (final ComponentDao.ComponentPropertyRow row : componentDao.getPropertiesOfComponents(componentIds)) {
+            final Component component = componentById.get(row.componentId());
+            if (component.getProperties() == null) {
+                component.setProperties(new ArrayList<>());
+            }
+
+            final var property = new ComponentProperty();
+            property.setGroupName(row.groupName());
+            property.setPropertyName(row.propertyName());
+            property.setPropertyValue(row.propertyValue());
+            property.setPropertyType(row.propertyType());
+            component.getProperties().add(property);
+        }
+
+        for (final ComponentDao.ComponentOccurrenceRow row : componentDao.getOccurrencesOfComponents(componentIds)) {
+            final Component component = componentById.get(row.componentId());
+            if (component.getOccurrences() == null) {
+                component.setOccurrences(new LinkedHashSet<>());
+            }
+
+            final var occurrence = new ComponentOccurrence();
+            occurrence.setLocation(row.location());
+            occurrence.setLine(row.line());
+            occurrence.setOffset(row.offset());
+            occurrence.setSymbol(row.symbol());
+            component.getOccurrences().add(occurrence);
+        }
+
+        final var batchBom = new Bom();
+        batchBom.setComponents(batch.stream()
+                .map(component -> ModelConverter.convert(qm, component))
+                .toList());
+        writer.writeSectionItems("components", batchBom);
+        batch.clear();
+    }
+
+    private static void writeServices(final QueryManager qm, final Project project, final BomWriter writer) throws IOException {
+        final List<ServiceComponent> services = qm.getAllServiceComponents(project);
+        if (services == null || services.isEmpty()) {
+            return;
+        }
+
+        // Services are rare and few in practice, such that batching them is not worth it.
+        final var servicesBom = new Bom();
+        servicesBom.setServices(services.stream()
+                .map(service -> ModelConverter.convert(qm, service))
+                .toList());
+        writer.writeSectionItems("services", servicesBom);
+        writer.endSection();
+    }
+
+    private void writeDependencies(final Handle handle, final Project project,
+                                   final Set<String> componentUuids, final BomWriter writer) throws IOException {
+        final var batch = new ArrayList<Dependency>(BATCH_SIZE);
+        batch.add(ModelConverter.generateDependency(project.getUuid(), project.getDirectDependencies(), componentUuids));
+
+        try (final ResultIterator<ComponentDao.DirectDependenciesRow> rowIterator = handle.attach(ComponentDao.class)
+                .streamDirectDependencies(project.getId(), variant == Variant.VDR).iterator()) {
+            while (rowIterator.hasNext()) {
+                final ComponentDao.DirectDependenciesRow row = rowIterator.next();
+                batch.add(ModelConverter.generateDependency(row.uuid(), row.directDependencies(), componentUuids));
+                if (batch.size() >= BATCH_SIZE) {
+                    writeBatch("dependencies", batch, Bom::setDependencies, writer);
+                }
+            }
+        }
+
+        writeBatch("dependencies", batch, Bom::setDependencies, writer);
+        writer.endSection();
+    }
+
+    private void writeVulnerabilities(final QueryManager qm, final Handle handle, final Project project, final BomWriter writer) throws IOException {
+        // NB: Equal vulnerabilities are only emitted once. Other than components,
+        // the number of distinct vulnerabilities is usually small enough to track them all.
+        final var vulnerabilitiesSeen = new HashSet<org.cyclonedx.model.vulnerability.Vulnerability>();
+        final var batch = new ArrayList<org.cyclonedx.model.vulnerability.Vulnerability>(BATCH_SIZE);
+        final var rowBatch = new ArrayList<FindingDao.FindingRow>(BATCH_SIZE);
+        final long projectId = project.getId();
+
+        try (final ResultIterator<FindingDao.FindingRow> rowIterator = handle.attach(FindingDao.class)
+                .streamFindingsByProject(projectId, true, null).iterator()) {
+            while (rowIterator.hasNext()) {
+                rowBatch.add(rowIterator.next());
+                if (rowBatch.size() >= BATCH_SIZE) {
+                    convertFindingBatch(qm, handle, projectId, rowBatch, vulnerabilitiesSeen, batch);
+                    writeBatch("vulnerabilities", batch, Bom::setVulnerabilities, writer);
+                }
+            }
+
+            convertFindingBatch(qm, handle, projectId, rowBatch, vulnerabilitiesSeen, batch);
+        }
+
+        writeBatch("vulnerabilities", batch, Bom::setVulnerabilities, writer);
+        writer.endSection();
+    }
+
+    private void convertFindingBatch(final QueryManager qm, final Handle handle, final long projectId,
+                                     final List<FindingDao.FindingRow> rowBatch,
+                                     final Set<org.cyclonedx.model.vulnerability.Vulnerability> vulnerabilitiesSeen,
+                                     final List<org.cyclonedx.model.vulnerability.Vulnerability> batch) {
+        if (rowBatch.isEmpty()) {
+            return;
+        }
+
+        // Load all vulnerabilities (and analyses, if required) of the batch at once,
+        // rather than looking them up individually for every finding.
+        final var vulnUuids = new HashSet<UUID>();
+        final var analyzedComponentUuids = new HashSet<UUID>();
+        for (final FindingDao.FindingRow row : rowBatch) {
+            vulnUuids.add(row.vulnUuid());
+            if (row.analysisState() != null) {
+                analyzedComponentUuids.add(row.componentUuid());
+            }
+        }
+
+        final var vulnByUuid = new HashMap<UUID, Vulnerability>(vulnUuids.size());
+        final Query<Vulnerability> vulnQuery = qm.getObjectsByUuidsQuery(Vulnerability.class, List.copyOf(vulnUuids));
+        try {
+            for (final Vulnerability vuln : vulnQuery.executeList()) {
+                vulnByUuid.put(vuln.getUuid(), vuln);
+            }
+        } finally {
+            vulnQuery.closeAll();
+        }
+
+        final var analysisByFinding = new HashMap<Map.Entry<UUID, UUID>, Analysis>();
+        if ((variant == Variant.VEX || variant == Variant.VDR) && !analyzedComponentUuids.isEmpty()) {
+            for (final AnalysisDao.ComponentVulnAnalysisRow row : handle.attach(AnalysisDao.class)
+                    .getAnalyses(projectId, analyzedComponentUuids, vulnUuids)) {
+                final var analysis = new Analysis();
+                analysis.setAnalysisState(row.state());
+                analysis.setAnalysisJustification(row.justification());
+                analysis.setAnalysisResponse(row.response());
+                analysis.setAnalysisDetails(row.details());
+                analysisByFinding.put(Map.entry(row.componentUuid(), row.vulnUuid()), analysis);
+            }
+        }
+
+        for (final FindingDao.FindingRow row : rowBatch) {
+            final Vulnerability vuln = vulnByUuid.get(row.vulnUuid());
+            if (vuln == null) {
+                // Deleted since the finding was read.
+                continue;
+            }
+
+            final var vulnerability = ModelConverter.convert(variant, vuln,
+                    row.componentUuid(), row.projectUuid(),
+                    analysisByFinding.get(Map.entry(row.componentUuid(), row.vulnUuid())));
+            if (vulnerabilitiesSeen.add(vulnerability)) {
+                batch.add(vulnerability);
+            }
+        }
+
+        // Vulnerabilities are not needed beyond this batch. Evict them so
+        // the persistence manager's cache does not grow with every batch.
+        qm.getPersistenceManager().evictAll();
+        rowBatch.clear();
+    }
+
+    private static <T> void writeBatch(final String sectionName, final List<T> batch,
+                                       final BiConsumer<Bom, List<T>> batchSetter, final BomWriter writer) throws IOException {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        final var batchBom = new Bom();
+        batchSetter.accept(batchBom, batch);
+        writer.writeSectionItems(sectionName, batchBom);
+        batch.clear();
+    }
+
+    private interface BomWriter extends Closeable {
+
+        /**
+         * Write the top-level fields of {@code bom}, leaving the document open for sections to be written.
+         */
+        void writeSkeleton(Bom bom) throws IOException;
+
+        /**
+         * Write all items of section {@code sectionName} in {@code bom},
+         * starting the section if it has not been started yet.
+         */
+        void writeSectionItems(String sectionName, Bom bom) throws IOException;
+
+        /**
+         * End the current section, if one has been started.
+         * Empty sections are omitted entirely, as done by the CycloneDX generators.
+         */
+        void endSection() throws IOException;
+
+        void finish() throws IOException;
+
+    }
+
+    private static final class JsonBomWriter implements BomWriter {
+
+        private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+        private final JsonGenerator generator;
+        private boolean isSectionStarted;
+
+        private JsonBomWriter(final OutputStream outputStream) throws IOException {
+            this.generator = OBJECT_MAPPER.createGenerator(outputStream)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT)
+                    .useDefaultPrettyPrinter();
+        }
+
+        @Override
+        public void writeSkeleton(final Bom bom) throws IOException {
+            generator.writeStartObject();
+
+            final Iterator<Map.Entry<String, JsonNode>> fieldIterator = toJsonNode(bom).fields();
+            while (fieldIterator.hasNext()) {
+                final Map.Entry<String, JsonNode> field = fieldIterator.next();
+                if (SECTION_NAMES.contains(field.getKey())) {
+                    continue;
+                }
+
+                generator.writeFieldName(field.getKey());
+                generator.writeTree(field.getValue());
+            }
+        }
+
+        @Override
+        public void writeSectionItems(final String sectionName, final Bom bom) throws IOException {
+            final JsonNode sectionNode = toJsonNode(bom).get(sectionName);
+            if (sectionNode == null || sectionNode.isEmpty()) {
+                return;
+            }
+
+            if (!isSectionStarted) {
+                generator.writeArrayFieldStart(sectionName);
+                isSectionStarted = true;
+            }
+
+            for (final JsonNode itemNode : sectionNode) {
+                generator.writeTree(itemNode);
+            }
+        }
+
+        @Override
+        public void endSection() throws IOException {
+            if (isSectionStarted) {
+                generator.writeEndArray();
+                isSectionStarted = false;
+            }
+        }
+
+        @Override
+        public void finish() throws IOException {
+            generator.writeEndObject();
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.close();
+        }
+
+        private static JsonNode toJsonNode(final Bom bom) {
+            return BomGeneratorFactory.createJson(VERSION, bom).toJsonNode();
+        }
+
+    }
+
+    private static final class XmlBomWriter implements BomWriter {
+
+        private static final XMLEventFactory EVENT_FACTORY = XMLEventFactory.newFactory();
+        private static final XMLInputFactory INPUT_FACTORY = createInputFactory();
+        private static final XMLOutputFactory OUTPUT_FACTORY = XMLOutputFactory.newFactory();
+
+        private final XMLEventWriter eventWriter;
+        private QName rootElementName;
+        private boolean isSectionStarted;
+        private String currentSectionName;
+
+        private XmlBomWriter(final OutputStream outputStream) throws IOException {
+            try {
+                this.eventWriter = OUTPUT_FACTORY.createXMLEventWriter(outputStream, "UTF-8");
+            } catch (XMLStreamException e) {
+                throw new IOException("Failed to create XML writer", e);
+            }
+        }
+
+        @Override
+        public void writeSkeleton(final Bom bom) throws IOException {
+            try {
+                eventWriter.add(EVENT_FACTORY.createStartDocument("UTF-8", "1.0"));
+
+                final XMLEventReader eventReader = createEventReader(bom);
+                int depth = 0;
+                int skippedSectionDepth = -1;
+                while (eventReader.hasNext()) {
+                    final XMLEvent event = eventReader.nextEvent();
+                    if (event.isStartElement()) {
+                        depth++;
+                        if (depth == 1) {
+                            rootElementName = event.asStartElement().getName();
+                        } else if (depth == 2 && SECTION_NAMES.contains(event.asStartElement().getName().getLocalPart())) {
+                            // Sections are written separately, even if the generator emitted them empty.
+                            skippedSectionDepth = depth;
+                        }
+                    } else if (event.isEndElement()) {
+                        depth--;
+                        if (depth == 0) {
+                            // Leave the root element open, such that sections can be added to it.
+                            break;
+                        } else if (depth == skippedSectionDepth - 1) {
+                            skippedSectionDepth = -1;
+                            continue;
+                        }
+                    } else if (depth == 0) {
+                        // Skip the document declaration and anything else outside the root element.
+                        continue;
+                    }
+
+                    if (skippedSectionDepth < 0) {
+                        eventWriter.add(event);
+                    }
+                }
+
+                eventReader.close();
+            } catch (XMLStreamException e) {
+                throw new IOException("Failed to write BOM skeleton", e);
+            }
+        }
+
+        @Override
+        public void writeSectionItems(final String sectionName, final Bom bom) throws IOException {
+            try {
+                final XMLEventReader eventReader = createEventReader(bom);
+                int depth = 0;
+                boolean isInSection = false;
+                while (eventReader.hasNext()) {
+                    final XMLEvent event = eventReader.nextEvent();
+                    if (event.isStartElement()) {
+                        depth++;
+                        if (depth == 2 && sectionName.equals(event.asStartElement().getName().getLocalPart())) {
+                            isInSection = true;
+                            continue;
+                        }
+                    } else if (event.isEndElement()) {
+                        depth--;
+                        if (depth == 1 && isInSection) {
+                            break;
+                        }
+                    }
+
+                    if (isInSection) {
+                        if (!isSectionStarted) {
+                            eventWriter.add(EVENT_FACTORY.createStartElement(
+                                    rootElementName.getPrefix(), rootElementName.getNamespaceURI(), sectionName));
+                            isSectionStarted = true;
+                            currentSectionName = sectionName;
+                        }
+
+                        eventWriter.add(event);
+                    }
+                }
+
+                eventReader.close();
+            } catch (XMLStreamException e) {
+                throw new IOException("Failed to write %s of BOM".formatted(sectionName), e);
+            }
+        }
+
+        @Override
+        public void endSection() throws IOException {
+            if (!isSectionStarted) {
+                return;
+            }
+
+            try {
+                eventWriter.add(EVENT_FACTORY.createEndElement(
+                        rootElementName.getPrefix(), rootElementName.getNamespaceURI(), currentSectionName));
+            } catch (XMLStreamException e) {
+                throw new IOException("Failed to end %s of BOM".formatted(currentSectionName), e);
+            }
+
+            isSectionStarted = false;
+            currentSectionName = null;
+        }
+
+        @Override
+        public void finish() throws IOException {
+            try {
+                eventWriter.add(EVENT_FACTORY.createEndElement(
+                        rootElementName.getPrefix(), rootElementName.getNamespaceURI(), rootElementName.getLocalPart()));
+                eventWriter.add(EVENT_FACTORY.createEndDocument());
+                eventWriter.flush();
+            } catch (XMLStreamException e) {
+                throw new IOException("Failed to finish BOM", e);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                eventWriter.close();
+            } catch (XMLStreamException e) {
+                throw new IOException("Failed to close XML writer", e);
+            }
+        }
+
+        private static XMLEventReader createEventReader(final Bom bom) throws IOException, XMLStreamException {
+            final String xml;
+            try {
+                xml = BomGeneratorFactory.createXml(VERSION, bom).toXmlString();
+            } catch (GeneratorException e) {
+                throw new IOException("Failed to generate XML BOM", e);
+            }
+
+            return INPUT_FACTORY.createXMLEventReader(new StringReader(xml));
+        }
+
+        private static XMLInputFactory createInputFactory() {
+            final XMLInputFactory inputFactory = XMLInputFactory.newFactory();
+            inputFactory.setProperty(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+            inputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+            inputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+            return inputFactory;
+        }
+
+    }
+
+}
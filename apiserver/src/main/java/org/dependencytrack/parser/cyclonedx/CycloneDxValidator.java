@@ -24,6 +24,7 @@ import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.google.protobuf.InvalidProtocolBufferException;
 import jakarta.ws.rs.core.MediaType;
+import org.apache.commons.io.function.IOSupplier;
 import org.cyclonedx.Version;
 import org.cyclonedx.exception.ParseException;
 import org.cyclonedx.parsers.JsonParser;
@@ -38,6 +39,7 @@ import javax.xml.stream.XMLStreamReader;
 import javax.xml.stream.events.XMLEvent;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -79,10 +81,25 @@ public class CycloneDxValidator {
     }
 
     public void validate(final byte[] bomBytes, MediaType mediaType) {
+        validate(() -> new ByteArrayInputStream(bomBytes), mediaType);
+    }
+
+    /**
+     * Validate a BOM that is read from a stream.
+     * <p>
+     * The BOM may be read multiple times, e.g. to detect its format before performing
+     * the actual schema validation. {@code bomInputStreamSupplier} must thus return
+     * a new {@link InputStream} positioned at the start of the BOM on every invocation.
+     *
+     * @param bomInputStreamSupplier Supplier of {@link InputStream}s of the BOM
+     * @param mediaType              Media type of the BOM, or {@code null} when unknown
+     * @since 5.6.0
+     */
+    public void validate(final IOSupplier<InputStream> bomInputStreamSupplier, final MediaType mediaType) {
         // Validating protobuf format
         if (mediaType != null && mediaType.toString().equalsIgnoreCase("application/x.vnd.cyclonedx+protobuf")) {
-            try {
-                final var bom = Bom.parseFrom(bomBytes);
+            try (final InputStream bomInputStream = bomInputStreamSupplier.get()) {
+                final var bom = Bom.parseFrom(bomInputStream);
                 switch (bom.getSpecVersion()) {
                     case "1.0", "1.1", "1.2", "1.3", "1.4" ->
                             throw new InvalidBomException("Protobuf is not supported for specVersion %s".formatted(bom.getSpecVersion()));
@@ -92,17 +109,19 @@ public class CycloneDxValidator {
                 }
             } catch (InvalidProtocolBufferException e) {
                 throw new InvalidBomException("Protobuf Schema validation failed", e);
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to validate BOM", e);
             }
         } else {
             // Validating JSON/XML format
-            final FormatAndVersion formatAndVersion = detectFormatAndSchemaVersion(bomBytes);
+            final FormatAndVersion formatAndVersion = detectFormatAndSchemaVersion(bomInputStreamSupplier);
             final Parser bomParser = switch (formatAndVersion.format()) {
                 case JSON -> new JsonParser();
                 case XML -> new XmlParser();
             };
             final List<ParseException> validationErrors;
-            try {
-                validationErrors = bomParser.validate(bomBytes, formatAndVersion.version());
+            try (final InputStream bomInputStream = bomInputStreamSupplier.get()) {
+                validationErrors = bomParser.validate(bomInputStream, formatAndVersion.version());
             } catch (IOException e) {
                 throw new RuntimeException("Failed to validate BOM", e);
             }
@@ -114,11 +133,11 @@ public class CycloneDxValidator {
         }
     }
 
-    private FormatAndVersion detectFormatAndSchemaVersion(final byte[] bomBytes) {
+    private FormatAndVersion detectFormatAndSchemaVersion(final IOSupplier<InputStream> bomInputStreamSupplier) {
         final var suppressedExceptions = new ArrayList<Exception>(2);
 
-        try {
-            final Version version = detectSchemaVersionFromJson(bomBytes);
+        try (final InputStream bomInputStream = bomInputStreamSupplier.get()) {
+            final Version version = detectSchemaVersionFromJson(bomInputStream);
             return new FormatAndVersion(Format.JSON, version);
         } catch (JsonParseException e) {
             suppressedExceptions.add(e);
@@ -129,14 +148,16 @@ public class CycloneDxValidator {
             throw new RuntimeException(e);
         }
 
-        try {
-            final Version version = detectSchemaVersionFromXml(bomBytes);
+        try (final InputStream bomInputStream = bomInputStreamSupplier.get()) {
+            final Version version = detectSchemaVersionFromXml(bomInputStream);
             return new FormatAndVersion(Format.XML, version);
         } catch (XMLStreamException e) {
             suppressedExceptions.add(e);
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.debug("Failed to parse BOM as XML", e);
             }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
         }
 
         final var exception = new InvalidBomException("BOM is neither valid JSON nor XML");
@@ -144,8 +165,8 @@ public class CycloneDxValidator {
         throw exception;
     }
 
-    private Version detectSchemaVersionFromJson(final byte[] bomBytes) throws IOException {
-        try (final com.fasterxml.jackson.core.JsonParser jsonParser = jsonMapper.createParser(bomBytes)) {
+    private Version detectSchemaVersionFromJson(final InputStream bomInputStream) throws IOException {
+        try (final com.fasterxml.jackson.core.JsonParser jsonParser = jsonMapper.createParser(bomInputStream)) {
             JsonToken currentToken = jsonParser.nextToken();
             if (currentToken != JsonToken.START_OBJECT) {
                 final String currentTokenAsString = Optional.ofNullable(currentToken)
@@ -183,7 +204,7 @@ public class CycloneDxValidator {
         }
     }
 
-    private Version detectSchemaVersionFromXml(final byte[] bomBytes) throws XMLStreamException {
+    private Version detectSchemaVersionFromXml(final InputStream bomInputStream) throws XMLStreamException {
         final XMLInputFactory xmlInputFactory = XMLInputFactory.newFactory();
         xmlInputFactory.setProperty(XMLConstants.FEATURE_SECURE_PROCESSING, true);
         // NB: Setting XMLConstants.ACCESS_EXTERNAL_DTD to empty string is recommended by SAST tools,
@@ -191,8 +212,7 @@ public class CycloneDxValidator {
         // Setting IS_SUPPORTING_EXTERNAL_ENTITIES to false achieves the same:
         // https://github.com/FasterXML/woodstox/issues/50#issuecomment-388842419
         xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
-        final var bomBytesStream = new ByteArrayInputStream(bomBytes);
-        final XMLStreamReader xmlStreamReader = xmlInputFactory.createXMLStreamReader(bomBytesStream);
+        final XMLStreamReader xmlStreamReader = xmlInputFactory.createXMLStreamReader(bomInputStream);
 
         Version schemaVersion = null;
         while (xmlStreamReader.hasNext()) {
@@ -933,6 +933,31 @@ public class ModelConverter {
         final Project project = component.getProject();
         final Vulnerability vulnerability = qm.getObjectByUuid(Vulnerability.class, finding.getVulnerability().get("uuid").toString());
 
+        Analysis analysis = null;
+        if (CycloneDXExporter.Variant.VEX == variant || CycloneDXExporter.Variant.VDR == variant) {
+            analysis = qm.getAnalysis(component, vulnerability);
+        }
+
+        return convert(variant, vulnerability, component.getUuid(), project != null ? project.getUuid() : null, analysis);
+    }
+
+    /**
+     * Convert a {@link Vulnerability} that affects the component identified by {@code componentUuid}
+     * into its CycloneDX representation, without performing any datastore lookups.
+     *
+     * @param variant       The export variant
+     * @param vulnerability The affecting {@link Vulnerability}
+     * @param componentUuid {@link UUID} of the affected component
+     * @param projectUuid   {@link UUID} of the project the component belongs to, may be {@code null}
+     * @param analysis      The {@link Analysis} of the finding, may be {@code null}
+     * @return The converted vulnerability
+     * @since 5.6.0
+     */
+    public static org.cyclonedx.model.vulnerability.Vulnerability convert(final CycloneDXExporter.Variant variant,
+                                                                          final Vulnerability vulnerability,
+                                                                          final UUID componentUuid,
+                                                                          final UUID projectUuid,
+                                                                          final Analysis analysis) {
         final org.cyclonedx.model.vulnerability.Vulnerability cdxVulnerability = new org.cyclonedx.model.vulnerability.Vulnerability();
         cdxVulnerability.setBomRef(vulnerability.getUuid().toString());
         cdxVulnerability.setId(vulnerability.getVulnId());
@@ -1008,22 +1033,18 @@ public class ModelConverter {
         if (CycloneDXExporter.Variant.INVENTORY_WITH_VULNERABILITIES == variant || CycloneDXExporter.Variant.VDR == variant) {
             final List<org.cyclonedx.model.vulnerability.Vulnerability.Affect> affects = new ArrayList<>();
             final org.cyclonedx.model.vulnerability.Vulnerability.Affect affect = new org.cyclonedx.model.vulnerability.Vulnerability.Affect();
-            affect.setRef(component.getUuid().toString());
+            affect.setRef(componentUuid.toString());
             affects.add(affect);
             cdxVulnerability.setAffects(affects);
-        } else if (CycloneDXExporter.Variant.VEX == variant && project != null) {
+        } else if (CycloneDXExporter.Variant.VEX == variant && projectUuid != null) {
             final List<org.cyclonedx.model.vulnerability.Vulnerability.Affect> affects = new ArrayList<>();
             final org.cyclonedx.model.vulnerability.Vulnerability.Affect affect = new org.cyclonedx.model.vulnerability.Vulnerability.Affect();
-            affect.setRef(project.getUuid().toString());
+            affect.setRef(projectUuid.toString());
             affects.add(affect);
             cdxVulnerability.setAffects(affects);
         }
 
         if (CycloneDXExporter.Variant.VEX == variant || CycloneDXExporter.Variant.VDR == variant) {
-            final Analysis analysis = qm.getAnalysis(
-                    qm.getObjectByUuid(Component.class, component.getUuid()),
-                    qm.getObjectByUuid(Vulnerability.class, vulnerability.getUuid())
-            );
             if (analysis != null) {
                 final org.cyclonedx.model.vulnerability.Vulnerability.Analysis cdxAnalysis = new org.cyclonedx.model.vulnerability.Vulnerability.Analysis();
                 if (analysis.getAnalysisResponse() != null) {
@@ -1061,21 +1082,39 @@ public class ModelConverter {
             return Collections.emptyList();
         }
 
+        final Set<String> componentUuids = components.stream()
+                .map(Component::getUuid)
+                .map(UUID::toString)
+                .collect(Collectors.toSet());
+
         final var dependencies = new ArrayList<Dependency>();
-        final var rootDependency = new Dependency(project.getUuid().toString());
-        rootDependency.setDependencies(convertDirectDependencies(project.getDirectDependencies(), components));
-        dependencies.add(rootDependency);
+        dependencies.add(generateDependency(project.getUuid(), project.getDirectDependencies(), componentUuids));
 
         for (final Component component : components) {
-            final var dependency = new Dependency(component.getUuid().toString());
-            dependency.setDependencies(convertDirectDependencies(component.getDirectDependencies(), components));
-            dependencies.add(dependency);
+            dependencies.add(generateDependency(component.getUuid(), component.getDirectDependencies(), componentUuids));
         }
 
         return dependencies;
     }
 
-    private static List<Dependency> convertDirectDependencies(final String directDependenciesRaw, final List<Component> components) {
+    /**
+     * Generate a {@link Dependency} for a single project or component.
+     * <p>
+     * Direct dependencies that do not refer to any of {@code componentUuids} are omitted.
+     *
+     * @param uuid                  UUID of the project or component
+     * @param directDependenciesRaw The raw direct dependencies JSON of the project or component
+     * @param componentUuids        UUIDs of all components included in the BOM
+     * @return The generated {@link Dependency}
+     * @since 5.6.0
+     */
+    public static Dependency generateDependency(final UUID uuid, final String directDependenciesRaw, final Set<String> componentUuids) {
+        final var dependency = new Dependency(uuid.toString());
+        dependency.setDependencies(convertDirectDependencies(directDependenciesRaw, componentUuids));
+        return dependency;
+    }
+
+    private static List<Dependency> convertDirectDependencies(final String directDependenciesRaw, final Set<String> componentUuids) {
         if (directDependenciesRaw == null || directDependenciesRaw.isBlank()) {
             return Collections.emptyList();
         }
@@ -1088,7 +1127,7 @@ public class ModelConverter {
             for (final JsonValue directDependency : directDependenciesJsonArray) {
                 if (directDependency instanceof final JsonObject directDependencyObject) {
                     final String componentUuid = directDependencyObject.getString("uuid", null);
-                    if (componentUuid != null && components.stream().map(Component::getUuid).map(UUID::toString).anyMatch(componentUuid::equals)) {
+                    if (componentUuid != null && componentUuids.contains(componentUuid)) {
                         dependencies.add(new Dependency(directDependencyObject.getString("uuid")));
                     }
                 }
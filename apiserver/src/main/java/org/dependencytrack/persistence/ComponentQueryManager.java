@@ -25,6 +25,7 @@ import alpine.resources.AlpineRequest;
 import com.github.packageurl.MalformedPackageURLException;
 import com.github.packageurl.PackageURL;
 import org.apache.commons.lang3.tuple.Pair;
+import org.dependencytrack.exception.InvalidPaginationCursorException;
 import org.dependencytrack.model.Component;
 import org.dependencytrack.model.ComponentIdentity;
 import org.dependencytrack.model.ComponentMetaInformation;
@@ -38,6 +39,7 @@ import org.dependencytrack.model.sqlmapping.ComponentProjection;
 import org.dependencytrack.persistence.RepositoryQueryManager.RepositoryMetaComponentSearch;
 import org.dependencytrack.persistence.jdbi.ComponentMetaDao;
 import org.dependencytrack.persistence.jdbi.MetricsDao;
+import org.dependencytrack.persistence.jdbi.PaginationCursor;
 import org.dependencytrack.persistence.jdbi.RepositoryMetaDao;
 import org.dependencytrack.resources.v1.vo.DependencyGraphResponse;
 import org.dependencytrack.tasks.IntegrityMetaInitializerTask;
@@ -109,6 +111,16 @@ final class ComponentQueryManager extends QueryManager implements IQueryManager
      * @return a List of Dependency objects
      */
     public PaginatedResult getComponents(final Project project, final boolean includeMetrics, final boolean onlyOutdated, final boolean onlyDirect) {
+        final boolean isCursorBased = pagination != null && pagination.isCursorBased();
+        final PaginationCursor cursor = isCursorBased && pagination.getCursor() != null
+                ? PaginationCursor.decode(pagination.getCursor())
+                : null;
+        if (isCursorBased && orderBy != null) {
+            // The cursor only captures the ID of the last component.
+            throw new InvalidPaginationCursorException(
+                    "Cursor pagination does not support ordering by %s".formatted(orderBy));
+        }
+
         List<Component> componentsResult = new ArrayList<>();
         String queryString = """
                         SELECT "A0"."ID" AS "id",
@@ -177,7 +189,7 @@ final class ComponentQueryManager extends QueryManager implements IQueryManager
                         "I0"."REPOSITORY_URL" AS "integrityRepoUrl",
                         "H0"."SCORECARD_SCORE" AS "scorecardScore",
                         (SELECT COUNT(*) FROM "COMPONENT_OCCURRENCE" WHERE "COMPONENT_ID" = "A0"."ID") AS "occurrenceCount",
-                        COUNT(*) OVER() AS "totalCount"
+                        %s AS "totalCount"
                 FROM "COMPONENT" "A0"
                 INNER JOIN "PROJECT" "B0" ON "A0"."PROJECT_ID" = "B0"."ID"
                 LEFT JOIN "INTEGRITY_META_COMPONENT" "I0" ON "A0"."PURL" = "I0"."PURL"
@@ -185,7 +197,10 @@ final class ComponentQueryManager extends QueryManager implements IQueryManager
                 LEFT OUTER JOIN "LICENSE" "D0" ON "A0"."LICENSE_ID" = "D0"."ID"
                 LEFT JOIN "HEALTH_META_COMPONENT" "H0" ON "A0"."PURLCOORDINATES" = "H0"."PURL_COORDINATES"
                 WHERE "A0"."PROJECT_ID" = :projectId
-                """;
+                """.formatted(cursor != null
+                // Counting is skipped when continuing from a cursor.
+                ? "CAST(NULL AS BIGINT)"
+                : "COUNT(*) OVER()");
 
         final var queryParams = new HashMap<String, Object>();
         queryParams.put("projectId", project.getId());
@@ -217,7 +232,18 @@ final class ComponentQueryManager extends QueryManager implements IQueryManager
                        AND "B0"."DIRECT_DEPENDENCIES" @> JSONB_BUILD_ARRAY(JSONB_BUILD_OBJECT('uuid', "A0"."UUID"))
                     """;
         }
-        if (orderBy == null) {
+        if (cursor != null) {
+            queryString += """
+                    AND "A0"."ID" > :cursorKey
+                    """;
+            queryParams.put("cursorKey", cursor.key());
+        }
+        if (isCursorBased) {
+            queryString +=
+                    """
+                        ORDER BY "id"
+                    """;
+        } else if (orderBy == null) {
             queryString +=
                     """
                         ORDER BY "name",
@@ -289,7 +315,12 @@ final class ComponentQueryManager extends QueryManager implements IQueryManager
             }
         }
 
-        if (pagination != null && pagination.isPaginated()) {
+        if (isCursorBased) {
+            queryString +=
+                    """
+                        LIMIT %d;
+                    """.formatted(pagination.getLimit());
+        } else if (pagination != null && pagination.isPaginated()) {
             queryString +=
                     """
                         OFFSET %d
@@ -304,7 +335,9 @@ final class ComponentQueryManager extends QueryManager implements IQueryManager
         try {
             for (final var componentProjection : query.executeResultList(ComponentProjection.class)) {
                 components.add(mapToComponent(componentProjection));
-                totalCount = componentProjection.totalCount;
+                if (componentProjection.totalCount != null) {
+                    totalCount = componentProjection.totalCount;
+                }
             }
         } finally {
             query.closeAll();
@@ -21,6 +21,7 @@ package org.dependencytrack.persistence;
 import alpine.persistence.PaginatedResult;
 import alpine.resources.AlpineRequest;
 import org.apache.commons.lang3.StringUtils;
+import org.dependencytrack.exception.InvalidPaginationCursorException;
 import org.dependencytrack.model.AffectedVersionAttribution;
 import org.dependencytrack.model.Analysis;
 import org.dependencytrack.model.AnalyzerIdentity;
@@ -33,6 +34,7 @@ import org.dependencytrack.model.VulnIdAndSource;
 import org.dependencytrack.model.Vulnerability;
 import org.dependencytrack.model.VulnerabilityAlias;
 import org.dependencytrack.model.VulnerableSoftware;
+import org.dependencytrack.persistence.jdbi.PaginationCursor;
 import org.dependencytrack.persistence.jdbi.VulnerabilityDao;
 import org.dependencytrack.persistence.jdbi.VulnerabilityDao.AffectedProjectCountRow;
 import org.jdbi.v3.core.Handle;
@@ -309,7 +311,9 @@ final class VulnerabilityQueryManager extends QueryManager implements IQueryMana
         if (orderBy == null) {
             query.setOrdering("id asc");
         }
-        if (filter != null) {
+        if (pagination != null && pagination.isCursorBased()) {
+            result = executeWithCursor(query);
+        } else if (filter != null) {
             query.setFilter("vulnId.toLowerCase().matches(:vulnId)");
             final String filterString = ".*" + filter.toLowerCase() + ".*";
             result = execute(query, filterString);
@@ -336,6 +340,34 @@ final class VulnerabilityQueryManager extends QueryManager implements IQueryMana
         return result;
     }
 
+    private PaginatedResult executeWithCursor(final Query<Vulnerability> query) {
+        if (orderBy != null) {
+            // The cursor only captures the ID of the last vulnerability.
+            throw new InvalidPaginationCursorException(
+                    "Cursor pagination does not support ordering by %s".formatted(orderBy));
+        }
+
+        final var filterParts = new ArrayList<String>(2);
+        final var params = new HashMap<String, Object>(2);
+        if (filter != null) {
+            filterParts.add("vulnId.toLowerCase().matches(:vulnId)");
+            params.put("vulnId", ".*" + filter.toLowerCase() + ".*");
+        }
+        if (pagination.getCursor() == null) {
+            if (!filterParts.isEmpty()) {
+                query.setFilter(String.join(" && ", filterParts));
+            }
+            return execute(query, params);
+        }
+
+        filterParts.add("id > :cursorKey");
+        params.put("cursorKey", PaginationCursor.decode(pagination.getCursor()).key());
+        query.setFilter(String.join(" && ", filterParts));
+
+        // Counting is skipped when continuing from a cursor.
+        return new PaginatedResult().objects(executeAndCloseWithMap(decorate(query), params));
+    }
+
     /**
      * Returns a List of Vulnerability for the specified Component and excludes suppressed vulnerabilities.
      * @param component the Component to retrieve vulnerabilities of
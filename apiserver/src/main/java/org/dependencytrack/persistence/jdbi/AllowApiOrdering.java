@@ -55,6 +55,20 @@ public @interface AllowApiOrdering {
      */
     String alwaysBy() default "";
 
+    /**
+     * Whether cursor-based pagination is supported.
+     * <p>
+     * The column provided to {@link #alwaysBy()} is used as key for the cursor.
+     * It must be unique, not nullable, and of a numeric type. Its {@link Column#queryName()}
+     * must be usable in a {@code WHERE} clause, i.e. it must not refer to an alias.
+     * <p>
+     * Queries must include the {@value JdbiAttributes#ATTRIBUTE_API_CURSOR_CONDITION} attribute
+     * in their {@code WHERE} clause, and should skip expensive total counts when it is present.
+     *
+     * @since 5.6.0
+     */
+    boolean allowCursor() default false;
+
     @Documented
     @Retention(RetentionPolicy.RUNTIME)
     @Target(ElementType.METHOD)
@@ -87,6 +101,7 @@ public @interface AllowApiOrdering {
 
             final var config = configRegistry.get(ApiRequestConfig.class);
             config.setOrderingAlwaysBy(allowOrderingAnnotation.alwaysBy());
+            config.setCursorPaginationAllowed(allowOrderingAnnotation.allowCursor());
             config.setOrderingAllowedColumns(Arrays.stream(allowOrderingAnnotation.by())
                     .map(column -> new ApiRequestConfig.OrderingColumn(
                             column.name(),
@@ -25,12 +25,15 @@ import org.dependencytrack.model.AnalysisResponse;
 import org.dependencytrack.model.AnalysisState;
 import org.dependencytrack.util.AnalysisCommentFormatter;
 import org.jdbi.v3.sqlobject.config.RegisterBeanMapper;
+import org.jdbi.v3.sqlobject.config.RegisterConstructorMapper;
 import org.jdbi.v3.sqlobject.customizer.Bind;
 import org.jdbi.v3.sqlobject.customizer.DefineNamedBindings;
 import org.jdbi.v3.sqlobject.statement.SqlBatch;
 import org.jdbi.v3.sqlobject.statement.SqlQuery;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.UUID;
 
 import static org.dependencytrack.util.AnalysisCommentFormatter.formatComment;
 
@@ -84,6 +87,35 @@ public interface AnalysisDao {
     @RegisterBeanMapper(Analysis.class)
     Analysis getAnalysis(@Bind long componentId, @Bind long vulnId);
 
+    record ComponentVulnAnalysisRow(
+            UUID componentUuid,
+            UUID vulnUuid,
+            AnalysisState state,
+            AnalysisJustification justification,
+            AnalysisResponse response,
+            String details
+    ) {
+    }
+
+    @SqlQuery("""
+            SELECT "C"."UUID" AS "componentUuid"
+                 , "V"."UUID" AS "vulnUuid"
+                 , "A"."STATE"
+                 , "A"."JUSTIFICATION"
+                 , "A"."RESPONSE"
+                 , "A"."DETAILS"
+              FROM "ANALYSIS" AS "A"
+             INNER JOIN "COMPONENT" AS "C"
+                ON "C"."ID" = "A"."COMPONENT_ID"
+             INNER JOIN "VULNERABILITY" AS "V"
+                ON "V"."ID" = "A"."VULNERABILITY_ID"
+             WHERE "A"."PROJECT_ID" = :projectId
+               AND "C"."UUID" = ANY(:componentUuids)
+               AND "V"."UUID" = ANY(:vulnUuids)
+            """)
+    @RegisterConstructorMapper(ComponentVulnAnalysisRow.class)
+    List<ComponentVulnAnalysisRow> getAnalyses(@Bind long projectId, @Bind Collection<UUID> componentUuids, @Bind Collection<UUID> vulnUuids);
+
     @SqlQuery("""
             INSERT INTO "ANALYSIS"
                ("PROJECT_ID", "COMPONENT_ID", "VULNERABILITY_ID", "STATE", "JUSTIFICATION", "RESPONSE", "DETAILS", "SUPPRESSED")
@@ -30,6 +30,7 @@ public class ApiRequestConfig implements JdbiConfig<ApiRequestConfig> {
 
     private Set<OrderingColumn> orderingAllowedColumns;
     private String orderingAlwaysBy = "";
+    private boolean cursorPaginationAllowed;
     private String projectIdColumn = "\"PROJECT\".\"ID\"";
 
     @SuppressWarnings("unused")
@@ -42,6 +43,7 @@ public class ApiRequestConfig implements JdbiConfig<ApiRequestConfig> {
                 ? Set.copyOf(that.orderingAllowedColumns)
                 : that.orderingAllowedColumns;
         this.orderingAlwaysBy = that.orderingAlwaysBy;
+        this.cursorPaginationAllowed = that.cursorPaginationAllowed;
         this.projectIdColumn = that.projectIdColumn;
     }
 
@@ -72,6 +74,20 @@ public class ApiRequestConfig implements JdbiConfig<ApiRequestConfig> {
         this.orderingAlwaysBy = orderingAlwaysBy;
     }
 
+    /**
+     * @since 5.6.0
+     */
+    boolean cursorPaginationAllowed() {
+        return cursorPaginationAllowed;
+    }
+
+    /**
+     * @since 5.6.0
+     */
+    public void setCursorPaginationAllowed(final boolean cursorPaginationAllowed) {
+        this.cursorPaginationAllowed = cursorPaginationAllowed;
+    }
+
     String projectAclProjectIdColumn() {
         return projectIdColumn;
     }
@@ -19,8 +19,10 @@
 package org.dependencytrack.persistence.jdbi;
 
 import alpine.persistence.OrderDirection;
+import alpine.persistence.Pagination;
 import alpine.resources.AlpineRequest;
 import org.dependencytrack.auth.Permissions;
+import org.dependencytrack.exception.InvalidPaginationCursorException;
 import org.dependencytrack.persistence.Ordering;
 import org.dependencytrack.persistence.jdbi.ApiRequestConfig.OrderingColumn;
 import org.jdbi.v3.core.qualifier.QualifiedType;
@@ -34,6 +36,7 @@ import java.util.Map;
 import java.util.Set;
 
 import static org.dependencytrack.model.ConfigPropertyConstants.ACCESS_MANAGEMENT_ACL_ENABLED;
+import static org.dependencytrack.persistence.jdbi.JdbiAttributes.ATTRIBUTE_API_CURSOR_CONDITION;
 import static org.dependencytrack.persistence.jdbi.JdbiAttributes.ATTRIBUTE_API_FILTER_PARAMETER;
 import static org.dependencytrack.persistence.jdbi.JdbiAttributes.ATTRIBUTE_API_OFFSET_LIMIT_CLAUSE;
 import static org.dependencytrack.persistence.jdbi.JdbiAttributes.ATTRIBUTE_API_ORDER_BY_CLAUSE;
@@ -47,6 +50,7 @@ import static org.jdbi.v3.core.generic.GenericTypes.parameterizeClass;
  * <ul>
  *     <li>filtering: {@value JdbiAttributes#ATTRIBUTE_API_FILTER_PARAMETER}</li>
  *     <li>pagination: {@value JdbiAttributes#ATTRIBUTE_API_OFFSET_LIMIT_CLAUSE}</li>
+ *     <li>cursor-based pagination: {@value JdbiAttributes#ATTRIBUTE_API_CURSOR_CONDITION}</li>
  *     <li>ordering: {@value JdbiAttributes#ATTRIBUTE_API_ORDER_BY_CLAUSE}</li>
  *     <li>portfolio access control: {@value JdbiAttributes#ATTRIBUTE_API_PROJECT_ACL_CONDITION}</li>
  * </ul>
@@ -164,12 +168,55 @@ class ApiRequestStatementCustomizer implements StatementCustomizer {
         if (apiRequest != null
             && apiRequest.getPagination() != null
             && apiRequest.getPagination().isPaginated()) {
+            if (apiRequest.getPagination().isCursorBased()
+                && ctx.getConfig(ApiRequestConfig.class).cursorPaginationAllowed()) {
+                defineCursorPagination(ctx);
+                return;
+            }
+
+            // Queries without support for cursors will simply return the first page.
             ctx.define(ATTRIBUTE_API_OFFSET_LIMIT_CLAUSE, "OFFSET :paginationOffset FETCH NEXT :paginationLimit ROWS ONLY");
             ctx.getBinding().addNamed("paginationOffset", apiRequest.getPagination().getOffset());
             ctx.getBinding().addNamed("paginationLimit", apiRequest.getPagination().getLimit());
         }
     }
 
+    private void defineCursorPagination(final StatementContext ctx) {
+        final Pagination pagination = apiRequest.getPagination();
+        final var config = ctx.getConfig(ApiRequestConfig.class);
+
+        if (config.orderingAlwaysBy().isBlank()) {
+            throw new IllegalArgumentException("Cursor pagination requires alwaysBy to be defined");
+        }
+
+        // Validity of alwaysBy was already asserted when defining the ordering.
+        final String[] alwaysByParts = config.orderingAlwaysBy().split("\\s");
+        final OrderingColumn keyColumn = config.orderingAllowedColumn(alwaysByParts[0]).orElseThrow();
+
+        // The cursor only captures the key of the last row. Ordering by any other
+        // column would require the cursor to capture that column's value as well.
+        if (apiRequest.getOrderBy() != null && !apiRequest.getOrderBy().equals(keyColumn.name())) {
+            throw new InvalidPaginationCursorException(
+                    "Cursor pagination does not support ordering by %s; Ordering is only possible by %s"
+                            .formatted(apiRequest.getOrderBy(), keyColumn.name()));
+        }
+
+        if (pagination.getCursor() != null) {
+            final PaginationCursor cursor = PaginationCursor.decode(pagination.getCursor());
+            final boolean isDescending = apiRequest.getOrderBy() != null
+                    ? apiRequest.getOrderDirection() == OrderDirection.DESCENDING
+                    : alwaysByParts.length == 2 && "desc".equalsIgnoreCase(alwaysByParts[1]);
+
+            ctx.define(ATTRIBUTE_API_CURSOR_CONDITION, "%s %s :paginationCursorKey".formatted(
+                    keyColumn.queryName() != null ? keyColumn.queryName() : "\"" + keyColumn.name() + "\"",
+                    isDescending ? "<" : ">"));
+            ctx.getBinding().addNamed("paginationCursorKey", cursor.key());
+        }
+
+        ctx.define(ATTRIBUTE_API_OFFSET_LIMIT_CLAUSE, "FETCH NEXT :paginationLimit ROWS ONLY");
+        ctx.getBinding().addNamed("paginationLimit", pagination.getLimit());
+    }
+
     private void defineProjectAclCondition(final StatementContext ctx) throws SQLException {
         if (apiRequest == null
             || apiRequest.getPrincipal() == null
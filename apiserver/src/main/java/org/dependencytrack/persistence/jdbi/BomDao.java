@@ -0,0 +1,113 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence.jdbi;
+
+import org.jdbi.v3.sqlobject.SqlObject;
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+
+import java.util.UUID;
+
+/**
+ * @since 5.6.0
+ */
+public interface BomDao extends SqlObject {
+
+    /**
+     * Record an import of a BOM for a project, if the BOM most recently imported
+     * for that project has the same content digest.
+     * <p>
+     * Metadata of the new BOM record is copied from the most recent one,
+     * and the project's last BOM import timestamp is updated.
+     * <p>
+     * The new BOM record is identified by {@code uploadToken}. An upload for which
+     * an import was already recorded is not recorded again.
+     *
+     * @param projectId     ID of the project
+     * @param contentDigest Hex-encoded SHA-256 digest of the BOM
+     * @param uploadToken   Token of the BOM upload
+     * @return The CycloneDX spec version of the BOM (empty if unknown) when the import was recorded,
+     * otherwise {@code null}
+     * @see #getRecordedImportSpecVersion(long, UUID)
+     */
+    @SqlQuery("""
+            WITH "CTE_LATEST" AS (
+              SELECT *
+                FROM "BOM"
+               WHERE "PROJECT_ID" = :projectId
+               ORDER BY "IMPORTED" DESC
+               LIMIT 1
+            ),
+            "CTE_INSERTED" AS (
+              INSERT INTO "BOM" ("UUID", "PROJECT_ID", "IMPORTED", "GENERATED", "BOM_FORMAT", "SPEC_VERSION", "BOM_VERSION", "SERIAL_NUMBER", "SHA256")
+              SELECT :uploadToken
+                   , "PROJECT_ID"
+                   , NOW()
+                   , "GENERATED"
+                   , "BOM_FORMAT"
+                   , "SPEC_VERSION"
+                   , "BOM_VERSION"
+                   , "SERIAL_NUMBER"
+                   , "SHA256"
+                FROM "CTE_LATEST"
+               WHERE "SHA256" = :contentDigest
+              ON CONFLICT ("UUID") DO NOTHING
+              RETURNING "PROJECT_ID"
+                      , "IMPORTED"
+                      , "SPEC_VERSION"
+            )
+            UPDATE "PROJECT"
+               SET "LAST_BOM_IMPORTED" = "CTE_INSERTED"."IMPORTED"
+              FROM "CTE_INSERTED"
+             WHERE "PROJECT"."ID" = "CTE_INSERTED"."PROJECT_ID"
+            RETURNING COALESCE("CTE_INSERTED"."SPEC_VERSION", '')
+            """)
+    String recordImportIfUnchanged(@Bind long projectId, @Bind String contentDigest, @Bind UUID uploadToken);
+
+    /**
+     * Retrieve the CycloneDX spec version of an import previously recorded
+     * by {@link #recordImportIfUnchanged(long, String, UUID)}.
+     *
+     * @param projectId   ID of the project
+     * @param uploadToken Token of the BOM upload
+     * @return The CycloneDX spec version of the BOM (empty if unknown) when an import
+     * was recorded for {@code uploadToken}, otherwise {@code null}
+     */
+    @SqlQuery("""
+            SELECT COALESCE("SPEC_VERSION", '')
+              FROM "BOM"
+             WHERE "PROJECT_ID" = :projectId
+               AND "UUID" = :uploadToken
+            """)
+    String getRecordedImportSpecVersion(@Bind long projectId, @Bind UUID uploadToken);
+
+    /**
+     * Try to acquire a transaction-level advisory lock, without waiting.
+     *
+     * @param lockName Name of the lock
+     * @return {@code true} when the lock was acquired, otherwise {@code false}
+     */
+    default boolean tryAcquireAdvisoryLock(final String lockName) {
+        return tryAcquireAdvisoryLock(lockName.hashCode());
+    }
+
+    @SqlQuery("SELECT PG_TRY_ADVISORY_XACT_LOCK(:lockId)")
+    boolean tryAcquireAdvisoryLock(@Bind long lockId);
+
+}
@@ -0,0 +1,190 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence.jdbi;
+
+import org.dependencytrack.proto.storage.v1alpha1.FileMetadata;
+import org.jdbi.v3.core.mapper.RowMapper;
+import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.sqlobject.SqlObject;
+import org.jdbi.v3.sqlobject.config.RegisterRowMapper;
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.jdbi.v3.sqlobject.statement.SqlUpdate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * @since 5.6.0
+ */
+public interface BomUploadFileDao extends SqlObject {
+
+    /**
+     * Acquire a transaction-level lock for the file with the given content digest.
+     * <p>
+     * The lock serializes storing and deleting of content-addressed files,
+     * which happen outside the database and can thus not be protected by row locks alone.
+     */
+    default void lock(final String contentDigest) {
+        lock("%s-%s".formatted(BomUploadFileDao.class.getName(), contentDigest).hashCode());
+    }
+
+    @SqlQuery("""
+            WITH "CTE_LOCK" AS (
+              SELECT PG_ADVISORY_XACT_LOCK(:lockId)
+            )
+            SELECT 1
+              FROM "CTE_LOCK"
+            """)
+    int lock(@Bind long lockId);
+
+    @SqlUpdate("""
+            INSERT INTO "BOM_UPLOAD_FILE" ("CONTENT_SHA256", "LOCATION", "MEDIA_TYPE", "STORED_SHA256")
+            VALUES (:contentDigest, :location, :mediaType, :storedDigest)
+            """)
+    void create(
+            @Bind String contentDigest,
+            @Bind String location,
+            @Bind String mediaType,
+            @Bind String storedDigest);
+
+    default void create(final String contentDigest, final FileMetadata fileMetadata) {
+        create(contentDigest,
+                fileMetadata.getLocation(),
+                fileMetadata.getMediaType(),
+                fileMetadata.getSha256Digest());
+    }
+
+    @SqlQuery("""
+            SELECT "LOCATION"
+                 , "MEDIA_TYPE"
+                 , "STORED_SHA256"
+              FROM "BOM_UPLOAD_FILE"
+             WHERE "CONTENT_SHA256" = :contentDigest
+            """)
+    @RegisterRowMapper(FileMetadataRowMapper.class)
+    FileMetadata get(@Bind String contentDigest);
+
+    /**
+     * Add a reference of the upload identified by {@code token} to the file with the given content digest.
+     * <p>
+     * Adding the same reference more than once has no effect.
+     */
+    @SqlUpdate("""
+            WITH "CTE_FILE" AS (
+              UPDATE "BOM_UPLOAD_FILE"
+                 SET "UPDATED_AT" = NOW()
+               WHERE "CONTENT_SHA256" = :contentDigest
+              RETURNING "CONTENT_SHA256"
+            )
+            INSERT INTO "BOM_UPLOAD_FILE_REF" ("CONTENT_SHA256", "TOKEN")
+            SELECT "CONTENT_SHA256"
+                 , :token
+              FROM "CTE_FILE"
+            ON CONFLICT ("CONTENT_SHA256", "TOKEN") DO NOTHING
+            """)
+    void addReference(@Bind String contentDigest, @Bind UUID token);
+
+    /**
+     * Remove the reference of the upload identified by {@code token} to the file with the given content digest.
+     *
+     * @return {@code true} when the reference existed, otherwise {@code false}
+     */
+    @SqlUpdate("""
+            DELETE
+              FROM "BOM_UPLOAD_FILE_REF"
+             WHERE "CONTENT_SHA256" = :contentDigest
+               AND "TOKEN" = :token
+            """)
+    boolean removeReference(@Bind String contentDigest, @Bind UUID token);
+
+    @SqlQuery("""
+            SELECT EXISTS(
+              SELECT 1
+                FROM "BOM_UPLOAD_FILE_REF"
+               WHERE "CONTENT_SHA256" = :contentDigest
+            )
+            """)
+    boolean hasReferences(@Bind String contentDigest);
+
+    @SqlQuery("""
+            DELETE
+              FROM "BOM_UPLOAD_FILE"
+             WHERE "CONTENT_SHA256" = :contentDigest
+            RETURNING "LOCATION"
+                    , "MEDIA_TYPE"
+                    , "STORED_SHA256"
+            """)
+    @RegisterRowMapper(FileMetadataRowMapper.class)
+    FileMetadata delete(@Bind String contentDigest);
+
+    /**
+     * Delete a file record if it has not been referenced for longer than {@code retentionDuration},
+     * e.g. because the upload referencing it was never processed.
+     */
+    @SqlQuery("""
+            DELETE
+              FROM "BOM_UPLOAD_FILE"
+             WHERE "CONTENT_SHA256" = :contentDigest
+               AND "UPDATED_AT" < NOW() - :retentionDuration
+            RETURNING "LOCATION"
+                    , "MEDIA_TYPE"
+                    , "STORED_SHA256"
+            """)
+    @RegisterRowMapper(FileMetadataRowMapper.class)
+    FileMetadata deleteForRetention(@Bind String contentDigest, @Bind Duration retentionDuration);
+
+    @SqlQuery("""
+            SELECT "CONTENT_SHA256"
+              FROM "BOM_UPLOAD_FILE"
+             WHERE "UPDATED_AT" < NOW() - :retentionDuration
+            """)
+    List<String> getContentDigestsForRetention(@Bind Duration retentionDuration);
+
+    @SqlQuery("""
+            SELECT EXISTS(
+              SELECT 1
+                FROM "BOM_UPLOAD_FILE"
+               WHERE "CONTENT_SHA256" = :contentDigest
+                 AND "LOCATION" = :location
+            )
+            """)
+    boolean exists(@Bind String contentDigest, @Bind String location);
+
+    class FileMetadataRowMapper implements RowMapper<FileMetadata> {
+
+        @Override
+        public FileMetadata map(final ResultSet rs, final StatementContext ctx) throws SQLException {
+            final FileMetadata.Builder builder = FileMetadata.newBuilder()
+                    .setLocation(rs.getString("LOCATION"))
+                    .setSha256Digest(rs.getString("STORED_SHA256"));
+            final String mediaType = rs.getString("MEDIA_TYPE");
+            if (mediaType != null) {
+                builder.setMediaType(mediaType);
+            }
+
+            return builder.build();
+        }
+
+    }
+
+}
@@ -18,9 +18,18 @@
  */
 package org.dependencytrack.persistence.jdbi;
 
+import alpine.model.IConfigProperty;
+import org.dependencytrack.model.Component;
 import org.dependencytrack.model.ComponentOccurrence;
+import org.dependencytrack.persistence.jdbi.mapping.ComponentRowMapper;
+import org.jdbi.v3.core.mapper.reflect.ColumnName;
+import org.jdbi.v3.core.result.ResultIterable;
 import org.jdbi.v3.sqlobject.config.RegisterBeanMapper;
+import org.jdbi.v3.sqlobject.config.RegisterConstructorMapper;
+import org.jdbi.v3.sqlobject.config.RegisterRowMapper;
 import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.customizer.FetchSize;
+import org.jdbi.v3.sqlobject.statement.SqlBatch;
 import org.jdbi.v3.sqlobject.statement.SqlQuery;
 import org.jdbi.v3.sqlobject.statement.SqlUpdate;
 
@@ -72,4 +81,183 @@ public interface ComponentDao {
             SELECT "ID" FROM "COMPONENT" WHERE "UUID" = :componentUuid
             """)
     Long getComponentId(@Bind UUID componentUuid);
+
+    /**
+     * @since 5.6.0
+     */
+    record ComponentPropertyRow(
+            long componentId,
+            String groupName,
+            String propertyName,
+            String propertyValue,
+            IConfigProperty.PropertyType propertyType
+    ) {
+    }
+
+    /**
+     * @since 5.6.0
+     */
+    record ComponentOccurrenceRow(
+            long componentId,
+            String location,
+            Integer line,
+            Integer offset,
+            String symbol
+    ) {
+    }
+
+    /**
+     * @since 5.6.0
+     */
+    record DirectDependenciesRow(UUID uuid, String directDependencies) {
+    }
+
+    /**
+     * Lazily retrieve all {@link Component}s of a project, as required for BOM exports.
+     * <p>
+     * Properties and occurrences are not included, and must be retrieved separately
+     * via {@link #getPropertiesOfComponents(List)} and {@link #getOccurrencesOfComponents(List)}.
+     *
+     * @param projectId      ID of the project
+     * @param onlyVulnerable Whether to only include components that have at least one vulnerability
+     * @return A {@link ResultIterable} of {@link Component}s, ordered by name
+     * @since 5.6.0
+     */
+    @SqlQuery("""
+            SELECT "C"."ID" AS "id"
+                 , "C"."UUID" AS "uuid"
+                 , "C"."GROUP" AS "group"
+                 , "C"."NAME" AS "name"
+                 , "C"."VERSION" AS "version"
+                 , "C"."CLASSIFIER" AS "classifier"
+                 , "C"."DESCRIPTION" AS "description"
+                 , "C"."COPYRIGHT" AS "copyright"
+                 , "C"."CPE" AS "cpe"
+                 , "C"."PURL" AS "purl"
+                 , "C"."SWIDTAGID" AS "swidTagId"
+                 , "C"."AUTHORS" AS "authors"
+                 , "C"."SUPPLIER" AS "supplier"
+                 , "C"."MD5" AS "md5"
+                 , "C"."SHA1" AS "sha1"
+                 , "C"."SHA_256" AS "sha256"
+                 , "C"."SHA_512" AS "sha512"
+                 , "C"."SHA3_256" AS "sha3_256"
+                 , "C"."SHA3_512" AS "sha3_512"
+                 , "C"."LICENSE" AS "license"
+                 , "C"."LICENSE_EXPRESSION" AS "licenseExpression"
+                 , "C"."LICENSE_URL" AS "licenseUrl"
+                 , "C"."EXTERNAL_REFERENCES" AS "externalReferences"
+                 , "L"."LICENSEID" AS "resolvedLicenseId"
+                 , "L"."NAME" AS "resolvedLicenseName"
+                 , "L"."ISCUSTOMLICENSE" AS "resolvedLicenseIsCustom"
+              FROM "COMPONENT" AS "C"
+              LEFT JOIN "LICENSE" AS "L"
+                ON "L"."ID" = "C"."LICENSE_ID"
+             WHERE "C"."PROJECT_ID" = :projectId
+               AND (NOT :onlyVulnerable OR EXISTS(
+                 SELECT 1
+                   FROM "COMPONENTS_VULNERABILITIES" AS "CV"
+                  WHERE "CV"."COMPONENT_ID" = "C"."ID"))
+             ORDER BY "C"."NAME", "C"."ID"
+            """)
+    @FetchSize(1000)
+    @RegisterRowMapper(ComponentRowMapper.class)
+    ResultIterable<Component> streamComponentsForExport(@Bind long projectId, @Bind boolean onlyVulnerable);
+
+    /**
+     * Lazily retrieve the direct dependencies of all components of a project,
+     * in the same order as {@link #streamComponentsForExport(long, boolean)}.
+     *
+     * @since 5.6.0
+     */
+    @SqlQuery("""
+            SELECT "C"."UUID" AS "uuid"
+                 , "C"."DIRECT_DEPENDENCIES" AS "directDependencies"
+              FROM "COMPONENT" AS "C"
+             WHERE "C"."PROJECT_ID" = :projectId
+               AND (NOT :onlyVulnerable OR EXISTS(
+                 SELECT 1
+                   FROM "COMPONENTS_VULNERABILITIES" AS "CV"
+                  WHERE "CV"."COMPONENT_ID" = "C"."ID"))
+             ORDER BY "C"."NAME", "C"."ID"
+            """)
+    @FetchSize(1000)
+    @RegisterConstructorMapper(DirectDependenciesRow.class)
+    ResultIterable<DirectDependenciesRow> streamDirectDependencies(@Bind long projectId, @Bind boolean onlyVulnerable);
+
+    /**
+     * @since 5.6.0
+     */
+    @SqlQuery("""
+            SELECT "COMPONENT_ID" AS "componentId"
+                 , "GROUPNAME" AS "groupName"
+                 , "PROPERTYNAME" AS "propertyName"
+                 , "PROPERTYVALUE" AS "propertyValue"
+                 , "PROPERTYTYPE" AS "propertyType"
+              FROM "COMPONENT_PROPERTY"
+             WHERE "COMPONENT_ID" = ANY(:componentIds)
+             ORDER BY "GROUPNAME", "PROPERTYNAME", "ID"
+            """)
+    @RegisterConstructorMapper(ComponentPropertyRow.class)
+    List<ComponentPropertyRow> getPropertiesOfComponents(@Bind List<Long> componentIds);
+
+    /**
+     * @since 5.6.0
+     */
+    @SqlQuery("""
+            SELECT "COMPONENT_ID" AS "componentId"
+                 , "LOCATION" AS "location"
+                 , "LINE" AS "line"
+                 , "OFFSET" AS "offset"
+                 , "SYMBOL" AS "symbol"
+              FROM "COMPONENT_OCCURRENCE"
+             WHERE "COMPONENT_ID" = ANY(:componentIds)
+             ORDER BY "LOCATION", "ID"
+            """)
+    @RegisterConstructorMapper(ComponentOccurrenceRow.class)
+    List<ComponentOccurrenceRow> getOccurrencesOfComponents(@Bind List<Long> componentIds);
+
+    /**
+     * @since 5.6.0
+     */
+    record ComponentPurlRow(@ColumnName("ID") long id, @ColumnName("PURL") String purl) {
+    }
+
+    /**
+     * Get components whose repository coordinates have not been computed yet.
+     * <p>
+     * Rows locked by other instances are skipped, such that the work
+     * can be distributed when multiple instances start concurrently.
+     *
+     * @since 5.6.0
+     */
+    @SqlQuery("""
+            SELECT "ID"
+                 , "PURL"
+              FROM "COMPONENT"
+             WHERE "PURL" IS NOT NULL
+               AND "PURL_REPOSITORY_TYPE" IS NULL
+             ORDER BY "ID"
+             LIMIT :limit
+               FOR UPDATE SKIP LOCKED
+            """)
+    @RegisterConstructorMapper(ComponentPurlRow.class)
+    List<ComponentPurlRow> getComponentsWithoutPurlRepositoryCoordinates(@Bind int limit);
+
+    /**
+     * @since 5.6.0
+     */
+    @SqlBatch("""
+            UPDATE "COMPONENT"
+               SET "PURL_REPOSITORY_TYPE" = :repositoryType
+                 , "PURL_NAMESPACE" = :namespace
+                 , "PURL_NAME" = :name
+             WHERE "ID" = :id
+            """)
+    void updatePurlRepositoryCoordinates(
+            @Bind("id") List<Long> ids,
+            @Bind("repositoryType") List<String> repositoryTypes,
+            @Bind("namespace") List<String> namespaces,
+            @Bind("name") List<String> names);
+
 }
@@ -0,0 +1,144 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence.jdbi;
+
+import org.jdbi.v3.core.mapper.reflect.ColumnName;
+import org.jdbi.v3.sqlobject.SqlObject;
+import org.jdbi.v3.sqlobject.config.RegisterConstructorMapper;
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.statement.GetGeneratedKeys;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.jdbi.v3.sqlobject.statement.SqlUpdate;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * @since 5.6.0
+ */
+public interface EventQueueDao extends SqlObject {
+
+    record QueuedEvent(@ColumnName("ID") long id,
+                       @ColumnName("EVENT_TYPE") String eventType,
+                       @ColumnName("PAYLOAD") String payload,
+                       @ColumnName("ATTEMPTS") int attempts) {
+    }
+
+    @SqlUpdate("""
+            INSERT INTO "EVENT_QUEUE" ("EVENT_TYPE", "PAYLOAD")
+            VALUES (:eventType, :payload)
+            """)
+    @GetGeneratedKeys("ID")
+    long enqueue(@Bind String eventType, @Bind String payload);
+
+    /**
+     * Claim up to {@code limit} due events of the given types.
+     * <p>
+     * Rows locked by concurrent pollers are skipped, such that multiple instances
+     * can poll the queue concurrently without claiming the same events.
+     * Claimed events are leased to {@code instanceId} for {@code leaseDuration}.
+     * When the lease expires before the event has been completed, e.g. because
+     * the instance crashed, the event becomes eligible for claiming again.
+     */
+    @SqlQuery("""
+            WITH "CTE_CLAIMABLE" AS (
+              SELECT "ID"
+                FROM "EVENT_QUEUE"
+               WHERE "EVENT_TYPE" = ANY(:eventTypes)
+                 AND "FAILED_AT" IS NULL
+                 AND "NEXT_ATTEMPT_AT" <= NOW()
+                 AND ("LOCKED_UNTIL" IS NULL OR "LOCKED_UNTIL" < NOW())
+               ORDER BY "NEXT_ATTEMPT_AT", "ID"
+               LIMIT :limit
+                 FOR UPDATE SKIP LOCKED
+            )
+            UPDATE "EVENT_QUEUE"
+               SET "LOCKED_BY" = :instanceId
+                 , "LOCKED_UNTIL" = NOW() + :leaseDuration
+                 , "ATTEMPTS" = "ATTEMPTS" + 1
+              FROM "CTE_CLAIMABLE"
+             WHERE "EVENT_QUEUE"."ID" = "CTE_CLAIMABLE"."ID"
+            RETURNING "EVENT_QUEUE"."ID"
+                    , "EVENT_QUEUE"."EVENT_TYPE"
+                    , "EVENT_QUEUE"."PAYLOAD"
+                    , "EVENT_QUEUE"."ATTEMPTS"
+            """)
+    @RegisterConstructorMapper(QueuedEvent.class)
+    List<QueuedEvent> claim(
+            @Bind List<String> eventTypes,
+            @Bind String instanceId,
+            @Bind Duration leaseDuration,
+            @Bind int limit);
+
+    @SqlUpdate("""
+            UPDATE "EVENT_QUEUE"
+               SET "LOCKED_UNTIL" = NOW() + :leaseDuration
+             WHERE "ID" = ANY(:ids)
+               AND "LOCKED_BY" = :instanceId
+            """)
+    int extendLeases(@Bind List<Long> ids, @Bind String instanceId, @Bind Duration leaseDuration);
+
+    @SqlUpdate("""
+            DELETE
+              FROM "EVENT_QUEUE"
+             WHERE "ID" = :id
+               AND "LOCKED_BY" = :instanceId
+            """)
+    boolean complete(@Bind long id, @Bind String instanceId);
+
+    @SqlUpdate("""
+            UPDATE "EVENT_QUEUE"
+               SET "LOCKED_BY" = NULL
+                 , "LOCKED_UNTIL" = NULL
+                 , "NEXT_ATTEMPT_AT" = NOW() + :retryDelay
+                 , "LAST_ERROR" = :error
+             WHERE "ID" = :id
+               AND "LOCKED_BY" = :instanceId
+            """)
+    boolean scheduleRetry(@Bind long id, @Bind String instanceId, @Bind Duration retryDelay, @Bind String error);
+
+    @SqlUpdate("""
+            UPDATE "EVENT_QUEUE"
+               SET "LOCKED_BY" = NULL
+                 , "LOCKED_UNTIL" = NULL
+                 , "FAILED_AT" = NOW()
+                 , "LAST_ERROR" = :error
+             WHERE "ID" = :id
+               AND "LOCKED_BY" = :instanceId
+            """)
+    boolean fail(@Bind long id, @Bind String instanceId, @Bind String error);
+
+    @SqlUpdate("""
+            UPDATE "EVENT_QUEUE"
+               SET "LOCKED_BY" = NULL
+                 , "LOCKED_UNTIL" = NULL
+                 , "ATTEMPTS" = GREATEST("ATTEMPTS" - 1, 0)
+             WHERE "ID" = ANY(:ids)
+               AND "LOCKED_BY" = :instanceId
+            """)
+    int release(@Bind List<Long> ids, @Bind String instanceId);
+
+    @SqlUpdate("""
+            DELETE
+              FROM "EVENT_QUEUE"
+             WHERE "FAILED_AT" < NOW() - :retentionDuration
+            """)
+    int deleteAllFailedForRetention(@Bind Duration retentionDuration);
+
+}
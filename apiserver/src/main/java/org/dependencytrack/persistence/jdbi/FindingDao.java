@@ -25,6 +25,7 @@ import org.dependencytrack.model.Finding;
 import org.dependencytrack.model.Severity;
 import org.dependencytrack.model.Vulnerability;
 import org.dependencytrack.model.VulnerabilityAlias;
+import org.jdbi.v3.core.result.ResultIterable;
 import org.jdbi.v3.json.Json;
 import org.jdbi.v3.sqlobject.config.RegisterConstructorMapper;
 import org.jdbi.v3.sqlobject.customizer.AllowUnusedBindings;
@@ -32,6 +33,7 @@ import org.jdbi.v3.sqlobject.customizer.Bind;
 import org.jdbi.v3.sqlobject.customizer.BindMap;
 import org.jdbi.v3.sqlobject.customizer.Define;
 import org.jdbi.v3.sqlobject.customizer.DefineNamedBindings;
+import org.jdbi.v3.sqlobject.customizer.FetchSize;
 import org.jdbi.v3.sqlobject.statement.SqlQuery;
 
 import java.math.BigDecimal;
@@ -41,10 +43,16 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
-import static org.dependencytrack.resources.v1.FindingResource.mapComponentLatestVersion;
 
 public interface FindingDao {
 
+    /**
+     * Number of rows fetched per database round-trip when findings are streamed.
+     *
+     * @since 5.6.0
+     */
+    int STREAMING_FETCH_SIZE = 1000;
+
     record FindingRow(
             UUID projectUuid,
             UUID componentUuid,
@@ -55,6 +63,7 @@ public interface FindingDao {
             String componentVersion,
             String componentPurl,
             String componentCpe,
+            String componentLatestVersion,
             boolean componentHasOccurrences,
             UUID vulnUuid,
             Vulnerability.Source vulnSource,
@@ -83,6 +92,7 @@ public interface FindingDao {
             String reference_url,
             AnalysisState analysisState,
             boolean suppressed,
+            long attributionId,
             long totalCount
     ) {
     }
@@ -113,6 +123,7 @@ public interface FindingDao {
                  , "COMPONENT"."VERSION" AS "componentVersion"
                  , "COMPONENT"."PURL" AS "componentPurl"
                  , "COMPONENT"."CPE" AS "componentCpe"
+                 , "RMC"."LATEST_VERSION" AS "componentLatestVersion"
                  , EXISTS(SELECT 1 FROM "COMPONENT_OCCURRENCE" WHERE "COMPONENT_ID" = "COMPONENT"."ID") AS "componentHasOccurrences"
                  , "V"."UUID" AS "vulnUuid"
                  , "V"."SOURCE" AS "vulnSource"
@@ -167,6 +178,7 @@ public interface FindingDao {
                  , "FINDINGATTRIBUTION"."REFERENCE_URL"
                  , "A"."STATE" AS "analysisState"
                  , "A"."SUPPRESSED"
+                 , "FINDINGATTRIBUTION"."ID" AS "attributionId"
                  , COUNT(*) OVER() AS "totalCount"
               FROM "COMPONENT"
              INNER JOIN "COMPONENTS_VULNERABILITIES"
@@ -184,20 +196,32 @@ public interface FindingDao {
                AND "COMPONENT"."PROJECT_ID" = "A"."PROJECT_ID"
               INNER JOIN "PROJECT"
                 ON "COMPONENT"."PROJECT_ID" = "PROJECT"."ID"
+              LEFT JOIN LATERAL (
+                SELECT "LATEST_VERSION"
+                  FROM "REPOSITORY_META_COMPONENT"
+                 WHERE "REPOSITORY_TYPE" = "COMPONENT"."PURL_REPOSITORY_TYPE"
+                   AND ("NAMESPACE" = "COMPONENT"."PURL_NAMESPACE"
+                        OR ("NAMESPACE" IS NULL AND "COMPONENT"."PURL_NAMESPACE" IS NULL))
+                   AND "NAME" = "COMPONENT"."PURL_NAME"
+                 LIMIT 1
+              ) AS "RMC" ON TRUE
              WHERE "COMPONENT"."PROJECT_ID" = :projectId
                AND (:includeSuppressed OR "A"."SUPPRESSED" IS NULL OR NOT "A"."SUPPRESSED")
                AND (:hasAnalysis IS NULL OR ("A"."ID" IS NOT NULL) = :hasAnalysis)
              ORDER BY "FINDINGATTRIBUTION"."ID"
              ${apiOffsetLimitClause!}
             """)
+    @FetchSize(STREAMING_FETCH_SIZE)
     @RegisterConstructorMapper(FindingRow.class)
-    List<FindingRow> getFindingsByProject(@Bind long projectId, @Bind boolean includeSuppressed, @Bind Boolean hasAnalysis);
+    ResultIterable<FindingRow> streamFindingsByProject(@Bind long projectId, @Bind boolean includeSuppressed, @Bind Boolean hasAnalysis);
+
+    default List<FindingRow> getFindingsByProject(final long projectId, final boolean includeSuppressed, final Boolean hasAnalysis) {
+        return streamFindingsByProject(projectId, includeSuppressed, hasAnalysis).list();
+    }
 
     default List<Finding> getFindings(final long projectId, final boolean includeSuppressed) {
         List<FindingRow> findingRows = getFindingsByProject(projectId, includeSuppressed, null);
-        List<Finding> findings = findingRows.stream().map(Finding::new).toList();
-        findings = mapComponentLatestVersion(findings);
-        return findings;
+        return findingRows.stream().map(Finding::new).toList();
     }
 
     @SqlQuery(/* language=InjectedFreeMarker */ """
@@ -207,6 +231,7 @@ public interface FindingDao {
             <#-- @ftlvariable name="activeFilter" type="Boolean" -->
             <#-- @ftlvariable name="suppressedFilter" type="Boolean" -->
             <#-- @ftlvariable name="apiOffsetLimitClause" type="String" -->
+            <#-- @ftlvariable name="apiCursorCondition" type="String" -->
             SELECT "PROJECT"."UUID" AS "projectUuid"
                  , "PROJECT"."NAME" AS "projectName"
                  , "PROJECT"."VERSION" AS "projectVersion"
@@ -216,6 +241,7 @@ public interface FindingDao {
                  , "COMPONENT"."VERSION" AS "componentVersion"
                  , "COMPONENT"."PURL" AS "componentPurl"
                  , "COMPONENT"."CPE" AS "componentCpe"
+                 , "RMC"."LATEST_VERSION" AS "componentLatestVersion"
                  , EXISTS(SELECT 1 FROM "COMPONENT_OCCURRENCE" WHERE "COMPONENT_ID" = "COMPONENT"."ID") AS "componentHasOccurrences"
                  , "V"."UUID" AS "vulnUuid"
                  , "V"."SOURCE" AS "vulnSource"
@@ -270,7 +296,12 @@ public interface FindingDao {
                  , "FINDINGATTRIBUTION"."REFERENCE_URL"
                  , "A"."STATE" AS "analysisState"
                  , "A"."SUPPRESSED"
+                 , "FINDINGATTRIBUTION"."ID" AS "attributionId"
+            <#if apiCursorCondition??>
+                 , NULL AS "totalCount"
+            <#else>
                  , COUNT(*) OVER() AS "totalCount"
+            </#if>
               FROM "COMPONENT"
              INNER JOIN "COMPONENTS_VULNERABILITIES"
                 ON "COMPONENT"."ID" = "COMPONENTS_VULNERABILITIES"."COMPONENT_ID"
@@ -287,6 +318,15 @@ public interface FindingDao {
                AND "COMPONENT"."PROJECT_ID" = "A"."PROJECT_ID"
              INNER JOIN "PROJECT"
                 ON "COMPONENT"."PROJECT_ID" = "PROJECT"."ID"
+             LEFT JOIN LATERAL (
+               SELECT "LATEST_VERSION"
+                 FROM "REPOSITORY_META_COMPONENT"
+                WHERE "REPOSITORY_TYPE" = "COMPONENT"."PURL_REPOSITORY_TYPE"
+                  AND ("NAMESPACE" = "COMPONENT"."PURL_NAMESPACE"
+                       OR ("NAMESPACE" IS NULL AND "COMPONENT"."PURL_NAMESPACE" IS NULL))
+                  AND "NAME" = "COMPONENT"."PURL_NAME"
+                LIMIT 1
+             ) AS "RMC" ON TRUE
              WHERE ${apiProjectAclCondition}
              <#if !activeFilter>
                 AND "PROJECT"."INACTIVE_SINCE" IS NULL
@@ -297,12 +337,15 @@ public interface FindingDao {
              <#if queryFilter??>
                 ${queryFilter}
              </#if>
+             <#if apiCursorCondition??>
+                AND ${apiCursorCondition}
+             </#if>
              <#if apiOrderByClause??>
               ${apiOrderByClause}
              </#if>
              ${apiOffsetLimitClause!}
             """)
-    @AllowApiOrdering(alwaysBy = "attribution.id", by = {
+    @AllowApiOrdering(alwaysBy = "attribution.id", allowCursor = true, by = {
             @AllowApiOrdering.Column(name = "vulnerability.title", queryName = "\"V\".\"TITLE\""),
             @AllowApiOrdering.Column(name = "vulnerability.vulnId", queryName = "\"V\".\"VULNID\""),
             @AllowApiOrdering.Column(name = "vulnerability.severity", queryName = "\"vulnSeverity\""),
@@ -320,11 +363,12 @@ public interface FindingDao {
     })
     @DefineNamedBindings
     @AllowUnusedBindings
+    @FetchSize(STREAMING_FETCH_SIZE)
     @RegisterConstructorMapper(FindingRow.class)
-    List<FindingRow> getAllFindings(@Define String queryFilter,
-                                    @Define boolean activeFilter,
-                                    @Define boolean suppressedFilter,
-                                    @BindMap Map<String, Object> params);
+    ResultIterable<FindingRow> streamAllFindings(@Define String queryFilter,
+                                                 @Define boolean activeFilter,
+                                                 @Define boolean suppressedFilter,
+                                                 @BindMap Map<String, Object> params);
 
     /**
      * Returns a List of all Finding objects filtered by ACL and other optional filters.
@@ -334,10 +378,26 @@ public interface FindingDao {
      * @return a List of Finding objects
      */
     default List<FindingRow> getAllFindings(final Map<String, String> filters, final boolean showSuppressed, final boolean showInactive) {
+        return streamAllFindings(filters, showSuppressed, showInactive).list();
+    }
+
+    /**
+     * Returns a lazily evaluated {@link ResultIterable} of all findings filtered by ACL and other optional filters.
+     * <p>
+     * Rows are fetched from the database in chunks of {@value #STREAMING_FETCH_SIZE} as they are consumed,
+     * which requires the {@link ResultIterable} to be consumed within a transaction.
+     *
+     * @param filters        determines the filters to apply on the findings
+     * @param showSuppressed determines if suppressed vulnerabilities should be included or not
+     * @param showInactive   determines if inactive projects should be included or not
+     * @return a {@link ResultIterable} of {@link FindingRow}s
+     * @since 5.6.0
+     */
+    default ResultIterable<FindingRow> streamAllFindings(final Map<String, String> filters, final boolean showSuppressed, final boolean showInactive) {
         StringBuilder queryFilter = new StringBuilder();
         Map<String, Object> params = new HashMap<>();
         processFilters(filters, queryFilter, params);
-        return getAllFindings(String.valueOf(queryFilter), showInactive, showSuppressed, params);
+        return streamAllFindings(String.valueOf(queryFilter), showInactive, showSuppressed, params);
     }
 
     @SqlQuery("""
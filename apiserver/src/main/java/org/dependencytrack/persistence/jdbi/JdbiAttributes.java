@@ -25,6 +25,7 @@ package org.dependencytrack.persistence.jdbi;
  */
 public final class JdbiAttributes {
 
+    static final String ATTRIBUTE_API_CURSOR_CONDITION = "apiCursorCondition";
     static final String ATTRIBUTE_API_FILTER_PARAMETER = "apiFilterParameter";
     static final String ATTRIBUTE_API_OFFSET_LIMIT_CLAUSE = "apiOffsetLimitClause";
     static final String ATTRIBUTE_API_ORDER_BY_CLAUSE = "apiOrderByClause";
@@ -0,0 +1,131 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence.jdbi;
+
+import org.jdbi.v3.core.mapper.reflect.ColumnName;
+import org.jdbi.v3.sqlobject.SqlObject;
+import org.jdbi.v3.sqlobject.config.RegisterConstructorMapper;
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.statement.SqlBatch;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.jdbi.v3.sqlobject.statement.SqlUpdate;
+
+import java.util.List;
+
+/**
+ * @since 5.6.0
+ */
+public interface KafkaOutboxDao extends SqlObject {
+
+    record OutboxRecord(@ColumnName("ID") long id,
+                        @ColumnName("TOPIC") String topic,
+                        @ColumnName("PRODUCER_PROFILE") String producerProfile,
+                        @ColumnName("RECORD_KEY") byte[] key,
+                        @ColumnName("RECORD_VALUE") byte[] value,
+                        @ColumnName("RECORD_HEADERS") String headers,
+                        @ColumnName("PARTITION_KEY") String partitionKey) {
+    }
+
+    @SqlBatch("""
+            INSERT INTO "KAFKA_OUTBOX"
+              ("TOPIC", "PRODUCER_PROFILE", "RECORD_KEY", "RECORD_VALUE", "RECORD_HEADERS", "PARTITION_KEY")
+            VALUES
+              (:topic, :producerProfile, :key, :value, :headers, :partitionKey)
+            """)
+    void enqueueAll(
+            @Bind List<String> topic,
+            @Bind List<String> producerProfile,
+            @Bind List<byte[]> key,
+            @Bind List<byte[]> value,
+            @Bind List<String> headers,
+            @Bind List<String> partitionKey);
+
+    /**
+     * Acquire the transaction-scoped lock that ensures only a single relay
+     * claims records at any given time, such that insertion order is retained.
+     *
+     * @return {@code true} when the lock was acquired, otherwise {@code false}
+     */
+    default boolean tryAcquireRelayLock() {
+        return tryAcquireAdvisoryLock("kafka-outbox-relay".hashCode());
+    }
+
+    @SqlQuery("SELECT PG_TRY_ADVISORY_XACT_LOCK(:lockId)")
+    boolean tryAcquireAdvisoryLock(@Bind long lockId);
+
+    /**
+     * @return {@code true} when records are currently claimed by a relay, otherwise {@code false}
+     */
+    @SqlQuery("""
+            SELECT EXISTS(
+              SELECT 1
+                FROM "KAFKA_OUTBOX"
+               WHERE "CLAIMED_UNTIL" > NOW())
+            """)
+    boolean hasActiveClaims();
+
+    /**
+     * Claim the oldest records for publishing.
+     * <p>
+     * Claims expire after {@code claimSeconds}, after which the records
+     * may be claimed again, e.g. because the relay that claimed them crashed.
+     *
+     * @param limit        Maximum number of records to claim
+     * @param claimSeconds Number of seconds after which the claim expires
+     * @return The claimed {@link OutboxRecord}s, in insertion order
+     */
+    @SqlQuery("""
+            WITH "CTE_CLAIMED" AS (
+              UPDATE "KAFKA_OUTBOX"
+                 SET "CLAIMED_UNTIL" = NOW() + MAKE_INTERVAL(secs => :claimSeconds)
+               WHERE "ID" = ANY(ARRAY(
+                       SELECT "ID"
+                         FROM "KAFKA_OUTBOX"
+                        ORDER BY "ID"
+                        LIMIT :limit))
+              RETURNING "ID"
+                      , "TOPIC"
+                      , "PRODUCER_PROFILE"
+                      , "RECORD_KEY"
+                      , "RECORD_VALUE"
+                      , "RECORD_HEADERS"
+                      , "PARTITION_KEY"
+            )
+            SELECT *
+              FROM "CTE_CLAIMED"
+             ORDER BY "ID"
+            """)
+    @RegisterConstructorMapper(OutboxRecord.class)
+    List<OutboxRecord> claimOldest(@Bind int limit, @Bind long claimSeconds);
+
+    @SqlUpdate("""
+            UPDATE "KAFKA_OUTBOX"
+               SET "CLAIMED_UNTIL" = NULL
+             WHERE "ID" = ANY(:ids)
+            """)
+    int releaseClaims(@Bind List<Long> ids);
+
+    @SqlUpdate("""
+            DELETE
+              FROM "KAFKA_OUTBOX"
+             WHERE "ID" = ANY(:ids)
+            """)
+    int deleteAll(@Bind List<Long> ids);
+
+}
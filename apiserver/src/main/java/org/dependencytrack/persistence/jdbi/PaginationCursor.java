@@ -0,0 +1,72 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence.jdbi;
+
+import org.dependencytrack.exception.InvalidPaginationCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * An opaque cursor for cursor-based (keyset) pagination.
+ * <p>
+ * The cursor encodes the key of the last row of a page. Queries supporting cursor-based pagination
+ * use it to continue right after that row, instead of skipping all preceding rows via {@code OFFSET}.
+ *
+ * @param key The key of the last row of the previous page
+ * @see AllowApiOrdering#allowCursor()
+ * @since 5.6.0
+ */
+public record PaginationCursor(long key) {
+
+    private static final String VERSION_PREFIX = "1:";
+
+    /**
+     * @return The encoded cursor, to be handed out to API clients
+     */
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((VERSION_PREFIX + key).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param encodedCursor The encoded cursor, as provided by an API client
+     * @return The decoded {@link PaginationCursor}
+     * @throws InvalidPaginationCursorException When {@code encodedCursor} is not a valid cursor
+     */
+    public static PaginationCursor decode(final String encodedCursor) {
+        final String decodedCursor;
+        try {
+            decodedCursor = new String(Base64.getUrlDecoder().decode(encodedCursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidPaginationCursorException("The provided cursor is not valid", e);
+        }
+
+        if (!decodedCursor.startsWith(VERSION_PREFIX)) {
+            throw new InvalidPaginationCursorException("The provided cursor is not valid");
+        }
+
+        try {
+            return new PaginationCursor(Long.parseLong(decodedCursor.substring(VERSION_PREFIX.length())));
+        } catch (NumberFormatException e) {
+            throw new InvalidPaginationCursorException("The provided cursor is not valid", e);
+        }
+    }
+
+}
@@ -18,18 +18,25 @@
  */
 package org.dependencytrack.persistence.jdbi;
 
+import alpine.persistence.PaginatedResult;
 import com.fasterxml.jackson.annotation.JsonAlias;
 import jakarta.annotation.Nullable;
+import org.dependencytrack.model.Project;
+import org.dependencytrack.persistence.jdbi.mapping.PaginatedProjectRowReducer;
+import org.dependencytrack.persistence.jdbi.mapping.ProjectRowMapper;
 import org.jdbi.v3.core.mapper.reflect.ColumnName;
 import org.jdbi.v3.json.Json;
 import org.jdbi.v3.sqlobject.config.RegisterConstructorMapper;
+import org.jdbi.v3.sqlobject.config.RegisterRowMapper;
 import org.jdbi.v3.sqlobject.customizer.Bind;
 import org.jdbi.v3.sqlobject.customizer.Define;
 import org.jdbi.v3.sqlobject.customizer.DefineNamedBindings;
 import org.jdbi.v3.sqlobject.statement.SqlQuery;
 import org.jdbi.v3.sqlobject.statement.SqlUpdate;
+import org.jdbi.v3.sqlobject.statement.UseRowReducer;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -53,6 +60,7 @@ public interface ProjectDao {
             <#-- @ftlvariable name="apiOffsetLimitClause" type="String" -->
             <#-- @ftlvariable name="apiProjectAclCondition" type="String" -->
             <#-- @ftlvariable name="apiParentProjectAclCondition" type="String" -->
+            <#-- @ftlvariable name="apiCursorCondition" type="String" -->
             SELECT "PROJECT"."ID" AS "id"
                  , "PROJECT"."UUID" AS "uuid"
                  , "GROUP" AS "group"
@@ -80,7 +88,11 @@ public interface ProjectDao {
             <#if includeMetrics>
                  , TO_JSONB("metrics") AS "metrics"
             </#if>
+            <#if apiCursorCondition??>
+                 , NULL AS "totalCount"
+            <#else>
                  , COUNT(*) OVER() AS "totalCount"
+            </#if>
               FROM "PROJECT"
             <#if includeMetrics>
               LEFT JOIN LATERAL (
@@ -147,6 +159,9 @@ public interface ProjectDao {
                AND (LOWER("PROJECT"."NAME") LIKE ('%' || LOWER(${apiFilterParameter}) || '%')
                     OR EXISTS (SELECT 1 FROM "TAG" WHERE "TAG"."NAME" = ${apiFilterParameter}))
             </#if>
+            <#if apiCursorCondition??>
+               AND ${apiCursorCondition}
+            </#if>
             <#if apiOrderByClause??>
               ${apiOrderByClause}
             <#else>
@@ -159,8 +174,8 @@ public interface ProjectDao {
             name = "apiParentProjectAclCondition",
             projectIdColumn = "\"PARENT_PROJECT\".\"ID\""
     )
-    @AllowApiOrdering(alwaysBy = "id", by = {
-            @AllowApiOrdering.Column(name = "id"),
+    @AllowApiOrdering(alwaysBy = "id", allowCursor = true, by = {
+            @AllowApiOrdering.Column(name = "id", queryName = "\"PROJECT\".\"ID\""),
             @AllowApiOrdering.Column(name = "group"),
             @AllowApiOrdering.Column(name = "name"),
             @AllowApiOrdering.Column(name = "version"),
@@ -186,6 +201,7 @@ public interface ProjectDao {
     );
 
     record ConciseProjectListRow(
+            long id,
             UUID uuid,
             String group,
             String name,
@@ -222,6 +238,199 @@ public interface ProjectDao {
     ) {
     }
 
+    /**
+     * Retrieve a page of projects, including their tags and parent.
+     * <p>
+     * Tags and parent are fetched as part of the same query, such that
+     * the number of queries does not depend on the size of the page.
+     * <p>
+     * When {@code nameFilter} is provided, the API filter parameter is ignored.
+     *
+     * @since 5.6.0
+     */
+    @SqlQuery(/* language=InjectedFreeMarker */ """
+            <#-- @ftlvariable name="nameFilter" type="Boolean" -->
+            <#-- @ftlvariable name="apiFilterParameter" type="String" -->
+            <#-- @ftlvariable name="apiOrderByClause" type="String" -->
+            <#-- @ftlvariable name="apiOffsetLimitClause" type="String" -->
+            <#-- @ftlvariable name="apiProjectAclCondition" type="String" -->
+            SELECT "PROJECT"."ID" AS "id"
+                 , "PROJECT"."UUID" AS "uuid"
+                 , "PROJECT"."AUTHORS" AS "authors"
+                 , "PROJECT"."PUBLISHER" AS "publisher"
+                 , "PROJECT"."MANUFACTURER" AS "manufacturer"
+                 , "PROJECT"."SUPPLIER" AS "supplier"
+                 , "PROJECT"."GROUP" AS "group"
+                 , "PROJECT"."NAME" AS "name"
+                 , "PROJECT"."DESCRIPTION" AS "description"
+                 , "PROJECT"."VERSION" AS "version"
+                 , "PROJECT"."CLASSIFIER" AS "classifier"
+                 , "PROJECT"."CPE" AS "cpe"
+                 , "PROJECT"."PURL" AS "purl"
+                 , "PROJECT"."SWIDTAGID" AS "swidTagId"
+                 , "PROJECT"."DIRECT_DEPENDENCIES" AS "directDependencies"
+                 , "PROJECT"."LAST_BOM_IMPORTED" AS "lastBomImport"
+                 , "PROJECT"."LAST_BOM_IMPORTED_FORMAT" AS "lastBomImportFormat"
+                 , "PROJECT"."LAST_RISKSCORE" AS "lastInheritedRiskScore"
+                 , "PROJECT"."INACTIVE_SINCE" AS "inactiveSince"
+                 , "PROJECT"."IS_LATEST" AS "isLatest"
+                 , "PROJECT"."EXTERNAL_REFERENCES" AS "externalReferences"
+                 , "PARENT_PROJECT"."ID" AS "parentId"
+                 , "PARENT_PROJECT"."UUID" AS "parentUuid"
+                 , "PARENT_PROJECT"."NAME" AS "parentName"
+                 , "PARENT_PROJECT"."VERSION" AS "parentVersion"
+                 , (SELECT ARRAY_AGG("TAG"."NAME" ORDER BY "TAG"."NAME")
+                      FROM "TAG"
+                     INNER JOIN "PROJECTS_TAGS"
+                        ON "PROJECTS_TAGS"."TAG_ID" = "TAG"."ID"
+                     WHERE "PROJECTS_TAGS"."PROJECT_ID" = "PROJECT"."ID") AS "tags"
+                 , COUNT(*) OVER() AS "totalCount"
+              FROM "PROJECT"
+              LEFT JOIN "PROJECT" AS "PARENT_PROJECT"
+                ON "PARENT_PROJECT"."ID" = "PROJECT"."PARENT_PROJECT_ID"
+             WHERE ${apiProjectAclCondition}
+            <#if nameFilter>
+               AND "PROJECT"."NAME" = :nameFilter
+            </#if>
+            <#if excludeInactive>
+               AND "PROJECT"."INACTIVE_SINCE" IS NULL
+            </#if>
+            <#if onlyRoot>
+               AND "PROJECT"."PARENT_PROJECT_ID" IS NULL
+            </#if>
+            <#if notAssignedToTeamIdFilter>
+               AND NOT EXISTS(
+                 SELECT 1
+                   FROM "PROJECT_ACCESS_TEAMS"
+                  WHERE "PROJECT_ACCESS_TEAMS"."PROJECT_ID" = "PROJECT"."ID"
+                    AND "PROJECT_ACCESS_TEAMS"."TEAM_ID" = :notAssignedToTeamIdFilter)
+            </#if>
+            <#if !nameFilter && apiFilterParameter??>
+               AND (LOWER("PROJECT"."NAME") LIKE ('%' || LOWER(${apiFilterParameter}) || '%')
+                    OR EXISTS(
+                      SELECT 1
+                        FROM "PROJECTS_TAGS"
+                       INNER JOIN "TAG"
+                          ON "TAG"."ID" = "PROJECTS_TAGS"."TAG_ID"
+                       WHERE "PROJECTS_TAGS"."PROJECT_ID" = "PROJECT"."ID"
+                         AND "TAG"."NAME" = LOWER(TRIM(${apiFilterParameter}))))
+            </#if>
+            <#if apiOrderByClause??>
+              ${apiOrderByClause}, "PROJECT"."ID" ASC
+            <#else>
+             ORDER BY "name" ASC, "version" DESC, "PROJECT"."ID" ASC
+            </#if>
+            ${apiOffsetLimitClause!}
+            """)
+    @DefineNamedBindings
+    @AllowApiOrdering(by = {
+            @AllowApiOrdering.Column(name = "id", queryName = "\"PROJECT\".\"ID\""),
+            @AllowApiOrdering.Column(name = "group"),
+            @AllowApiOrdering.Column(name = "name"),
+            @AllowApiOrdering.Column(name = "version"),
+            @AllowApiOrdering.Column(name = "classifier"),
+            @AllowApiOrdering.Column(name = "cpe"),
+            @AllowApiOrdering.Column(name = "purl"),
+            @AllowApiOrdering.Column(name = "swidTagId"),
+            @AllowApiOrdering.Column(name = "lastBomImport"),
+            @AllowApiOrdering.Column(name = "lastBomImportFormat"),
+            @AllowApiOrdering.Column(name = "lastInheritedRiskScore"),
+            @AllowApiOrdering.Column(name = "inactiveSince"),
+            @AllowApiOrdering.Column(name = "isLatest")
+    })
+    @RegisterRowMapper(ProjectRowMapper.class)
+    @UseRowReducer(PaginatedProjectRowReducer.class)
+    PaginatedResult getPage(
+            @Bind String nameFilter,
+            @Bind Long notAssignedToTeamIdFilter,
+            @Define boolean excludeInactive,
+            @Define boolean onlyRoot
+    );
+
+    /**
+     * Retrieve the direct children of the projects with the given IDs.
+     * <p>
+     * The parent of each returned {@link Project} only has its ID populated.
+     *
+     * @since 5.6.0
+     */
+    @SqlQuery("""
+            SELECT "PROJECT"."ID" AS "id"
+                 , "PROJECT"."UUID" AS "uuid"
+                 , "PROJECT"."AUTHORS" AS "authors"
+                 , "PROJECT"."PUBLISHER" AS "publisher"
+                 , "PROJECT"."MANUFACTURER" AS "manufacturer"
+                 , "PROJECT"."SUPPLIER" AS "supplier"
+                 , "PROJECT"."GROUP" AS "group"
+                 , "PROJECT"."NAME" AS "name"
+                 , "PROJECT"."DESCRIPTION" AS "description"
+                 , "PROJECT"."VERSION" AS "version"
+                 , "PROJECT"."CLASSIFIER" AS "classifier"
+                 , "PROJECT"."CPE" AS "cpe"
+                 , "PROJECT"."PURL" AS "purl"
+                 , "PROJECT"."SWIDTAGID" AS "swidTagId"
+                 , "PROJECT"."DIRECT_DEPENDENCIES" AS "directDependencies"
+                 , "PROJECT"."LAST_BOM_IMPORTED" AS "lastBomImport"
+                 , "PROJECT"."LAST_BOM_IMPORTED_FORMAT" AS "lastBomImportFormat"
+                 , "PROJECT"."LAST_RISKSCORE" AS "lastInheritedRiskScore"
+                 , "PROJECT"."INACTIVE_SINCE" AS "inactiveSince"
+                 , "PROJECT"."IS_LATEST" AS "isLatest"
+                 , "PROJECT"."EXTERNAL_REFERENCES" AS "externalReferences"
+                 , "PROJECT"."PARENT_PROJECT_ID" AS "parentId"
+                 , (SELECT ARRAY_AGG("TAG"."NAME" ORDER BY "TAG"."NAME")
+                      FROM "TAG"
+                     INNER JOIN "PROJECTS_TAGS"
+                        ON "PROJECTS_TAGS"."TAG_ID" = "TAG"."ID"
+                     WHERE "PROJECTS_TAGS"."PROJECT_ID" = "PROJECT"."ID") AS "tags"
+              FROM "PROJECT"
+             WHERE "PROJECT"."PARENT_PROJECT_ID" = ANY(:parentIds)
+             ORDER BY "name" ASC, "version" DESC, "PROJECT"."ID" ASC
+            """)
+    @RegisterRowMapper(ProjectRowMapper.class)
+    List<Project> getChildren(@Bind Collection<Long> parentIds);
+
+    record ProjectAccessTeamRow(long projectId, UUID teamUuid, String teamName) {
+    }
+
+    /**
+     * Retrieve the teams having direct access to the projects with the given IDs.
+     *
+     * @since 5.6.0
+     */
+    @SqlQuery("""
+            SELECT "PROJECT_ACCESS_TEAMS"."PROJECT_ID" AS "projectId"
+                 , "TEAM"."UUID" AS "teamUuid"
+                 , "TEAM"."NAME" AS "teamName"
+              FROM "PROJECT_ACCESS_TEAMS"
+             INNER JOIN "TEAM"
+                ON "TEAM"."ID" = "PROJECT_ACCESS_TEAMS"."TEAM_ID"
+             WHERE "PROJECT_ACCESS_TEAMS"."PROJECT_ID" = ANY(:projectIds)
+             ORDER BY "TEAM"."NAME"
+            """)
+    @RegisterConstructorMapper(ProjectAccessTeamRow.class)
+    List<ProjectAccessTeamRow> getAccessTeams(@Bind Collection<Long> projectIds);
+
+    record ProjectMetadataRow(long projectId, String supplier, String authors, String tools) {
+    }
+
+    /**
+     * Retrieve the metadata of the projects with the given IDs.
+     * <p>
+     * Supplier, authors, and tools are returned in their serialized JSON form.
+     *
+     * @since 5.6.0
+     */
+    @SqlQuery("""
+            SELECT "PROJECT_ID" AS "projectId"
+                 , "SUPPLIER" AS "supplier"
+                 , "AUTHORS" AS "authors"
+                 , "TOOLS" AS "tools"
+              FROM "PROJECT_METADATA"
+             WHERE "PROJECT_ID" = ANY(:projectIds)
+            """)
+    @RegisterConstructorMapper(ProjectMetadataRow.class)
+    List<ProjectMetadataRow> getMetadata(@Bind Collection<Long> projectIds);
+
     @SqlUpdate("""
             DELETE
               FROM "PROJECT"
@@ -0,0 +1,146 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence.jdbi;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.jdbi.v3.sqlobject.config.RegisterConstructorMapper;
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Ranked, case-insensitive substring search across projects, components, and vulnerabilities.
+ * <p>
+ * All queries match using {@code LOWER(<column>) LIKE '%<term>%'}, which is supported by
+ * trigram indexes on the respective {@code LOWER(<column>)} expressions.
+ * Matches are ranked by their trigram similarity to the search term.
+ *
+ * @since 5.6.0
+ */
+public interface SearchDao {
+
+    @SqlQuery(/* language=InjectedFreeMarker */ """
+            <#-- @ftlvariable name="apiProjectAclCondition" type="String" -->
+            SELECT "PROJECT"."UUID" AS "uuid"
+                 , "PROJECT"."GROUP" AS "group"
+                 , "PROJECT"."NAME" AS "name"
+                 , "PROJECT"."VERSION" AS "version"
+                 , SIMILARITY(LOWER("PROJECT"."NAME"), :term) AS "score"
+              FROM "PROJECT"
+             WHERE LOWER("PROJECT"."NAME") LIKE :termPattern
+               AND ${apiProjectAclCondition}
+             ORDER BY "score" DESC, "name", "version" DESC
+             LIMIT :limit
+            """)
+    @RegisterConstructorMapper(ProjectSearchResult.class)
+    List<ProjectSearchResult> searchProjects(@Bind String term, @Bind String termPattern, @Bind int limit);
+
+    @SqlQuery(/* language=InjectedFreeMarker */ """
+            <#-- @ftlvariable name="apiProjectAclCondition" type="String" -->
+            SELECT "COMPONENT"."UUID" AS "uuid"
+                 , "COMPONENT"."GROUP" AS "group"
+                 , "COMPONENT"."NAME" AS "name"
+                 , "COMPONENT"."VERSION" AS "version"
+                 , "COMPONENT"."PURL" AS "purl"
+                 , "PROJECT"."UUID" AS "projectUuid"
+                 , "PROJECT"."NAME" AS "projectName"
+                 , "PROJECT"."VERSION" AS "projectVersion"
+                 , GREATEST(
+                     SIMILARITY(LOWER("COMPONENT"."NAME"), :term),
+                     SIMILARITY(LOWER("COMPONENT"."GROUP"), :term)
+                   ) AS "score"
+              FROM "COMPONENT"
+             INNER JOIN "PROJECT"
+                ON "PROJECT"."ID" = "COMPONENT"."PROJECT_ID"
+             WHERE (LOWER("COMPONENT"."NAME") LIKE :termPattern
+                    OR LOWER("COMPONENT"."GROUP") LIKE :termPattern)
+               AND ${apiProjectAclCondition}
+             ORDER BY "score" DESC, "name", "version" DESC, "projectName"
+             LIMIT :limit
+            """)
+    @RegisterConstructorMapper(ComponentSearchResult.class)
+    List<ComponentSearchResult> searchComponents(@Bind String term, @Bind String termPattern, @Bind int limit);
+
+    @SqlQuery("""
+            SELECT "VULNERABILITY"."UUID" AS "uuid"
+                 , "VULNERABILITY"."VULNID" AS "vulnId"
+                 , "VULNERABILITY"."SOURCE" AS "source"
+                 , "VULNERABILITY"."TITLE" AS "title"
+                 , SIMILARITY(LOWER("VULNERABILITY"."VULNID"), :term) AS "score"
+              FROM "VULNERABILITY"
+             WHERE LOWER("VULNERABILITY"."VULNID") LIKE :termPattern
+             ORDER BY "score" DESC, "vulnId", "source"
+             LIMIT :limit
+            """)
+    @RegisterConstructorMapper(VulnerabilitySearchResult.class)
+    List<VulnerabilitySearchResult> searchVulnerabilities(@Bind String term, @Bind String termPattern, @Bind int limit);
+
+    default List<ProjectSearchResult> searchProjects(final String term, final int limit) {
+        return searchProjects(normalizeTerm(term), toLikePattern(term), limit);
+    }
+
+    default List<ComponentSearchResult> searchComponents(final String term, final int limit) {
+        return searchComponents(normalizeTerm(term), toLikePattern(term), limit);
+    }
+
+    default List<VulnerabilitySearchResult> searchVulnerabilities(final String term, final int limit) {
+        return searchVulnerabilities(normalizeTerm(term), toLikePattern(term), limit);
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record ProjectSearchResult(UUID uuid, String group, String name, String version, float score) {
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record ComponentSearchResult(
+            UUID uuid,
+            String group,
+            String name,
+            String version,
+            String purl,
+            UUID projectUuid,
+            String projectName,
+            String projectVersion,
+            float score
+    ) {
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record VulnerabilitySearchResult(UUID uuid, String vulnId, String source, String title, float score) {
+    }
+
+    private static String normalizeTerm(final String term) {
+        return term.trim().toLowerCase();
+    }
+
+    /**
+     * Escape LIKE wildcards in the search term, such that {@code %} and {@code _}
+     * in the term are matched literally instead of acting as wildcards.
+     */
+    private static String toLikePattern(final String term) {
+        final String escapedTerm = normalizeTerm(term)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escapedTerm + "%";
+    }
+
+}
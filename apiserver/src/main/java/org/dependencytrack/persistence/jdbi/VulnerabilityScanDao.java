@@ -19,6 +19,7 @@
 package org.dependencytrack.persistence.jdbi;
 
 import org.dependencytrack.model.VulnerabilityScan;
+import org.dependencytrack.model.VulnerabilityScan.TargetType;
 import org.jdbi.v3.sqlobject.SqlObject;
 import org.jdbi.v3.sqlobject.config.RegisterBeanMapper;
 import org.jdbi.v3.sqlobject.customizer.Bind;
@@ -32,6 +33,41 @@ import java.util.UUID;
 
 public interface VulnerabilityScanDao extends SqlObject {
 
+    @SqlUpdate("""
+            INSERT INTO "VULNERABILITYSCAN" (
+              "TOKEN"
+            , "TARGET_TYPE"
+            , "TARGET_IDENTIFIER"
+            , "STATUS"
+            , "EXPECTED_RESULTS"
+            , "RECEIVED_RESULTS"
+            , "FAILURE_THRESHOLD"
+            , "SCAN_FAILED"
+            , "SCAN_TOTAL"
+            , "STARTED_AT"
+            , "UPDATED_AT"
+            , "VERSION"
+            ) VALUES (
+              :token
+            , :targetType
+            , :targetIdentifier
+            , 'IN_PROGRESS'
+            , :expectedResults
+            , 0
+            , 0.05
+            , 0
+            , 0
+            , NOW()
+            , NOW()
+            , 1
+            )
+            """)
+    void create(
+            @Bind UUID token,
+            @Bind TargetType targetType,
+            @Bind UUID targetIdentifier,
+            @Bind int expectedResults);
+
     @SqlBatch("""
                 UPDATE "VULNERABILITYSCAN"
                   SET "RECEIVED_RESULTS" = "RECEIVED_RESULTS" + :resultsTotal
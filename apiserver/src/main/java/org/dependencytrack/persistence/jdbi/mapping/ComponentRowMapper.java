@@ -0,0 +1,91 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence.jdbi.mapping;
+
+import org.apache.commons.lang3.SerializationUtils;
+import org.dependencytrack.model.Classifier;
+import org.dependencytrack.model.Component;
+import org.dependencytrack.model.License;
+import org.dependencytrack.persistence.converter.OrganizationalContactsJsonConverter;
+import org.dependencytrack.persistence.converter.OrganizationalEntityJsonConverter;
+import org.jdbi.v3.core.mapper.RowMapper;
+import org.jdbi.v3.core.statement.StatementContext;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.UUID;
+
+import static org.dependencytrack.persistence.jdbi.mapping.RowMapperUtil.maybeGet;
+import static org.dependencytrack.persistence.jdbi.mapping.RowMapperUtil.maybeSet;
+
+/**
+ * Maps rows of the {@code COMPONENT} table to transient {@link Component} objects.
+ * <p>
+ * The resolved license is mapped from the optional {@code resolvedLicenseId},
+ * {@code resolvedLicenseName}, and {@code resolvedLicenseIsCustom} columns.
+ *
+ * @since 5.6.0
+ */
+public class ComponentRowMapper implements RowMapper<Component> {
+
+    private final OrganizationalContactsJsonConverter contactsConverter = new OrganizationalContactsJsonConverter();
+    private final OrganizationalEntityJsonConverter entityConverter = new OrganizationalEntityJsonConverter();
+
+    @Override
+    public Component map(final ResultSet rs, final StatementContext ctx) throws SQLException {
+        final var component = new Component();
+        maybeSet(rs, "id", ResultSet::getLong, component::setId);
+        maybeSet(rs, "uuid", (ignored, columnName) -> rs.getObject(columnName, UUID.class), component::setUuid);
+        maybeSet(rs, "group", ResultSet::getString, component::setGroup);
+        maybeSet(rs, "name", ResultSet::getString, component::setName);
+        maybeSet(rs, "version", ResultSet::getString, component::setVersion);
+        maybeSet(rs, "classifier", ResultSet::getString, value -> component.setClassifier(Classifier.valueOf(value)));
+        maybeSet(rs, "description", ResultSet::getString, component::setDescription);
+        maybeSet(rs, "copyright", ResultSet::getString, component::setCopyright);
+        maybeSet(rs, "cpe", ResultSet::getString, component::setCpe);
+        maybeSet(rs, "purl", ResultSet::getString, component::setPurl);
+        maybeSet(rs, "swidTagId", ResultSet::getString, component::setSwidTagId);
+        maybeSet(rs, "authors", ResultSet::getString, value -> component.setAuthors(contactsConverter.convertToAttribute(value)));
+        maybeSet(rs, "supplier", ResultSet::getString, value -> component.setSupplier(entityConverter.convertToAttribute(value)));
+        maybeSet(rs, "md5", ResultSet::getString, component::setMd5);
+        maybeSet(rs, "sha1", ResultSet::getString, component::setSha1);
+        maybeSet(rs, "sha256", ResultSet::getString, component::setSha256);
+        maybeSet(rs, "sha512", ResultSet::getString, component::setSha512);
+        maybeSet(rs, "sha3_256", ResultSet::getString, component::setSha3_256);
+        maybeSet(rs, "sha3_512", ResultSet::getString, component::setSha3_512);
+        maybeSet(rs, "license", ResultSet::getString, component::setLicense);
+        maybeSet(rs, "licenseExpression", ResultSet::getString, component::setLicenseExpression);
+        maybeSet(rs, "licenseUrl", ResultSet::getString, component::setLicenseUrl);
+        maybeSet(rs, "directDependencies", ResultSet::getString, component::setDirectDependencies);
+        maybeSet(rs, "externalReferences", ResultSet::getBytes,
+                value -> component.setExternalReferences(SerializationUtils.deserialize(value)));
+
+        final String resolvedLicenseName = maybeGet(rs, "resolvedLicenseName", ResultSet::getString);
+        if (resolvedLicenseName != null) {
+            final var resolvedLicense = new License();
+            resolvedLicense.setLicenseId(rs.getString("resolvedLicenseId"));
+            resolvedLicense.setName(resolvedLicenseName);
+            resolvedLicense.setCustomLicense(rs.getBoolean("resolvedLicenseIsCustom"));
+            component.setResolvedLicense(resolvedLicense);
+        }
+
+        return component;
+    }
+
+}
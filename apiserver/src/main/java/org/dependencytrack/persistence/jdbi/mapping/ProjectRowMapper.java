@@ -0,0 +1,100 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence.jdbi.mapping;
+
+import org.apache.commons.lang3.SerializationUtils;
+import org.dependencytrack.model.Classifier;
+import org.dependencytrack.model.Project;
+import org.dependencytrack.model.Tag;
+import org.dependencytrack.persistence.converter.OrganizationalContactsJsonConverter;
+import org.dependencytrack.persistence.converter.OrganizationalEntityJsonConverter;
+import org.jdbi.v3.core.mapper.RowMapper;
+import org.jdbi.v3.core.statement.StatementContext;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.LinkedHashSet;
+import java.util.UUID;
+
+import static org.dependencytrack.persistence.jdbi.mapping.RowMapperUtil.hasColumn;
+import static org.dependencytrack.persistence.jdbi.mapping.RowMapperUtil.maybeGet;
+import static org.dependencytrack.persistence.jdbi.mapping.RowMapperUtil.maybeSet;
+import static org.dependencytrack.persistence.jdbi.mapping.RowMapperUtil.stringArray;
+
+/**
+ * Maps rows of the {@code PROJECT} table to transient {@link Project} objects.
+ * <p>
+ * Tags are mapped from the optional {@code tags} array column. The parent is mapped
+ * from the optional {@code parentId}, {@code parentUuid}, {@code parentName}, and {@code parentVersion} columns.
+ *
+ * @since 5.6.0
+ */
+public class ProjectRowMapper implements RowMapper<Project> {
+
+    private final OrganizationalContactsJsonConverter contactsConverter = new OrganizationalContactsJsonConverter();
+    private final OrganizationalEntityJsonConverter entityConverter = new OrganizationalEntityJsonConverter();
+
+    @Override
+    public Project map(final ResultSet rs, final StatementContext ctx) throws SQLException {
+        final var project = new Project();
+        maybeSet(rs, "id", ResultSet::getLong, project::setId);
+        maybeSet(rs, "uuid", (ignored, columnName) -> rs.getObject(columnName, UUID.class), project::setUuid);
+        maybeSet(rs, "authors", ResultSet::getString, value -> project.setAuthors(contactsConverter.convertToAttribute(value)));
+        maybeSet(rs, "publisher", ResultSet::getString, project::setPublisher);
+        maybeSet(rs, "manufacturer", ResultSet::getString, value -> project.setManufacturer(entityConverter.convertToAttribute(value)));
+        maybeSet(rs, "supplier", ResultSet::getString, value -> project.setSupplier(entityConverter.convertToAttribute(value)));
+        maybeSet(rs, "group", ResultSet::getString, project::setGroup);
+        maybeSet(rs, "name", ResultSet::getString, project::setName);
+        maybeSet(rs, "description", ResultSet::getString, project::setDescription);
+        maybeSet(rs, "version", ResultSet::getString, project::setVersion);
+        maybeSet(rs, "classifier", ResultSet::getString, value -> project.setClassifier(Classifier.valueOf(value)));
+        maybeSet(rs, "cpe", ResultSet::getString, project::setCpe);
+        maybeSet(rs, "purl", ResultSet::getString, project::setPurl);
+        maybeSet(rs, "swidTagId", ResultSet::getString, project::setSwidTagId);
+        maybeSet(rs, "directDependencies", ResultSet::getString, project::setDirectDependencies);
+        maybeSet(rs, "lastBomImport", ResultSet::getTimestamp, project::setLastBomImport);
+        maybeSet(rs, "lastBomImportFormat", ResultSet::getString, project::setLastBomImportFormat);
+        maybeSet(rs, "lastInheritedRiskScore", RowMapperUtil::nullableDouble, project::setLastInheritedRiskScore);
+        maybeSet(rs, "inactiveSince", ResultSet::getTimestamp, project::setInactiveSince);
+        maybeSet(rs, "isLatest", ResultSet::getBoolean, project::setIsLatest);
+        maybeSet(rs, "externalReferences", ResultSet::getBytes,
+                value -> project.setExternalReferences(SerializationUtils.deserialize(value)));
+
+        if (hasColumn(rs, "tags")) {
+            final var tags = new LinkedHashSet<Tag>();
+            for (final String tagName : stringArray(rs, "tags")) {
+                tags.add(new Tag(tagName));
+            }
+            project.setTags(tags);
+        }
+
+        final Long parentId = maybeGet(rs, "parentId", (ignored, columnName) -> rs.getObject(columnName, Long.class));
+        if (parentId != null) {
+            final var parent = new Project();
+            parent.setId(parentId);
+            maybeSet(rs, "parentUuid", (ignored, columnName) -> rs.getObject(columnName, UUID.class), parent::setUuid);
+            maybeSet(rs, "parentName", ResultSet::getString, parent::setName);
+            maybeSet(rs, "parentVersion", ResultSet::getString, parent::setVersion);
+            project.setParent(parent);
+        }
+
+        return project;
+    }
+
+}
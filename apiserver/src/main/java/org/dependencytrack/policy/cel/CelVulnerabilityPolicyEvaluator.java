@@ -22,6 +22,8 @@ import alpine.common.logging.Logger;
 import alpine.common.metrics.Metrics;
 import alpine.server.cache.AbstractCacheManager;
 import alpine.server.cache.CacheManager;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.api.expr.v1alpha1.Type;
 import com.google.protobuf.Timestamp;
 import com.google.protobuf.util.Timestamps;
@@ -41,6 +43,7 @@ import org.dependencytrack.util.PurlUtil;
 import org.projectnessie.cel.tools.ScriptCreateException;
 import org.projectnessie.cel.tools.ScriptExecutionException;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -61,8 +64,6 @@ import static org.dependencytrack.policy.cel.definition.CelPolicyTypes.TYPE_HEAL
 import static org.dependencytrack.policy.cel.definition.CelPolicyTypes.TYPE_LICENSE;
 import static org.dependencytrack.policy.cel.definition.CelPolicyTypes.TYPE_LICENSE_GROUP;
 import static org.dependencytrack.policy.cel.definition.CelPolicyTypes.TYPE_PROJECT;
-import static org.dependencytrack.policy.cel.definition.CelPolicyTypes.TYPE_PROJECT_METADATA;
-import static org.dependencytrack.policy.cel.definition.CelPolicyTypes.TYPE_PROJECT_PROPERTY;
 import static org.dependencytrack.policy.cel.definition.CelPolicyTypes.TYPE_VULNERABILITY;
 
 /**
@@ -76,6 +77,25 @@ public class CelVulnerabilityPolicyEvaluator implements VulnerabilityPolicyEvalu
     private final CelPolicyScriptHost scriptHost;
     private final AbstractCacheManager cacheManager;
 
+    /**
+     * Policies applicable to a project, along with the project data they require, keyed by project UUID.
+     * <p>
+     * Scan results for components of the same project are usually processed in close succession.
+     * Caching saves querying and compiling the policies, and loading the project, for each of them.
+     * Entries expire quickly, so that changes to policies and projects become effective soon.
+     */
+    private final Cache<String, ProjectPolicies> projectPoliciesCache = Caffeine.newBuilder()
+            .maximumSize(1000)
+            .expireAfterWrite(Duration.ofMinutes(1))
+            .build();
+
+    private record ProjectPolicies(
+            Map<String, VulnerabilityPolicy> policiesByName,
+            Map<String, List<CelPolicyScript>> compiledScriptsByPolicyName,
+            MultiValuedMap<Type, String> scriptRequirements,
+            Project scriptArgProject) {
+    }
+
     @SuppressWarnings("unused") // Called by ServiceLoader
     public CelVulnerabilityPolicyEvaluator() {
         this(ServiceLoader.load(VulnerabilityPolicyProvider.class).findFirst().orElseThrow(),
@@ -89,7 +109,6 @@ public class CelVulnerabilityPolicyEvaluator implements VulnerabilityPolicyEvalu
         this.cacheManager = cacheManager;
 
         // FIXME: Caches are not initialized until the first entry is added...
-        cacheManager.put("%s-init".formatted(getClass().getSimpleName()), Project.getDefaultInstance());
         cacheManager.put("%s-init".formatted(getClass().getSimpleName()), Component.getDefaultInstance());
     }
 
@@ -128,51 +147,15 @@ public class CelVulnerabilityPolicyEvaluator implements VulnerabilityPolicyEvalu
             return Collections.emptyMap();
         }
 
-        // TODO: Can this be cached? Would be good to avoid having to do a DB query for each component.
-        //   Alternatively, we can consider caching an implementation detail of the respective provider.
-        final List<VulnerabilityPolicy> applicablePolicies = policyProvider.getApplicablePolicies(project);
-        if (applicablePolicies == null || applicablePolicies.isEmpty()) {
+        final ProjectPolicies projectPolicies = projectPoliciesCache.get(project.getUuid(), ignored -> loadProjectPolicies(project));
+        if (projectPolicies.policiesByName().isEmpty()) {
             LOGGER.debug("No applicable policies found");
             return Collections.emptyMap();
         }
 
-        // Compile condition scripts and group them by policy name.
-        // Using LinkedHashMap to preserve the order of the policies.
-        final var compiledScriptsByPolicyName = new LinkedHashMap<String, List<CelPolicyScript>>();
-        for (final VulnerabilityPolicy policy : applicablePolicies) {
-            for (final String condition : policy.getConditions()) {
-                compiledScriptsByPolicyName.compute(policy.getName(), (policyName, compiledScripts) -> {
-                    final CelPolicyScript compiledScript = compileConditionScript(condition);
-                    if (compiledScript == null) {
-                        return compiledScripts;
-                    }
-                    if (compiledScripts == null) {
-                        final var scripts = new ArrayList<CelPolicyScript>();
-                        scripts.add(compiledScript);
-                        return scripts;
-                    } else {
-                        compiledScripts.add(compiledScript);
-                        return compiledScripts;
-                    }
-                });
-            }
-        }
-
-        // Determine requirements across all condition scripts.
-        final MultiValuedMap<Type, String> scriptRequirements = compiledScriptsByPolicyName.values().stream()
-                .flatMap(Collection::stream)
-                .map(CelPolicyScript::getRequirements)
-                .reduce(new HashSetValuedHashMap<>(), (lhs, rhs) -> {
-                    lhs.putAll(rhs);
-                    return lhs;
-                });
-
-        final Project scriptArgProject;
-        if (scriptRequirements.containsKey(TYPE_PROJECT)) {
-            scriptArgProject = ensureRequirementsLoaded(project, scriptRequirements);
-        } else {
-            scriptArgProject = org.dependencytrack.proto.policy.v1.Project.getDefaultInstance();
-        }
+        final Map<String, List<CelPolicyScript>> compiledScriptsByPolicyName = projectPolicies.compiledScriptsByPolicyName();
+        final MultiValuedMap<Type, String> scriptRequirements = projectPolicies.scriptRequirements();
+        final Project scriptArgProject = projectPolicies.scriptArgProject();
 
         final Component scriptArgComponent;
         if (scriptRequirements.containsKey(TYPE_COMPONENT)) {
@@ -200,9 +183,7 @@ public class CelVulnerabilityPolicyEvaluator implements VulnerabilityPolicyEvalu
             scriptArgHealthMeta = org.dependencytrack.proto.policy.v1.HealthMeta.getDefaultInstance();
         }
 
-        // Index policies by their (unique) name to make lookups easier.
-        final Map<String, VulnerabilityPolicy> policiesByName = applicablePolicies.stream()
-                .collect(Collectors.toMap(VulnerabilityPolicy::getName, Function.identity()));
+        final Map<String, VulnerabilityPolicy> policiesByName = projectPolicies.policiesByName();
 
         // Iterate over all policies IN THE ORDER THEY WERE GIVEN TO US, evaluating their conditions
         // IN THE ORDER THEY WERE GIVEN TO US.
@@ -262,10 +243,56 @@ public class CelVulnerabilityPolicyEvaluator implements VulnerabilityPolicyEvalu
         return matchedPolicies;
     }
 
-    private Project ensureRequirementsLoaded(final Project project, final MultiValuedMap<Type, String> requirements) {
-        return cacheManager.get(Project.class, buildCacheKey(project, requirements), cacheKey ->
-                withJdbiHandle(handle -> handle.attach(CelPolicyDao.class).loadRequiredFields(project, requirements))
-        );
+    private ProjectPolicies loadProjectPolicies(final Project project) {
+        final List<VulnerabilityPolicy> applicablePolicies = policyProvider.getApplicablePolicies(project);
+        if (applicablePolicies == null || applicablePolicies.isEmpty()) {
+            return new ProjectPolicies(Collections.emptyMap(), Collections.emptyMap(),
+                    new HashSetValuedHashMap<>(), Project.getDefaultInstance());
+        }
+
+        // Compile condition scripts and group them by policy name.
+        // Using LinkedHashMap to preserve the order of the policies.
+        final var compiledScriptsByPolicyName = new LinkedHashMap<String, List<CelPolicyScript>>();
+        for (final VulnerabilityPolicy policy : applicablePolicies) {
+            for (final String condition : policy.getConditions()) {
+                compiledScriptsByPolicyName.compute(policy.getName(), (policyName, compiledScripts) -> {
+                    final CelPolicyScript compiledScript = compileConditionScript(condition);
+                    if (compiledScript == null) {
+                        return compiledScripts;
+                    }
+                    if (compiledScripts == null) {
+                        final var scripts = new ArrayList<CelPolicyScript>();
+                        scripts.add(compiledScript);
+                        return scripts;
+                    } else {
+                        compiledScripts.add(compiledScript);
+                        return compiledScripts;
+                    }
+                });
+            }
+        }
+
+        // Determine requirements across all condition scripts.
+        final MultiValuedMap<Type, String> scriptRequirements = compiledScriptsByPolicyName.values().stream()
+                .flatMap(Collection::stream)
+                .map(CelPolicyScript::getRequirements)
+                .reduce(new HashSetValuedHashMap<>(), (lhs, rhs) -> {
+                    lhs.putAll(rhs);
+                    return lhs;
+                });
+
+        final Project scriptArgProject;
+        if (scriptRequirements.containsKey(TYPE_PROJECT)) {
+            scriptArgProject = withJdbiHandle(handle -> handle.attach(CelPolicyDao.class).loadRequiredFields(project, scriptRequirements));
+        } else {
+            scriptArgProject = Project.getDefaultInstance();
+        }
+
+        // Index policies by their (unique) name to make lookups easier.
+        final Map<String, VulnerabilityPolicy> policiesByName = applicablePolicies.stream()
+                .collect(Collectors.toMap(VulnerabilityPolicy::getName, Function.identity()));
+
+        return new ProjectPolicies(policiesByName, compiledScriptsByPolicyName, scriptRequirements, scriptArgProject);
     }
 
     private Component ensureRequirementsLoaded(final Component component, final MultiValuedMap<Type, String> requirements) {
@@ -307,24 +334,6 @@ public class CelVulnerabilityPolicyEvaluator implements VulnerabilityPolicyEvalu
         }
     }
 
-    private static String buildCacheKey(final Project project, final MultiValuedMap<Type, String> requirements) {
-        final var cacheKeyParts = new ArrayList<>(requirements.get(TYPE_PROJECT));
-        if (cacheKeyParts.contains("properties") && requirements.containsKey(TYPE_PROJECT_PROPERTY)) {
-            for (final String propertyFieldName : requirements.get(TYPE_PROJECT_PROPERTY)) {
-                cacheKeyParts.add("property.%s".formatted(propertyFieldName));
-            }
-        }
-        if (cacheKeyParts.contains("metadata") && requirements.containsKey(TYPE_PROJECT_METADATA)) {
-            for (final String metadataFieldName : requirements.get(TYPE_PROJECT_METADATA)) {
-                cacheKeyParts.add("metadata.%s".formatted(metadataFieldName));
-            }
-        }
-
-        final String rawCacheKey = "%s|%s"
-                .formatted(project.getUuid(), cacheKeyParts.stream().sorted().collect(Collectors.joining("|")));
-        return DigestUtils.sha256Hex(rawCacheKey);
-    }
-
     private static String buildCacheKey(final Component component, final MultiValuedMap<Type, String> requirements) {
         final var cacheKeyParts = new ArrayList<>(requirements.get(TYPE_COMPONENT));
         if (cacheKeyParts.contains("resolved_license") && requirements.containsKey(TYPE_LICENSE)) {
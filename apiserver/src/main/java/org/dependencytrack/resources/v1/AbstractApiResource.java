@@ -19,19 +19,32 @@
 package org.dependencytrack.resources.v1;
 
 import alpine.common.logging.Logger;
+import alpine.persistence.PaginatedResult;
+import alpine.persistence.Pagination;
+import alpine.resources.AlpineRequest;
 import alpine.server.resources.AlpineResource;
+import jakarta.ws.rs.core.CacheControl;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.Response;
 import org.dependencytrack.common.MdcScope;
 import org.dependencytrack.exception.ProjectAccessDeniedException;
 import org.dependencytrack.model.Project;
 import org.dependencytrack.persistence.QueryManager;
 import org.dependencytrack.persistence.jdbi.ComponentDao;
+import org.dependencytrack.persistence.jdbi.PaginationCursor;
 import org.dependencytrack.persistence.jdbi.ProjectDao;
 import org.jdbi.v3.core.Handle;
 import org.owasp.security.logging.SecurityMarkers;
 
+import java.util.Date;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
 
 import static java.util.Objects.requireNonNullElse;
 import static org.dependencytrack.common.MdcKeys.MDC_COMPONENT_UUID;
@@ -44,8 +57,141 @@ import static org.dependencytrack.common.MdcKeys.MDC_PROJECT_VERSION;
  */
 abstract class AbstractApiResource extends AlpineResource {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final Logger logger = Logger.getLogger(this.getClass());
 
+    /**
+     * Builds a {@link Response} for a page of rows retrieved via JDBI.
+     * <p>
+     * When cursor-based pagination is requested, the {@value #NEXT_CURSOR_HEADER} header is populated
+     * if more rows may be available. Because counting is skipped when continuing from a cursor,
+     * the {@value #TOTAL_COUNT_HEADER} header is only populated for the first page.
+     *
+     * @param rows                The rows of the page
+     * @param entity              The entity to respond with
+     * @param totalCountExtractor Function to extract the total count from a row
+     * @param cursorKeyExtractor  Function to extract the cursor key from a row
+     * @param <R>                 Type of the rows
+     * @return The {@link Response}
+     */
+    <R> Response buildPageResponse(
+            final List<R> rows,
+            final Object entity,
+            final ToLongFunction<R> totalCountExtractor,
+            final ToLongFunction<R> cursorKeyExtractor
+    ) {
+        return buildPageResponse(rows, entity,
+                () -> rows.isEmpty() ? 0 : totalCountExtractor.applyAsLong(rows.getFirst()),
+                cursorKeyExtractor);
+    }
+
+    /**
+     * Builds a {@link Response} for a {@link PaginatedResult} retrieved via JDO.
+     *
+     * @param result             The {@link PaginatedResult}
+     * @param clazz              Type of the objects in {@code result}
+     * @param cursorKeyExtractor Function to extract the cursor key from an object
+     * @param <T>                Type of the objects in {@code result}
+     * @return The {@link Response}
+     * @see #buildPageResponse(List, Object, ToLongFunction, ToLongFunction)
+     */
+    <T> Response buildPageResponse(
+            final PaginatedResult result,
+            final Class<T> clazz,
+            final ToLongFunction<T> cursorKeyExtractor
+    ) {
+        final List<T> objects = result.getList(clazz);
+        return buildPageResponse(objects, objects, result::getTotal, cursorKeyExtractor);
+    }
+
+    private <R> Response buildPageResponse(
+            final List<R> rows,
+            final Object entity,
+            final LongSupplier totalCountSupplier,
+            final ToLongFunction<R> cursorKeyExtractor
+    ) {
+        final Response.ResponseBuilder responseBuilder = Response.ok(entity);
+
+        final Pagination pagination = getAlpineRequest() != null ? getAlpineRequest().getPagination() : null;
+        if (pagination == null || !pagination.isCursorBased()) {
+            return responseBuilder.header(TOTAL_COUNT_HEADER, totalCountSupplier.getAsLong()).build();
+        }
+
+        if (pagination.getCursor() == null) {
+            responseBuilder.header(TOTAL_COUNT_HEADER, totalCountSupplier.getAsLong());
+        }
+        if (!rows.isEmpty() && rows.size() >= pagination.getLimit()) {
+            final var nextCursor = new PaginationCursor(cursorKeyExtractor.applyAsLong(rows.getLast()));
+            responseBuilder.header(NEXT_CURSOR_HEADER, nextCursor.encode());
+        }
+
+        return responseBuilder.build();
+    }
+
+    /**
+     * Builds a {@link Response} that supports conditional requests via {@code ETag} and {@code Last-Modified}.
+     * <p>
+     * When the request's {@code If-None-Match} or {@code If-Modified-Since} headers indicate that
+     * the client already holds the current representation, {@code 304 Not Modified} is returned,
+     * and {@code entitySupplier} is not invoked.
+     *
+     * @param entityTagPrefix Identifies the representation, irrespective of when it was last modified
+     * @param lastModified    When the underlying data was last modified, or {@code null} if no data exists
+     * @param cacheControl    The {@link CacheControl} directives to respond with
+     * @param entitySupplier  Supplier of the entity to respond with
+     * @return The {@link Response}
+     * @since 5.6.0
+     */
+    Response buildConditionalResponse(
+            final String entityTagPrefix,
+            final Date lastModified,
+            final CacheControl cacheControl,
+            final Supplier<?> entitySupplier
+    ) {
+        final var entityTag = new EntityTag("%s-%s".formatted(entityTagPrefix,
+                lastModified != null ? Long.toHexString(lastModified.getTime()) : "none"));
+
+        final Request request = getRequestContext().getRequest();
+        Response.ResponseBuilder responseBuilder = lastModified != null
+                ? request.evaluatePreconditions(lastModified, entityTag)
+                : request.evaluatePreconditions(entityTag);
+        if (responseBuilder == null) {
+            responseBuilder = Response.ok(entitySupplier.get());
+        }
+        if (lastModified != null) {
+            responseBuilder.lastModified(lastModified);
+        }
+
+        return responseBuilder
+                .tag(entityTag)
+                .cacheControl(cacheControl)
+                .build();
+    }
+
+    /**
+     * Returns a copy of the current {@link AlpineRequest}, without pagination.
+     * <p>
+     * {@link alpine.server.filters.ApiFilter} paginates all requests by default.
+     * Exports however are expected to be complete, irrespective of pagination parameters.
+     *
+     * @return The unpaginated {@link AlpineRequest}, or {@code null} if no {@link AlpineRequest} is available
+     */
+    AlpineRequest getUnpaginatedAlpineRequest() {
+        final AlpineRequest alpineRequest = getAlpineRequest();
+        if (alpineRequest == null) {
+            return null;
+        }
+
+        return new AlpineRequest(
+                alpineRequest.getPrincipal(),
+                /* pagination */ null,
+                alpineRequest.getFilter(),
+                alpineRequest.getOrderBy(),
+                alpineRequest.getOrderDirection(),
+                alpineRequest.getEffectivePermissions());
+    }
+
     /**
      * @see #requireAccess(QueryManager, Project, String)
      */
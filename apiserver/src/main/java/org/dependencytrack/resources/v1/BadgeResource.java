@@ -53,9 +53,11 @@ import jakarta.ws.rs.HttpMethod;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.CacheControl;
 import jakarta.ws.rs.core.Response;
 import javax.naming.AuthenticationException;
 import java.security.Principal;
+import java.util.function.Function;
 
 import static org.dependencytrack.model.ConfigPropertyConstants.GENERAL_BADGE_ENABLED;
 import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
@@ -77,6 +79,12 @@ public class BadgeResource extends AbstractApiResource {
 
     private static final String SVG_MEDIA_TYPE = "image/svg+xml";
 
+    // Badges are commonly embedded in READMEs and dashboards, and thus requested very frequently.
+    // Unauthenticated badges may be cached by shared caches (e.g. image proxies) for a short time,
+    // while authenticated badges must always be revalidated by the client itself.
+    private static final CacheControl PUBLIC_BADGE_CACHE_CONTROL = createBadgeCacheControl(true);
+    private static final CacheControl PRIVATE_BADGE_CACHE_CONTROL = createBadgeCacheControl(false);
+
     private final Logger LOGGER = Logger.getLogger(AuthenticationFilter.class);
 
     // Stand-in methods for alpine.server.filters.AuthenticationFilter and
@@ -199,10 +207,7 @@ public class BadgeResource extends AbstractApiResource {
                 if (!shouldBypassAuth) {
                     requireAccess(qm, project);
                 }
-                final ProjectMetrics metrics = withJdbiHandle(handle ->
-                        handle.attach(MetricsDao.class).getMostRecentProjectMetrics(project.getId()));
-                final Badger badger = new Badger();
-                return Response.ok(badger.generateVulnerabilities(metrics)).build();
+                return buildBadgeResponse("vulns", project, shouldBypassAuth, new Badger()::generateVulnerabilities);
             } else {
                 return Response.status(Response.Status.NOT_FOUND).entity("The project could not be found.").build();
             }
@@ -248,10 +253,7 @@ public class BadgeResource extends AbstractApiResource {
                 if (!shouldBypassAuth) {
                     requireAccess(qm, project);
                 }
-                final ProjectMetrics metrics = withJdbiHandle(handle ->
-                        handle.attach(MetricsDao.class).getMostRecentProjectMetrics(project.getId()));
-                final Badger badger = new Badger();
-                return Response.ok(badger.generateVulnerabilities(metrics)).build();
+                return buildBadgeResponse("vulns", project, shouldBypassAuth, new Badger()::generateVulnerabilities);
             } else {
                 return Response.status(Response.Status.NOT_FOUND).entity("The project could not be found.").build();
             }
@@ -295,10 +297,7 @@ public class BadgeResource extends AbstractApiResource {
                 if (!shouldBypassAuth) {
                     requireAccess(qm, project);
                 }
-                final ProjectMetrics metrics = withJdbiHandle(handle ->
-                        handle.attach(MetricsDao.class).getMostRecentProjectMetrics(project.getId()));
-                final Badger badger = new Badger();
-                return Response.ok(badger.generateViolations(metrics)).build();
+                return buildBadgeResponse("violations", project, shouldBypassAuth, new Badger()::generateViolations);
             } else {
                 return Response.status(Response.Status.NOT_FOUND).entity("The project could not be found.").build();
             }
@@ -344,13 +343,36 @@ public class BadgeResource extends AbstractApiResource {
                 if (!shouldBypassAuth) {
                     requireAccess(qm, project);
                 }
-                final ProjectMetrics metrics = withJdbiHandle(handle ->
-                        handle.attach(MetricsDao.class).getMostRecentProjectMetrics(project.getId()));
-                final Badger badger = new Badger();
-                return Response.ok(badger.generateViolations(metrics)).build();
+                return buildBadgeResponse("violations", project, shouldBypassAuth, new Badger()::generateViolations);
             } else {
                 return Response.status(Response.Status.NOT_FOUND).entity("The project could not be found.").build();
             }
         }
     }
+
+    private Response buildBadgeResponse(
+            final String badgeType,
+            final Project project,
+            final boolean isPublic,
+            final Function<ProjectMetrics, String> renderer) {
+        final ProjectMetrics metrics = withJdbiHandle(handle ->
+                handle.attach(MetricsDao.class).getMostRecentProjectMetrics(project.getId()));
+        return buildConditionalResponse(
+                "%s-%s".formatted(badgeType, project.getUuid()),
+                metrics != null ? metrics.getLastOccurrence() : null,
+                isPublic ? PUBLIC_BADGE_CACHE_CONTROL : PRIVATE_BADGE_CACHE_CONTROL,
+                () -> renderer.apply(metrics));
+    }
+
+    private static CacheControl createBadgeCacheControl(final boolean isPublic) {
+        final var cacheControl = new CacheControl();
+        cacheControl.setNoTransform(false);
+        if (isPublic) {
+            cacheControl.setMaxAge(60);
+        } else {
+            cacheControl.setPrivate(true);
+            cacheControl.setNoCache(true);
+        }
+        return cacheControl;
+    }
 }
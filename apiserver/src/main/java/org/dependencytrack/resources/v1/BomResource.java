@@ -19,7 +19,6 @@
 package org.dependencytrack.resources.v1;
 
 import alpine.common.logging.Logger;
-import alpine.event.framework.Event;
 import alpine.model.ConfigProperty;
 import alpine.notification.Notification;
 import alpine.notification.NotificationLevel;
@@ -33,14 +32,15 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.security.SecurityRequirements;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import org.apache.commons.io.IOUtils;
-import org.apache.commons.io.input.BOMInputStream;
+import org.apache.commons.io.function.IOSupplier;
+import org.apache.commons.io.input.CharSequenceInputStream;
 import org.apache.commons.lang3.StringUtils;
 import org.cyclonedx.CycloneDxMediaType;
 import org.cyclonedx.exception.GeneratorException;
 import org.dependencytrack.auth.Permissions;
 import org.dependencytrack.event.BomUploadEvent;
 import org.dependencytrack.event.kafka.KafkaEventDispatcher;
+import org.dependencytrack.event.queue.DurableEventQueue;
 import org.dependencytrack.model.BomValidationMode;
 import org.dependencytrack.model.Component;
 import org.dependencytrack.model.ConfigPropertyConstants;
@@ -51,6 +51,7 @@ import org.dependencytrack.notification.NotificationGroup;
 import org.dependencytrack.notification.NotificationScope;
 import org.dependencytrack.notification.vo.BomValidationFailed;
 import org.dependencytrack.parser.cyclonedx.CycloneDXExporter;
+import org.dependencytrack.parser.cyclonedx.CycloneDXStreamingExporter;
 import org.dependencytrack.parser.cyclonedx.CycloneDxValidator;
 import org.dependencytrack.parser.cyclonedx.InvalidBomException;
 import org.dependencytrack.persistence.QueryManager;
@@ -60,6 +61,7 @@ import org.dependencytrack.resources.v1.problems.InvalidBomProblemDetails;
 import org.dependencytrack.resources.v1.problems.ProblemDetails;
 import org.dependencytrack.resources.v1.vo.BomSubmitRequest;
 import org.dependencytrack.resources.v1.vo.BomUploadResponse;
+import org.dependencytrack.storage.BomUploadFiles;
 import org.dependencytrack.storage.FileStorage;
 import org.glassfish.jersey.media.multipart.BodyPartEntity;
 import org.glassfish.jersey.media.multipart.FormDataBodyPart;
@@ -82,16 +84,18 @@ import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.WebApplicationException;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
 import java.security.Principal;
-import java.time.Instant;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.List;
 import java.util.Set;
+import java.util.UUID;
 
 import static java.util.function.Predicate.not;
 import static org.dependencytrack.model.ConfigPropertyConstants.BOM_VALIDATION_MODE;
@@ -151,40 +155,38 @@ public class BomResource extends AbstractApiResource {
             }
             requireAccess(qm, project);
 
-            final CycloneDXExporter exporter;
+            final CycloneDXExporter.Variant exportVariant;
             if (StringUtils.trimToNull(variant) == null || variant.equalsIgnoreCase("inventory")) {
-                exporter = new CycloneDXExporter(CycloneDXExporter.Variant.INVENTORY, qm);
+                exportVariant = CycloneDXExporter.Variant.INVENTORY;
             } else if (variant.equalsIgnoreCase("withVulnerabilities")) {
-                exporter = new CycloneDXExporter(CycloneDXExporter.Variant.INVENTORY_WITH_VULNERABILITIES, qm);
+                exportVariant = CycloneDXExporter.Variant.INVENTORY_WITH_VULNERABILITIES;
             } else if (variant.equalsIgnoreCase("vdr")) {
-                exporter = new CycloneDXExporter(CycloneDXExporter.Variant.VDR, qm);
+                exportVariant = CycloneDXExporter.Variant.VDR;
             } else {
                 return Response.status(Response.Status.BAD_REQUEST).entity("Invalid BOM variant specified.").build();
             }
 
-            try {
-                if (StringUtils.trimToNull(format) == null || format.equalsIgnoreCase("JSON")) {
-                    if (download) {
-                        return Response.ok(exporter.export(exporter.create(project), CycloneDXExporter.Format.JSON), MediaType.APPLICATION_OCTET_STREAM)
-                                .header("content-disposition", "attachment; filename=\"" + project.getUuid() + "-" + variant + ".cdx.json\"").build();
-                    } else {
-                        return Response.ok(exporter.export(exporter.create(project), CycloneDXExporter.Format.JSON),
-                                CycloneDxMediaType.APPLICATION_CYCLONEDX_JSON).build();
-                    }
-                } else if (format.equalsIgnoreCase("XML")) {
-                    if (download) {
-                        return Response.ok(exporter.export(exporter.create(project), CycloneDXExporter.Format.XML), MediaType.APPLICATION_OCTET_STREAM)
-                                .header("content-disposition", "attachment; filename=\"" + project.getUuid() + "-" + variant + ".cdx.xml\"").build();
-                    } else {
-                        return Response.ok(exporter.export(exporter.create(project), CycloneDXExporter.Format.XML),
-                                CycloneDxMediaType.APPLICATION_CYCLONEDX_XML).build();
-                    }
+            final UUID projectUuid = project.getUuid();
+            if (StringUtils.trimToNull(format) == null || format.equalsIgnoreCase("JSON")) {
+                final var exporter = new CycloneDXStreamingExporter(exportVariant, CycloneDXExporter.Format.JSON);
+                final StreamingOutput output = outputStream -> exporter.export(projectUuid, outputStream);
+                if (download) {
+                    return Response.ok(output, MediaType.APPLICATION_OCTET_STREAM)
+                            .header("content-disposition", "attachment; filename=\"" + projectUuid + "-" + variant + ".cdx.json\"").build();
                 } else {
-                    return Response.status(Response.Status.BAD_REQUEST).entity("Invalid BOM format specified.").build();
+                    return Response.ok(output, CycloneDxMediaType.APPLICATION_CYCLONEDX_JSON).build();
                 }
-            } catch (GeneratorException e) {
-                LOGGER.error("An error occurred while building a CycloneDX document for export", e);
-                return Response.status(Response.Status.INTERNAL_SERVER_ERROR).build();
+            } else if (format.equalsIgnoreCase("XML")) {
+                final var exporter = new CycloneDXStreamingExporter(exportVariant, CycloneDXExporter.Format.XML);
+                final StreamingOutput output = outputStream -> exporter.export(projectUuid, outputStream);
+                if (download) {
+                    return Response.ok(output, MediaType.APPLICATION_OCTET_STREAM)
+                            .header("content-disposition", "attachment; filename=\"" + projectUuid + "-" + variant + ".cdx.xml\"").build();
+                } else {
+                    return Response.ok(output, CycloneDxMediaType.APPLICATION_CYCLONEDX_XML).build();
+                }
+            } else {
+                return Response.status(Response.Status.BAD_REQUEST).entity("Invalid BOM format specified.").build();
             }
         }
     }
@@ -466,19 +468,26 @@ public class BomResource extends AbstractApiResource {
         if (project != null) {
             requireAccess(qm, project);
 
+            final var bomUploadToken = UUID.randomUUID();
             final FileMetadata bomFileMetadata;
-            try (final var encodedInputStream = new ByteArrayInputStream(encodedBomData.getBytes(StandardCharsets.UTF_8));
+            final String bomContentDigest;
+            try (final var encodedInputStream = CharSequenceInputStream.builder()
+                         .setCharSequence(encodedBomData)
+                         .setCharset(StandardCharsets.UTF_8)
+                         .get();
                  final var decodedInputStream = Base64.getDecoder().wrap(encodedInputStream);
-                 final var byteOrderMarkInputStream = new BOMInputStream(decodedInputStream)) {
-                bomFileMetadata = validateAndStoreBom(IOUtils.toByteArray(byteOrderMarkInputStream), project);
+                 final var bomUploadSpool = BomUploadSpool.of(decodedInputStream)) {
+                bomFileMetadata = validateAndStoreBom(bomUploadSpool, project, bomUploadToken);
+                bomContentDigest = bomUploadSpool.sha256Hex();
             } catch (IOException e) {
                 LOGGER.error("An unexpected error occurred while validating or storing a BOM uploaded to project: " + project.getUuid(), e);
                 return Response.status(Response.Status.INTERNAL_SERVER_ERROR).build();
             }
 
-            final BomUploadEvent bomUploadEvent = new BomUploadEvent(qm.detach(Project.class, project.getId()), bomFileMetadata);
+            final BomUploadEvent bomUploadEvent = new BomUploadEvent(qm.detach(Project.class, project.getId()), bomFileMetadata, bomContentDigest);
+            bomUploadEvent.setChainIdentifier(bomUploadToken);
             qm.createWorkflowSteps(bomUploadEvent.getChainIdentifier());
-            Event.dispatch(bomUploadEvent);
+            DurableEventQueue.dispatch(bomUploadEvent);
 
             BomUploadResponse bomUploadResponse = new BomUploadResponse();
             bomUploadResponse.setToken(bomUploadEvent.getChainIdentifier());
@@ -497,10 +506,13 @@ public class BomResource extends AbstractApiResource {
             if (project != null) {
                 requireAccess(qm, project);
 
+                final var bomUploadToken = UUID.randomUUID();
                 final FileMetadata bomFileMetadata;
+                final String bomContentDigest;
                 try (final var inputStream = bodyPartEntity.getInputStream();
-                     final var byteOrderMarkInputStream = new BOMInputStream(inputStream)) {
-                    bomFileMetadata = validateAndStoreBom(IOUtils.toByteArray(byteOrderMarkInputStream), project, artifactPart.getMediaType());
+                     final var bomUploadSpool = BomUploadSpool.of(inputStream)) {
+                    bomFileMetadata = validateAndStoreBom(bomUploadSpool, project, bomUploadToken, artifactPart.getMediaType());
+                    bomContentDigest = bomUploadSpool.sha256Hex();
                 } catch (IOException e) {
                     LOGGER.error("An unexpected error occurred while validating or storing a BOM uploaded to project: " + project.getUuid(), e);
                     return Response.status(Response.Status.INTERNAL_SERVER_ERROR).build();
@@ -508,10 +520,11 @@ public class BomResource extends AbstractApiResource {
 
                 // todo: make option to combine all the bom data so components are reconciled in a single pass.
                 // todo: https://github.com/DependencyTrack/dependency-track/issues/130
-                final BomUploadEvent bomUploadEvent = new BomUploadEvent(qm.detach(Project.class, project.getId()), bomFileMetadata);
+                final BomUploadEvent bomUploadEvent = new BomUploadEvent(qm.detach(Project.class, project.getId()), bomFileMetadata, bomContentDigest);
+                bomUploadEvent.setChainIdentifier(bomUploadToken);
 
                 qm.createWorkflowSteps(bomUploadEvent.getChainIdentifier());
-                Event.dispatch(bomUploadEvent);
+                DurableEventQueue.dispatch(bomUploadEvent);
 
                 BomUploadResponse bomUploadResponse = new BomUploadResponse();
                 bomUploadResponse.setToken(bomUploadEvent.getChainIdentifier());
@@ -523,12 +536,12 @@ public class BomResource extends AbstractApiResource {
         return Response.ok().build();
     }
 
-    private FileMetadata validateAndStoreBom(final byte[] bomBytes, final Project project) throws IOException {
-        return validateAndStoreBom(bomBytes, project, null);
+    private FileMetadata validateAndStoreBom(final BomUploadSpool bomUploadSpool, final Project project, final UUID token) throws IOException {
+        return validateAndStoreBom(bomUploadSpool, project, token, null);
     }
 
-    private FileMetadata validateAndStoreBom(final byte[] bomBytes, final Project project, MediaType mediaType) throws IOException {
-        validate(bomBytes, project, mediaType);
+    private FileMetadata validateAndStoreBom(final BomUploadSpool bomUploadSpool, final Project project, final UUID token, MediaType mediaType) throws IOException {
+        validate(bomUploadSpool::open, project, mediaType);
 
         // TODO: Provide mediaType to FileStorage#store. Should be any of:
         //   * application/vnd.cyclonedx+json
@@ -536,8 +549,12 @@ public class BomResource extends AbstractApiResource {
         //   * application/x.vnd.cyclonedx+protobuf
         //  Consider also attaching the detected version, i.e. application/vnd.cyclonedx+xml; version=1.6
         //  See https://cyclonedx.org/specification/overview/ -> Media Types.
+        //
+        // Files are content-addressed, such that identical BOMs uploaded in short succession
+        // are only stored once. See BomUploadFiles.
         try (final var fileStorage = PluginManager.getInstance().getExtension(FileStorage.class)) {
-            return fileStorage.store("bom-upload/%s_%s".formatted(Instant.now().toEpochMilli(), project.getUuid()), bomBytes);
+            return BomUploadFiles.acquire(
+                    fileStorage, bomUploadSpool.sha256Hex(), token, bomUploadSpool.size(), bomUploadSpool::open);
         }
     }
 
@@ -546,12 +563,16 @@ public class BomResource extends AbstractApiResource {
     }
 
     static void validate(final byte[] bomBytes, final Project project, MediaType mediaType) {
+        validate(() -> new ByteArrayInputStream(bomBytes), project, mediaType);
+    }
+
+    private static void validate(final IOSupplier<InputStream> bomInputStreamSupplier, final Project project, MediaType mediaType) {
         if (!shouldValidate(project)) {
             return;
         }
 
         try {
-            CycloneDxValidator.getInstance().validate(bomBytes, mediaType);
+            CycloneDxValidator.getInstance().validate(bomInputStreamSupplier, mediaType);
         } catch (InvalidBomException e) {
             final var problemDetails = new InvalidBomProblemDetails();
             problemDetails.setStatus(400);
@@ -0,0 +1,120 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.resources.v1;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.io.input.BOMInputStream;
+import org.apache.commons.io.output.DeferredFileOutputStream;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+
+/**
+ * Buffer for uploaded BOMs that spills to a temporary file once it grows beyond a threshold.
+ * <p>
+ * Uploaded BOMs need to be read more than once (validation, then storage).
+ * Spooling them avoids holding the entire document on the heap, which is
+ * problematic for BOMs that are tens or hundreds of MiB in size.
+ * <p>
+ * Byte order marks are stripped from the content while spooling.
+ * The SHA-256 digest of the spooled content is computed along the way.
+ *
+ * @since 5.6.0
+ */
+final class BomUploadSpool implements Closeable {
+
+    private static final int DEFAULT_THRESHOLD_BYTES = 1024 * 1024;
+
+    private final DeferredFileOutputStream outputStream;
+    private final MessageDigest messageDigest;
+    private String sha256Hex;
+
+    private BomUploadSpool(final DeferredFileOutputStream outputStream) {
+        this.outputStream = outputStream;
+        this.messageDigest = DigestUtils.getSha256Digest();
+    }
+
+    static BomUploadSpool of(final InputStream inputStream) throws IOException {
+        return of(inputStream, DEFAULT_THRESHOLD_BYTES);
+    }
+
+    static BomUploadSpool of(final InputStream inputStream, final int thresholdBytes) throws IOException {
+        final DeferredFileOutputStream outputStream = DeferredFileOutputStream.builder()
+                .setThreshold(thresholdBytes)
+                .setPrefix("dtrack-bom-upload-")
+                .setSuffix(".tmp")
+                .get();
+
+        final var spool = new BomUploadSpool(outputStream);
+        try (final var byteOrderMarkInputStream = BOMInputStream.builder().setInputStream(inputStream).get();
+             final var digestInputStream = new DigestInputStream(byteOrderMarkInputStream, spool.messageDigest)) {
+            digestInputStream.transferTo(outputStream);
+            outputStream.close();
+            spool.sha256Hex = HexFormat.of().formatHex(spool.messageDigest.digest());
+        } catch (IOException | RuntimeException e) {
+            spool.close();
+            throw e;
+        }
+
+        return spool;
+    }
+
+    /**
+     * @return A new {@link InputStream} of the spooled content. Must be closed by the caller.
+     * @throws IOException When the spooled content could not be opened
+     */
+    InputStream open() throws IOException {
+        return outputStream.toInputStream();
+    }
+
+    /**
+     * @return The number of spooled bytes
+     */
+    long size() {
+        return outputStream.getByteCount();
+    }
+
+    /**
+     * @return The hex-encoded SHA-256 digest of the spooled content
+     */
+    String sha256Hex() {
+        return sha256Hex;
+    }
+
+    boolean isInMemory() {
+        return outputStream.isInMemory();
+    }
+
+    @Override
+    public void close() throws IOException {
+        outputStream.close();
+
+        final Path path = outputStream.getPath();
+        if (path != null) {
+            Files.deleteIfExists(path);
+        }
+    }
+
+}
@@ -22,6 +22,7 @@ import alpine.common.logging.Logger;
 import alpine.event.framework.Event;
 import alpine.persistence.PaginatedResult;
 import alpine.server.auth.PermissionRequired;
+import alpine.server.resources.AllowCursorPagination;
 import com.github.packageurl.MalformedPackageURLException;
 import com.github.packageurl.PackageURL;
 import io.swagger.v3.oas.annotations.Operation;
@@ -118,7 +119,10 @@ public class ComponentResource extends AbstractApiResource {
             @ApiResponse(
                     responseCode = "200",
                     description = "A list of all components for a given project",
-                    headers = @Header(name = TOTAL_COUNT_HEADER, description = "The total number of components", schema = @Schema(format = "integer")),
+                    headers = {
+                            @Header(name = TOTAL_COUNT_HEADER, description = "The total number of components", schema = @Schema(format = "integer")),
+                            @Header(name = NEXT_CURSOR_HEADER, description = "Cursor for the next page, when using cursor-based pagination")
+                    },
                     content = @Content(array = @ArraySchema(schema = @Schema(implementation = Component.class)))
             ),
             @ApiResponse(responseCode = "401", description = "Unauthorized"),
@@ -128,6 +132,7 @@ public class ComponentResource extends AbstractApiResource {
                     content = @Content(schema = @Schema(implementation = ProblemDetails.class), mediaType = ProblemDetails.MEDIA_TYPE_JSON)),
             @ApiResponse(responseCode = "404", description = "The project could not be found")
     })
+    @AllowCursorPagination
     @PermissionRequired(Permissions.Constants.VIEW_PORTFOLIO)
     public Response getAllComponents(
             @Parameter(description = "The UUID of the project to retrieve components for", schema = @Schema(type = "string", format = "uuid"), required = true)
@@ -141,7 +146,7 @@ public class ComponentResource extends AbstractApiResource {
             if (project != null) {
                 requireAccess(qm, project);
                 final PaginatedResult result = qm.getComponents(project, true, onlyOutdated, onlyDirect);
-                return Response.ok(result.getObjects()).header(TOTAL_COUNT_HEADER, result.getTotal()).build();
+                return buildPageResponse(result, Component.class, Component::getId);
             } else {
                 return Response.status(Response.Status.NOT_FOUND).entity("The project could not be found.").build();
             }
@@ -20,11 +20,8 @@ package org.dependencytrack.resources.v1;
 
 import alpine.common.logging.Logger;
 import alpine.event.framework.Event;
-import alpine.model.About;
 import alpine.server.auth.PermissionRequired;
-import com.github.packageurl.PackageURL;
-import io.pebbletemplates.pebble.PebbleEngine;
-import io.pebbletemplates.pebble.template.PebbleTemplate;
+import alpine.server.resources.AllowCursorPagination;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.headers.Header;
@@ -50,31 +47,25 @@ import org.dependencytrack.event.PortfolioRepositoryMetaAnalysisEvent;
 import org.dependencytrack.event.PortfolioVulnerabilityAnalysisEvent;
 import org.dependencytrack.event.ProjectRepositoryMetaAnalysisEvent;
 import org.dependencytrack.event.ProjectVulnerabilityAnalysisEvent;
-import org.dependencytrack.integrations.FindingPackagingFormat;
 import org.dependencytrack.model.Finding;
 import org.dependencytrack.model.GroupedFinding;
 import org.dependencytrack.model.Project;
-import org.dependencytrack.model.RepositoryMetaComponent;
-import org.dependencytrack.model.RepositoryType;
 import org.dependencytrack.model.Vulnerability;
 import org.dependencytrack.model.validation.ValidUuid;
 import org.dependencytrack.persistence.QueryManager;
-import org.dependencytrack.persistence.RepositoryQueryManager;
 import org.dependencytrack.persistence.jdbi.FindingDao;
-import org.dependencytrack.persistence.jdbi.RepositoryMetaDao;
+import org.dependencytrack.resources.v1.export.CsvFindingWriter;
+import org.dependencytrack.resources.v1.export.FindingsStreamingOutput;
+import org.dependencytrack.resources.v1.export.FpfFindingWriter;
+import org.dependencytrack.resources.v1.export.SarifFindingWriter;
 import org.dependencytrack.resources.v1.openapi.PaginatedApi;
 import org.dependencytrack.resources.v1.problems.ProblemDetails;
 import org.dependencytrack.resources.v1.vo.BomUploadResponse;
-import org.dependencytrack.util.PurlUtil;
 
-import java.io.IOException;
-import java.io.StringWriter;
-import java.io.Writer;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -96,6 +87,7 @@ public class FindingResource extends AbstractApiResource {
 
     private static final Logger LOGGER = Logger.getLogger(FindingResource.class);
     public static final String MEDIA_TYPE_SARIF_JSON = "application/sarif+json";
+    public static final String MEDIA_TYPE_CSV = "text/csv";
 
     @GET
     @Path("/project/{uuid}")
@@ -136,21 +128,19 @@ public class FindingResource extends AbstractApiResource {
             final Project project = qm.getObjectByUuid(Project.class, uuid);
             if (project != null) {
                 requireAccess(qm, project);
+                final long projectId = project.getId();
+                if (acceptHeader != null && acceptHeader.contains(MEDIA_TYPE_SARIF_JSON)) {
+                    final var output = new FindingsStreamingOutput(getUnpaginatedAlpineRequest(),
+                            dao -> dao.streamFindingsByProject(projectId, suppressed, hasAnalysis),
+                            SarifFindingWriter::new);
+                    return Response.ok(output, MEDIA_TYPE_SARIF_JSON)
+                            .header("content-disposition", "attachment; filename=\"findings-" + uuid + ".sarif\"")
+                            .build();
+                }
                 List<FindingDao.FindingRow> findingRows = withJdbiHandle(getAlpineRequest(), handle ->
-                        handle.attach(FindingDao.class).getFindingsByProject(project.getId(), suppressed, hasAnalysis));
+                        handle.attach(FindingDao.class).getFindingsByProject(projectId, suppressed, hasAnalysis));
                 final long totalCount = findingRows.isEmpty() ? 0 : findingRows.getFirst().totalCount();
                 List<Finding> findings = findingRows.stream().map(Finding::new).toList();
-                findings = mapComponentLatestVersion(findings);
-                if (acceptHeader != null && acceptHeader.contains(MEDIA_TYPE_SARIF_JSON)) {
-                    try {
-                        return Response.ok(generateSARIF(findings), MEDIA_TYPE_SARIF_JSON)
-                                .header("content-disposition", "attachment; filename=\"findings-" + uuid + ".sarif\"")
-                                .build();
-                    } catch (IOException ioException) {
-                        LOGGER.error(ioException.getMessage(), ioException);
-                        return Response.status(Response.Status.INTERNAL_SERVER_ERROR).entity("An error occurred while generating SARIF file").build();
-                    }
-                }
                 if (source != null) {
                     findings = findings.stream().filter(finding -> source.name().equals(finding.getVulnerability().get("source"))).collect(Collectors.toList());
                 }
@@ -188,10 +178,12 @@ public class FindingResource extends AbstractApiResource {
             final Project project = qm.getObjectByUuid(Project.class, uuid);
             if (project != null) {
                 requireAccess(qm, project);
-                final List<Finding> findings = withJdbiHandle(getAlpineRequest(), handle ->
-                        handle.attach(FindingDao.class).getFindings(project.getId(), false));
-                final FindingPackagingFormat fpf = new FindingPackagingFormat(UUID.fromString(uuid), findings);
-                final Response.ResponseBuilder rb = Response.ok(fpf.getDocument().toString(), "application/json");
+                final long projectId = project.getId();
+                final UUID projectUuid = project.getUuid();
+                final var output = new FindingsStreamingOutput(getUnpaginatedAlpineRequest(),
+                        dao -> dao.streamFindingsByProject(projectId, false, null),
+                        outputStream -> new FpfFindingWriter(outputStream, projectUuid));
+                final Response.ResponseBuilder rb = Response.ok(output, "application/json");
                 rb.header("Content-Disposition", "inline; filename=findings-" + uuid + ".fpf");
                 return rb.build();
             } else {
@@ -267,21 +259,31 @@ public class FindingResource extends AbstractApiResource {
     }
 
     @GET
-    @Produces(MediaType.APPLICATION_JSON)
+    @Produces({MediaType.APPLICATION_JSON, MEDIA_TYPE_CSV, MEDIA_TYPE_SARIF_JSON})
     @Operation(
-            summary = "Returns a list of all findings",
-            description = "<p>Requires permission <strong>VIEW_VULNERABILITY</strong></p>"
+            summary = "Returns a list of all findings, or exports all findings as CSV or SARIF file if Accept: text/csv or Accept: application/sarif+json header is provided",
+            description = """
+                    <p>Exports are not paginated, and contain all findings matching the given filters.</p>
+                    <p>Requires permission <strong>VIEW_VULNERABILITY</strong></p>"""
     )
     @ApiResponses(value = {
             @ApiResponse(
                     responseCode = "200",
-                    description = "A list of all findings",
-                    headers = @Header(name = TOTAL_COUNT_HEADER, description = "The total number of findings", schema = @Schema(format = "integer")),
-                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = Finding.class)))
+                    description = "A list of all findings, or a CSV or SARIF file",
+                    headers = {
+                            @Header(name = TOTAL_COUNT_HEADER, description = "The total number of findings", schema = @Schema(format = "integer")),
+                            @Header(name = NEXT_CURSOR_HEADER, description = "Cursor for the next page, when using cursor-based pagination")
+                    },
+                    content = {
+                            @Content(array = @ArraySchema(schema = @Schema(implementation = Finding.class)), mediaType = MediaType.APPLICATION_JSON),
+                            @Content(schema = @Schema(type = "string"), mediaType = MEDIA_TYPE_CSV),
+                            @Content(schema = @Schema(type = "string"), mediaType = MEDIA_TYPE_SARIF_JSON)
+                    }
             ),
             @ApiResponse(responseCode = "401", description = "Unauthorized"),
     })
     @PaginatedApi
+    @AllowCursorPagination
     @PermissionRequired(Permissions.Constants.VIEW_VULNERABILITY)
     public Response getAllFindings(@Parameter(description = "Show inactive projects")
                                    @QueryParam("showInactive") boolean showInactive,
@@ -312,7 +314,8 @@ public class FindingResource extends AbstractApiResource {
                                    @Parameter(description = "Filter CVSSv3 from this value")
                                    @QueryParam("cvssv3From") String cvssv3From,
                                    @Parameter(description = "Filter CVSSv3 from this Value")
-                                   @QueryParam("cvssv3To") String cvssv3To) {
+                                   @QueryParam("cvssv3To") String cvssv3To,
+                                   @HeaderParam("accept") String acceptHeader) {
         final Map<String, String> filters = new HashMap<>();
         filters.put("severity", severity);
         filters.put("analysisStatus", analysisStatus);
@@ -327,12 +330,25 @@ public class FindingResource extends AbstractApiResource {
         filters.put("cvssv2To", cvssv2To);
         filters.put("cvssv3From", cvssv3From);
         filters.put("cvssv3To", cvssv3To);
+        if (acceptHeader != null && acceptHeader.contains(MEDIA_TYPE_SARIF_JSON)) {
+            final var output = new FindingsStreamingOutput(getUnpaginatedAlpineRequest(),
+                    dao -> dao.streamAllFindings(filters, showSuppressed, showInactive),
+                    SarifFindingWriter::new);
+            return Response.ok(output, MEDIA_TYPE_SARIF_JSON)
+                    .header("content-disposition", "attachment; filename=\"findings.sarif\"")
+                    .build();
+        } else if (acceptHeader != null && acceptHeader.contains(MEDIA_TYPE_CSV)) {
+            final var output = new FindingsStreamingOutput(getUnpaginatedAlpineRequest(),
+                    dao -> dao.streamAllFindings(filters, showSuppressed, showInactive),
+                    CsvFindingWriter::new);
+            return Response.ok(output, MEDIA_TYPE_CSV)
+                    .header("content-disposition", "attachment; filename=\"findings.csv\"")
+                    .build();
+        }
         List<FindingDao.FindingRow> findingRows = withJdbiHandle(getAlpineRequest(), handle -> handle.attach(FindingDao.class)
                 .getAllFindings(filters, showSuppressed, showInactive));
-        final long totalCount = findingRows.isEmpty() ? 0 : findingRows.getFirst().totalCount();
-        List<Finding> findings = findingRows.stream().map(Finding::new).toList();
-        findings = mapComponentLatestVersion(findings);
-        return Response.ok(findings).header(TOTAL_COUNT_HEADER, totalCount).build();
+        final List<Finding> findings = findingRows.stream().map(Finding::new).toList();
+        return buildPageResponse(findingRows, findings, FindingDao.FindingRow::totalCount, FindingDao.FindingRow::attributionId);
     }
 
     @GET
@@ -396,68 +412,4 @@ public class FindingResource extends AbstractApiResource {
         return Response.ok(findings).header(TOTAL_COUNT_HEADER, totalCount).build();
     }
 
-    private String generateSARIF(List<Finding> findings) throws IOException {
-        final PebbleEngine engine = new PebbleEngine.Builder()
-                .newLineTrimming(false)
-                .defaultEscapingStrategy("json")
-                .build();
-        final PebbleTemplate sarifTemplate = engine.getTemplate("templates/findings/sarif.peb");
-
-        final Map<String, Object> context = new HashMap<>();
-        final About about = new About();
-
-        // Using "vulnId" as key, forming a list of unique vulnerabilities across all findings
-        List<Map<String, Object>> uniqueVulnerabilities = findings.stream()
-                .collect(Collectors.toMap(
-                        finding -> finding.getVulnerability().get("vulnId"),
-                        Finding::getVulnerability,
-                        (existingVuln, replacementVuln) -> existingVuln))
-                .values()
-                .stream()
-                .toList();
-
-        context.put("findings", findings);
-        context.put("dependencyTrackVersion", about.getVersion());
-        context.put("uniqueVulnerabilities", uniqueVulnerabilities);
-
-        try (final Writer writer = new StringWriter()) {
-            sarifTemplate.evaluate(writer, context);
-            return writer.toString();
-        }
-    }
-
-    public static List<Finding> mapComponentLatestVersion(List<Finding> findingList){
-        final Map<RepositoryQueryManager.RepositoryMetaComponentSearch, List<Finding>> findingsByMetaComponentSearch = findingList.stream()
-                .filter(finding -> finding.getComponent().get("purl") != null)
-                .map(finding -> {
-                    final PackageURL purl = PurlUtil.silentPurl((String) finding.getComponent().get("purl"));
-                    if (purl == null) {
-                        return null;
-                    }
-
-                    final var repositoryType = RepositoryType.resolve(purl);
-                    if (repositoryType == RepositoryType.UNSUPPORTED) {
-                        return null;
-                    }
-                    final var search = new RepositoryQueryManager.RepositoryMetaComponentSearch(repositoryType, purl.getNamespace(), purl.getName());
-                    return Map.entry(search, finding);
-                })
-                .filter(Objects::nonNull)
-                .collect(Collectors.groupingBy(
-                        Map.Entry::getKey,
-                        Collectors.mapping(Map.Entry::getValue, Collectors.toList())
-                ));
-        final List<RepositoryMetaComponent> repositoryMetaComponents = withJdbiHandle(handle ->
-                handle.attach(RepositoryMetaDao.class).getRepositoryMetaComponents(findingsByMetaComponentSearch.keySet()));
-        repositoryMetaComponents.forEach(metaComponent -> {
-            final var search = new RepositoryQueryManager.RepositoryMetaComponentSearch(metaComponent.getRepositoryType(), metaComponent.getNamespace(), metaComponent.getName());
-            final List<Finding> affectedFindings = findingsByMetaComponentSearch.get(search);
-            if (affectedFindings != null) {
-                for (final Finding finding : affectedFindings) {
-                    finding.getComponent().put("latestVersion", metaComponent.getLatestVersion());
-                }
-            }
-        });
-        return findingList;
-    }
 }
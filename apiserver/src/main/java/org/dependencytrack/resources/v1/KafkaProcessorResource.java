@@ -0,0 +1,102 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.resources.v1;
+
+import alpine.server.auth.PermissionRequired;
+import alpine.server.resources.AlpineResource;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.security.SecurityRequirements;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import org.dependencytrack.auth.Permissions;
+import org.dependencytrack.resources.v1.vo.DeadLetterReplayResponse;
+
+import java.util.NoSuchElementException;
+
+import static org.dependencytrack.event.kafka.processor.ProcessorInitializer.PROCESSOR_MANAGER;
+
+/**
+ * JAX-RS resources for operating Kafka processors.
+ *
+ * @since 5.6.0
+ */
+@Path("/v1/kafka/processor")
+@Tag(name = "kafka")
+@SecurityRequirements({
+        @SecurityRequirement(name = "ApiKeyAuth"),
+        @SecurityRequirement(name = "BearerAuth")
+})
+public class KafkaProcessorResource extends AlpineResource {
+
+    @POST
+    @Path("/{name}/dead-letter/replay")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(
+            summary = "Replays dead-lettered records of a Kafka processor",
+            description = """
+                    <p>
+                      Publishes records from the dead letter topic of the processor back to the topic
+                      the processor consumes from. Subsequent replays continue where the previous replay left off.
+                    </p>
+                    <p>Requires permission <strong>SYSTEM_CONFIGURATION</strong> or <strong>SYSTEM_CONFIGURATION_UPDATE</strong></p>""")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "The number of replayed records",
+                    content = @Content(schema = @Schema(implementation = DeadLetterReplayResponse.class))
+            ),
+            @ApiResponse(responseCode = "400", description = "Dead-lettering is not enabled for the processor"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "404", description = "The processor could not be found")
+    })
+    @PermissionRequired({Permissions.Constants.SYSTEM_CONFIGURATION, Permissions.Constants.SYSTEM_CONFIGURATION_UPDATE})
+    public Response replayDeadLetters(
+            @Parameter(description = "The name of the processor", required = true)
+            @PathParam("name") final String name,
+            @Parameter(description = "The maximum number of records to replay")
+            @QueryParam("limit") @DefaultValue("100") @Min(1) @Max(10000) final int limit
+    ) {
+        final int replayedCount;
+        try {
+            replayedCount = PROCESSOR_MANAGER.replayDeadLetters(name, limit);
+        } catch (NoSuchElementException e) {
+            return Response.status(Response.Status.NOT_FOUND).entity("The processor could not be found").build();
+        } catch (IllegalStateException e) {
+            return Response.status(Response.Status.BAD_REQUEST).entity(e.getMessage()).build();
+        }
+
+        return Response.ok(new DeadLetterReplayResponse(replayedCount)).build();
+    }
+
+}
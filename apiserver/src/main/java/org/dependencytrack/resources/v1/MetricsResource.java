@@ -34,6 +34,7 @@ import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.CacheControl;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import org.apache.commons.lang3.time.DateUtils;
@@ -41,6 +42,7 @@ import org.dependencytrack.auth.Permissions;
 import org.dependencytrack.event.ComponentMetricsUpdateEvent;
 import org.dependencytrack.event.PortfolioMetricsUpdateEvent;
 import org.dependencytrack.event.ProjectMetricsUpdateEvent;
+import org.dependencytrack.event.queue.DurableEventQueue;
 import org.dependencytrack.model.Component;
 import org.dependencytrack.model.DependencyMetrics;
 import org.dependencytrack.model.PortfolioMetrics;
@@ -76,6 +78,13 @@ import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
 })
 public class MetricsResource extends AbstractApiResource {
 
+    /**
+     * Current metrics may change at any time, but only ever do so when a new metrics
+     * snapshot is recorded. Clients are thus asked to always revalidate, which is cheap
+     * thanks to {@code ETag}s being derived from the snapshot's last occurrence.
+     */
+    private static final CacheControl CURRENT_METRICS_CACHE_CONTROL = createCurrentMetricsCacheControl();
+
     @GET
     @Path("/vulnerability")
     @Produces(MediaType.APPLICATION_JSON)
@@ -118,7 +127,10 @@ public class MetricsResource extends AbstractApiResource {
     public Response getPortfolioCurrentMetrics() {
         PortfolioMetrics metrics = withJdbiHandle(handle ->
                 handle.attach(MetricsDao.class).getMostRecentPortfolioMetrics());
-        return Response.ok(metrics).build();
+        if (metrics == null) {
+            return Response.ok().build();
+        }
+        return buildConditionalResponse("portfolio", metrics.getLastOccurrence(), CURRENT_METRICS_CACHE_CONTROL, () -> metrics);
     }
 
     @GET
@@ -224,7 +236,10 @@ public class MetricsResource extends AbstractApiResource {
             }
             requireProjectAccess(handle, UUID.fromString(uuid));
             final ProjectMetrics metrics = handle.attach(MetricsDao.class).getMostRecentProjectMetrics(projectId);
-            return Response.ok(metrics).build();
+            if (metrics == null) {
+                return Response.ok().build();
+            }
+            return buildConditionalResponse("project-" + uuid, metrics.getLastOccurrence(), CURRENT_METRICS_CACHE_CONTROL, () -> metrics);
         });
     }
 
@@ -314,7 +329,7 @@ public class MetricsResource extends AbstractApiResource {
             final Project project = qm.getObjectByUuid(Project.class, uuid);
             if (project != null) {
                 requireAccess(qm, project);
-                Event.dispatch(new ProjectMetricsUpdateEvent(project.getUuid()));
+                DurableEventQueue.dispatch(new ProjectMetricsUpdateEvent(project.getUuid()));
                 return Response.ok().build();
             } else {
                 return Response.status(Response.Status.NOT_FOUND).entity("The project could not be found.").build();
@@ -491,4 +506,12 @@ public class MetricsResource extends AbstractApiResource {
             return Response.ok(metrics).build();
         });
     }
+
+    private static CacheControl createCurrentMetricsCacheControl() {
+        final var cacheControl = new CacheControl();
+        cacheControl.setPrivate(true);
+        cacheControl.setNoCache(true);
+        cacheControl.setNoTransform(false);
+        return cacheControl;
+    }
 }
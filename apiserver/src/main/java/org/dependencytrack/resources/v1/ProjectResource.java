@@ -19,12 +19,12 @@
 package org.dependencytrack.resources.v1;
 
 import alpine.common.logging.Logger;
-import alpine.event.framework.Event;
 import alpine.model.ApiKey;
 import alpine.model.Team;
 import alpine.model.User;
 import alpine.persistence.PaginatedResult;
 import alpine.server.auth.PermissionRequired;
+import alpine.server.resources.AllowCursorPagination;
 import io.jsonwebtoken.lang.Collections;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -39,14 +39,21 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirements;
 import org.apache.commons.lang3.StringUtils;
 import org.dependencytrack.auth.Permissions;
 import org.dependencytrack.event.CloneProjectEvent;
+import org.dependencytrack.event.queue.DurableEventQueue;
 import org.dependencytrack.model.Classifier;
 import org.dependencytrack.model.Project;
+import org.dependencytrack.model.ProjectMetadata;
+import org.dependencytrack.model.ProjectMetrics;
 import org.dependencytrack.model.Tag;
 import org.dependencytrack.model.WorkflowState;
 import org.dependencytrack.model.WorkflowStatus;
 import org.dependencytrack.model.WorkflowStep;
 import org.dependencytrack.model.validation.ValidUuid;
 import org.dependencytrack.persistence.QueryManager;
+import org.dependencytrack.persistence.converter.OrganizationalContactsJsonConverter;
+import org.dependencytrack.persistence.converter.OrganizationalEntityJsonConverter;
+import org.dependencytrack.persistence.converter.ToolsJsonConverter;
+import org.dependencytrack.persistence.jdbi.MetricsDao;
 import org.dependencytrack.persistence.jdbi.ProjectDao;
 import org.dependencytrack.persistence.jdbi.ProjectDao.ConciseProjectListRow;
 import org.dependencytrack.resources.v1.openapi.PaginatedApi;
@@ -76,6 +83,7 @@ import java.security.Principal;
 import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -83,6 +91,7 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static alpine.event.framework.Event.isEventBeingProcessed;
 import static java.util.Objects.requireNonNullElseGet;
@@ -124,7 +133,7 @@ public class ProjectResource extends AbstractApiResource {
             @ApiResponse(responseCode = "401", description = "Unauthorized")
     })
     @PermissionRequired(Permissions.Constants.VIEW_PORTFOLIO)
-    public Response getProjects(@Parameter(description = "The optional name of the project to query on", required = false)
+    public Response getProjects(@Parameter(description = "The optional name of the project to query on. When provided, <code>searchText</code> is ignored", required = false)
                                 @QueryParam("name") String name,
                                 @Parameter(description = "Optionally excludes inactive projects from being returned", required = false)
                                 @QueryParam("excludeInactive") boolean excludeInactive,
@@ -132,17 +141,90 @@ public class ProjectResource extends AbstractApiResource {
                                 @QueryParam("onlyRoot") boolean onlyRoot,
                                 @Parameter(description = "The UUID of the team which projects shall be excluded", schema = @Schema(format = "uuid", type = "string"))
                                 @QueryParam("notAssignedToTeamWithUuid") @ValidUuid String notAssignedToTeamWithUuid) {
-        try (QueryManager qm = new QueryManager(getAlpineRequest())) {
-            Team notAssignedToTeam = null;
-            if (StringUtils.isNotEmpty(notAssignedToTeamWithUuid)) {
-                notAssignedToTeam = qm.getObjectByUuid(Team.class, notAssignedToTeamWithUuid);
+        Long notAssignedToTeamId = null;
+        if (StringUtils.isNotEmpty(notAssignedToTeamWithUuid)) {
+            try (QueryManager qm = new QueryManager(getAlpineRequest())) {
+                final Team notAssignedToTeam = qm.getObjectByUuid(Team.class, notAssignedToTeamWithUuid);
                 if (notAssignedToTeam == null) {
                     return Response.status(Response.Status.NOT_FOUND).entity("The UUID of the team could not be found.").build();
                 }
+                notAssignedToTeamId = notAssignedToTeam.getId();
             }
+        }
 
-            final PaginatedResult result = (name != null) ? qm.getProjects(name, excludeInactive, onlyRoot, notAssignedToTeam) : qm.getProjects(true, excludeInactive, onlyRoot, notAssignedToTeam);
-            return Response.ok(result.getObjects()).header(TOTAL_COUNT_HEADER, result.getTotal()).build();
+        final Long teamIdFilter = notAssignedToTeamId;
+        final PaginatedResult result = withJdbiHandle(getAlpineRequest(), handle -> {
+            final PaginatedResult page = handle.attach(ProjectDao.class)
+                    .getPage(name, teamIdFilter, excludeInactive, onlyRoot);
+            final List<Project> projects = page.getList(Project.class);
+            if (projects.isEmpty()) {
+                return page;
+            }
+
+            final Map<Long, Project> projectById = projects.stream()
+                    .collect(Collectors.toMap(Project::getId, Function.identity()));
+            if (onlyRoot) {
+                populateChildren(handle, projectById);
+            }
+            if (name == null) {
+                populateMetrics(handle, projectById);
+            }
+            populateAccessTeams(handle, projectById);
+            populateMetadata(handle, projectById);
+
+            return page;
+        });
+
+        return Response.ok(result.getObjects()).header(TOTAL_COUNT_HEADER, result.getTotal()).build();
+    }
+
+    private static void populateChildren(final Handle handle, final Map<Long, Project> projectById) {
+        final Map<Long, List<Project>> childrenByParentId = handle.attach(ProjectDao.class)
+                .getChildren(projectById.keySet()).stream()
+                .collect(Collectors.groupingBy(
+                        child -> child.getParent().getId(),
+                        LinkedHashMap::new,
+                        Collectors.toList()));
+        for (final Map.Entry<Long, List<Project>> entry : childrenByParentId.entrySet()) {
+            final Project parent = projectById.get(entry.getKey());
+            for (final Project child : entry.getValue()) {
+                child.setParent(parent);
+            }
+            parent.setChildren(entry.getValue());
+        }
+    }
+
+    private static void populateAccessTeams(final Handle handle, final Map<Long, Project> projectById) {
+        for (final ProjectDao.ProjectAccessTeamRow row : handle.attach(ProjectDao.class).getAccessTeams(projectById.keySet())) {
+            final var team = new Team();
+            team.setUuid(row.teamUuid());
+            team.setName(row.teamName());
+            projectById.get(row.projectId()).addAccessTeam(team);
+        }
+    }
+
+    private static void populateMetadata(final Handle handle, final Map<Long, Project> projectById) {
+        final var contactsConverter = new OrganizationalContactsJsonConverter();
+        final var entityConverter = new OrganizationalEntityJsonConverter();
+        final var toolsConverter = new ToolsJsonConverter();
+
+        for (final ProjectDao.ProjectMetadataRow row : handle.attach(ProjectDao.class).getMetadata(projectById.keySet())) {
+            final var metadata = new ProjectMetadata();
+            metadata.setSupplier(entityConverter.convertToAttribute(row.supplier()));
+            metadata.setAuthors(contactsConverter.convertToAttribute(row.authors()));
+            metadata.setTools(toolsConverter.convertToAttribute(row.tools()));
+            projectById.get(row.projectId()).setMetadata(metadata);
+        }
+    }
+
+    private static void populateMetrics(final Handle handle, final Map<Long, Project> projectById) {
+        final List<ProjectMetrics> metricsList = handle.attach(MetricsDao.class)
+                .getMostRecentProjectMetrics(projectById.keySet());
+        for (final ProjectMetrics metrics : metricsList) {
+            final Project project = projectById.get(metrics.getProjectId());
+            if (project != null) {
+                project.setMetrics(metrics);
+            }
         }
     }
 
@@ -158,11 +240,15 @@ public class ProjectResource extends AbstractApiResource {
             @ApiResponse(
                     responseCode = "200",
                     description = "A list of all projects in concise representation",
-                    headers = @Header(name = TOTAL_COUNT_HEADER, schema = @Schema(format = "integer"), description = "The total number of projects"),
+                    headers = {
+                            @Header(name = TOTAL_COUNT_HEADER, schema = @Schema(format = "integer"), description = "The total number of projects"),
+                            @Header(name = NEXT_CURSOR_HEADER, description = "Cursor for the next page, when using cursor-based pagination")
+                    },
                     content = @Content(array = @ArraySchema(schema = @Schema(implementation = ConciseProject.class)))
             ),
             @ApiResponse(responseCode = "401", description = "Unauthorized")
     })
+    @AllowCursorPagination
     @PermissionRequired(Permissions.Constants.VIEW_PORTFOLIO)
     public Response getProjectsConcise(
             @Parameter(description = "Name to filter on. Must be exact match.")
@@ -183,9 +269,8 @@ public class ProjectResource extends AbstractApiResource {
         final List<ConciseProjectListRow> projectRows = withJdbiHandle(getAlpineRequest(), handle -> handle.attach(ProjectDao.class)
                 .getPageConcise(nameFilter, classifierFilter, tagFilter, teamFilter, activeFilter, onlyRootFilter, /* parentUuidFilter */ null, includeMetrics));
 
-        final long totalCount = projectRows.isEmpty() ? 0 : projectRows.getFirst().totalCount();
         final List<ConciseProject> projects = projectRows.stream().map(ConciseProject::new).toList();
-        return Response.ok(projects).header(TOTAL_COUNT_HEADER, totalCount).build();
+        return buildPageResponse(projectRows, projects, ConciseProjectListRow::totalCount, ConciseProjectListRow::id);
     }
 
     @GET
@@ -200,11 +285,15 @@ public class ProjectResource extends AbstractApiResource {
             @ApiResponse(
                     responseCode = "200",
                     description = "A list of all child projects in a concise representation",
-                    headers = @Header(name = TOTAL_COUNT_HEADER, description = "The total number of child projects", schema = @Schema(format = "integer")),
+                    headers = {
+                            @Header(name = TOTAL_COUNT_HEADER, description = "The total number of child projects", schema = @Schema(format = "integer")),
+                            @Header(name = NEXT_CURSOR_HEADER, description = "Cursor for the next page, when using cursor-based pagination")
+                    },
                     content = @Content(array = @ArraySchema(schema = @Schema(implementation = ConciseProject.class)))
             ),
             @ApiResponse(responseCode = "401", description = "Unauthorized")
     })
+    @AllowCursorPagination
     @PermissionRequired(Permissions.Constants.VIEW_PORTFOLIO)
     public Response getProjectChildrenConcise(
             @Parameter(description = "UUID of the project", required = true)
@@ -225,9 +314,8 @@ public class ProjectResource extends AbstractApiResource {
         final List<ConciseProjectListRow> projectRows = withJdbiHandle(getAlpineRequest(), handle -> handle.attach(ProjectDao.class)
                 .getPageConcise(nameFilter, classifierFilter, tagFilter, teamFilter, activeFilter, /* onlyRootFilter */ null, UUID.fromString(parentUuid), includeMetrics));
 
-        final long totalCount = projectRows.isEmpty() ? 0 : projectRows.getFirst().totalCount();
         final List<ConciseProject> projects = projectRows.stream().map(ConciseProject::new).toList();
-        return Response.ok(projects).header(TOTAL_COUNT_HEADER, totalCount).build();
+        return buildPageResponse(projectRows, projects, ConciseProjectListRow::totalCount, ConciseProjectListRow::id);
     }
 
     @GET
@@ -963,7 +1051,7 @@ public class ProjectResource extends AbstractApiResource {
                 return new CloneProjectEvent(jsonRequest);
             });
 
-            Event.dispatch(cloneEvent);
+            DurableEventQueue.dispatch(cloneEvent);
             return Response.accepted(Map.of("token", cloneEvent.getChainIdentifier())).build();
         }
     }
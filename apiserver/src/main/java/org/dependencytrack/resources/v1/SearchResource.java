@@ -0,0 +1,100 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.resources.v1;
+
+import alpine.server.auth.PermissionRequired;
+import alpine.server.resources.AlpineResource;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.security.SecurityRequirements;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import org.dependencytrack.auth.Permissions;
+import org.dependencytrack.persistence.jdbi.SearchDao;
+import org.dependencytrack.resources.v1.vo.SearchResponse;
+
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
+
+/**
+ * JAX-RS resources for searching the portfolio.
+ *
+ * @since 5.6.0
+ */
+@Path("/v1/search")
+@Tag(name = "search")
+@SecurityRequirements({
+        @SecurityRequirement(name = "ApiKeyAuth"),
+        @SecurityRequirement(name = "BearerAuth")
+})
+public class SearchResource extends AlpineResource {
+
+    @GET
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(
+            summary = "Searches projects, components, and vulnerabilities",
+            description = """
+                    <p>
+                      Performs a case-insensitive substring search on project names,
+                      component groups and names, and vulnerability IDs.
+                      Results are ordered by their similarity to the search term.
+                    </p>
+                    <p>Requires permission <strong>VIEW_PORTFOLIO</strong></p>""")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "The search results",
+                    content = @Content(schema = @Schema(implementation = SearchResponse.class))
+            ),
+            @ApiResponse(responseCode = "400", description = "Bad Request"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    @PermissionRequired(Permissions.Constants.VIEW_PORTFOLIO)
+    public Response search(
+            @Parameter(description = "The term to search for", required = true)
+            @QueryParam("query") @NotBlank @Size(max = 255) final String query,
+            @Parameter(description = "The maximum number of results to return per entity type")
+            @QueryParam("limit") @DefaultValue("10") @Min(1) @Max(100) final int limit
+    ) {
+        final SearchResponse response = withJdbiHandle(getAlpineRequest(), handle -> {
+            final var dao = handle.attach(SearchDao.class);
+            return new SearchResponse(
+                    dao.searchProjects(query, limit),
+                    dao.searchComponents(query, limit),
+                    dao.searchVulnerabilities(query, limit));
+        });
+
+        return Response.ok(response).build();
+    }
+
+}
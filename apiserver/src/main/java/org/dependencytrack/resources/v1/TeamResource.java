@@ -26,6 +26,7 @@ import alpine.model.User;
 import alpine.security.ApiKeyDecoder;
 import alpine.security.InvalidApiKeyFormatException;
 import alpine.server.auth.PermissionRequired;
+import alpine.server.auth.PrincipalCache;
 import alpine.server.resources.AlpineResource;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -223,6 +224,8 @@ public class TeamResource extends AlpineResource {
                     final var teamDao = jdbiHandle.attach(TeamDao.class);
                     teamDao.deleteTeam(team.getId());
                 }
+                // The team was deleted bypassing JDO, so lifecycle listeners did not get to invalidate the cache.
+                PrincipalCache.getInstance().invalidateAll();
                 super.logSecurityEvent(LOGGER, SecurityMarkers.SECURITY_AUDIT, "Team deleted: " + teamName);
                 return Response.status(Response.Status.NO_CONTENT).build();
             } else {
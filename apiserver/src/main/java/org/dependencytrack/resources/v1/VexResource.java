@@ -18,7 +18,6 @@
  */
 package org.dependencytrack.resources.v1;
 
-import alpine.common.logging.Logger;
 import alpine.event.framework.Event;
 import alpine.server.auth.PermissionRequired;
 import io.swagger.v3.oas.annotations.Operation;
@@ -34,12 +33,12 @@ import org.apache.commons.io.IOUtils;
 import org.apache.commons.io.input.BOMInputStream;
 import org.apache.commons.lang3.StringUtils;
 import org.cyclonedx.CycloneDxMediaType;
-import org.cyclonedx.exception.GeneratorException;
 import org.dependencytrack.auth.Permissions;
 import org.dependencytrack.event.VexUploadEvent;
 import org.dependencytrack.model.Project;
 import org.dependencytrack.model.validation.ValidUuid;
 import org.dependencytrack.parser.cyclonedx.CycloneDXExporter;
+import org.dependencytrack.parser.cyclonedx.CycloneDXStreamingExporter;
 import org.dependencytrack.persistence.QueryManager;
 import org.dependencytrack.resources.v1.problems.InvalidBomProblemDetails;
 import org.dependencytrack.resources.v1.problems.ProblemDetails;
@@ -60,11 +59,13 @@ import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Base64;
 import java.util.Collections;
 import java.util.List;
+import java.util.UUID;
 
 /**
  * JAX-RS resources for processing VEX documents.
@@ -80,8 +81,6 @@ import java.util.List;
 })
 public class VexResource extends AbstractApiResource {
 
-    private static final Logger LOGGER = Logger.getLogger(VexResource.class);
-
     @GET
     @Path("/cyclonedx/project/{uuid}")
     @Produces({CycloneDxMediaType.APPLICATION_CYCLONEDX_JSON, MediaType.APPLICATION_OCTET_STREAM})
@@ -115,19 +114,14 @@ public class VexResource extends AbstractApiResource {
             }
             requireAccess(qm, project);
 
-            final CycloneDXExporter exporter = new CycloneDXExporter(CycloneDXExporter.Variant.VEX, qm);
-
-            try {
-                if (download) {
-                    return Response.ok(exporter.export(exporter.create(project), CycloneDXExporter.Format.JSON), MediaType.APPLICATION_OCTET_STREAM)
-                            .header("content-disposition", "attachment; filename=\"" + project.getUuid() + "-vex.cdx.json\"").build();
-                } else {
-                    return Response.ok(exporter.export(exporter.create(project), CycloneDXExporter.Format.JSON),
-                            CycloneDxMediaType.APPLICATION_CYCLONEDX_JSON).build();
-                }
-            } catch (GeneratorException e) {
-                LOGGER.error("An error occurred while building a CycloneDX document for export", e);
-                return Response.status(Response.Status.INTERNAL_SERVER_ERROR).build();
+            final UUID projectUuid = project.getUuid();
+            final var exporter = new CycloneDXStreamingExporter(CycloneDXExporter.Variant.VEX, CycloneDXExporter.Format.JSON);
+            final StreamingOutput output = outputStream -> exporter.export(projectUuid, outputStream);
+            if (download) {
+                return Response.ok(output, MediaType.APPLICATION_OCTET_STREAM)
+                        .header("content-disposition", "attachment; filename=\"" + projectUuid + "-vex.cdx.json\"").build();
+            } else {
+                return Response.ok(output, CycloneDxMediaType.APPLICATION_CYCLONEDX_JSON).build();
             }
         }
     }
@@ -20,6 +20,7 @@ package org.dependencytrack.resources.v1;
 
 import alpine.persistence.PaginatedResult;
 import alpine.server.auth.PermissionRequired;
+import alpine.server.resources.AllowCursorPagination;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.headers.Header;
@@ -300,16 +301,20 @@ public class VulnerabilityResource extends AbstractApiResource {
             @ApiResponse(
                     responseCode = "200",
                     description = "A list of all vulnerabilities",
-                    headers = @Header(name = TOTAL_COUNT_HEADER, description = "The total number of vulnerabilities", schema = @Schema(format = "integer")),
+                    headers = {
+                            @Header(name = TOTAL_COUNT_HEADER, description = "The total number of vulnerabilities", schema = @Schema(format = "integer")),
+                            @Header(name = NEXT_CURSOR_HEADER, description = "Cursor for the next page, when using cursor-based pagination")
+                    },
                     content = @Content(array = @ArraySchema(schema = @Schema(implementation = Vulnerability.class)))
             ),
             @ApiResponse(responseCode = "401", description = "Unauthorized")
     })
+    @AllowCursorPagination
     @PermissionRequired(Permissions.Constants.VIEW_PORTFOLIO)
     public Response getAllVulnerabilities() {
         try (QueryManager qm = new QueryManager(getAlpineRequest())) {
             final PaginatedResult result = qm.getVulnerabilities();
-            return Response.ok(result.getObjects()).header(TOTAL_COUNT_HEADER, result.getTotal()).build();
+            return buildPageResponse(result, Vulnerability.class, Vulnerability::getId);
         }
     }
 
@@ -0,0 +1,163 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.resources.v1.export;
+
+import org.dependencytrack.model.Cwe;
+import org.dependencytrack.model.Finding;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * A {@link FindingWriter} that writes {@link Finding}s as CSV, according to RFC 4180.
+ * <p>
+ * Textual values that spreadsheet applications would interpret as formula
+ * are prefixed with a single quote, to prevent CSV injection.
+ *
+ * @since 5.6.0
+ */
+public final class CsvFindingWriter implements FindingWriter {
+
+    private static final List<String> HEADER = List.of(
+            "Project Name",
+            "Project Version",
+            "Project UUID",
+            "Component Name",
+            "Component Group",
+            "Component Version",
+            "Component Latest Version",
+            "Component PURL",
+            "Vulnerability Source",
+            "Vulnerability ID",
+            "Vulnerability Title",
+            "Severity",
+            "CVSSv2 Base Score",
+            "CVSSv3 Base Score",
+            "EPSS Score",
+            "EPSS Percentile",
+            "CWEs",
+            "Published",
+            "Analyzer",
+            "Attributed On",
+            "Analysis State",
+            "Suppressed"
+    );
+
+    private final Writer writer;
+
+    public CsvFindingWriter(final OutputStream outputStream) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writeRecord(HEADER);
+    }
+
+    @Override
+    public void write(final Finding finding) throws IOException {
+        final Map<String, Object> component = finding.getComponent();
+        final Map<String, Object> vulnerability = finding.getVulnerability();
+        final Map<String, Object> attribution = finding.getAttribution();
+        final Map<String, Object> analysis = finding.getAnalysis();
+
+        writeRecord(List.of(
+                formatValue(component.get("projectName")),
+                formatValue(component.get("projectVersion")),
+                formatValue(component.get("project")),
+                formatValue(component.get("name")),
+                formatValue(component.get("group")),
+                formatValue(component.get("version")),
+                formatValue(component.get("latestVersion")),
+                formatValue(component.get("purl")),
+                formatValue(vulnerability.get("source")),
+                formatValue(vulnerability.get("vulnId")),
+                formatValue(vulnerability.get("title")),
+                formatValue(vulnerability.get("severity")),
+                formatValue(vulnerability.get("cvssV2BaseScore")),
+                formatValue(vulnerability.get("cvssV3BaseScore")),
+                formatValue(vulnerability.get("epssScore")),
+                formatValue(vulnerability.get("epssPercentile")),
+                formatValue(vulnerability.get("cwes")),
+                formatValue(vulnerability.get("published")),
+                formatValue(attribution.get("analyzerIdentity")),
+                formatValue(attribution.get("attributedOn")),
+                formatValue(analysis.get("state")),
+                formatValue(analysis.get("isSuppressed"))
+        ));
+    }
+
+    @Override
+    public void finish() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        // Do not close the writer, as that would close the underlying stream as well.
+        writer.flush();
+    }
+
+    private void writeRecord(final List<String> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escape(values.get(i)));
+        }
+        writer.write("\r\n");
+    }
+
+    private static String formatValue(final Object value) {
+        return switch (value) {
+            case null -> "";
+            case Date date -> date.toInstant().toString();
+            case Number number -> number.toString();
+            case Boolean bool -> bool.toString();
+            case List<?> list -> list.stream()
+                    .map(item -> item instanceof final Cwe cwe ? "CWE-" + cwe.getCweId() : String.valueOf(item))
+                    .collect(Collectors.joining(" "));
+            default -> neutralizeFormula(value.toString());
+        };
+    }
+
+    private static String neutralizeFormula(final String value) {
+        if (!value.isEmpty() && "=+-@\t\r".indexOf(value.charAt(0)) >= 0) {
+            return "'" + value;
+        }
+
+        return value;
+    }
+
+    private static String escape(final String value) {
+        if (value.indexOf(',') < 0
+            && value.indexOf('"') < 0
+            && value.indexOf('\n') < 0
+            && value.indexOf('\r') < 0) {
+            return value;
+        }
+
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+}
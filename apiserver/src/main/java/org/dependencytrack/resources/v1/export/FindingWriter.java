@@ -0,0 +1,51 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.resources.v1.export;
+
+import org.dependencytrack.model.Finding;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Incrementally writes {@link Finding}s to an {@link java.io.OutputStream} in a given format.
+ *
+ * @since 5.6.0
+ */
+public interface FindingWriter extends Closeable {
+
+    /**
+     * Write a single {@link Finding}.
+     *
+     * @param finding The {@link Finding} to write
+     * @throws IOException When writing failed
+     */
+    void write(Finding finding) throws IOException;
+
+    /**
+     * Complete the document after all {@link Finding}s have been written.
+     * <p>
+     * This is intentionally separate from {@link #close()}, such that documents
+     * are not terminated properly when writing failed half-way through.
+     *
+     * @throws IOException When writing failed
+     */
+    void finish() throws IOException;
+
+}
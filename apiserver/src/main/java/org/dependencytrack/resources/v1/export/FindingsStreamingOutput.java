@@ -0,0 +1,87 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.resources.v1.export;
+
+import alpine.resources.AlpineRequest;
+import jakarta.ws.rs.core.StreamingOutput;
+import org.dependencytrack.model.Finding;
+import org.dependencytrack.persistence.jdbi.FindingDao;
+import org.jdbi.v3.core.result.ResultIterable;
+import org.jdbi.v3.core.result.ResultIterator;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.function.Function;
+
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiTransaction;
+
+/**
+ * A {@link StreamingOutput} that writes findings to the response as they are read from the database.
+ * <p>
+ * Memory usage is independent of the number of findings: Rows are fetched
+ * with a fetch size of {@value FindingDao#STREAMING_FETCH_SIZE}, and handed
+ * to a {@link FindingWriter} one by one.
+ *
+ * @since 5.6.0
+ */
+public final class FindingsStreamingOutput implements StreamingOutput {
+
+    @FunctionalInterface
+    public interface FindingWriterFactory {
+
+        FindingWriter create(OutputStream outputStream) throws IOException;
+
+    }
+
+    private final AlpineRequest apiRequest;
+    private final Function<FindingDao, ResultIterable<FindingDao.FindingRow>> query;
+    private final FindingWriterFactory writerFactory;
+
+    /**
+     * @param apiRequest    The {@link AlpineRequest} to execute the query with. Should not be paginated.
+     * @param query         The query to execute
+     * @param writerFactory Factory for the {@link FindingWriter} to write with
+     */
+    public FindingsStreamingOutput(final AlpineRequest apiRequest,
+                                   final Function<FindingDao, ResultIterable<FindingDao.FindingRow>> query,
+                                   final FindingWriterFactory writerFactory) {
+        this.apiRequest = apiRequest;
+        this.query = query;
+        this.writerFactory = writerFactory;
+    }
+
+    @Override
+    public void write(final OutputStream outputStream) throws IOException {
+        // PostgreSQL only honours the fetch size when auto-commit is disabled.
+        // Without a transaction, the entire result set would be loaded into memory.
+        useJdbiTransaction(apiRequest, handle -> {
+            final ResultIterable<FindingDao.FindingRow> rows = query.apply(handle.attach(FindingDao.class));
+
+            try (final ResultIterator<FindingDao.FindingRow> rowIterator = rows.iterator();
+                 final FindingWriter writer = writerFactory.create(outputStream)) {
+                while (rowIterator.hasNext()) {
+                    writer.write(new Finding(rowIterator.next()));
+                }
+
+                writer.finish();
+            }
+        });
+    }
+
+}
@@ -0,0 +1,89 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.resources.v1.export;
+
+import org.dependencytrack.integrations.FindingPackagingFormat;
+import org.dependencytrack.model.Finding;
+import org.json.JSONObject;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.UUID;
+
+/**
+ * A {@link FindingWriter} that writes {@link Finding}s as {@link FindingPackagingFormat} document.
+ * <p>
+ * Unlike {@link FindingPackagingFormat#getDocument()}, findings are not collected
+ * into a single {@link JSONObject}, but written one by one.
+ *
+ * @since 5.6.0
+ */
+public final class FpfFindingWriter implements FindingWriter {
+
+    private static final String FIELD_FINDINGS = "findings";
+
+    private final Writer writer;
+    private boolean isFirstFinding = true;
+
+    public FpfFindingWriter(final OutputStream outputStream, final UUID projectUuid) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+
+        final JSONObject document = new FindingPackagingFormat(projectUuid, Collections.emptyList()).getDocument();
+        document.remove(FIELD_FINDINGS);
+
+        writer.write('{');
+        for (final String key : document.keySet()) {
+            writer.write(JSONObject.quote(key));
+            writer.write(':');
+            writer.write(JSONObject.valueToString(document.get(key)));
+            writer.write(',');
+        }
+        writer.write(JSONObject.quote(FIELD_FINDINGS));
+        writer.write(":[");
+    }
+
+    @Override
+    public void write(final Finding finding) throws IOException {
+        if (!isFirstFinding) {
+            writer.write(',');
+        }
+        isFirstFinding = false;
+
+        // Equivalent to how JSONObject serializes the findings of a FindingPackagingFormat document.
+        writer.write(new JSONObject(finding).toString());
+    }
+
+    @Override
+    public void finish() throws IOException {
+        writer.write("]}");
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        // Do not close the writer, as that would close the underlying stream as well.
+        writer.flush();
+    }
+
+}
@@ -0,0 +1,167 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.resources.v1.export;
+
+import alpine.model.About;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.dependencytrack.model.Cwe;
+import org.dependencytrack.model.Finding;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A {@link FindingWriter} that writes {@link Finding}s as SARIF 2.1.0 document.
+ * <p>
+ * Results are written as they come in. Because SARIF requires rules to be declared
+ * in the tool section, rules of unique vulnerabilities are collected while writing,
+ * and emitted after all results. Only the ID and description of each vulnerability
+ * are retained for this purpose.
+ *
+ * @since 5.6.0
+ */
+public final class SarifFindingWriter implements FindingWriter {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final JsonGenerator generator;
+    private final Map<String, String> ruleDescriptionByVulnId = new LinkedHashMap<>();
+
+    public SarifFindingWriter(final OutputStream outputStream) throws IOException {
+        this.generator = JSON_FACTORY.createGenerator(outputStream)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+        generator.writeStartObject();
+        generator.writeStringField("version", "2.1.0");
+        generator.writeStringField("$schema", "https://schemastore.azurewebsites.net/schemas/json/sarif-2.1.0.json");
+        generator.writeArrayFieldStart("runs");
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("results");
+    }
+
+    @Override
+    public void write(final Finding finding) throws IOException {
+        final Map<String, Object> component = finding.getComponent();
+        final Map<String, Object> vulnerability = finding.getVulnerability();
+        final String vulnId = asString(vulnerability.get("vulnId"));
+        ruleDescriptionByVulnId.putIfAbsent(vulnId, asTrimmedString(vulnerability.get("description")));
+
+        generator.writeStartObject();
+        generator.writeStringField("ruleId", vulnId);
+        generator.writeObjectFieldStart("message");
+        generator.writeStringField("text", asTrimmedString(vulnerability.get("description")));
+        generator.writeEndObject();
+        generator.writeArrayFieldStart("locations");
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("logicalLocations");
+        generator.writeStartObject();
+        generator.writeStringField("fullyQualifiedName", asString(component.get("purl")));
+        generator.writeEndObject();
+        generator.writeEndArray();
+        generator.writeEndObject();
+        generator.writeEndArray();
+        generator.writeStringField("level", getLevel(asString(vulnerability.get("severity"))));
+        generator.writeObjectFieldStart("properties");
+        generator.writeStringField("name", asString(component.get("name")));
+        generator.writeStringField("group", asString(component.get("group")));
+        generator.writeStringField("version", asString(component.get("version")));
+        generator.writeStringField("source", asString(vulnerability.get("source")));
+        generator.writeArrayFieldStart("cwes");
+        if (vulnerability.get("cwes") instanceof final List<?> cwes) {
+            for (final Object object : cwes) {
+                if (object instanceof final Cwe cwe) {
+                    generator.writeStartObject();
+                    generator.writeStringField("cweId", String.valueOf(cwe.getCweId()));
+                    generator.writeStringField("name", asString(cwe.getName()));
+                    generator.writeEndObject();
+                }
+            }
+        }
+        generator.writeEndArray();
+        generator.writeStringField("cvssV3BaseScore", asString(vulnerability.get("cvssV3BaseScore")));
+        generator.writeStringField("epssScore", asString(vulnerability.get("epssScore")));
+        generator.writeStringField("epssPercentile", asString(vulnerability.get("epssPercentile")));
+        generator.writeStringField("severityRank", asString(vulnerability.get("severityRank")));
+        generator.writeStringField("recommendation", asTrimmedString(vulnerability.get("recommendation")));
+        generator.writeEndObject();
+        generator.writeEndObject();
+    }
+
+    @Override
+    public void finish() throws IOException {
+        generator.writeEndArray(); // results
+
+        final String version = new About().getVersion();
+        generator.writeObjectFieldStart("tool");
+        generator.writeObjectFieldStart("driver");
+        generator.writeStringField("name", "OWASP Dependency-Track");
+        generator.writeStringField("fullName", "OWASP Dependency-Track - " + version);
+        generator.writeStringField("version", version);
+        generator.writeStringField("informationUri", "https://dependencytrack.org/");
+        generator.writeArrayFieldStart("rules");
+        for (final Map.Entry<String, String> entry : ruleDescriptionByVulnId.entrySet()) {
+            generator.writeStartObject();
+            generator.writeStringField("id", entry.getKey());
+            generator.writeStringField("name", entry.getKey());
+            generator.writeObjectFieldStart("shortDescription");
+            generator.writeStringField("text", entry.getKey());
+            generator.writeEndObject();
+            generator.writeObjectFieldStart("fullDescription");
+            generator.writeStringField("text", entry.getValue());
+            generator.writeEndObject();
+            generator.writeEndObject();
+        }
+        generator.writeEndArray(); // rules
+        generator.writeEndObject(); // driver
+        generator.writeEndObject(); // tool
+
+        generator.writeEndObject(); // run
+        generator.writeEndArray(); // runs
+        generator.writeEndObject();
+        generator.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+
+    private static String getLevel(final String severity) {
+        return switch (severity) {
+            case "LOW", "INFO" -> "note";
+            case "MEDIUM" -> "warning";
+            case "HIGH", "CRITICAL" -> "error";
+            default -> "none";
+        };
+    }
+
+    private static String asString(final Object value) {
+        return Objects.toString(value, "");
+    }
+
+    private static String asTrimmedString(final Object value) {
+        return asString(value).trim();
+    }
+
+}
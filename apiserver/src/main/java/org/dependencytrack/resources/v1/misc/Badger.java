@@ -19,6 +19,8 @@
 package org.dependencytrack.resources.v1.misc;
 
 import alpine.common.logging.Logger;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.pebbletemplates.pebble.PebbleEngine;
 import io.pebbletemplates.pebble.template.PebbleTemplate;
 import org.dependencytrack.model.ProjectMetrics;
@@ -26,6 +28,7 @@ import org.dependencytrack.model.ProjectMetrics;
 import java.io.IOException;
 import java.io.StringWriter;
 import java.io.Writer;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -45,7 +48,38 @@ public class Badger {
     private static final PebbleTemplate PROJECT_VIOLATIONS_NONE_TEMPLATE = ENGINE.getTemplate("templates/badge/project-violations-none.peb");
     private static final PebbleTemplate PROJECT_VIOLATIONS_NO_METRICS_TEMPLATE = ENGINE.getTemplate("templates/badge/project-violations-nometrics.peb");
 
+    /**
+     * Rendered badges, keyed by the values they display.
+     * <p>
+     * Badges are requested a lot more frequently than metrics change,
+     * and many projects share the same values, so rendering results are highly reusable.
+     */
+    private static final Cache<String, String> RENDERED_SVG_CACHE = Caffeine.newBuilder()
+            .maximumSize(1000)
+            .expireAfterAccess(Duration.ofHours(1))
+            .build();
+
     public String generateVulnerabilities(ProjectMetrics metrics) {
+        if (metrics == null) {
+            return RENDERED_SVG_CACHE.get("vulns-nometrics", ignored -> renderVulnerabilities(null));
+        }
+
+        final String cacheKey = "vulns-%d-%d-%d-%d-%d-%d".formatted(metrics.getVulnerabilities(),
+                metrics.getCritical(), metrics.getHigh(), metrics.getMedium(), metrics.getLow(), metrics.getUnassigned());
+        return RENDERED_SVG_CACHE.get(cacheKey, ignored -> renderVulnerabilities(metrics));
+    }
+
+    public String generateViolations(ProjectMetrics metrics) {
+        if (metrics == null) {
+            return RENDERED_SVG_CACHE.get("violations-nometrics", ignored -> renderViolations(null));
+        }
+
+        final String cacheKey = "violations-%d-%d-%d-%d".formatted(metrics.getPolicyViolationsTotal(),
+                metrics.getPolicyViolationsFail(), metrics.getPolicyViolationsWarn(), metrics.getPolicyViolationsInfo());
+        return RENDERED_SVG_CACHE.get(cacheKey, ignored -> renderViolations(metrics));
+    }
+
+    private String renderVulnerabilities(ProjectMetrics metrics) {
         final Map<String, Object> context = new HashMap<>();
         context.put("roundedPixels", "3");
         if (metrics == null) {
@@ -62,7 +96,7 @@ public class Badger {
         }
     }
 
-    public String generateViolations(ProjectMetrics metrics) {
+    private String renderViolations(ProjectMetrics metrics) {
         final Map<String, Object> context = new HashMap<>();
         context.put("roundedPixels", "3");
         if (metrics == null) {
@@ -58,6 +58,15 @@ import java.lang.annotation.Target;
                 in = ParameterIn.QUERY,
                 description = "Number of elements to return per page. To be used in conjunction with <code>offset</code>."
         ),
+        @Parameter(
+                name = "cursor",
+                in = ParameterIn.QUERY,
+                description = """
+                        Cursor to continue returning elements from, as provided by the <code>X-Next-Cursor</code> \
+                        header of the previous page. Provide an empty value to request the first page. \
+                        To be used in conjunction with <code>limit</code>. Only supported by endpoints that \
+                        document the <code>X-Next-Cursor</code> response header; Others reject it."""
+        ),
         @Parameter(
                 name = "sortName",
                 in = ParameterIn.QUERY,
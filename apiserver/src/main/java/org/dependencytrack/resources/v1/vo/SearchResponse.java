@@ -0,0 +1,36 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.resources.v1.vo;
+
+import io.swagger.v3.oas.annotations.Parameter;
+import org.dependencytrack.persistence.jdbi.SearchDao.ComponentSearchResult;
+import org.dependencytrack.persistence.jdbi.SearchDao.ProjectSearchResult;
+import org.dependencytrack.persistence.jdbi.SearchDao.VulnerabilitySearchResult;
+
+import java.util.List;
+
+/**
+ * @since 5.6.0
+ */
+public record SearchResponse(
+        @Parameter(description = "Matching projects, ordered by relevance", required = true) List<ProjectSearchResult> projects,
+        @Parameter(description = "Matching components, ordered by relevance", required = true) List<ComponentSearchResult> components,
+        @Parameter(description = "Matching vulnerabilities, ordered by relevance", required = true) List<VulnerabilitySearchResult> vulnerabilities
+) {
+}
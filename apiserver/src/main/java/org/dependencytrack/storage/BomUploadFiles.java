@@ -0,0 +1,265 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.storage;
+
+import alpine.common.logging.Logger;
+import org.apache.commons.io.function.IOSupplier;
+import org.dependencytrack.persistence.jdbi.BomUploadFileDao;
+import org.dependencytrack.proto.storage.v1alpha1.FileMetadata;
+import org.jdbi.v3.core.Handle;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static java.util.Objects.requireNonNull;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.inJdbiTransaction;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiTransaction;
+
+/**
+ * Content-addressed, reference-counted storage of uploaded BOMs.
+ * <p>
+ * Identical BOMs that are uploaded before a previous upload of them has been processed
+ * share a single stored file. Every upload acquires a reference to the file, identified
+ * by its token, and the file is deleted once the last reference to it has been released.
+ * Releasing the same reference more than once has no effect.
+ * <p>
+ * Stored files are named after their content digest, and the token of the upload that stored them.
+ * This way, uploads of identical content can store their files concurrently, without holding a lock.
+ *
+ * @since 5.6.0
+ */
+public final class BomUploadFiles {
+
+    static final String FILE_NAME_PREFIX = "bom-upload/sha256/";
+    private static final Logger LOGGER = Logger.getLogger(BomUploadFiles.class);
+    private static final Pattern CONTENT_DIGEST_PATTERN = Pattern.compile("[a-f0-9]{64}");
+    private static final Pattern FILE_NAME_PATTERN = Pattern.compile("([a-f0-9]{64})(?:-[a-f0-9\\-]{36})?");
+
+    private BomUploadFiles() {
+    }
+
+    /**
+     * Acquire a reference to the stored file for a BOM with the given content digest,
+     * storing the content first if no such file exists yet.
+     *
+     * @param fileStorage     The {@link FileStorage} to use
+     * @param contentDigest   Hex-encoded SHA-256 digest of the BOM content
+     * @param token           Token of the upload acquiring the reference
+     * @param contentLength   Length of the BOM content in bytes, or {@code -1} if unknown
+     * @param contentSupplier Supplier of the BOM content, only invoked when the content needs to be stored
+     * @return Metadata of the stored file
+     * @throws IOException When storing the file failed
+     */
+    public static FileMetadata acquire(
+            final FileStorage fileStorage,
+            final String contentDigest,
+            final UUID token,
+            final long contentLength,
+            final IOSupplier<InputStream> contentSupplier) throws IOException {
+        requireNonNull(fileStorage, "fileStorage must not be null");
+        requireValidContentDigest(contentDigest);
+        requireNonNull(token, "token must not be null");
+        requireNonNull(contentSupplier, "contentSupplier must not be null");
+
+        final FileMetadata existingFileMetadata = inJdbiTransaction(
+                handle -> tryAddReference(handle, contentDigest, token));
+        if (existingFileMetadata != null) {
+            return existingFileMetadata;
+        }
+
+        // Store the file before acquiring the lock, such that neither the lock nor a database
+        // transaction is held for the duration of a potentially slow upload to storage.
+        // The file name is unique to this upload, so a concurrent release of another upload's
+        // file with identical content can't delete it.
+        final FileMetadata storedFileMetadata;
+        try (final InputStream contentInputStream = contentSupplier.get()) {
+            storedFileMetadata = fileStorage.store(
+                    fileNameOf(contentDigest, token), "application/octet-stream", contentInputStream, contentLength);
+        }
+
+        final FileMetadata fileMetadata;
+        try {
+            fileMetadata = inJdbiTransaction(handle -> {
+                final FileMetadata concurrentlyStoredFileMetadata = tryAddReference(handle, contentDigest, token);
+                if (concurrentlyStoredFileMetadata != null) {
+                    return concurrentlyStoredFileMetadata;
+                }
+
+                final var dao = handle.attach(BomUploadFileDao.class);
+                dao.create(contentDigest, storedFileMetadata);
+                dao.addReference(contentDigest, token);
+                return storedFileMetadata;
+            });
+        } catch (RuntimeException e) {
+            deleteQuietly(fileStorage, storedFileMetadata);
+            throw e;
+        }
+
+        if (!fileMetadata.getLocation().equals(storedFileMetadata.getLocation())) {
+            // Another upload of identical content stored its file first.
+            deleteQuietly(fileStorage, storedFileMetadata);
+        }
+
+        return fileMetadata;
+    }
+
+    /**
+     * Release a reference to the stored file for a BOM with the given content digest,
+     * deleting the file if it is no longer referenced.
+     * <p>
+     * Releasing a reference that has already been released has no effect.
+     *
+     * @param fileStorage   The {@link FileStorage} to use
+     * @param contentDigest Hex-encoded SHA-256 digest of the BOM content
+     * @param token         Token of the upload releasing the reference
+     * @throws IOException When deleting the file failed
+     */
+    public static void release(final FileStorage fileStorage, final String contentDigest, final UUID token) throws IOException {
+        requireNonNull(fileStorage, "fileStorage must not be null");
+        requireValidContentDigest(contentDigest);
+        requireNonNull(token, "token must not be null");
+
+        useJdbiTransaction(handle -> {
+            final var dao = handle.attach(BomUploadFileDao.class);
+            dao.lock(contentDigest);
+
+            if (!dao.removeReference(contentDigest, token) || dao.hasReferences(contentDigest)) {
+                return;
+            }
+
+            // Delete the file while still holding the lock, such that concurrent
+            // uploads of the same content can't acquire a file that is about to vanish.
+            final FileMetadata fileMetadata = dao.delete(contentDigest);
+            if (fileMetadata != null) {
+                fileStorage.delete(fileMetadata);
+            }
+        });
+    }
+
+    /**
+     * Delete the stored file for a BOM with the given content digest, if it has not been
+     * referenced for longer than {@code retentionDuration}, irrespective of its references.
+     * <p>
+     * Guards against files being retained forever when references to them are never released,
+     * e.g. because the respective uploads were never processed.
+     *
+     * @param fileStorage       The {@link FileStorage} to use
+     * @param contentDigest     Hex-encoded SHA-256 digest of the BOM content
+     * @param retentionDuration Duration for which unreleased references are retained
+     * @return {@code true} when the file was deleted, otherwise {@code false}
+     * @throws IOException When deleting the file failed
+     */
+    public static boolean deleteIfExpired(
+            final FileStorage fileStorage,
+            final String contentDigest,
+            final Duration retentionDuration) throws IOException {
+        requireNonNull(fileStorage, "fileStorage must not be null");
+        requireValidContentDigest(contentDigest);
+        requireNonNull(retentionDuration, "retentionDuration must not be null");
+
+        return inJdbiTransaction(handle -> {
+            final var dao = handle.attach(BomUploadFileDao.class);
+            dao.lock(contentDigest);
+
+            final FileMetadata fileMetadata = dao.deleteForRetention(contentDigest, retentionDuration);
+            return fileMetadata != null && fileStorage.delete(fileMetadata);
+        });
+    }
+
+    /**
+     * Delete a content-addressed file if it is not the file recorded for its content digest.
+     *
+     * @param fileStorage  The {@link FileStorage} to use
+     * @param fileMetadata Metadata of the file, as returned by {@link FileStorage#list(String, java.time.Instant)}
+     * @return {@code true} when the file was deleted, otherwise {@code false}
+     * @throws IOException When deleting the file failed
+     */
+    public static boolean deleteIfUnreferenced(
+            final FileStorage fileStorage,
+            final FileMetadata fileMetadata) throws IOException {
+        requireNonNull(fileStorage, "fileStorage must not be null");
+        requireNonNull(fileMetadata, "fileMetadata must not be null");
+
+        final String contentDigest = contentDigestOf(fileMetadata.getLocation());
+        requireValidContentDigest(contentDigest);
+
+        return inJdbiTransaction(handle -> {
+            final var dao = handle.attach(BomUploadFileDao.class);
+            dao.lock(contentDigest);
+
+            return !dao.exists(contentDigest, fileMetadata.getLocation()) && fileStorage.delete(fileMetadata);
+        });
+    }
+
+    /**
+     * @param location Location of a stored file
+     * @return The content digest if the file is content-addressed, otherwise {@code null}
+     */
+    public static String contentDigestOf(final String location) {
+        if (location == null) {
+            return null;
+        }
+
+        final int digestStartIndex = location.lastIndexOf(FILE_NAME_PREFIX);
+        if (digestStartIndex < 0) {
+            return null;
+        }
+
+        final Matcher fileNameMatcher = FILE_NAME_PATTERN.matcher(
+                location.substring(digestStartIndex + FILE_NAME_PREFIX.length()));
+        return fileNameMatcher.matches() ? fileNameMatcher.group(1) : null;
+    }
+
+    private static FileMetadata tryAddReference(final Handle handle, final String contentDigest, final UUID token) {
+        final var dao = handle.attach(BomUploadFileDao.class);
+        dao.lock(contentDigest);
+
+        final FileMetadata fileMetadata = dao.get(contentDigest);
+        if (fileMetadata != null) {
+            dao.addReference(contentDigest, token);
+        }
+
+        return fileMetadata;
+    }
+
+    private static String fileNameOf(final String contentDigest, final UUID token) {
+        return FILE_NAME_PREFIX + contentDigest + "-" + token;
+    }
+
+    private static void deleteQuietly(final FileStorage fileStorage, final FileMetadata fileMetadata) {
+        try {
+            fileStorage.delete(fileMetadata);
+        } catch (IOException | RuntimeException e) {
+            // The file is eventually deleted by FileStorageMaintenanceTask.
+            LOGGER.warn("Failed to delete BOM upload file %s".formatted(fileMetadata.getLocation()), e);
+        }
+    }
+
+    private static void requireValidContentDigest(final String contentDigest) {
+        requireNonNull(contentDigest, "contentDigest must not be null");
+        if (!CONTENT_DIGEST_PATTERN.matcher(contentDigest).matches()) {
+            throw new IllegalArgumentException("contentDigest must be a hex-encoded SHA-256 digest");
+        }
+    }
+
+}
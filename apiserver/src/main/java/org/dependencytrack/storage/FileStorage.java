@@ -21,8 +21,15 @@ package org.dependencytrack.storage;
 import org.dependencytrack.plugin.api.ExtensionPoint;
 import org.dependencytrack.proto.storage.v1alpha1.FileMetadata;
 
+import java.io.ByteArrayInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.regex.Pattern;
 
 import static java.util.Objects.requireNonNull;
@@ -39,6 +46,8 @@ public interface FileStorage extends ExtensionPoint {
      * <p>
      * Storage providers may transparently perform additional steps,
      * such as encryption and compression.
+     * <p>
+     * {@code content} is consumed in a streaming fashion, but not closed.
      *
      * @param fileName  Name of the file. This fileName is not guaranteed to be reflected
      *                  in storage as-is. It may be modified or changed entirely.
@@ -48,7 +57,35 @@ public interface FileStorage extends ExtensionPoint {
      * @throws IOException When storing the file failed.
      * @see <a href="https://www.iana.org/assignments/media-types/media-types.xhtml">IANA Media Types</a>
      */
-    FileMetadata store(final String fileName, final String mediaType, final byte[] content) throws IOException;
+    FileMetadata store(final String fileName, final String mediaType, final InputStream content) throws IOException;
+
+    /**
+     * Persist data of known length to a file in storage.
+     * <p>
+     * Storage providers may record {@code contentLength} alongside the file,
+     * such that it can be retrieved more efficiently.
+     *
+     * @param contentLength Exact number of bytes {@code content} yields, or {@code -1} if unknown.
+     * @see #store(String, String, InputStream)
+     * @since 5.6.0
+     */
+    default FileMetadata store(
+            final String fileName,
+            final String mediaType,
+            final InputStream content,
+            final long contentLength) throws IOException {
+        return store(fileName, mediaType, content);
+    }
+
+    /**
+     * Persist data to a file in storage.
+     *
+     * @see #store(String, String, InputStream)
+     */
+    default FileMetadata store(final String fileName, final String mediaType, final byte[] content) throws IOException {
+        requireNonNull(content, "content must not be null");
+        return store(fileName, mediaType, new ByteArrayInputStream(content), content.length);
+    }
 
     /**
      * Persist data to a file in storage, assuming the media type to be {@code application/octet-stream}.
@@ -59,6 +96,26 @@ public interface FileStorage extends ExtensionPoint {
         return store(fileName, "application/octet-stream", content);
     }
 
+    /**
+     * Retrieves a file from storage as a stream.
+     * <p>
+     * Storage providers may transparently perform additional steps,
+     * such as integrity verification, decryption and decompression.
+     * <p>
+     * Integrity verification can only complete once the stream has been consumed entirely.
+     * When verification fails, reading the end of the stream throws an {@link IOException}.
+     * Callers must not act on the content before having reached the end of the stream.
+     * <p>
+     * Trying to retrieve a file from a different storage provider
+     * is an illegal operation and yields an exception.
+     *
+     * @param fileMetadata Metadata of the file to retrieve.
+     * @return An {@link InputStream} of the file's content. Must be closed by the caller.
+     * @throws IOException           When retrieving the file failed.
+     * @throws FileNotFoundException When the requested file was not found.
+     */
+    InputStream getInputStream(final FileMetadata fileMetadata) throws IOException;
+
     /**
      * Retrieves a file from storage.
      * <p>
@@ -72,8 +129,47 @@ public interface FileStorage extends ExtensionPoint {
      * @return The file's content.
      * @throws IOException           When retrieving the file failed.
      * @throws FileNotFoundException When the requested file was not found.
+     * @see #getInputStream(FileMetadata)
      */
-    byte[] get(final FileMetadata fileMetadata) throws IOException;
+    default byte[] get(final FileMetadata fileMetadata) throws IOException {
+        try (final InputStream inputStream = getInputStream(fileMetadata)) {
+            return inputStream.readAllBytes();
+        }
+    }
+
+    /**
+     * Retrieves a file from storage, and writes its content to an {@link OutputStream}.
+     * <p>
+     * {@code outputStream} is not closed.
+     *
+     * @see #getInputStream(FileMetadata)
+     * @since 5.6.0
+     */
+    default void get(final FileMetadata fileMetadata, final OutputStream outputStream) throws IOException {
+        requireNonNull(outputStream, "outputStream must not be null");
+
+        try (final InputStream inputStream = getInputStream(fileMetadata)) {
+            inputStream.transferTo(outputStream);
+        }
+    }
+
+    /**
+     * Retrieves a file from storage as a read-only {@link ByteBuffer}.
+     * <p>
+     * Unlike {@link #getInputStream(FileMetadata)}, integrity verification is completed
+     * before this method returns. Storage providers may return direct or memory-mapped
+     * buffers, such that the file's content does not need to be copied onto the heap.
+     *
+     * @param fileMetadata Metadata of the file to retrieve.
+     * @return A read-only {@link ByteBuffer} of the file's content.
+     * @throws IOException           When retrieving the file failed.
+     * @throws FileNotFoundException When the requested file was not found.
+     * @see #get(FileMetadata)
+     * @since 5.6.0
+     */
+    default ByteBuffer getByteBuffer(final FileMetadata fileMetadata) throws IOException {
+        return ByteBuffer.wrap(get(fileMetadata)).asReadOnlyBuffer();
+    }
 
     /**
      * Deletes a file from storage.
@@ -87,8 +183,44 @@ public interface FileStorage extends ExtensionPoint {
      */
     boolean delete(final FileMetadata fileMetadata) throws IOException;
 
-    // TODO: deleteMany. Some remote storage backends support batch deletes.
-    //  https://docs.aws.amazon.com/AmazonS3/latest/API/API_DeleteObjects.html
+    /**
+     * Deletes multiple files from storage.
+     * <p>
+     * Storage providers may perform the deletion in bulk, e.g. using batch APIs
+     * of remote storage backends. Files that do not exist are ignored.
+     * <p>
+     * Trying to delete files from a different storage provider
+     * is an illegal operation and yields an exception.
+     *
+     * @param fileMetadatas Metadata of the files to delete.
+     * @throws IOException When deleting any of the files failed.
+     * @since 5.6.0
+     */
+    default void deleteMany(final Collection<FileMetadata> fileMetadatas) throws IOException {
+        requireNonNull(fileMetadatas, "fileMetadatas must not be null");
+
+        for (final FileMetadata fileMetadata : fileMetadatas) {
+            delete(fileMetadata);
+        }
+    }
+
+    /**
+     * Lists files in storage whose name starts with {@code prefix},
+     * and which were last modified before {@code modifiedBefore}.
+     * <p>
+     * The returned {@link FileMetadata} only have their location populated.
+     * They are suitable for deletion, but not for retrieval, since their digest is unknown.
+     *
+     * @param prefix         Prefix of the file names to list.
+     * @param modifiedBefore Point in time before which files must have been last modified.
+     * @return Metadata of the matching files.
+     * @throws IOException                   When listing files failed.
+     * @throws UnsupportedOperationException When the storage provider does not support listing files.
+     * @since 5.6.0
+     */
+    default List<FileMetadata> list(final String prefix, final Instant modifiedBefore) throws IOException {
+        throw new UnsupportedOperationException("Listing files is not supported by " + getClass().getName());
+    }
 
     static void requireValidFileName(final String fileName) {
         requireNonNull(fileName, "fileName must not be null");
@@ -0,0 +1,385 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.storage;
+
+import com.github.luben.zstd.EndDirective;
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdCompressCtx;
+import com.github.luben.zstd.ZstdDirectBufferDecompressingStream;
+import com.github.luben.zstd.ZstdException;
+import com.github.luben.zstd.ZstdInputStream;
+import com.github.luben.zstd.ZstdOutputStream;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.io.output.CloseShieldOutputStream;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
+import java.security.DigestInputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.HexFormat;
+
+/**
+ * Utilities for streaming compression and integrity verification of stored files.
+ * <p>
+ * Files are compressed using zstd in a streaming fashion, such that their content never
+ * needs to be held in memory in its entirety. Digests are calculated over the bytes
+ * as they are stored, i.e. after compression.
+ *
+ * @since 5.6.0
+ */
+final class FileStorageStreams {
+
+    /**
+     * Magic number of zstd frames, in the little-endian byte order they appear in.
+     *
+     * @see <a href="https://www.rfc-editor.org/rfc/rfc8878#name-zstandard-frames">RFC 8878, Section 3.1.1</a>
+     */
+    private static final byte[] ZSTD_MAGIC = {(byte) 0x28, (byte) 0xB5, (byte) 0x2F, (byte) 0xFD};
+
+    /**
+     * Maximum size of a {@link ByteBuffer}, as it is indexed by {@code int}.
+     */
+    static final int MAX_BUFFER_SIZE = Integer.MAX_VALUE - 8;
+
+    private static final int COMPRESSION_CHUNK_SIZE = 128 * 1024;
+
+    private FileStorageStreams() {
+    }
+
+    /**
+     * Write {@code content} to {@code outputStream}, compressing it with zstd if it is
+     * at least {@code compressionThresholdBytes} large.
+     * <p>
+     * When {@code contentLength} is known, it is recorded in the zstd frame header.
+     * This allows for decompression into a buffer of the exact size.
+     * <p>
+     * {@code outputStream} is flushed, but not closed.
+     *
+     * @param contentLength Exact number of bytes {@code content} yields, or {@code -1} if unknown.
+     * @return The SHA-256 digest of the bytes written to {@code outputStream}.
+     */
+    static byte[] compressAndDigest(
+            final InputStream content,
+            final long contentLength,
+            final OutputStream outputStream,
+            final int compressionThresholdBytes,
+            final int compressionLevel) throws IOException {
+        final MessageDigest messageDigest = DigestUtils.getSha256Digest();
+
+        try (final var digestOutputStream = new DigestOutputStream(
+                CloseShieldOutputStream.wrap(outputStream), messageDigest)) {
+            // Only read as much as is needed to decide whether compression is worth it.
+            final byte[] head = content.readNBytes(compressionThresholdBytes);
+            if (head.length < compressionThresholdBytes) {
+                digestOutputStream.write(head);
+            } else if (contentLength >= 0) {
+                compressWithContentSize(
+                        new SequenceInputStream(new ByteArrayInputStream(head), content),
+                        contentLength, digestOutputStream, compressionLevel);
+            } else {
+                try (final var zstdOutputStream = new ZstdOutputStream(digestOutputStream, compressionLevel)) {
+                    zstdOutputStream.write(head);
+                    content.transferTo(zstdOutputStream);
+                }
+            }
+        }
+
+        return messageDigest.digest();
+    }
+
+    private static void compressWithContentSize(
+            final InputStream content,
+            final long contentLength,
+            final OutputStream outputStream,
+            final int compressionLevel) throws IOException {
+        // ZstdOutputStream offers no way to pledge the content size,
+        // so drive the streaming compression context directly.
+        final ByteBuffer sourceBuffer = ByteBuffer.allocateDirect(COMPRESSION_CHUNK_SIZE);
+        final ByteBuffer targetBuffer = ByteBuffer.allocateDirect((int) Zstd.compressBound(COMPRESSION_CHUNK_SIZE));
+        final byte[] chunk = new byte[targetBuffer.capacity()];
+
+        try (final var compressCtx = new ZstdCompressCtx()) {
+            compressCtx.setLevel(compressionLevel);
+            compressCtx.setContentSize(true);
+            compressCtx.setPledgedSrcSize(contentLength);
+
+            long totalBytesRead = 0;
+            boolean frameComplete = false;
+            while (!frameComplete) {
+                final int bytesRead = content.readNBytes(chunk, 0, COMPRESSION_CHUNK_SIZE);
+                totalBytesRead += bytesRead;
+                if (totalBytesRead > contentLength) {
+                    throw new IOException("Content exceeds the expected length of %d bytes".formatted(contentLength));
+                }
+                sourceBuffer.clear().put(chunk, 0, bytesRead).flip();
+                final EndDirective endDirective = bytesRead < COMPRESSION_CHUNK_SIZE
+                        ? EndDirective.END
+                        : EndDirective.CONTINUE;
+
+                boolean flushed;
+                do {
+                    targetBuffer.clear();
+                    flushed = compressCtx.compressDirectByteBufferStream(targetBuffer, sourceBuffer, endDirective);
+                    targetBuffer.flip();
+                    final int compressedBytes = targetBuffer.remaining();
+                    targetBuffer.get(chunk, 0, compressedBytes);
+                    outputStream.write(chunk, 0, compressedBytes);
+                } while (sourceBuffer.hasRemaining() || (endDirective == EndDirective.END && !flushed));
+
+                frameComplete = endDirective == EndDirective.END;
+            }
+
+            if (totalBytesRead != contentLength) {
+                throw new IOException("Expected content of %d bytes, but got %d"
+                        .formatted(contentLength, totalBytesRead));
+            }
+        } catch (ZstdException e) {
+            throw new IOException("Failed to compress content", e);
+        }
+    }
+
+    /**
+     * Wrap an {@link InputStream} of stored bytes, such that reading from it yields
+     * the decompressed content, and the digest of the stored bytes is verified.
+     * <p>
+     * Compression is detected based on the zstd magic number, which allows for files
+     * that were stored without compression to be read as-is.
+     * <p>
+     * Verification is performed once the end of the stream is reached. In case of a mismatch,
+     * the final read throws an {@link IOException}. Consumers must thus not act on the content
+     * before having consumed the stream entirely.
+     */
+    static InputStream decompressAndVerify(
+            final InputStream storedInputStream,
+            final String expectedDigestHex) throws IOException {
+        final MessageDigest messageDigest = DigestUtils.getSha256Digest();
+        final var storedBufferedInputStream = new BufferedInputStream(
+                new DigestInputStream(storedInputStream, messageDigest));
+
+        storedBufferedInputStream.mark(ZSTD_MAGIC.length);
+        final byte[] head = storedBufferedInputStream.readNBytes(ZSTD_MAGIC.length);
+        storedBufferedInputStream.reset();
+
+        final InputStream contentInputStream = Arrays.equals(head, ZSTD_MAGIC)
+                ? new ZstdInputStream(storedBufferedInputStream)
+                : storedBufferedInputStream;
+
+        return new VerifyingInputStream(
+                contentInputStream, storedBufferedInputStream, messageDigest, expectedDigestHex);
+    }
+
+    /**
+     * Verify the digest of stored bytes held in a direct {@link ByteBuffer}, and decompress
+     * them into another direct {@link ByteBuffer} if they are zstd-compressed.
+     * <p>
+     * Neither the stored nor the decompressed bytes are copied onto the heap.
+     * Uncompressed content is returned as a read-only view of {@code storedBuffer}.
+     *
+     * @return A read-only {@link ByteBuffer} of the content.
+     */
+    static ByteBuffer decompressAndVerify(
+            final ByteBuffer storedBuffer,
+            final String expectedDigestHex) throws IOException {
+        if (!storedBuffer.isDirect()) {
+            throw new IllegalArgumentException("storedBuffer must be a direct buffer");
+        }
+
+        final MessageDigest messageDigest = DigestUtils.getSha256Digest();
+        messageDigest.update(storedBuffer.duplicate());
+        verifyDigest(messageDigest.digest(), expectedDigestHex);
+
+        if (!startsWithZstdMagic(storedBuffer)) {
+            return storedBuffer.asReadOnlyBuffer();
+        }
+
+        final long contentSize = Zstd.getFrameContentSize(storedBuffer);
+        if (contentSize >= 0) {
+            return decompressWithContentSize(storedBuffer, contentSize);
+        }
+
+        // Files stored without a known content length do not record the content size in the
+        // frame header, so the target buffer is grown as needed. Compression ratios for BOMs are
+        // typically high, so start with a generous estimate.
+        ByteBuffer contentBuffer = ByteBuffer.allocateDirect(
+                (int) Math.min(MAX_BUFFER_SIZE, Math.max(storedBuffer.remaining() * 4L, 8192)));
+
+        final ByteBuffer sourceBuffer = storedBuffer.duplicate();
+        try (final var zstdStream = new ZstdDirectBufferDecompressingStream(sourceBuffer)) {
+            while (zstdStream.hasRemaining()) {
+                if (!contentBuffer.hasRemaining()) {
+                    contentBuffer = grow(contentBuffer);
+                }
+
+                final int bytesRead = zstdStream.read(contentBuffer);
+                if (bytesRead == 0 && contentBuffer.hasRemaining() && !sourceBuffer.hasRemaining()) {
+                    // All stored bytes were consumed, but the frame is incomplete.
+                    throw new IOException("Unexpected end of zstd frame");
+                }
+            }
+        }
+
+        return contentBuffer.flip().asReadOnlyBuffer();
+    }
+
+    private static ByteBuffer decompressWithContentSize(
+            final ByteBuffer storedBuffer,
+            final long contentSize) throws IOException {
+        if (contentSize > MAX_BUFFER_SIZE) {
+            throw new IOException("Decompressed content exceeds the maximum buffer size of %d bytes"
+                    .formatted(MAX_BUFFER_SIZE));
+        }
+
+        final ByteBuffer contentBuffer = ByteBuffer.allocateDirect((int) contentSize);
+        final long bytesDecompressed;
+        try {
+            bytesDecompressed = Zstd.decompressDirectByteBuffer(
+                    contentBuffer, 0, contentBuffer.capacity(),
+                    storedBuffer, storedBuffer.position(), storedBuffer.remaining());
+        } catch (ZstdException e) {
+            throw new IOException("Failed to decompress zstd frame", e);
+        }
+        if (Zstd.isError(bytesDecompressed)) {
+            throw new IOException("Failed to decompress zstd frame: " + Zstd.getErrorName(bytesDecompressed));
+        }
+        if (bytesDecompressed != contentSize) {
+            throw new IOException("Expected %d decompressed bytes, but got %d"
+                    .formatted(contentSize, bytesDecompressed));
+        }
+
+        return contentBuffer.asReadOnlyBuffer();
+    }
+
+    private static boolean startsWithZstdMagic(final ByteBuffer buffer) {
+        if (buffer.remaining() < ZSTD_MAGIC.length) {
+            return false;
+        }
+
+        for (int i = 0; i < ZSTD_MAGIC.length; i++) {
+            if (buffer.get(buffer.position() + i) != ZSTD_MAGIC[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static ByteBuffer grow(final ByteBuffer buffer) throws IOException {
+        if (buffer.capacity() >= MAX_BUFFER_SIZE) {
+            throw new IOException("Decompressed content exceeds the maximum buffer size of %d bytes"
+                    .formatted(MAX_BUFFER_SIZE));
+        }
+
+        final var grownBuffer = ByteBuffer.allocateDirect(
+                (int) Math.min(MAX_BUFFER_SIZE, buffer.capacity() * 2L));
+        return grownBuffer.put(buffer.flip());
+    }
+
+    static void verifyDigest(final byte[] actualDigest, final String expectedDigestHex) throws IOException {
+        final byte[] expectedDigest = HexFormat.of().parseHex(expectedDigestHex);
+        if (!Arrays.equals(actualDigest, expectedDigest)) {
+            throw new IOException("SHA256 digest mismatch: actual=%s, expected=%s".formatted(
+                    HexFormat.of().formatHex(actualDigest), expectedDigestHex));
+        }
+    }
+
+    private static final class VerifyingInputStream extends FilterInputStream {
+
+        private final InputStream storedInputStream;
+        private final MessageDigest messageDigest;
+        private final String expectedDigestHex;
+        private boolean verified;
+        private IOException verificationFailure;
+
+        private VerifyingInputStream(
+                final InputStream contentInputStream,
+                final InputStream storedInputStream,
+                final MessageDigest messageDigest,
+                final String expectedDigestHex) {
+            super(contentInputStream);
+            this.storedInputStream = storedInputStream;
+            this.messageDigest = messageDigest;
+            this.expectedDigestHex = expectedDigestHex;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int b = super.read();
+            if (b == -1) {
+                verify();
+            }
+
+            return b;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            final int bytesRead = super.read(b, off, len);
+            if (bytesRead == -1) {
+                verify();
+            }
+
+            return bytesRead;
+        }
+
+        @Override
+        public long skip(final long n) throws IOException {
+            // Skipped bytes must still be read, otherwise they would be missing from the digest.
+            if (n <= 0) {
+                return 0;
+            }
+
+            return Math.max(read(new byte[(int) Math.min(n, 8192)]), 0);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        private void verify() throws IOException {
+            if (!verified) {
+                verified = true;
+
+                // The decompressor may not consume trailing bytes of the stored file.
+                // Drain them, so they are included in the digest.
+                storedInputStream.transferTo(OutputStream.nullOutputStream());
+
+                try {
+                    verifyDigest(messageDigest.digest(), expectedDigestHex);
+                } catch (IOException e) {
+                    verificationFailure = e;
+                }
+            }
+
+            if (verificationFailure != null) {
+                throw verificationFailure;
+            }
+        }
+
+    }
+
+}
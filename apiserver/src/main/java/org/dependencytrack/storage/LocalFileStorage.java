@@ -18,9 +18,7 @@
  */
 package org.dependencytrack.storage;
 
-import com.github.luben.zstd.Zstd;
 import com.google.common.annotations.VisibleForTesting;
-import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.http.client.utils.URIBuilder;
 import org.dependencytrack.proto.storage.v1alpha1.FileMetadata;
 import org.slf4j.Logger;
@@ -28,15 +26,32 @@ import org.slf4j.LoggerFactory;
 
 import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.Arrays;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import static java.util.Objects.requireNonNull;
 import static org.dependencytrack.storage.FileStorage.requireValidFileName;
+import static org.dependencytrack.storage.FileStorageStreams.MAX_BUFFER_SIZE;
+import static org.dependencytrack.storage.FileStorageStreams.compressAndDigest;
+import static org.dependencytrack.storage.FileStorageStreams.decompressAndVerify;
 
 /**
  * @since 5.6.0
@@ -49,18 +64,57 @@ final class LocalFileStorage implements FileStorage {
     private final Path baseDirPath;
     private final int compressionThresholdBytes;
     private final int compressionLevel;
+    private final ReadMode readMode;
+
+    /**
+     * Strategy for reading files via {@link #getByteBuffer(FileMetadata)}.
+     */
+    enum ReadMode {
+
+        /**
+         * Read files through the heap, using {@link #getInputStream(FileMetadata)}.
+         */
+        STREAM,
+
+        /**
+         * Memory-map files, and decompress them into direct buffers.
+         * <p>
+         * Avoids copying file contents onto the heap, at the cost of consuming
+         * direct memory (see {@code -XX:MaxDirectMemorySize}) for compressed files.
+         */
+        MMAP
+
+    }
 
     LocalFileStorage(
             final Path baseDirPath,
             final int compressionThresholdBytes,
             final int compressionLevel) {
+        this(baseDirPath, compressionThresholdBytes, compressionLevel, ReadMode.STREAM);
+    }
+
+    LocalFileStorage(
+            final Path baseDirPath,
+            final int compressionThresholdBytes,
+            final int compressionLevel,
+            final ReadMode readMode) {
         this.baseDirPath = baseDirPath;
         this.compressionThresholdBytes = compressionThresholdBytes;
         this.compressionLevel = compressionLevel;
+        this.readMode = requireNonNull(readMode, "readMode must not be null");
+    }
+
+    @Override
+    public FileMetadata store(final String fileName, final String mediaType, final InputStream content) throws IOException {
+        return store(fileName, mediaType, content, -1);
     }
 
     @Override
-    public FileMetadata store(final String fileName, final String mediaType, final byte[] content) throws IOException {
+    public FileMetadata store(
+            final String fileName,
+            final String mediaType,
+            final InputStream content,
+            final long contentLength) throws IOException {
         requireValidFileName(fileName);
         requireNonNull(content, "content must not be null");
 
@@ -73,28 +127,22 @@ final class LocalFileStorage implements FileStorage {
             Files.createDirectories(filePath.getParent());
         }
 
-        final Path relativeFilePath = baseDirPath.relativize(filePath);
+        final URI locationUri = toLocationUri(filePath);
 
-        final URI locationUri;
+        // Write to a temporary file first, and move it to its final location once complete.
+        // This prevents readers from observing partially written files, and prevents
+        // existing files from being corrupted when writing fails midway.
+        final Path tempFilePath = Files.createTempFile(filePath.getParent(), ".", ".tmp");
+        final byte[] contentDigest;
         try {
-            locationUri = new URIBuilder()
-                    .setScheme(EXTENSION_NAME)
-                    .setHost("")
-                    .setPath(relativeFilePath.toString())
-                    .build();
-        } catch (URISyntaxException e) {
-            throw new IllegalStateException("Failed to build URI for " + relativeFilePath, e);
-        }
-
-        final byte[] maybeCompressedContent = content.length >= compressionThresholdBytes
-                ? Zstd.compress(content, compressionLevel)
-                : content;
+            try (final var fileOutputStream = Files.newOutputStream(tempFilePath);
+                 final var bufferedOutputStream = new BufferedOutputStream(fileOutputStream)) {
+                contentDigest = compressAndDigest(content, contentLength, bufferedOutputStream, compressionThresholdBytes, compressionLevel);
+            }
 
-        final byte[] contentDigest = DigestUtils.sha256(maybeCompressedContent);
-
-        try (final var fileOutputStream = Files.newOutputStream(filePath);
-             final var bufferedOutputStream = new BufferedOutputStream(fileOutputStream)) {
-            bufferedOutputStream.write(maybeCompressedContent);
+            Files.move(tempFilePath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFilePath);
         }
 
         return FileMetadata.newBuilder()
@@ -105,26 +153,43 @@ final class LocalFileStorage implements FileStorage {
     }
 
     @Override
-    public byte[] get(final FileMetadata fileMetadata) throws IOException {
+    public InputStream getInputStream(final FileMetadata fileMetadata) throws IOException {
         requireNonNull(fileMetadata, "fileMetadata must not be null");
 
         final Path filePath = resolveFilePath(fileMetadata);
 
-        final byte[] maybeCompressedContent = Files.readAllBytes(filePath);
-        final byte[] actualContentDigest = DigestUtils.sha256(maybeCompressedContent);
-        final byte[] expectedContentDigest = HexFormat.of().parseHex(fileMetadata.getSha256Digest());
+        final InputStream fileInputStream = Files.newInputStream(filePath);
+        try {
+            return decompressAndVerify(fileInputStream, fileMetadata.getSha256Digest());
+        } catch (IOException | RuntimeException e) {
+            fileInputStream.close();
+            throw e;
+        }
+    }
 
-        if (!Arrays.equals(actualContentDigest, expectedContentDigest)) {
-            throw new IOException("SHA256 digest mismatch: actual=%s, expected=%s".formatted(
-                    HexFormat.of().formatHex(actualContentDigest), fileMetadata.getSha256Digest()));
+    @Override
+    public ByteBuffer getByteBuffer(final FileMetadata fileMetadata) throws IOException {
+        if (readMode != ReadMode.MMAP) {
+            return FileStorage.super.getByteBuffer(fileMetadata);
         }
 
-        final long decompressedSize = Zstd.decompressedSize(maybeCompressedContent);
-        if (Zstd.decompressedSize(maybeCompressedContent) <= 0) {
-            return maybeCompressedContent; // Not compressed.
+        requireNonNull(fileMetadata, "fileMetadata must not be null");
+
+        final Path filePath = resolveFilePath(fileMetadata);
+
+        // The mapping remains valid after the channel is closed.
+        final MappedByteBuffer mappedBuffer;
+        try (final FileChannel fileChannel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            final long fileSize = fileChannel.size();
+            if (fileSize > MAX_BUFFER_SIZE) {
+                throw new IOException("File %s is too large to be mapped (%d bytes)".formatted(
+                        fileMetadata.getLocation(), fileSize));
+            }
+
+            mappedBuffer = fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
         }
 
-        return Zstd.decompress(maybeCompressedContent, Math.toIntExact(decompressedSize));
+        return decompressAndVerify(mappedBuffer, fileMetadata.getSha256Digest());
     }
 
     @Override
@@ -136,6 +201,89 @@ final class LocalFileStorage implements FileStorage {
         return Files.deleteIfExists(filePath);
     }
 
+    @Override
+    public void deleteMany(final Collection<FileMetadata> fileMetadatas) throws IOException {
+        requireNonNull(fileMetadatas, "fileMetadatas must not be null");
+
+        // Resolve all paths upfront, such that invalid locations
+        // are rejected before any file is deleted.
+        final List<Path> filePaths = fileMetadatas.stream()
+                .map(this::resolveFilePath)
+                .toList();
+
+        final var failures = new ConcurrentLinkedQueue<IOException>();
+        filePaths.parallelStream().forEach(filePath -> {
+            try {
+                Files.deleteIfExists(filePath);
+            } catch (IOException e) {
+                failures.add(e);
+            }
+        });
+
+        if (!failures.isEmpty()) {
+            final var exception = new IOException("Failed to delete %d of %d files".formatted(
+                    failures.size(), filePaths.size()));
+            failures.forEach(exception::addSuppressed);
+            throw exception;
+        }
+    }
+
+    @Override
+    public List<FileMetadata> list(final String prefix, final Instant modifiedBefore) throws IOException {
+        requireNonNull(prefix, "prefix must not be null");
+        requireNonNull(modifiedBefore, "modifiedBefore must not be null");
+
+        // The prefix may denote a directory, or a partial file name within a directory.
+        final Path prefixPath = resolveFilePath(prefix);
+        final Path searchDirPath = prefix.isEmpty() || prefix.endsWith("/") || Files.isDirectory(prefixPath)
+                ? prefixPath
+                : prefixPath.getParent();
+        if (!Files.isDirectory(searchDirPath)) {
+            return Collections.emptyList();
+        }
+
+        final var fileMetadatas = new ArrayList<FileMetadata>();
+        Files.walkFileTree(searchDirPath, new SimpleFileVisitor<>() {
+
+            @Override
+            public FileVisitResult visitFile(final Path filePath, final BasicFileAttributes attributes) {
+                if (attributes.isRegularFile()
+                        && baseDirPath.relativize(filePath).toString().startsWith(prefix)
+                        && attributes.lastModifiedTime().toInstant().isBefore(modifiedBefore)) {
+                    fileMetadatas.add(FileMetadata.newBuilder()
+                            .setLocation(toLocationUri(filePath).toString())
+                            .build());
+                }
+
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(final Path filePath, final IOException e) {
+                // Files may be deleted concurrently while walking the tree.
+                LOGGER.debug("Failed to visit {}", filePath, e);
+                return FileVisitResult.CONTINUE;
+            }
+
+        });
+
+        return fileMetadatas;
+    }
+
+    private URI toLocationUri(final Path filePath) {
+        final Path relativeFilePath = baseDirPath.relativize(filePath);
+
+        try {
+            return new URIBuilder()
+                    .setScheme(EXTENSION_NAME)
+                    .setHost("")
+                    .setPath(relativeFilePath.toString())
+                    .build();
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException("Failed to build URI for " + relativeFilePath, e);
+        }
+    }
+
     private Path resolveFilePath(final String filePath) {
         final Path resolvedFilePath = baseDirPath.resolve(filePath).normalize().toAbsolutePath();
         if (!resolvedFilePath.startsWith(baseDirPath)) {
@@ -53,10 +53,16 @@ public final class LocalFileStorageFactory implements ExtensionFactory<FileStora
             ConfigSource.DEPLOYMENT,
             /* isRequired */ false,
             /* isSecret */ false);
+    static final ConfigDefinition CONFIG_READ_MODE = new ConfigDefinition(
+            "read.mode",
+            ConfigSource.DEPLOYMENT,
+            /* isRequired */ false,
+            /* isSecret */ false);
 
     private Path directoryPath;
     private int compressionThresholdBytes;
     private int compressionLevel;
+    private LocalFileStorage.ReadMode readMode;
 
     @Override
     public String extensionName() {
@@ -105,11 +111,15 @@ public final class LocalFileStorageFactory implements ExtensionFactory<FileStora
         compressionLevel = configRegistry.getOptionalValue(CONFIG_COMPRESSION_LEVEL)
                 .map(Integer::parseInt)
                 .orElse(5);
+        readMode = configRegistry.getOptionalValue(CONFIG_READ_MODE)
+                .map(String::toUpperCase)
+                .map(LocalFileStorage.ReadMode::valueOf)
+                .orElse(LocalFileStorage.ReadMode.STREAM);
     }
 
     @Override
     public FileStorage create() {
-        return new LocalFileStorage(directoryPath, compressionThresholdBytes, compressionLevel);
+        return new LocalFileStorage(directoryPath, compressionThresholdBytes, compressionLevel, readMode);
     }
 
 }
@@ -22,13 +22,17 @@ import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.http.client.utils.URIBuilder;
 import org.dependencytrack.proto.storage.v1alpha1.FileMetadata;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Paths;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.HexFormat;
+import java.util.List;
 import java.util.Map;
 
 import static java.util.Objects.requireNonNull;
@@ -41,10 +45,13 @@ final class MemoryFileStorage implements FileStorage {
 
     static final String EXTENSION_NAME = "memory";
 
-    private final Map<String, byte[]> fileContentByKey;
+    private final Map<String, MemoryFile> fileByKey;
 
-    MemoryFileStorage(final Map<String, byte[]> fileContentByKey) {
-        this.fileContentByKey = requireNonNull(fileContentByKey);
+    record MemoryFile(byte[] content, Instant lastModified) {
+    }
+
+    MemoryFileStorage(final Map<String, MemoryFile> fileByKey) {
+        this.fileByKey = requireNonNull(fileByKey);
     }
 
     @Override
@@ -52,22 +59,11 @@ final class MemoryFileStorage implements FileStorage {
         requireValidFileName(fileName);
         requireNonNull(content, "content must not be null");
 
-        final String normalizedFileName = normalizeFileName(fileName);
-
-        final URI locationUri;
-        try {
-            locationUri = new URIBuilder()
-                    .setScheme(EXTENSION_NAME)
-                    .setHost("")
-                    .setPath(normalizedFileName)
-                    .build();
-        } catch (URISyntaxException e) {
-            throw new IllegalStateException("Failed to build URI for " + fileName, e);
-        }
+        final URI locationUri = buildLocationUri(fileName);
 
         final byte[] contentDigest = DigestUtils.sha256(content);
 
-        fileContentByKey.put(fileName, content);
+        fileByKey.put(fileName, new MemoryFile(content, Instant.now()));
 
         return FileMetadata.newBuilder()
                 .setLocation(locationUri.toString())
@@ -76,17 +72,31 @@ final class MemoryFileStorage implements FileStorage {
                 .build();
     }
 
+    @Override
+    public FileMetadata store(final String fileName, final String mediaType, final InputStream content) throws IOException {
+        requireNonNull(content, "content must not be null");
+        return store(fileName, mediaType, content.readAllBytes());
+    }
+
+    @Override
+    public InputStream getInputStream(final FileMetadata fileMetadata) throws IOException {
+        // Content is held in memory anyway, so there is no benefit in verifying it lazily.
+        return new ByteArrayInputStream(get(fileMetadata));
+    }
+
     @Override
     public byte[] get(final FileMetadata fileMetadata) throws IOException {
         requireNonNull(fileMetadata, "fileMetadata must not be null");
 
         final String fileName = resolveFileName(fileMetadata);
 
-        final byte[] fileContent = fileContentByKey.get(fileName);
-        if (fileContent == null) {
+        final MemoryFile file = fileByKey.get(fileName);
+        if (file == null) {
             throw new NoSuchFileException(fileMetadata.getLocation());
         }
 
+        final byte[] fileContent = file.content();
+
         final byte[] actualContentDigest = DigestUtils.sha256(fileContent);
         final byte[] expectedContentDigest = HexFormat.of().parseHex(fileMetadata.getSha256Digest());
 
@@ -104,7 +114,33 @@ final class MemoryFileStorage implements FileStorage {
 
         final String filePath = resolveFileName(fileMetadata);
 
-        return fileContentByKey.remove(filePath) != null;
+        return fileByKey.remove(filePath) != null;
+    }
+
+    @Override
+    public List<FileMetadata> list(final String prefix, final Instant modifiedBefore) {
+        requireNonNull(prefix, "prefix must not be null");
+        requireNonNull(modifiedBefore, "modifiedBefore must not be null");
+
+        return fileByKey.entrySet().stream()
+                .filter(entry -> entry.getKey().startsWith(prefix))
+                .filter(entry -> entry.getValue().lastModified().isBefore(modifiedBefore))
+                .map(entry -> FileMetadata.newBuilder()
+                        .setLocation(buildLocationUri(entry.getKey()).toString())
+                        .build())
+                .toList();
+    }
+
+    private static URI buildLocationUri(final String fileName) {
+        try {
+            return new URIBuilder()
+                    .setScheme(EXTENSION_NAME)
+                    .setHost("")
+                    .setPath(normalizeFileName(fileName))
+                    .build();
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException("Failed to build URI for " + fileName, e);
+        }
     }
 
     private static String normalizeFileName(final String fileName) {
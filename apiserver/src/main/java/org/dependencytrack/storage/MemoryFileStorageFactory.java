@@ -20,6 +20,7 @@ package org.dependencytrack.storage;
 
 import org.dependencytrack.plugin.api.ConfigRegistry;
 import org.dependencytrack.plugin.api.ExtensionFactory;
+import org.dependencytrack.storage.MemoryFileStorage.MemoryFile;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -29,7 +30,7 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public final class MemoryFileStorageFactory implements ExtensionFactory<FileStorage> {
 
-    private Map<String, byte[]> fileContentByKey;
+    private Map<String, MemoryFile> fileByKey;
 
     @Override
     public String extensionName() {
@@ -48,12 +49,12 @@ public final class MemoryFileStorageFactory implements ExtensionFactory<FileStor
 
     @Override
     public void init(final ConfigRegistry configRegistry) {
-        fileContentByKey = new ConcurrentHashMap<>();
+        fileByKey = new ConcurrentHashMap<>();
     }
 
     @Override
     public FileStorage create() {
-        return new MemoryFileStorage(fileContentByKey);
+        return new MemoryFileStorage(fileByKey);
     }
 
 }
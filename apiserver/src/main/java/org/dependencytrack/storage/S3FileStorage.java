@@ -18,29 +18,42 @@
  */
 package org.dependencytrack.storage;
 
-import com.github.luben.zstd.Zstd;
 import io.minio.GetObjectArgs;
 import io.minio.GetObjectResponse;
+import io.minio.ListObjectsArgs;
 import io.minio.MinioClient;
 import io.minio.PutObjectArgs;
 import io.minio.RemoveObjectArgs;
+import io.minio.RemoveObjectsArgs;
+import io.minio.Result;
 import io.minio.errors.ErrorResponseException;
-import org.apache.commons.codec.digest.DigestUtils;
+import io.minio.messages.DeleteError;
+import io.minio.messages.DeleteObject;
+import io.minio.messages.Item;
+import org.apache.commons.io.output.DeferredFileOutputStream;
 import org.apache.http.client.utils.URIBuilder;
 import org.dependencytrack.proto.storage.v1alpha1.FileMetadata;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
-import java.util.Arrays;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import static java.util.Objects.requireNonNull;
 import static org.dependencytrack.storage.FileStorage.requireValidFileName;
+import static org.dependencytrack.storage.FileStorageStreams.compressAndDigest;
+import static org.dependencytrack.storage.FileStorageStreams.decompressAndVerify;
 
 /**
  * @since 5.6.0
@@ -49,6 +62,7 @@ final class S3FileStorage implements FileStorage {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(S3FileStorage.class);
     static final String EXTENSION_NAME = "s3";
+    private static final int SPOOL_THRESHOLD_BYTES = 1024 * 1024;
 
     private final MinioClient s3Client;
     private final String bucketName;
@@ -103,31 +117,51 @@ final class S3FileStorage implements FileStorage {
     }
 
     @Override
-    public FileMetadata store(final String fileName, final String mediaType, final byte[] content) throws IOException {
+    public FileMetadata store(final String fileName, final String mediaType, final InputStream content) throws IOException {
+        return store(fileName, mediaType, content, -1);
+    }
+
+    @Override
+    public FileMetadata store(
+            final String fileName,
+            final String mediaType,
+            final InputStream content,
+            final long contentLength) throws IOException {
         requireValidFileName(fileName);
         requireNonNull(content, "content must not be null");
 
         final var fileLocation = new S3FileLocation(bucketName, fileName);
         final URI locationUri = fileLocation.asURI();
 
-        final byte[] maybeCompressedContent = content.length >= compressionThresholdBytes
-                ? Zstd.compress(content, compressionLevel)
-                : content;
-
-        final byte[] contentDigest = DigestUtils.sha256(maybeCompressedContent);
-
+        // The size of the object must be known in advance to upload it in a single request.
+        // Spool the compressed content, and only keep it on the heap if it is small.
+        final DeferredFileOutputStream spoolOutputStream = DeferredFileOutputStream.builder()
+                .setThreshold(SPOOL_THRESHOLD_BYTES)
+                .setPrefix("dtrack-s3-upload-")
+                .get();
+        final byte[] contentDigest;
         try {
-            s3Client.putObject(PutObjectArgs.builder()
-                    .bucket(fileLocation.bucket())
-                    .object(fileLocation.object())
-                    .stream(new ByteArrayInputStream(maybeCompressedContent), maybeCompressedContent.length, -1)
-                    .build());
+            try (spoolOutputStream) {
+                contentDigest = compressAndDigest(content, contentLength, spoolOutputStream, compressionThresholdBytes, compressionLevel);
+            }
+
+            try (final InputStream spoolInputStream = spoolOutputStream.toInputStream()) {
+                s3Client.putObject(PutObjectArgs.builder()
+                        .bucket(fileLocation.bucket())
+                        .object(fileLocation.object())
+                        .stream(spoolInputStream, spoolOutputStream.getByteCount(), -1)
+                        .build());
+            }
         } catch (Exception e) {
             if (e instanceof final IOException ioe) {
                 throw ioe;
             }
 
             throw new IOException(e);
+        } finally {
+            if (spoolOutputStream.getPath() != null) {
+                Files.deleteIfExists(spoolOutputStream.getPath());
+            }
         }
 
         return FileMetadata.newBuilder()
@@ -138,20 +172,18 @@ final class S3FileStorage implements FileStorage {
     }
 
     @Override
-    public byte[] get(final FileMetadata fileMetadata) throws IOException {
+    public InputStream getInputStream(final FileMetadata fileMetadata) throws IOException {
         requireNonNull(fileMetadata, "fileMetadata must not be null");
 
         final var fileLocation = S3FileLocation.from(fileMetadata);
 
-        final byte[] maybeCompressedContent;
+        final GetObjectResponse response;
         try {
-            try (final GetObjectResponse response = s3Client.getObject(
+            response = s3Client.getObject(
                     GetObjectArgs.builder()
                             .bucket(fileLocation.bucket())
                             .object(fileLocation.object())
-                            .build())) {
-                maybeCompressedContent = response.readAllBytes();
-            }
+                            .build());
         } catch (ErrorResponseException e) {
             // https://docs.aws.amazon.com/AmazonS3/latest/API/ErrorResponses.html#ErrorCodeList
             if ("NoSuchKey".equalsIgnoreCase(e.errorResponse().code())) {
@@ -167,20 +199,12 @@ final class S3FileStorage implements FileStorage {
             throw new IOException(e);
         }
 
-        final byte[] actualContentDigest = DigestUtils.sha256(maybeCompressedContent);
-        final byte[] expectedContentDigest = HexFormat.of().parseHex(fileMetadata.getSha256Digest());
-
-        if (!Arrays.equals(actualContentDigest, expectedContentDigest)) {
-            throw new IOException("SHA256 digest mismatch: actual=%s, expected=%s".formatted(
-                    HexFormat.of().formatHex(actualContentDigest), fileMetadata.getSha256Digest()));
-        }
-
-        final long decompressedSize = Zstd.decompressedSize(maybeCompressedContent);
-        if (Zstd.decompressedSize(maybeCompressedContent) <= 0) {
-            return maybeCompressedContent; // Not compressed.
+        try {
+            return decompressAndVerify(response, fileMetadata.getSha256Digest());
+        } catch (IOException | RuntimeException e) {
+            response.close();
+            throw e;
         }
-
-        return Zstd.decompress(maybeCompressedContent, Math.toIntExact(decompressedSize));
     }
 
     @Override
@@ -208,4 +232,79 @@ final class S3FileStorage implements FileStorage {
         return true;
     }
 
+    @Override
+    public void deleteMany(final Collection<FileMetadata> fileMetadatas) throws IOException {
+        requireNonNull(fileMetadatas, "fileMetadatas must not be null");
+
+        final Map<String, List<DeleteObject>> objectsByBucket = fileMetadatas.stream()
+                .map(S3FileLocation::from)
+                .collect(Collectors.groupingBy(
+                        S3FileLocation::bucket,
+                        Collectors.mapping(location -> new DeleteObject(location.object()), Collectors.toList())));
+
+        final var errors = new ArrayList<String>();
+        for (final Map.Entry<String, List<DeleteObject>> entry : objectsByBucket.entrySet()) {
+            // The client splits the objects into DeleteObjects requests of up to 1000 keys each.
+            // Requests are only performed as the results are consumed.
+            final Iterable<Result<DeleteError>> results = s3Client.removeObjects(
+                    RemoveObjectsArgs.builder()
+                            .bucket(entry.getKey())
+                            .objects(entry.getValue())
+                            .build());
+
+            try {
+                for (final Result<DeleteError> result : results) {
+                    final DeleteError error = result.get();
+                    errors.add("%s/%s: %s".formatted(error.bucketName(), error.objectName(), error.message()));
+                }
+            } catch (Exception e) {
+                if (e instanceof final IOException ioe) {
+                    throw ioe;
+                }
+
+                throw new IOException(e);
+            }
+        }
+
+        if (!errors.isEmpty()) {
+            throw new IOException("Failed to delete %d of %d objects: %s".formatted(
+                    errors.size(), fileMetadatas.size(), errors));
+        }
+    }
+
+    @Override
+    public List<FileMetadata> list(final String prefix, final Instant modifiedBefore) throws IOException {
+        requireNonNull(prefix, "prefix must not be null");
+        requireNonNull(modifiedBefore, "modifiedBefore must not be null");
+
+        final Iterable<Result<Item>> results = s3Client.listObjects(
+                ListObjectsArgs.builder()
+                        .bucket(bucketName)
+                        .prefix(prefix)
+                        .recursive(true)
+                        .build());
+
+        final var fileMetadatas = new ArrayList<FileMetadata>();
+        try {
+            for (final Result<Item> result : results) {
+                final Item item = result.get();
+                if (item.isDir() || !item.lastModified().toInstant().isBefore(modifiedBefore)) {
+                    continue;
+                }
+
+                fileMetadatas.add(FileMetadata.newBuilder()
+                        .setLocation(new S3FileLocation(bucketName, item.objectName()).asURI().toString())
+                        .build());
+            }
+        } catch (Exception e) {
+            if (e instanceof final IOException ioe) {
+                throw ioe;
+            }
+
+            throw new IOException(e);
+        }
+
+        return fileMetadatas;
+    }
+
 }
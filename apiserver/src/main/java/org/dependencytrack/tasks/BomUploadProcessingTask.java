@@ -26,12 +26,15 @@ import alpine.event.framework.EventService;
 import alpine.event.framework.Subscriber;
 import alpine.notification.Notification;
 import alpine.notification.NotificationLevel;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 import com.google.protobuf.InvalidProtocolBufferException;
 import org.apache.commons.collections4.MultiValuedMap;
 import org.apache.commons.collections4.multimap.HashSetValuedHashMap;
 import org.cyclonedx.exception.ParseException;
 import org.cyclonedx.parsers.BomParserFactory;
+import org.cyclonedx.parsers.JsonParser;
 import org.cyclonedx.parsers.Parser;
+import org.cyclonedx.parsers.XmlParser;
 import org.datanucleus.flush.FlushMode;
 import org.dependencytrack.common.ConfigKey;
 import org.dependencytrack.event.BomUploadEvent;
@@ -40,7 +43,9 @@ import org.dependencytrack.event.ComponentVulnerabilityAnalysisEvent;
 import org.dependencytrack.event.IntegrityAnalysisEvent;
 import org.dependencytrack.event.ProjectMetricsUpdateEvent;
 import org.dependencytrack.event.kafka.KafkaEventDispatcher;
+import org.dependencytrack.event.kafka.KafkaOutbox;
 import org.dependencytrack.event.kafka.componentmeta.AbstractMetaHandler;
+import org.dependencytrack.event.queue.DurableEventQueue;
 import org.dependencytrack.model.Bom;
 import org.dependencytrack.model.Component;
 import org.dependencytrack.model.ComponentIdentity;
@@ -61,16 +66,23 @@ import org.dependencytrack.notification.NotificationScope;
 import org.dependencytrack.notification.vo.BomConsumedOrProcessed;
 import org.dependencytrack.notification.vo.BomProcessingFailed;
 import org.dependencytrack.persistence.QueryManager;
+import org.dependencytrack.persistence.jdbi.BomDao;
+import org.dependencytrack.persistence.jdbi.ConfigPropertyDao;
+import org.dependencytrack.persistence.jdbi.VulnerabilityScanDao;
 import org.dependencytrack.persistence.jdbi.WorkflowDao;
 import org.dependencytrack.plugin.PluginManager;
+import org.dependencytrack.storage.BomUploadFiles;
 import org.dependencytrack.storage.FileStorage;
+import org.dependencytrack.tasks.metrics.MetricsUpdateExecutor;
 import org.dependencytrack.util.InternalComponentIdentifier;
+import org.jdbi.v3.core.Handle;
 import org.json.JSONArray;
 import org.slf4j.MDC;
 
 import javax.jdo.PersistenceManager;
 import javax.jdo.Query;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -108,6 +120,7 @@ import static org.dependencytrack.common.MdcKeys.MDC_PROJECT_VERSION;
 import static org.dependencytrack.event.kafka.componentmeta.RepoMetaConstants.SUPPORTED_PACKAGE_URLS_FOR_HEALTH_CHECK;
 import static org.dependencytrack.event.kafka.componentmeta.RepoMetaConstants.SUPPORTED_PACKAGE_URLS_FOR_INTEGRITY_CHECK;
 import static org.dependencytrack.event.kafka.componentmeta.RepoMetaConstants.TIME_SPAN_INTEGRITY_META;
+import static org.dependencytrack.model.ConfigPropertyConstants.BOM_DEDUPLICATION_ENABLED;
 import static org.dependencytrack.parser.cyclonedx.util.ModelConverter.convertComponents;
 import static org.dependencytrack.parser.cyclonedx.util.ModelConverter.convertDependencyGraph;
 import static org.dependencytrack.parser.cyclonedx.util.ModelConverter.convertServices;
@@ -119,6 +132,8 @@ import static org.dependencytrack.parser.cyclonedx.util.ModelConverterProto.conv
 import static org.dependencytrack.parser.cyclonedx.util.ModelConverterProto.convertServices;
 import static org.dependencytrack.parser.cyclonedx.util.ModelConverterProto.convertToProject;
 import static org.dependencytrack.parser.cyclonedx.util.ModelConverterProto.convertToProjectMetadata;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.createLocalJdbi;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.inJdbiTransaction;
 import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiTransaction;
 import static org.dependencytrack.proto.repometaanalysis.v1.FetchMeta.FETCH_META_HEALTH;
 import static org.dependencytrack.proto.repometaanalysis.v1.FetchMeta.FETCH_META_INTEGRITY_DATA_AND_LATEST_VERSION;
@@ -139,16 +154,19 @@ public class BomUploadProcessingTask implements Subscriber {
 
         private final UUID token;
         private final Project project;
+        private final String bomContentDigest;
         private final Bom.Format bomFormat;
         private final long startTimeNs;
         private String bomSpecVersion;
         private String bomSerialNumber;
         private Date bomTimestamp;
         private Integer bomVersion;
+        private boolean isAnalysisEnqueued;
 
-        private Context(final UUID token, final Project project) {
+        private Context(final UUID token, final Project project, final String bomContentDigest) {
             this.token = token;
             this.project = project;
+            this.bomContentDigest = bomContentDigest;
             this.bomFormat = Bom.Format.CYCLONEDX;
             this.startTimeNs = System.nanoTime();
         }
@@ -158,6 +176,7 @@ public class BomUploadProcessingTask implements Subscriber {
     private static final Logger LOGGER = Logger.getLogger(BomUploadProcessingTask.class);
 
     private final KafkaEventDispatcher kafkaEventDispatcher;
+    private final KafkaOutbox kafkaOutbox = KafkaOutbox.getInstance();
     private final boolean delayBomProcessedNotification;
 
     public BomUploadProcessingTask() {
@@ -177,15 +196,21 @@ public class BomUploadProcessingTask implements Subscriber {
             return;
         }
 
-        final var ctx = new Context(event.getChainIdentifier(), event.getProject());
+        final var ctx = new Context(event.getChainIdentifier(), event.getProject(), event.getContentDigest());
         try (var ignoredMdcProjectUuid = MDC.putCloseable(MDC_PROJECT_UUID, ctx.project.getUuid().toString());
              var ignoredMdcProjectName = MDC.putCloseable(MDC_PROJECT_NAME, ctx.project.getName());
              var ignoredMdcProjectVersion = MDC.putCloseable(MDC_PROJECT_VERSION, ctx.project.getVersion());
              var ignoredMdcBomUploadToken = MDC.putCloseable(MDC_BOM_UPLOAD_TOKEN, ctx.token.toString());
              var fileStorage = PluginManager.getInstance().getExtension(FileStorage.class)) {
-            final byte[] cdxBomBytes;
+            if (ctx.bomContentDigest != null && tryRecordUnchangedBomImport(ctx)) {
+                initiateAnalysisOfUnchangedBom(ctx);
+                releaseBomFile(fileStorage, event);
+                return;
+            }
+
+            final ByteBuffer cdxBomBuffer;
             try {
-                cdxBomBytes = fileStorage.get(event.getFileMetadata());
+                cdxBomBuffer = fileStorage.getByteBuffer(event.getFileMetadata());
             } catch (IOException ex) {
                 LOGGER.error("Failed to retrieve BOM file %s from storage".formatted(
                         event.getFileMetadata().getLocation()), ex);
@@ -193,22 +218,120 @@ public class BomUploadProcessingTask implements Subscriber {
             }
 
             try {
-                processEvent(ctx, cdxBomBytes);
-            } finally {
-                // There are currently no retries, so the BOM file needs to be removed
-                // from storage no matter if processing failed or succeeded.
-
-                try {
-                    fileStorage.delete(event.getFileMetadata());
-                } catch (IOException ex) {
-                    LOGGER.error("Failed to delete BOM file %s from storage".formatted(
-                            event.getFileMetadata().getLocation()), ex);
+                processEvent(ctx, cdxBomBuffer);
+            } catch (RuntimeException ex) {
+                // When queued durably, the event is retried and the BOM file must remain
+                // available to it. Files of uploads that are never processed successfully
+                // are eventually deleted by FileStorageMaintenanceTask.
+                if (!DurableEventQueue.getInstance().isEnabled()) {
+                    releaseBomFile(fileStorage, event);
                 }
+                throw ex;
+            }
+
+            // Releasing is idempotent per upload token, so should the event still be
+            // delivered again, e.g. after a crash, it can't release other uploads' references.
+            releaseBomFile(fileStorage, event);
+        }
+    }
+
+    private static void releaseBomFile(final FileStorage fileStorage, final BomUploadEvent event) {
+        try {
+            if (event.getContentDigest() != null) {
+                // The file may be shared with other uploads of identical content.
+                BomUploadFiles.release(fileStorage, event.getContentDigest(), event.getChainIdentifier());
+            } else {
+                fileStorage.delete(event.getFileMetadata());
             }
+        } catch (IOException | RuntimeException ex) {
+            LOGGER.error("Failed to delete BOM file %s from storage".formatted(
+                    event.getFileMetadata().getLocation()), ex);
         }
     }
 
-    private void processEvent(final Context ctx, final byte[] cdxBomBytes) {
+    /**
+     * Record an import of the uploaded BOM without processing it, if it is identical
+     * to the BOM most recently imported for the project.
+     * <p>
+     * This happens here rather than on upload, such that identical BOMs are only skipped
+     * after all previously uploaded BOMs for the project have been processed.
+     * <p>
+     * Only consumption and processing of the BOM are skipped. Vulnerability databases,
+     * policies, and repository metadata may have changed since the BOM was last imported,
+     * so analysis of the project's components still happens as usual.
+     *
+     * @return {@code true} when the import was recorded, otherwise {@code false}
+     */
+    private boolean tryRecordUnchangedBomImport(final Context ctx) {
+        final String bomSpecVersion;
+        try {
+            bomSpecVersion = inJdbiTransaction(handle -> {
+                final var configPropertyDao = handle.attach(ConfigPropertyDao.class);
+                if (!configPropertyDao.getValue(BOM_DEDUPLICATION_ENABLED, Boolean.class)) {
+                    return null;
+                }
+
+                // Use the same lock as processBom, such that an identical BOM is never
+                // skipped while the import of its predecessor is still in progress.
+                final var bomDao = handle.attach(BomDao.class);
+                if (!bomDao.tryAcquireAdvisoryLock(getProjectLockName(ctx))) {
+                    return null;
+                }
+
+                // The upload may be redelivered after its import was already recorded.
+                String specVersion = bomDao.getRecordedImportSpecVersion(ctx.project.getId(), ctx.token);
+                if (specVersion == null) {
+                    specVersion = bomDao.recordImportIfUnchanged(ctx.project.getId(), ctx.bomContentDigest, ctx.token);
+                }
+                if (specVersion == null) {
+                    return null;
+                }
+
+                final var workflowDao = handle.attach(WorkflowDao.class);
+                workflowDao.updateState(WorkflowStep.BOM_CONSUMPTION, ctx.token, WorkflowStatus.COMPLETED, null);
+                workflowDao.updateState(WorkflowStep.BOM_PROCESSING, ctx.token, WorkflowStatus.COMPLETED, null);
+
+                if (kafkaOutbox.isEnabled()) {
+                    enqueueAnalysis(ctx, handle, getAllComponents(ctx));
+                }
+
+                return specVersion;
+            });
+        } catch (RuntimeException e) {
+            LOGGER.warn("Failed to check whether the BOM is identical to the most recently imported one", e);
+            return false;
+        }
+
+        if (bomSpecVersion == null) {
+            return false;
+        }
+
+        ctx.bomSpecVersion = trimToNull(bomSpecVersion);
+        LOGGER.info("BOM is identical to the most recently imported one; Skipping processing");
+        if (!delayBomProcessedNotification) {
+            dispatchBomProcessedNotification(ctx);
+        }
+
+        return true;
+    }
+
+    private void initiateAnalysisOfUnchangedBom(final Context ctx) {
+        if (ctx.isAnalysisEnqueued) {
+            return;
+        }
+
+        final List<Component> components = getAllComponents(ctx);
+        initiateAnalysis(ctx, createVulnAnalysisEvents(ctx, components), createRepoMetaAnalysisEvents(components));
+    }
+
+    private static List<Component> getAllComponents(final Context ctx) {
+        try (final var qm = new QueryManager()) {
+            qm.getPersistenceManager().setProperty(PROPERTY_RETAIN_VALUES, "true");
+            return getAllComponents(qm, ctx.project);
+        }
+    }
+
+    private void processEvent(final Context ctx, final ByteBuffer cdxBomBuffer) {
         useJdbiTransaction(handle -> {
             final var workflowDao = handle.attach(WorkflowDao.class);
             workflowDao.startState(WorkflowStep.BOM_CONSUMPTION, ctx.token);
@@ -216,7 +339,7 @@ public class BomUploadProcessingTask implements Subscriber {
         final ConsumedBom consumedBom;
         try {
             // Validate if bom is in protobuf format
-            final var protoBom = parseBomProtobuf(cdxBomBytes);
+            final var protoBom = parseBomProtobuf(cdxBomBuffer);
             if (protoBom != null) {
                 ctx.bomSpecVersion = protoBom.getSpecVersion();
                 if (protoBom.hasSerialNumber()) {
@@ -228,8 +351,8 @@ public class BomUploadProcessingTask implements Subscriber {
                 ctx.bomVersion = protoBom.getVersion();
                 consumedBom = consumeBom(protoBom);
             } else {
-                final Parser parser = BomParserFactory.createParser(cdxBomBytes);
-                final var cdxBom = parser.parse(cdxBomBytes);
+                final Parser parser = createBomParser(cdxBomBuffer);
+                final var cdxBom = parser.parse(new ByteBufferBackedInputStream(cdxBomBuffer.duplicate()));
                 ctx.bomSpecVersion = cdxBom.getSpecVersion();
                 if (cdxBom.getSerialNumber() != null) {
                     ctx.bomSerialNumber = cdxBom.getSerialNumber().replaceFirst("urn:uuid:", "");
@@ -270,34 +393,61 @@ public class BomUploadProcessingTask implements Subscriber {
             }
         }
 
-        useJdbiTransaction(handle -> {
-            final var workflowDao = handle.attach(WorkflowDao.class);
-            workflowDao.updateState(WorkflowStep.BOM_PROCESSING, ctx.token, WorkflowStatus.COMPLETED, null);
-        });
-
         final var processingDurationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - ctx.startTimeNs);
         LOGGER.info("BOM processed successfully in %s".formatted(formatDurationHMS(processingDurationMs)));
         if (!delayBomProcessedNotification) {
             dispatchBomProcessedNotification(ctx);
         }
 
-        final List<ComponentVulnerabilityAnalysisEvent> vulnAnalysisEvents = createVulnAnalysisEvents(ctx, processedBom.components());
-        final List<ComponentRepositoryMetaAnalysisEvent> repoMetaAnalysisEvents = createRepoMetaAnalysisEvents(processedBom.components());
+        if (ctx.isAnalysisEnqueued) {
+            return;
+        }
+
+        initiateAnalysis(ctx,
+                createVulnAnalysisEvents(ctx, processedBom.components()),
+                createRepoMetaAnalysisEvents(processedBom.components()));
+    }
 
+    private void initiateAnalysis(
+            final Context ctx,
+            final List<ComponentVulnerabilityAnalysisEvent> vulnAnalysisEvents,
+            final List<ComponentRepositoryMetaAnalysisEvent> repoMetaAnalysisEvents
+    ) {
         final var dispatchedEvents = new ArrayList<CompletableFuture<?>>(vulnAnalysisEvents.size() + repoMetaAnalysisEvents.size());
         dispatchedEvents.addAll(initiateVulnerabilityAnalysis(ctx, vulnAnalysisEvents));
         dispatchedEvents.addAll(initiateRepoMetaAnalysis(repoMetaAnalysisEvents));
         CompletableFuture.allOf(dispatchedEvents.toArray(new CompletableFuture[0])).join();
     }
 
-    private org.cyclonedx.proto.v1_6.Bom parseBomProtobuf(byte[] cdxBomBytes) {
+    private org.cyclonedx.proto.v1_6.Bom parseBomProtobuf(final ByteBuffer cdxBomBuffer) {
         try {
-            return org.cyclonedx.proto.v1_6.Bom.parseFrom(cdxBomBytes);
+            return org.cyclonedx.proto.v1_6.Bom.parseFrom(cdxBomBuffer.duplicate());
         } catch (InvalidProtocolBufferException e) {
             return null;
         }
     }
 
+    /**
+     * Equivalent of {@link BomParserFactory#createParser(byte[])} that inspects the
+     * {@link ByteBuffer} in place, instead of requiring its content as {@code byte[]}.
+     */
+    private static Parser createBomParser(final ByteBuffer cdxBomBuffer) throws ParseException {
+        for (int i = cdxBomBuffer.position(); i < cdxBomBuffer.limit(); i++) {
+            final byte b = cdxBomBuffer.get(i);
+            if (Character.isWhitespace(b)) {
+                continue;
+            }
+
+            return switch (b) {
+                case '{' -> new JsonParser();
+                case '<' -> new XmlParser();
+                default -> throw new ParseException("Unable to determine BOM format");
+            };
+        }
+
+        throw new ParseException("BOM is empty");
+    }
+
     private record ConsumedBom(
             Project project,
             ProjectMetadata projectMetadata,
@@ -463,8 +613,7 @@ public class BomUploadProcessingTask implements Subscriber {
                 // Prevent BOMs for the same project to be processed concurrently.
                 // Note that this is an edge case, we're not expecting any acquisition failures under normal circumstances.
                 // We're not waiting on locks here to prevent threads and connections from being blocked for too long.
-                final boolean lockAcquired = qm.tryAcquireAdvisoryLock(
-                        "%s-%s".formatted(BomUploadProcessingTask.class.getName(), ctx.project.getUuid()));
+                final boolean lockAcquired = qm.tryAcquireAdvisoryLock(getProjectLockName(ctx));
                 if (!lockAcquired) {
                     throw new IllegalStateException("""
                             Failed to acquire advisory lock, likely because another BOM import \
@@ -486,6 +635,14 @@ public class BomUploadProcessingTask implements Subscriber {
 
                 recordBomImport(ctx, qm, persistentProject);
 
+                try (final Handle jdbiHandle = createLocalJdbi(qm).open()) {
+                    jdbiHandle.attach(WorkflowDao.class).updateState(WorkflowStep.BOM_PROCESSING, ctx.token, WorkflowStatus.COMPLETED, null);
+
+                    if (kafkaOutbox.isEnabled()) {
+                        enqueueAnalysis(ctx, jdbiHandle, persistentComponentsByIdentity.values());
+                    }
+                }
+
                 return new ProcessedBom(
                         persistentProject,
                         persistentComponentsByIdentity.values(),
@@ -816,6 +973,10 @@ public class BomUploadProcessingTask implements Subscriber {
         qm.getPersistenceManager().flush();
     }
 
+    private static String getProjectLockName(final Context ctx) {
+        return "%s-%s".formatted(BomUploadProcessingTask.class.getName(), ctx.project.getUuid());
+    }
+
     private static void recordBomImport(final Context ctx, final QueryManager qm, final Project project) {
         assertPersistent(project, "Project must be persistent");
 
@@ -829,6 +990,7 @@ public class BomUploadProcessingTask implements Subscriber {
         bom.setBomVersion(ctx.bomVersion);
         bom.setImported(bomImportDate);
         bom.setGenerated(ctx.bomTimestamp);
+        bom.setSha256(ctx.bomContentDigest);
         qm.getPersistenceManager().makePersistent(bom);
 
         project.setLastBomImport(bomImportDate);
@@ -1064,44 +1226,67 @@ public class BomUploadProcessingTask implements Subscriber {
             }
 
             // Trigger project metrics update no matter if vuln analysis is applicable or not.
-            final ChainableEvent metricsUpdateEvent = new ProjectMetricsUpdateEvent(ctx.project.getUuid());
+            final ChainableEvent metricsUpdateEvent = new ProjectMetricsUpdateEvent(ctx.project.getUuid(), MetricsUpdateExecutor.Priority.BOM_PROCESSED);
             metricsUpdateEvent.setChainIdentifier(ctx.token);
-            Event.dispatch(metricsUpdateEvent);
+            DurableEventQueue.dispatch(metricsUpdateEvent);
 
             return Collections.emptyList();
         }
 
-        try (final var qm = new QueryManager()) {
-            // TODO: Creation of the scan, and starting of the workflow step, should happen in the same transaction.
-            //   Requires a bit of refactoring in QueryManager#createVulnerabilityScan.
+        useJdbiTransaction(handle -> createVulnerabilityScan(ctx, handle, events.size()));
 
-            qm.createVulnerabilityScan(
-                    TargetType.PROJECT,
-                    ctx.project.getUuid(),
-                    ctx.token,
-                    events.size()
-            );
+        // NB: A crash before the events were acknowledged by the broker leaves
+        // the scan IN_PROGRESS until it is removed by the maintenance task.
+        return dispatchAnalysisEvents(events);
+    }
 
-            qm.runInTransaction(() -> {
-                final WorkflowState vulnAnalysisWorkflowState =
-                        qm.getWorkflowStateByTokenAndStep(ctx.token, WorkflowStep.VULN_ANALYSIS);
-                vulnAnalysisWorkflowState.setStartedAt(new Date());
-            });
+    private List<CompletableFuture<?>> initiateRepoMetaAnalysis(final Collection<ComponentRepositoryMetaAnalysisEvent> events) {
+        return dispatchAnalysisEvents(events);
+    }
+
+    /**
+     * Create the vulnerability scan for the analysis of a BOM, and start its workflow step.
+     *
+     * @param ctx             The {@link Context} of the BOM upload
+     * @param handle          The {@link Handle} to use
+     * @param expectedResults Number of components to be analyzed
+     */
+    private static void createVulnerabilityScan(final Context ctx, final Handle handle, final int expectedResults) {
+        handle.attach(VulnerabilityScanDao.class).create(
+                ctx.token,
+                TargetType.PROJECT,
+                ctx.project.getUuid(),
+                expectedResults);
+        handle.attach(WorkflowDao.class).startState(WorkflowStep.VULN_ANALYSIS, ctx.token);
+    }
+
+    /**
+     * Initiate the analysis of a BOM's components by writing the respective events to the {@link KafkaOutbox},
+     * using the transaction that recorded the BOM's import.
+     * <p>
+     * This way, analysis is initiated if and only if the import is committed. A crash in between
+     * can neither lose the analysis, nor leave behind a vulnerability scan that never completes.
+     * <p>
+     * Does nothing when there are no components to analyze, in which case analysis is
+     * initiated as usual, to mark it as not applicable.
+     *
+     * @param ctx        The {@link Context} of the BOM upload
+     * @param handle     The {@link Handle} to use
+     * @param components The {@link Component}s to analyze
+     */
+    private void enqueueAnalysis(final Context ctx, final Handle handle, final Collection<Component> components) {
+        if (components.isEmpty()) {
+            return;
         }
 
-        return events.stream()
-                .<CompletableFuture<?>>map(event -> kafkaEventDispatcher.dispatchEvent(event).whenComplete(
-                        (ignored, throwable) -> {
-                            if (throwable != null) {
-                                // Include context in the log message to make log correlation easier.
-                                LOGGER.error("Failed to produce %s to Kafka".formatted(event), throwable);
-                            }
-                        }
-                ))
-                .toList();
+        final List<ComponentVulnerabilityAnalysisEvent> vulnAnalysisEvents = createVulnAnalysisEvents(ctx, components);
+        createVulnerabilityScan(ctx, handle, vulnAnalysisEvents.size());
+        kafkaOutbox.enqueueAllEvents(handle, vulnAnalysisEvents);
+        kafkaOutbox.enqueueAllEvents(handle, createRepoMetaAnalysisEvents(components));
+        ctx.isAnalysisEnqueued = true;
     }
 
-    private List<CompletableFuture<?>> initiateRepoMetaAnalysis(final Collection<ComponentRepositoryMetaAnalysisEvent> events) {
+    private List<CompletableFuture<?>> dispatchAnalysisEvents(final Collection<? extends Event> events) {
         return events.stream()
                 .<CompletableFuture<?>>map(event -> kafkaEventDispatcher.dispatchEvent(event).whenComplete(
                         (ignored, throwable) -> {
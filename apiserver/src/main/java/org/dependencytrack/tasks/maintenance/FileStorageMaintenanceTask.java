@@ -0,0 +1,151 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.tasks.maintenance;
+
+import alpine.common.logging.Logger;
+import alpine.event.framework.Event;
+import alpine.event.framework.Subscriber;
+import org.dependencytrack.event.maintenance.FileStorageMaintenanceEvent;
+import org.dependencytrack.persistence.jdbi.BomUploadFileDao;
+import org.dependencytrack.persistence.jdbi.ConfigPropertyDao;
+import org.dependencytrack.plugin.PluginManager;
+import org.dependencytrack.proto.storage.v1alpha1.FileMetadata;
+import org.dependencytrack.storage.BomUploadFiles;
+import org.dependencytrack.storage.FileStorage;
+import org.jdbi.v3.core.Handle;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static net.javacrumbs.shedlock.core.LockAssert.assertLocked;
+import static org.dependencytrack.model.ConfigPropertyConstants.MAINTENANCE_BOM_UPLOADS_RETENTION_HOURS;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.openJdbiHandle;
+import static org.dependencytrack.util.LockProvider.executeWithLock;
+import static org.dependencytrack.util.TaskUtil.getLockConfigForTask;
+
+/**
+ * Deletes uploaded files that were not cleaned up by the tasks processing them,
+ * e.g. because the instance crashed or was restarted during processing.
+ *
+ * @since 5.6.0
+ */
+public class FileStorageMaintenanceTask implements Subscriber {
+
+    private static final Logger LOGGER = Logger.getLogger(FileStorageMaintenanceTask.class);
+
+    /**
+     * Prefix of the names of BOM files stored by {@link org.dependencytrack.resources.v1.BomResource}.
+     */
+    static final String BOM_UPLOAD_FILE_PREFIX = "bom-upload/";
+
+    /**
+     * Maximum number of files to delete in a single {@link FileStorage#deleteMany(java.util.Collection)} call.
+     * <p>
+     * Matches the maximum number of keys allowed in a single S3 DeleteObjects request.
+     */
+    private static final int DELETE_BATCH_SIZE = 1000;
+
+    @Override
+    public void inform(final Event event) {
+        if (!(event instanceof FileStorageMaintenanceEvent)) {
+            return;
+        }
+
+        final long startTimeNs = System.nanoTime();
+        try (final Handle jdbiHandle = openJdbiHandle()) {
+            LOGGER.info("Starting file storage maintenance");
+            final Statistics statistics = executeWithLock(
+                    getLockConfigForTask(FileStorageMaintenanceTask.class),
+                    () -> informLocked(jdbiHandle));
+            if (statistics == null) {
+                LOGGER.info("Task is locked by another instance; Skipping");
+                return;
+            }
+
+            final var taskDuration = Duration.ofNanos(System.nanoTime() - startTimeNs);
+            LOGGER.info("Completed in %s: %s".formatted(taskDuration, statistics));
+        } catch (Throwable e) {
+            final var taskDuration = Duration.ofNanos(System.nanoTime() - startTimeNs);
+            LOGGER.error("Failed to complete after %s".formatted(taskDuration), e);
+        }
+    }
+
+    private record Statistics(Duration bomUploadsRetentionDuration, int bomUploadsDeleted, int bomUploadFilesExpired) {
+    }
+
+    private Statistics informLocked(final Handle jdbiHandle) throws IOException {
+        assertLocked();
+
+        final var configPropertyDao = jdbiHandle.attach(ConfigPropertyDao.class);
+
+        final Integer retentionHours = configPropertyDao.getValue(MAINTENANCE_BOM_UPLOADS_RETENTION_HOURS, Integer.class);
+        final Duration retentionDuration = Duration.ofHours(retentionHours);
+
+        int numDeleted = 0;
+        int numExpired = 0;
+        try (final var fileStorage = PluginManager.getInstance().getExtension(FileStorage.class)) {
+            // Content-addressed files are reference-counted, but references of uploads
+            // that are never processed are never released. Expire them based on when
+            // they were last referenced.
+            final var bomUploadFileDao = jdbiHandle.attach(BomUploadFileDao.class);
+            for (final String contentDigest : bomUploadFileDao.getContentDigestsForRetention(retentionDuration)) {
+                if (BomUploadFiles.deleteIfExpired(fileStorage, contentDigest, retentionDuration)) {
+                    numExpired++;
+                }
+            }
+
+            final List<FileMetadata> candidateFiles;
+            try {
+                candidateFiles = fileStorage.list(BOM_UPLOAD_FILE_PREFIX, Instant.now().minus(retentionDuration));
+            } catch (UnsupportedOperationException e) {
+                LOGGER.warn("Not deleting orphaned BOM uploads because the file storage does not support listing files", e);
+                return new Statistics(retentionDuration, 0, numExpired);
+            }
+
+            // Old content-addressed files may still be referenced by recent uploads,
+            // so only delete them if they are not the file recorded for their content.
+            final var orphanedFiles = new ArrayList<FileMetadata>(candidateFiles.size());
+            for (final FileMetadata fileMetadata : candidateFiles) {
+                if (BomUploadFiles.contentDigestOf(fileMetadata.getLocation()) == null) {
+                    orphanedFiles.add(fileMetadata);
+                } else if (BomUploadFiles.deleteIfUnreferenced(fileStorage, fileMetadata)) {
+                    numDeleted++;
+                }
+            }
+
+            if (!orphanedFiles.isEmpty()) {
+                LOGGER.warn("Deleting %d orphaned BOM upload(s) older than %s".formatted(
+                        orphanedFiles.size(), retentionDuration));
+            }
+
+            for (int i = 0; i < orphanedFiles.size(); i += DELETE_BATCH_SIZE) {
+                final List<FileMetadata> batch = orphanedFiles.subList(
+                        i, Math.min(i + DELETE_BATCH_SIZE, orphanedFiles.size()));
+                fileStorage.deleteMany(batch);
+                numDeleted += batch.size();
+            }
+        }
+
+        return new Statistics(retentionDuration, numDeleted, numExpired);
+    }
+
+}
@@ -24,6 +24,7 @@ import alpine.event.framework.Subscriber;
 import org.dependencytrack.event.maintenance.WorkflowMaintenanceEvent;
 import org.dependencytrack.model.WorkflowStatus;
 import org.dependencytrack.persistence.jdbi.ConfigPropertyDao;
+import org.dependencytrack.persistence.jdbi.EventQueueDao;
 import org.dependencytrack.persistence.jdbi.WorkflowDao;
 import org.jdbi.v3.core.Handle;
 
@@ -76,7 +77,8 @@ public class WorkflowMaintenanceTask implements Subscriber {
             int stepsTimedOut,
             int stepsFailed,
             int stepsCancelled,
-            int workflowsDeleted) {
+            int workflowsDeleted,
+            int failedEventsDeleted) {
     }
 
     private Statistics informLocked(final Handle jdbiHandle) {
@@ -120,13 +122,19 @@ public class WorkflowMaintenanceTask implements Subscriber {
 
         final int numWorkflowsDeleted = workflowDao.deleteAllForRetention(retentionDuration);
 
+        // Events of the durable queue that failed permanently are retained for inspection
+        // for as long as the workflows they were part of.
+        final int numFailedEventsDeleted = jdbiHandle.attach(EventQueueDao.class)
+                .deleteAllFailedForRetention(retentionDuration);
+
         return new Statistics(
                 retentionDuration,
                 stepTimeoutDuration,
                 numStepsTimedOut,
                 failedStepsResult.numStepsFailed,
                 failedStepsResult.numStepsCancelled,
-                numWorkflowsDeleted);
+                numWorkflowsDeleted,
+                numFailedEventsDeleted);
     }
 
 }
@@ -0,0 +1,265 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.tasks.metrics;
+
+import alpine.Config;
+import alpine.common.logging.Logger;
+import alpine.common.metrics.Metrics;
+import alpine.common.util.SystemUtil;
+import alpine.event.framework.LoggableUncaughtExceptionHandler;
+import io.micrometer.core.instrument.Gauge;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.dependencytrack.common.ConfigKey;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A dedicated, bounded executor for metrics updates.
+ * <p>
+ * Metrics updates are executed on their own pool of worker threads, such that large
+ * portfolio-wide refreshes can not occupy the threads of the shared event service,
+ * which are needed for BOM ingestion and other user-facing work.
+ * <p>
+ * Queued updates are executed in order of their {@link Priority}, and in submission
+ * order for updates of equal priority. Submissions of {@link Priority#PERIODIC} updates
+ * block once the configured queue capacity is exhausted, applying back-pressure
+ * to the submitter.
+ *
+ * @since 5.6.0
+ */
+public final class MetricsUpdateExecutor {
+
+    /**
+     * Priorities of metrics updates, in descending order.
+     */
+    public enum Priority {
+
+        /**
+         * Updates explicitly requested by users, e.g. via REST API.
+         */
+        USER_TRIGGERED,
+
+        /**
+         * Updates triggered as part of BOM processing or vulnerability analysis.
+         */
+        BOM_PROCESSED,
+
+        /**
+         * Updates performed as part of scheduled, portfolio-wide refreshes.
+         */
+        PERIODIC
+
+    }
+
+    private static final Logger LOGGER = Logger.getLogger(MetricsUpdateExecutor.class);
+    private static final String EXECUTOR_NAME = "MetricsUpdateExecutor";
+    private static final MetricsUpdateExecutor INSTANCE = new MetricsUpdateExecutor(
+            determineNumberOfWorkerThreads(),
+            Config.getInstance().getPropertyAsInt(ConfigKey.METRICS_UPDATE_QUEUE_CAPACITY));
+
+    private final ThreadPoolExecutor executor;
+    private final Semaphore queuePermits;
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<Priority, AtomicInteger> queueSizeByPriority = new EnumMap<>(Priority.class);
+
+    MetricsUpdateExecutor(final int numWorkerThreads, final int queueCapacity) {
+        if (numWorkerThreads < 1) {
+            throw new IllegalArgumentException("numWorkerThreads must be greater than 0, but is " + numWorkerThreads);
+        }
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("queueCapacity must be greater than 0, but is " + queueCapacity);
+        }
+
+        final var threadFactory = new BasicThreadFactory.Builder()
+                .namingPattern(EXECUTOR_NAME + "-%d")
+                .uncaughtExceptionHandler(new LoggableUncaughtExceptionHandler())
+                .build();
+        this.executor = new ThreadPoolExecutor(numWorkerThreads, numWorkerThreads, 0L, TimeUnit.MILLISECONDS,
+                new PriorityBlockingQueue<>(), threadFactory);
+        this.queuePermits = new Semaphore(queueCapacity);
+
+        Metrics.registerExecutorService(executor, EXECUTOR_NAME);
+        for (final Priority priority : Priority.values()) {
+            final var queueSize = new AtomicInteger();
+            queueSizeByPriority.put(priority, queueSize);
+
+            Gauge.builder("dtrack_metrics_update_queue_size", queueSize, AtomicInteger::get)
+                    .description("Number of metrics updates waiting to be executed")
+                    .tag("priority", priority.name())
+                    .register(Metrics.getRegistry());
+        }
+    }
+
+    public static MetricsUpdateExecutor getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Submit a metrics update for asynchronous execution.
+     * <p>
+     * For {@link Priority#PERIODIC} updates, this method blocks until queue capacity is available.
+     *
+     * @param priority The {@link Priority} of the update
+     * @param update   The update to execute
+     * @return A {@link CompletableFuture} that completes when the update finished executing
+     * @throws InterruptedException When interrupted while waiting for queue capacity
+     */
+    public CompletableFuture<Void> submit(final Priority priority, final Runnable update) throws InterruptedException {
+        final boolean boundedByCapacity = priority == Priority.PERIODIC;
+        if (boundedByCapacity) {
+            queuePermits.acquire();
+        }
+
+        final var task = new PrioritizedTask(priority, sequence.getAndIncrement(), update, boundedByCapacity);
+        queueSizeByPriority.get(priority).incrementAndGet();
+        try {
+            executor.execute(task);
+        } catch (RuntimeException e) {
+            task.dequeued();
+            throw e;
+        }
+
+        return task.future;
+    }
+
+    /**
+     * Execute a metrics update and wait for it to complete.
+     * <p>
+     * Exceptions thrown by {@code update} are propagated to the caller.
+     *
+     * @param priority The {@link Priority} of the update
+     * @param update   The update to execute
+     */
+    public void execute(final Priority priority, final Runnable update) {
+        final CompletableFuture<Void> future;
+        try {
+            future = submit(priority, update);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for metrics update to be queued", e);
+        }
+
+        try {
+            future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof final RuntimeException re) {
+                throw re;
+            } else if (e.getCause() instanceof final Error error) {
+                throw error;
+            }
+
+            throw e;
+        }
+    }
+
+    /**
+     * @return Number of metrics updates currently waiting to be executed
+     */
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * @return Number of worker threads available for metrics updates
+     */
+    public int getNumWorkerThreads() {
+        return executor.getMaximumPoolSize();
+    }
+
+    public boolean shutdown(final Duration timeout) {
+        LOGGER.info("Shutting down metrics update executor");
+        executor.shutdown();
+
+        try {
+            if (!executor.awaitTermination(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                LOGGER.warn("Timeout exceeded while waiting for %d queued metrics updates to complete"
+                        .formatted(executor.getQueue().size()));
+                return false;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+
+        return true;
+    }
+
+    private static int determineNumberOfWorkerThreads() {
+        final int threads = Config.getInstance().getPropertyAsInt(ConfigKey.METRICS_UPDATE_WORKER_THREADS);
+        return threads > 0 ? threads : SystemUtil.getCpuCores();
+    }
+
+    private final class PrioritizedTask implements Runnable, Comparable<PrioritizedTask> {
+
+        private final Priority priority;
+        private final long sequenceNumber;
+        private final Runnable update;
+        private final boolean holdsQueuePermit;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        private PrioritizedTask(final Priority priority, final long sequenceNumber,
+                                final Runnable update, final boolean holdsQueuePermit) {
+            this.priority = priority;
+            this.sequenceNumber = sequenceNumber;
+            this.update = update;
+            this.holdsQueuePermit = holdsQueuePermit;
+        }
+
+        @Override
+        public void run() {
+            dequeued();
+
+            try {
+                update.run();
+                future.complete(null);
+            } catch (RuntimeException | Error e) {
+                future.completeExceptionally(e);
+            }
+        }
+
+        private void dequeued() {
+            queueSizeByPriority.get(priority).decrementAndGet();
+            if (holdsQueuePermit) {
+                queuePermits.release();
+            }
+        }
+
+        @Override
+        public int compareTo(final PrioritizedTask other) {
+            final int priorityComparison = priority.compareTo(other.priority);
+            if (priorityComparison != 0) {
+                return priorityComparison;
+            }
+
+            return Long.compare(sequenceNumber, other.sequenceNumber);
+        }
+
+    }
+
+}
@@ -0,0 +1,84 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.tasks.metrics;
+
+import alpine.common.metrics.Metrics;
+import io.micrometer.core.instrument.Gauge;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks the progress of an ongoing portfolio-wide project metrics refresh,
+ * and exposes it via gauges.
+ *
+ * @since 5.6.0
+ */
+final class PortfolioMetricsRefreshProgress {
+
+    private final AtomicLong projectsTotal = new AtomicLong();
+    private final AtomicLong projectsCompleted = new AtomicLong();
+    private volatile long startedAtNanos;
+
+    PortfolioMetricsRefreshProgress() {
+        Gauge.builder("dtrack_portfolio_metrics_refresh_projects_total", projectsTotal, AtomicLong::get)
+                .description("Number of projects to refresh metrics for in the ongoing portfolio metrics refresh")
+                .register(Metrics.getRegistry());
+        Gauge.builder("dtrack_portfolio_metrics_refresh_projects_completed", projectsCompleted, AtomicLong::get)
+                .description("Number of projects for which metrics have been refreshed in the ongoing portfolio metrics refresh")
+                .register(Metrics.getRegistry());
+        Gauge.builder("dtrack_portfolio_metrics_refresh_eta_seconds", this, PortfolioMetricsRefreshProgress::estimateRemainingSeconds)
+                .description("Estimated number of seconds until the ongoing portfolio metrics refresh completes")
+                .register(Metrics.getRegistry());
+    }
+
+    void start(final long numProjects) {
+        projectsCompleted.set(0);
+        projectsTotal.set(numProjects);
+        startedAtNanos = System.nanoTime();
+    }
+
+    void projectCompleted() {
+        projectsCompleted.incrementAndGet();
+    }
+
+    void reset() {
+        projectsTotal.set(0);
+        projectsCompleted.set(0);
+    }
+
+    long getProjectsTotal() {
+        return projectsTotal.get();
+    }
+
+    long getProjectsCompleted() {
+        return projectsCompleted.get();
+    }
+
+    double estimateRemainingSeconds() {
+        final long completed = projectsCompleted.get();
+        final long remaining = projectsTotal.get() - completed;
+        if (completed <= 0 || remaining <= 0) {
+            return 0;
+        }
+
+        final double elapsedSeconds = (System.nanoTime() - startedAtNanos) / 1_000_000_000.0;
+        return (elapsedSeconds / completed) * remaining;
+    }
+
+}
@@ -25,12 +25,11 @@ import alpine.event.framework.Subscriber;
 import net.javacrumbs.shedlock.core.LockConfiguration;
 import net.javacrumbs.shedlock.core.LockExtender;
 import net.javacrumbs.shedlock.core.LockingTaskExecutor;
-import org.dependencytrack.event.CallbackEvent;
 import org.dependencytrack.event.PortfolioMetricsUpdateEvent;
-import org.dependencytrack.event.ProjectMetricsUpdateEvent;
 import org.dependencytrack.metrics.Metrics;
 import org.dependencytrack.model.Project;
 import org.dependencytrack.persistence.QueryManager;
+import org.slf4j.MDC;
 
 import javax.jdo.PersistenceManager;
 import javax.jdo.Query;
@@ -39,9 +38,11 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
+import static org.dependencytrack.common.MdcKeys.MDC_PROJECT_UUID;
 import static org.dependencytrack.util.LockProvider.executeWithLock;
 import static org.dependencytrack.util.LockProvider.isTaskLockToBeExtended;
 import static org.dependencytrack.util.TaskUtil.getLockConfigForTask;
@@ -56,6 +57,7 @@ public class PortfolioMetricsUpdateTask implements Subscriber {
     private static final Logger LOGGER = Logger.getLogger(PortfolioMetricsUpdateTask.class);
     private static final int MAX_CONCURRENCY = SystemUtil.getCpuCores();
     private static final int BATCH_SIZE = MAX_CONCURRENCY * 100;
+    private static final PortfolioMetricsRefreshProgress REFRESH_PROGRESS = new PortfolioMetricsRefreshProgress();
 
     @Override
     public void inform(final Event e) {
@@ -94,57 +96,74 @@ public class PortfolioMetricsUpdateTask implements Subscriber {
             LockConfiguration portfolioMetricsTaskConfig = getLockConfigForTask(PortfolioMetricsUpdateTask.class);
             List<ProjectProjection> activeProjects = fetchNextActiveProjectsPage(pm, null);
             long processStartTime = System.currentTimeMillis();
-            while (!activeProjects.isEmpty()) {
-                long startTimeOfBatch = System.currentTimeMillis();
-                final long firstId = activeProjects.get(0).id();
-                final long lastId = activeProjects.get(activeProjects.size() - 1).id();
-
-                // Distribute the batch across at most MAX_CONCURRENCY events, and process them asynchronously.
-                final List<List<ProjectProjection>> partitions = partition(activeProjects, MAX_CONCURRENCY);
-                final var countDownLatch = new CountDownLatch(partitions.size());
-
-                for (final List<ProjectProjection> partition : partitions) {
-                    final var partitionEvent = new CallbackEvent(() -> {
-                        for (final ProjectProjection project : partition) {
-                            new ProjectMetricsUpdateTask().inform(new ProjectMetricsUpdateEvent(project.uuid()));
-                        }
-                    });
-
-                    final var countDownEvent = new CallbackEvent(countDownLatch::countDown);
-                    Event.dispatch(partitionEvent
-                            .onSuccess(countDownEvent)
-                            .onFailure(countDownEvent));
-                }
-
-                LOGGER.debug("Waiting for metrics updates for projects " + firstId + "-" + lastId + " to complete");
-                if (!countDownLatch.await(15, TimeUnit.MINUTES)) {
-                    // Depending on the system load, it may take a while for the queued events
-                    // to be processed. And depending on how large the projects are, it may take a
-                    // while for the processing of the respective event to complete.
-                    // It is unlikely though that either of these situations causes a block for
-                    // over 15 minutes. If that happens, the system is under-resourced.
-                    LOGGER.warn("Updating metrics for projects " + firstId + "-" + lastId +
-                            " took longer than expected (15m); Proceeding with potentially stale data");
-                }
-                LOGGER.debug("Completed metrics updates for projects " + firstId + "-" + lastId);
-                LOGGER.debug("Fetching next " + BATCH_SIZE + " projects");
-                long now = System.currentTimeMillis();
-                long processDurationInMillis = now - startTimeOfBatch;
-                long cumulativeDurationInMillis = now - processStartTime;
-                //extend the lock for the duration of process
-                //initial duration of portfolio metrics can be set to 20min.
-                //No thread calculating metrics would be executing for more than 15min.
-                //lock can only be extended if lock until is held for time after current db time
-                if(isTaskLockToBeExtended(cumulativeDurationInMillis, PortfolioMetricsUpdateTask.class)) {
-                    Duration extendLockByDuration = Duration.ofMillis(processDurationInMillis).plus(portfolioMetricsTaskConfig.getLockAtLeastFor());
-                    LOGGER.debug("Extending lock duration by ms: " + extendLockByDuration);
-                    LockExtender.extendActiveLock(extendLockByDuration, portfolioMetricsTaskConfig.getLockAtLeastFor());
+            REFRESH_PROGRESS.start(countActiveProjects(pm));
+            try {
+                while (!activeProjects.isEmpty()) {
+                    long startTimeOfBatch = System.currentTimeMillis();
+                    final long firstId = activeProjects.get(0).id();
+                    final long lastId = activeProjects.get(activeProjects.size() - 1).id();
+
+                    // Submit the batch to the dedicated metrics executor. Updates submitted here have the
+                    // lowest priority, and submission blocks when the executor's queue is full.
+                    final var futures = new ArrayList<CompletableFuture<Void>>(activeProjects.size());
+                    for (final ProjectProjection project : activeProjects) {
+                        futures.add(MetricsUpdateExecutor.getInstance().submit(
+                                MetricsUpdateExecutor.Priority.PERIODIC,
+                                () -> updateProjectMetrics(project)));
+                    }
+
+                    LOGGER.debug("Waiting for metrics updates for projects " + firstId + "-" + lastId + " to complete");
+                    try {
+                        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(15, TimeUnit.MINUTES);
+                    } catch (TimeoutException ex) {
+                        // Depending on the system load, it may take a while for the queued updates
+                        // to be processed. And depending on how large the projects are, it may take a
+                        // while for the processing of the respective update to complete.
+                        // It is unlikely though that either of these situations causes a block for
+                        // over 15 minutes. If that happens, the system is under-resourced.
+                        LOGGER.warn("Updating metrics for projects " + firstId + "-" + lastId +
+                                " took longer than expected (15m); Proceeding with potentially stale data");
+                    }
+                    LOGGER.debug("Completed metrics updates for projects " + firstId + "-" + lastId);
+                    LOGGER.debug("Fetching next " + BATCH_SIZE + " projects");
+                    long now = System.currentTimeMillis();
+                    long processDurationInMillis = now - startTimeOfBatch;
+                    long cumulativeDurationInMillis = now - processStartTime;
+                    //extend the lock for the duration of process
+                    //initial duration of portfolio metrics can be set to 20min.
+                    //No thread calculating metrics would be executing for more than 15min.
+                    //lock can only be extended if lock until is held for time after current db time
+                    if(isTaskLockToBeExtended(cumulativeDurationInMillis, PortfolioMetricsUpdateTask.class)) {
+                        Duration extendLockByDuration = Duration.ofMillis(processDurationInMillis).plus(portfolioMetricsTaskConfig.getLockAtLeastFor());
+                        LOGGER.debug("Extending lock duration by ms: " + extendLockByDuration);
+                        LockExtender.extendActiveLock(extendLockByDuration, portfolioMetricsTaskConfig.getLockAtLeastFor());
+                    }
+                    activeProjects = fetchNextActiveProjectsPage(pm, lastId);
                 }
-                activeProjects = fetchNextActiveProjectsPage(pm, lastId);
+            } finally {
+                REFRESH_PROGRESS.reset();
             }
         }
     }
 
+    private static void updateProjectMetrics(final ProjectProjection project) {
+        try (var ignoredMdcProjectUuid = MDC.putCloseable(MDC_PROJECT_UUID, project.uuid().toString())) {
+            ProjectMetricsUpdateTask.updateMetrics(project.uuid());
+        } catch (RuntimeException e) {
+            LOGGER.error("An unexpected error occurred while updating metrics of project " + project.uuid(), e);
+        } finally {
+            REFRESH_PROGRESS.projectCompleted();
+        }
+    }
+
+    private static long countActiveProjects(final PersistenceManager pm) throws Exception {
+        try (final Query<Project> query = pm.newQuery(Project.class)) {
+            query.setFilter("inactiveSince == null");
+            query.setResult("count(this)");
+            return query.executeResultUnique(Long.class);
+        }
+    }
+
     public record ProjectProjection(long id, UUID uuid) {
     }
 
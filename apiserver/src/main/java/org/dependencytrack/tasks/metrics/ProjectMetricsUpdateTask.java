@@ -31,6 +31,7 @@ import org.slf4j.MDC;
 
 import java.time.Duration;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import static org.dependencytrack.common.MdcKeys.MDC_PROJECT_UUID;
 
@@ -46,21 +47,62 @@ public class ProjectMetricsUpdateTask implements Subscriber {
     @Override
     public void inform(final Event e) {
         if (e instanceof final ProjectMetricsUpdateEvent event) {
-            try (final var qm = new QueryManager();
-                 var ignoredMdcProjectUuid = MDC.putCloseable(MDC_PROJECT_UUID, event.getUuid().toString())) {
-                final WorkflowState metricsUpdateState = qm.updateStartTimeIfWorkflowStateExists(event.getChainIdentifier(), WorkflowStep.METRICS_UPDATE);
-                try {
+            // Do not wait for the update to complete, such that the thread of the event service
+            // is freed up immediately, and queued updates are ordered by priority, not by arrival.
+            submit(event);
+        }
+    }
+
+    /**
+     * Submit a metrics update for the project of a given {@link ProjectMetricsUpdateEvent}
+     * to the {@link MetricsUpdateExecutor}.
+     *
+     * @param event The {@link ProjectMetricsUpdateEvent} to submit the update for
+     * @return A {@link CompletableFuture} that completes when both the update, and the
+     * transition of its {@link WorkflowStep#METRICS_UPDATE} workflow step, completed
+     */
+    CompletableFuture<Void> submit(final ProjectMetricsUpdateEvent event) {
+        final UUID token = event.getChainIdentifier();
+        try (final var qm = new QueryManager()) {
+            qm.updateStartTimeIfWorkflowStateExists(token, WorkflowStep.METRICS_UPDATE);
+        }
+
+        final CompletableFuture<Void> updateFuture;
+        try {
+            // Execute the update on the dedicated metrics executor, such that it is prioritized
+            // over bulk updates of portfolio-wide refreshes that may be in progress.
+            updateFuture = MetricsUpdateExecutor.getInstance().submit(event.getPriority(), () -> {
+                try (var ignored = MDC.putCloseable(MDC_PROJECT_UUID, event.getUuid().toString())) {
                     updateMetrics(event.getUuid());
-                    qm.updateWorkflowStateToComplete(metricsUpdateState);
-                } catch (RuntimeException ex) {
-                    qm.updateWorkflowStateToFailed(metricsUpdateState, ex.getMessage());
-                    LOGGER.error("An unexpected error occurred while updating metrics", ex);
                 }
+            });
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            completeWorkflowStep(event, ex);
+            return CompletableFuture.failedFuture(ex);
+        } catch (RuntimeException ex) {
+            completeWorkflowStep(event, ex);
+            return CompletableFuture.failedFuture(ex);
+        }
+
+        return updateFuture.whenComplete((ignored, throwable) -> completeWorkflowStep(event, throwable));
+    }
+
+    private static void completeWorkflowStep(final ProjectMetricsUpdateEvent event, final Throwable failure) {
+        try (final var qm = new QueryManager();
+             var ignoredMdcProjectUuid = MDC.putCloseable(MDC_PROJECT_UUID, event.getUuid().toString())) {
+            final WorkflowState metricsUpdateState =
+                    qm.getWorkflowStateByTokenAndStep(event.getChainIdentifier(), WorkflowStep.METRICS_UPDATE);
+            if (failure == null) {
+                qm.updateWorkflowStateToComplete(metricsUpdateState);
+            } else {
+                qm.updateWorkflowStateToFailed(metricsUpdateState, failure.getMessage());
+                LOGGER.error("An unexpected error occurred while updating metrics", failure);
             }
         }
     }
 
-    private static void updateMetrics(final UUID uuid) {
+    static void updateMetrics(final UUID uuid) {
         LOGGER.debug("Executing metrics update");
         final long startTimeNs = System.nanoTime();
         try {
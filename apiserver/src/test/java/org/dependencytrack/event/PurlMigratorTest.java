@@ -21,6 +21,7 @@ package org.dependencytrack.event;
 import org.dependencytrack.PersistenceCapableTest;
 import org.dependencytrack.model.Component;
 import org.dependencytrack.model.IntegrityMetaComponent;
+import org.dependencytrack.model.RepositoryType;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -31,6 +32,7 @@ import java.time.temporal.ChronoUnit;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.dependencytrack.model.FetchStatus.IN_PROGRESS;
 import static org.dependencytrack.model.FetchStatus.PROCESSED;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiHandle;
 
 public class PurlMigratorTest extends PersistenceCapableTest {
 
@@ -86,4 +88,33 @@ public class PurlMigratorTest extends PersistenceCapableTest {
         assertThat(kafkaMockProducer.history().size()).isZero();
         assertThat(qm.getIntegrityMetaComponentCount()).isEqualTo(1);
     }
+
+    @Test
+    public void testComputeRepositoryCoordinates() {
+        final var unsupportedComponent = new Component();
+        unsupportedComponent.setProject(componentPersisted.getProject());
+        unsupportedComponent.setName("acme-lib-b");
+        unsupportedComponent.setPurl("pkg:deb/debian/acme-lib-b@1.0.0");
+        qm.persist(unsupportedComponent);
+
+        // Simulate components that existed before repository coordinates were introduced.
+        useJdbiHandle(handle -> handle.createUpdate("""
+                        UPDATE "COMPONENT"
+                           SET "PURL_REPOSITORY_TYPE" = NULL
+                             , "PURL_NAMESPACE" = NULL
+                             , "PURL_NAME" = NULL
+                        """)
+                .execute());
+
+        new PurlMigrator(false).computeRepositoryCoordinates();
+
+        qm.getPersistenceManager().refreshAll(componentPersisted, unsupportedComponent);
+        assertThat(componentPersisted.getPurlRepositoryType()).isEqualTo(RepositoryType.MAVEN);
+        assertThat(componentPersisted.getPurlNamespace()).isEqualTo("acme");
+        assertThat(componentPersisted.getPurlName()).isEqualTo("acme-lib-a");
+        assertThat(unsupportedComponent.getPurlRepositoryType()).isEqualTo(RepositoryType.UNSUPPORTED);
+        assertThat(unsupportedComponent.getPurlNamespace()).isNull();
+        assertThat(unsupportedComponent.getPurlName()).isNull();
+    }
+
 }
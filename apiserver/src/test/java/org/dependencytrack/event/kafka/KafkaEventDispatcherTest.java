@@ -21,7 +21,12 @@ package org.dependencytrack.event.kafka;
 import alpine.notification.Notification;
 import alpine.notification.NotificationLevel;
 import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.clients.producer.RoundRobinPartitioner;
+import org.apache.kafka.common.Cluster;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.PartitionInfo;
 import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.dependencytrack.event.ComponentRepositoryMetaAnalysisEvent;
 import org.dependencytrack.event.ComponentVulnerabilityAnalysisEvent;
@@ -29,24 +34,32 @@ import org.dependencytrack.event.GitHubAdvisoryMirrorEvent;
 import org.dependencytrack.event.NistMirrorEvent;
 import org.dependencytrack.event.OsvMirrorEvent;
 import org.dependencytrack.event.PortfolioMetricsUpdateEvent;
+import org.dependencytrack.event.PortfolioVulnerabilityAnalysisEvent;
 import org.dependencytrack.model.Project;
 import org.dependencytrack.model.VulnerabilityAnalysisLevel;
 import org.dependencytrack.notification.NotificationGroup;
 import org.dependencytrack.notification.NotificationScope;
 import org.dependencytrack.proto.repometaanalysis.v1.FetchMeta;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.contrib.java.lang.system.EnvironmentVariables;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 public class KafkaEventDispatcherTest {
 
+    @Rule
+    public final EnvironmentVariables environmentVariables = new EnvironmentVariables();
+
     private MockProducer<byte[], byte[]> mockProducer;
     private KafkaEventDispatcher eventDispatcher;
 
@@ -105,6 +118,73 @@ public class KafkaEventDispatcherTest {
         });
     }
 
+    @Test
+    public void testDispatchAllWithProducerProfiles() {
+        final var throughputProducer = new MockProducer<>(true, new ByteArraySerializer(), new ByteArraySerializer());
+        final var latencyProducer = new MockProducer<>(true, new ByteArraySerializer(), new ByteArraySerializer());
+        final var profileEventDispatcher = new KafkaEventDispatcher(profile -> switch (profile) {
+            case DEFAULT -> mockProducer;
+            case THROUGHPUT -> throughputProducer;
+            case LATENCY -> latencyProducer;
+        });
+
+        final var project = new Project();
+        project.setUuid(UUID.randomUUID());
+        project.setName("foo");
+
+        profileEventDispatcher.dispatchEvent(new ComponentVulnerabilityAnalysisEvent(UUID.randomUUID(), UUID.randomUUID(),
+                "purl", "cpe", "swidTagId", /* internal */ false,
+                VulnerabilityAnalysisLevel.BOM_UPLOAD_ANALYSIS, /* isNew */ true));
+        profileEventDispatcher.dispatchNotification(new Notification()
+                .scope(NotificationScope.PORTFOLIO)
+                .group(NotificationGroup.PROJECT_CREATED)
+                .level(NotificationLevel.INFORMATIONAL)
+                .title("Test Notification")
+                .content("content")
+                .subject(project));
+        profileEventDispatcher.dispatchEvent(new GitHubAdvisoryMirrorEvent());
+
+        assertThat(throughputProducer.history()).satisfiesExactly(
+                record -> assertThat(record.topic()).isEqualTo(KafkaTopics.VULN_ANALYSIS_COMMAND.name()));
+        assertThat(latencyProducer.history()).satisfiesExactly(
+                record -> assertThat(record.topic()).isEqualTo(KafkaTopics.NOTIFICATION_PROJECT_CREATED.name()));
+        assertThat(mockProducer.history()).satisfiesExactly(
+                record -> assertThat(record.topic()).isEqualTo(KafkaTopics.VULNERABILITY_MIRROR_COMMAND.name()));
+    }
+
+    @Test
+    public void testDispatchEventWithComponentVulnerabilityAnalysisEventAndScanTokenPartitioning() {
+        environmentVariables.set("KAFKA_VULN_ANALYSIS_COMMAND_PARTITIONING", "scan-token");
+
+        final String topicName = KafkaTopics.VULN_ANALYSIS_COMMAND.name();
+        final var node = new Node(0, "localhost", 9092);
+        final List<PartitionInfo> partitions = IntStream.range(0, 10)
+                .mapToObj(i -> new PartitionInfo(topicName, i, node, new Node[]{node}, new Node[]{node}))
+                .toList();
+        final var cluster = new Cluster("test", List.of(node), partitions, Collections.emptySet(), Collections.emptySet());
+        final var clusterAwareProducer = new MockProducer<>(cluster, true, new RoundRobinPartitioner(), new ByteArraySerializer(), new ByteArraySerializer());
+        final var clusterAwareEventDispatcher = new KafkaEventDispatcher(clusterAwareProducer);
+
+        final UUID scanToken = UUID.randomUUID();
+        for (int i = 0; i < 5; i++) {
+            clusterAwareEventDispatcher.dispatchEvent(new ComponentVulnerabilityAnalysisEvent(scanToken, UUID.randomUUID(),
+                    "purl", "cpe", "swidTagId", /* internal */ false,
+                    VulnerabilityAnalysisLevel.BOM_UPLOAD_ANALYSIS, /* isNew */ true));
+        }
+        clusterAwareEventDispatcher.dispatchEvent(new ComponentVulnerabilityAnalysisEvent(
+                PortfolioVulnerabilityAnalysisEvent.CHAIN_IDENTIFIER, UUID.randomUUID(),
+                "purl", "cpe", "swidTagId", /* internal */ false,
+                VulnerabilityAnalysisLevel.PERIODIC_ANALYSIS, /* isNew */ false));
+
+        final List<ProducerRecord<byte[], byte[]>> records = clusterAwareProducer.history();
+        assertThat(records).hasSize(6);
+        assertThat(records.subList(0, 5))
+                .extracting(ProducerRecord::partition)
+                .doesNotContainNull()
+                .containsOnly(records.getFirst().partition());
+        assertThat(records.getLast().partition()).isNull();
+    }
+
     @Test
     public void testDispatchEventWithGitHubAdvisoryMirrorEvent() {
         final CompletableFuture<RecordMetadata> future = eventDispatcher.dispatchEvent(new GitHubAdvisoryMirrorEvent());
@@ -0,0 +1,190 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.event.kafka;
+
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.dependencytrack.PersistenceCapableTest;
+import org.dependencytrack.proto.notification.v1.Notification;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiHandle;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiTransaction;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
+import static org.dependencytrack.proto.notification.v1.Group.GROUP_BOM_PROCESSED;
+
+public class KafkaOutboxTest extends PersistenceCapableTest {
+
+    private MockProducer<byte[], byte[]> mockProducer;
+    private List<KafkaProducerProfile> resolvedProfiles;
+    private KafkaOutbox outbox;
+
+    @Before
+    public void before() throws Exception {
+        super.before();
+
+        mockProducer = new MockProducer<>(true, new ByteArraySerializer(), new ByteArraySerializer());
+        resolvedProfiles = new CopyOnWriteArrayList<>();
+        outbox = new KafkaOutbox(true, Duration.ofMillis(100), 2, profile -> {
+            resolvedProfiles.add(profile);
+            return mockProducer;
+        });
+    }
+
+    @Test
+    public void testEnqueueAllAndRelay() {
+        useJdbiTransaction(handle -> outbox.enqueueAll(handle, List.of(
+                new KafkaEvent<>(KafkaTopics.VULNERABILITY_MIRROR_COMMAND, "foo", "bar", Map.of("baz", "qux")),
+                new KafkaEvent<>(KafkaTopics.NOTIFICATION_BOM, "key", Notification.newBuilder().setGroup(GROUP_BOM_PROCESSED).build()),
+                new KafkaEvent<>(KafkaTopics.VULNERABILITY_MIRROR_COMMAND, "oof", null))));
+        assertThat(getOutboxRecordCount()).isEqualTo(3);
+
+        // Batch size is 2, so the first relay must not publish all records.
+        assertThat(outbox.relay()).isEqualTo(2);
+        assertThat(getOutboxRecordCount()).isEqualTo(1);
+        assertThat(outbox.relay()).isEqualTo(1);
+        assertThat(getOutboxRecordCount()).isZero();
+        assertThat(outbox.relay()).isZero();
+
+        assertThat(mockProducer.history()).satisfiesExactly(
+                record -> {
+                    assertThat(record.topic()).isEqualTo(KafkaTopics.VULNERABILITY_MIRROR_COMMAND.name());
+                    assertThat(record.key()).asString().isEqualTo("foo");
+                    assertThat(record.value()).asString().isEqualTo("bar");
+                    assertThat(record.headers().lastHeader("baz").value()).asString().isEqualTo("qux");
+                },
+                record -> {
+                    assertThat(record.topic()).isEqualTo(KafkaTopics.NOTIFICATION_BOM.name());
+                    assertThat(record.key()).asString().isEqualTo("key");
+                    assertThat(record.headers().toArray()).isEmpty();
+                },
+                record -> {
+                    assertThat(record.topic()).isEqualTo(KafkaTopics.VULNERABILITY_MIRROR_COMMAND.name());
+                    assertThat(record.key()).asString().isEqualTo("oof");
+                    assertThat(record.value()).isNull();
+                });
+        assertThat(mockProducer.history()).extracting(ProducerRecord::partition).containsOnlyNulls();
+
+        assertThat(resolvedProfiles).containsExactly(
+                KafkaProducerProfile.DEFAULT,
+                KafkaProducerProfile.LATENCY,
+                KafkaProducerProfile.DEFAULT);
+    }
+
+    @Test
+    public void testEnqueueAllWithRolledBackTransaction() {
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> useJdbiTransaction(handle -> {
+            outbox.enqueueAll(handle, List.of(new KafkaEvent<>(KafkaTopics.VULNERABILITY_MIRROR_COMMAND, "foo", "bar")));
+            throw new IllegalStateException("boom");
+        }));
+
+        assertThat(getOutboxRecordCount()).isZero();
+        assertThat(outbox.relay()).isZero();
+        assertThat(mockProducer.history()).isEmpty();
+    }
+
+    @Test
+    public void testRelayWithFailingProducer() {
+        useJdbiTransaction(handle -> outbox.enqueueAll(handle, List.of(
+                new KafkaEvent<>(KafkaTopics.VULNERABILITY_MIRROR_COMMAND, "foo", "bar"))));
+
+        mockProducer.sendException = new KafkaException("boom");
+        assertThatExceptionOfType(KafkaException.class).isThrownBy(outbox::relay);
+        assertThat(getOutboxRecordCount()).isEqualTo(1);
+
+        mockProducer.sendException = null;
+        assertThat(outbox.relay()).isEqualTo(1);
+        assertThat(getOutboxRecordCount()).isZero();
+        assertThat(mockProducer.history()).hasSize(1);
+    }
+
+    @Test
+    public void testRelayWithActiveClaim() {
+        useJdbiTransaction(handle -> outbox.enqueueAll(handle, List.of(
+                new KafkaEvent<>(KafkaTopics.VULNERABILITY_MIRROR_COMMAND, "foo", "bar"))));
+
+        // A batch claimed by another relay must not be published again while the claim is active.
+        setClaimedUntil("NOW() + INTERVAL '1' MINUTE");
+        assertThat(outbox.relay()).isZero();
+        assertThat(mockProducer.history()).isEmpty();
+
+        // Once the claim expired, e.g. because the other relay crashed, the batch must be published.
+        setClaimedUntil("NOW() - INTERVAL '1' SECOND");
+        assertThat(outbox.relay()).isEqualTo(1);
+        assertThat(getOutboxRecordCount()).isZero();
+        assertThat(mockProducer.history()).hasSize(1);
+    }
+
+    @Test
+    public void testRelayDoesNotHoldTransactionWhilePublishing() {
+        useJdbiTransaction(handle -> outbox.enqueueAll(handle, List.of(
+                new KafkaEvent<>(KafkaTopics.VULNERABILITY_MIRROR_COMMAND, "foo", "bar"))));
+
+        final var advisoryLockCounts = new CopyOnWriteArrayList<Long>();
+        final var claimedRecordCounts = new CopyOnWriteArrayList<Long>();
+        outbox = new KafkaOutbox(true, Duration.ofMillis(100), 2, profile -> {
+            advisoryLockCounts.add(withJdbiHandle(handle -> handle.createQuery("""
+                            SELECT COUNT(*)
+                              FROM pg_locks
+                             WHERE locktype = 'advisory'
+                            """)
+                    .mapTo(Long.class)
+                    .one()));
+            claimedRecordCounts.add(withJdbiHandle(handle -> handle.createQuery("""
+                            SELECT COUNT(*)
+                              FROM "KAFKA_OUTBOX"
+                             WHERE "CLAIMED_UNTIL" > NOW()
+                            """)
+                    .mapTo(Long.class)
+                    .one()));
+            return mockProducer;
+        });
+
+        assertThat(outbox.relay()).isEqualTo(1);
+        assertThat(advisoryLockCounts).containsOnly(0L);
+        assertThat(claimedRecordCounts).containsOnly(1L);
+    }
+
+    private static void setClaimedUntil(final String claimedUntilExpression) {
+        useJdbiHandle(handle -> handle.execute("""
+                UPDATE "KAFKA_OUTBOX"
+                   SET "CLAIMED_UNTIL" = %s
+                """.formatted(claimedUntilExpression)));
+    }
+
+    private static long getOutboxRecordCount() {
+        return withJdbiHandle(handle -> handle.createQuery("""
+                        SELECT COUNT(*)
+                          FROM "KAFKA_OUTBOX"
+                        """)
+                .mapTo(Long.class)
+                .one());
+    }
+
+}
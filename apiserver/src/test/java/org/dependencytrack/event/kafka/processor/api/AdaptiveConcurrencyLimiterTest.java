@@ -0,0 +1,144 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.event.kafka.processor.api;
+
+import org.dependencytrack.event.kafka.processor.api.AdaptiveConcurrencyLimiter.Signals;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+public class AdaptiveConcurrencyLimiterTest {
+
+    @Test
+    public void testDecreaseOnDatabasePoolSaturation() {
+        final var limiter = new AdaptiveConcurrencyLimiter("foo", true, 1, 8, 10, 100, 2.0, 1000);
+
+        limiter.adjust(new Signals(5.0, 5000, true, 8));
+        assertThat(limiter.getConcurrencyLimit()).isEqualTo(6);
+        assertThat(limiter.getBatchSizeLimit()).isEqualTo(75);
+
+        for (int i = 0; i < 20; i++) {
+            limiter.adjust(new Signals(5.0, 5000, true, 8));
+        }
+        assertThat(limiter.getConcurrencyLimit()).isEqualTo(1);
+        assertThat(limiter.getBatchSizeLimit()).isEqualTo(10);
+    }
+
+    @Test
+    public void testDecreaseOnLatencyDegradation() {
+        final var limiter = new AdaptiveConcurrencyLimiter("foo", false, 1, 8, 1, 1, 2.0, 1000);
+
+        // Establish the baseline latency.
+        limiter.adjust(new Signals(10.0, 0, false, 8));
+        assertThat(limiter.getConcurrencyLimit()).isEqualTo(8);
+
+        limiter.adjust(new Signals(15.0, 0, false, 8));
+        assertThat(limiter.getConcurrencyLimit()).isEqualTo(8);
+
+        limiter.adjust(new Signals(25.0, 0, false, 8));
+        assertThat(limiter.getConcurrencyLimit()).isEqualTo(6);
+    }
+
+    @Test
+    public void testIncreaseOnLagWhenFullyUtilized() {
+        final var limiter = new AdaptiveConcurrencyLimiter("foo", true, 1, 8, 10, 100, 2.0, 1000);
+        limiter.adjust(new Signals(Double.NaN, 0, true, 0));
+        assertThat(limiter.getConcurrencyLimit()).isEqualTo(6);
+        assertThat(limiter.getBatchSizeLimit()).isEqualTo(75);
+
+        // Lag alone is not sufficient when the current limit is not fully utilized.
+        limiter.adjust(new Signals(Double.NaN, 5000, false, 4));
+        assertThat(limiter.getConcurrencyLimit()).isEqualTo(6);
+
+        limiter.adjust(new Signals(Double.NaN, 5000, false, 6));
+        assertThat(limiter.getConcurrencyLimit()).isEqualTo(7);
+        assertThat(limiter.getBatchSizeLimit()).isEqualTo(93);
+
+        limiter.adjust(new Signals(Double.NaN, 5000, false, 7));
+        limiter.adjust(new Signals(Double.NaN, 5000, false, 8));
+        assertThat(limiter.getConcurrencyLimit()).isEqualTo(8);
+        assertThat(limiter.getBatchSizeLimit()).isEqualTo(100);
+    }
+
+    @Test
+    public void testDecreaseWhenIdle() {
+        final var limiter = new AdaptiveConcurrencyLimiter("foo", false, 2, 8, 1, 1, 2.0, 1000);
+
+        for (int i = 0; i < 10; i++) {
+            limiter.adjust(new Signals(Double.NaN, 0, false, 0));
+        }
+        assertThat(limiter.getConcurrencyLimit()).isEqualTo(2);
+    }
+
+    @Test
+    public void testExecuteSplitsBatches() {
+        final var limiter = new AdaptiveConcurrencyLimiter("foo", true, 1, 1, 1, 4, 2.0, 1000);
+
+        final var batches = new ArrayList<List<Integer>>();
+        limiter.execute(IntStream.range(0, 10).boxed().toList(), batch -> batches.add(List.copyOf(batch)));
+
+        assertThat(batches).containsExactly(List.of(0, 1, 2, 3), List.of(4, 5, 6, 7), List.of(8, 9));
+        assertThat(limiter.collectSignals(-1, false)).satisfies(signals -> {
+            assertThat(signals.avgRecordLatencyMillis()).isNotNaN();
+            assertThat(signals.peakInFlight()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    public void testExecuteRespectsConcurrencyLimit() throws Exception {
+        final var limiter = new AdaptiveConcurrencyLimiter("foo", false, 1, 1, 1, 1, 2.0, 1000);
+
+        final var blockingLatch = new CountDownLatch(1);
+        final var firstThread = new Thread(() -> limiter.execute(List.of(1), records -> awaitUninterruptibly(blockingLatch)));
+        firstThread.start();
+        await("First execution in flight")
+                .atMost(Duration.ofSeconds(5))
+                .until(() -> limiter.getInFlight() == 1);
+
+        final var secondThread = new Thread(() -> limiter.execute(List.of(2), records -> {
+        }));
+        secondThread.start();
+        await("Second execution waiting")
+                .atMost(Duration.ofSeconds(5))
+                .until(() -> secondThread.getState() == Thread.State.WAITING);
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+
+        blockingLatch.countDown();
+        firstThread.join(5000);
+        secondThread.join(5000);
+        assertThat(secondThread.isAlive()).isFalse();
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    private static void awaitUninterruptibly(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -20,10 +20,16 @@ package org.dependencytrack.event.kafka.processor.api;
 
 import org.apache.kafka.clients.admin.AdminClient;
 import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
 import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.MockProducer;
 import org.apache.kafka.clients.producer.Producer;
 import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.dependencytrack.event.kafka.KafkaTopics.Topic;
 import org.eclipse.microprofile.health.HealthCheckResponse;
@@ -35,15 +41,25 @@ import org.junit.contrib.java.lang.system.EnvironmentVariables;
 import org.testcontainers.kafka.KafkaContainer;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.apache.kafka.clients.CommonClientConfigs.BOOTSTRAP_SERVERS_CONFIG;
+import static org.apache.kafka.clients.consumer.ConsumerConfig.AUTO_OFFSET_RESET_CONFIG;
+import static org.apache.kafka.clients.consumer.ConsumerConfig.GROUP_ID_CONFIG;
+import static org.apache.kafka.clients.consumer.ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG;
+import static org.apache.kafka.clients.consumer.ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG;
 import static org.apache.kafka.clients.producer.ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG;
 import static org.apache.kafka.clients.producer.ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -66,6 +82,7 @@ public class ProcessorManagerTest {
 
     private AdminClient adminClient;
     private Producer<String, String> producer;
+    private Producer<byte[], byte[]> byteProducer;
 
     @Before
     public void setUp() {
@@ -75,6 +92,11 @@ public class ProcessorManagerTest {
                 Map.entry(KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class),
                 Map.entry(VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class)
         ));
+        byteProducer = new KafkaProducer<>(Map.ofEntries(
+                Map.entry(BOOTSTRAP_SERVERS_CONFIG, kafkaContainer.getBootstrapServers()),
+                Map.entry(KEY_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class),
+                Map.entry(VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class)
+        ));
 
         environmentVariables.set("KAFKA_BOOTSTRAP_SERVERS", kafkaContainer.getBootstrapServers());
     }
@@ -87,6 +109,9 @@ public class ProcessorManagerTest {
         if (producer != null) {
             producer.close();
         }
+        if (byteProducer != null) {
+            byteProducer.close();
+        }
     }
 
     @Test
@@ -155,6 +180,246 @@ public class ProcessorManagerTest {
         }
     }
 
+    @Test
+    public void testSingleRecordProcessorDeadLetter() throws Exception {
+        final var inputTopic = new Topic<>("input", Serdes.String(), Serdes.String());
+        adminClient.createTopics(List.of(
+                new NewTopic(inputTopic.name(), 3, (short) 1),
+                new NewTopic("input.dlt", 1, (short) 1))).all().get();
+
+        final var attemptsCounter = new AtomicInteger(0);
+        final var recordsProcessed = new AtomicInteger(0);
+
+        final Processor<String, String> processor = record -> {
+            switch (record.value()) {
+                case "retryable" -> {
+                    attemptsCounter.incrementAndGet();
+                    throw new RuntimeException(new TimeoutException());
+                }
+                case "non-retryable" -> throw new IllegalStateException("boom");
+                default -> recordsProcessed.incrementAndGet();
+            }
+        };
+
+        environmentVariables.set("KAFKA_PROCESSOR_FOO_PROCESSING_ORDER", "key");
+        environmentVariables.set("KAFKA_PROCESSOR_FOO_DEAD_LETTER_ENABLED", "true");
+        environmentVariables.set("KAFKA_PROCESSOR_FOO_RETRY_MAX_ATTEMPTS", "3");
+        environmentVariables.set("KAFKA_PROCESSOR_FOO_RETRY_INITIAL_DELAY_MS", "5");
+        environmentVariables.set("KAFKA_PROCESSOR_FOO_RETRY_MULTIPLIER", "1");
+        environmentVariables.set("KAFKA_PROCESSOR_FOO_RETRY_MAX_DELAY_MS", "10");
+        environmentVariables.set("KAFKA_PROCESSOR_FOO_CONSUMER_AUTO_OFFSET_RESET", "earliest");
+
+        final var deadLetterProducer = new MockProducer<>(true, new ByteArraySerializer(), new ByteArraySerializer());
+
+        try (final var processorManager = new ProcessorManager(() -> deadLetterProducer)) {
+            processorManager.registerProcessor("foo", inputTopic, processor);
+
+            producer.send(new ProducerRecord<>("input", "foo", "retryable"));
+            producer.send(new ProducerRecord<>("input", "foo", "bar"));
+            producer.send(new ProducerRecord<>("input", "baz", "non-retryable"));
+
+            processorManager.startAll();
+
+            await("Record Processing")
+                    .atMost(Duration.ofSeconds(15))
+                    .untilAsserted(() -> {
+                        assertThat(recordsProcessed).hasValue(1);
+                        assertThat(deadLetterProducer.history()).hasSize(2);
+                    });
+        }
+
+        assertThat(attemptsCounter).hasValue(3);
+        assertThat(deadLetterProducer.history()).satisfiesExactlyInAnyOrder(
+                record -> {
+                    assertThat(record.topic()).isEqualTo("input.dlt");
+                    assertThat(new String(record.key())).isEqualTo("foo");
+                    assertThat(new String(record.value())).isEqualTo("retryable");
+                    assertThat(new String(record.headers().lastHeader("dtrack.dlt.processor").value())).isEqualTo("foo");
+                    assertThat(new String(record.headers().lastHeader("dtrack.dlt.original.topic").value())).isEqualTo("input");
+                    assertThat(new String(record.headers().lastHeader("dtrack.dlt.exception.class").value()))
+                            .isEqualTo(RuntimeException.class.getName());
+                },
+                record -> {
+                    assertThat(record.topic()).isEqualTo("input.dlt");
+                    assertThat(new String(record.key())).isEqualTo("baz");
+                    assertThat(new String(record.value())).isEqualTo("non-retryable");
+                    assertThat(new String(record.headers().lastHeader("dtrack.dlt.exception.class").value()))
+                            .isEqualTo(IllegalStateException.class.getName());
+                    assertThat(new String(record.headers().lastHeader("dtrack.dlt.exception.message").value()))
+                            .isEqualTo("boom");
+                });
+    }
+
+    @Test
+    public void testSingleRecordProcessorRetryTopics() throws Exception {
+        final var inputTopic = new Topic<>("input", Serdes.String(), Serdes.String());
+        adminClient.createTopics(List.of(
+                new NewTopic(inputTopic.name(), 1, (short) 1),
+                new NewTopic("input.retry.1", 1, (short) 1),
+                new NewTopic("input.retry.2", 1, (short) 1),
+                new NewTopic("input.dlt", 1, (short) 1))).all().get();
+
+        final var attemptsCounter = new AtomicInteger(0);
+        final var attemptsWhenProcessed = new AtomicInteger(-1);
+
+        final Processor<String, String> processor = record -> {
+            if ("retryable".equals(record.value())) {
+                attemptsCounter.incrementAndGet();
+                throw new RuntimeException(new TimeoutException());
+            }
+
+            attemptsWhenProcessed.set(attemptsCounter.get());
+        };
+
+        environmentVariables.set("KAFKA_PROCESSOR_FOO_DEAD_LETTER_ENABLED", "true");
+        environmentVariables.set("KAFKA_PROCESSOR_FOO_RETRY_TOPICS", "2");
+        environmentVariables.set("KAFKA_PROCESSOR_FOO_RETRY_INITIAL_DELAY_MS", "500");
+        environmentVariables.set("KAFKA_PROCESSOR_FOO_RETRY_MULTIPLIER", "1");
+        environmentVariables.set("KAFKA_PROCESSOR_FOO_RETRY_MAX_DELAY_MS", "500");
+        environmentVariables.set("KAFKA_PROCESSOR_FOO_CONSUMER_AUTO_OFFSET_RESET", "earliest");
+
+        try (final var processorManager = new ProcessorManager(() -> byteProducer)) {
+            processorManager.registerProcessor("foo", inputTopic, processor);
+
+            producer.send(new ProducerRecord<>("input", "foo", "retryable"));
+            producer.send(new ProducerRecord<>("input", "foo", "bar"));
+
+            processorManager.startAll();
+
+            // The record following the failed one in the same partition must not be blocked by its retries.
+            await("Record Processing")
+                    .atMost(Duration.ofSeconds(5))
+                    .untilAsserted(() -> assertThat(attemptsWhenProcessed).hasValue(1));
+
+            final List<ConsumerRecord<String, String>> deadLetteredRecords = consumeRecords("input.dlt", 1);
+            assertThat(deadLetteredRecords).satisfiesExactly(record -> {
+                assertThat(record.key()).isEqualTo("foo");
+                assertThat(record.value()).isEqualTo("retryable");
+                assertThat(new String(record.headers().lastHeader("dtrack.retry.attempt").value(), UTF_8)).isEqualTo("2");
+                assertThat(new String(record.headers().lastHeader("dtrack.dlt.original.topic").value(), UTF_8)).isEqualTo("input.retry.2");
+                assertThat(new String(record.headers().lastHeader("dtrack.dlt.exception.class").value(), UTF_8))
+                        .isEqualTo(RuntimeException.class.getName());
+            });
+        }
+
+        assertThat(attemptsCounter).hasValue(3);
+        assertThat(consumeRecords("input.retry.1", 1)).satisfiesExactly(record ->
+                assertThat(new String(record.headers().lastHeader("dtrack.retry.attempt").value(), UTF_8)).isEqualTo("1"));
+    }
+
+    @Test
+    public void testBatchProcessorRetryTopics() throws Exception {
+        final var inputTopic = new Topic<>("input", Serdes.String(), Serdes.String());
+        adminClient.createTopics(List.of(
+                new NewTopic(inputTopic.name(), 1, (short) 1),
+                new NewTopic("input.retry.1", 1, (short) 1),
+                new NewTopic("input.dlt", 1, (short) 1))).all().get();
+
+        final Set<String> processedValues = ConcurrentHashMap.newKeySet();
+
+        final BatchProcessor<String, String> processor = records -> {
+            if (records.stream().map(ConsumerRecord::value).anyMatch("poison"::equals)) {
+                throw new RuntimeException(new TimeoutException());
+            }
+
+            records.stream().map(ConsumerRecord::value).forEach(processedValues::add);
+        };
+
+        environmentVariables.set("KAFKA_PROCESSOR_FOO_PROCESSING_ORDER", "unordered");
+        environmentVariables.set("KAFKA_PROCESSOR_FOO_MAX_BATCH_SIZE", "10");
+        environmentVariables.set("KAFKA_PROCESSOR_FOO_DEAD_LETTER_ENABLED", "true");
+        environmentVariables.set("KAFKA_PROCESSOR_FOO_RETRY_TOPICS", "1");
+        environmentVariables.set("KAFKA_PROCESSOR_FOO_RETRY_INITIAL_DELAY_MS", "100");
+        environmentVariables.set("KAFKA_PROCESSOR_FOO_RETRY_MAX_DELAY_MS", "100");
+        environmentVariables.set("KAFKA_PROCESSOR_FOO_CONSUMER_AUTO_OFFSET_RESET", "earliest");
+
+        try (final var processorManager = new ProcessorManager(() -> byteProducer)) {
+            processorManager.registerBatchProcessor("foo", inputTopic, processor);
+
+            for (int i = 0; i < 10; i++) {
+                producer.send(new ProducerRecord<>("input", "foo" + i, i == 5 ? "poison" : "bar" + i));
+            }
+
+            processorManager.startAll();
+
+            // Only the failing record of a batch must be retried and dead-lettered.
+            assertThat(consumeRecords("input.dlt", 1)).satisfiesExactly(record ->
+                    assertThat(record.value()).isEqualTo("poison"));
+            await("Record Processing")
+                    .atMost(Duration.ofSeconds(5))
+                    .untilAsserted(() -> assertThat(processedValues).hasSize(9));
+        }
+
+        assertThat(processedValues).doesNotContain("poison");
+    }
+
+    @Test
+    public void testReplayDeadLetters() throws Exception {
+        final var inputTopic = new Topic<>("input", Serdes.String(), Serdes.String());
+        adminClient.createTopics(List.of(
+                new NewTopic(inputTopic.name(), 1, (short) 1),
+                new NewTopic("input.dlt", 1, (short) 1))).all().get();
+
+        final var processedRecords = new ConcurrentLinkedQueue<ConsumerRecord<String, String>>();
+        final Processor<String, String> processor = processedRecords::add;
+
+        environmentVariables.set("KAFKA_PROCESSOR_FOO_DEAD_LETTER_ENABLED", "true");
+        environmentVariables.set("KAFKA_PROCESSOR_FOO_CONSUMER_AUTO_OFFSET_RESET", "earliest");
+
+        final var headers = new RecordHeaders();
+        headers.add("foo", "bar".getBytes(UTF_8));
+        headers.add("dtrack.dlt.processor", "foo".getBytes(UTF_8));
+        headers.add("dtrack.retry.attempt", "1".getBytes(UTF_8));
+        producer.send(new ProducerRecord<>("input.dlt", null, "foo", "bar", headers)).get();
+        producer.send(new ProducerRecord<>("input.dlt", null, "baz", "qux", headers)).get();
+
+        try (final var processorManager = new ProcessorManager(() -> byteProducer)) {
+            processorManager.registerProcessor("foo", inputTopic, processor);
+            processorManager.startAll();
+
+            assertThat(processorManager.replayDeadLetters("foo", 1)).isEqualTo(1);
+            assertThat(processorManager.replayDeadLetters("foo", 10)).isEqualTo(1);
+            assertThat(processorManager.replayDeadLetters("foo", 10)).isZero();
+
+            assertThatExceptionOfType(NoSuchElementException.class)
+                    .isThrownBy(() -> processorManager.replayDeadLetters("bar", 10));
+
+            await("Record Processing")
+                    .atMost(Duration.ofSeconds(5))
+                    .untilAsserted(() -> assertThat(processedRecords).hasSize(2));
+        }
+
+        assertThat(processedRecords).satisfiesExactly(
+                record -> {
+                    assertThat(record.key()).isEqualTo("foo");
+                    assertThat(record.value()).isEqualTo("bar");
+                    assertThat(new String(record.headers().lastHeader("foo").value(), UTF_8)).isEqualTo("bar");
+                    assertThat(record.headers().lastHeader("dtrack.dlt.processor")).isNull();
+                    assertThat(record.headers().lastHeader("dtrack.retry.attempt")).isNull();
+                },
+                record -> {
+                    assertThat(record.key()).isEqualTo("baz");
+                    assertThat(record.value()).isEqualTo("qux");
+                });
+    }
+
+    @Test
+    public void testReplayDeadLettersWhenNotEnabled() throws Exception {
+        final var inputTopic = new Topic<>("input", Serdes.String(), Serdes.String());
+        adminClient.createTopics(List.of(new NewTopic(inputTopic.name(), 1, (short) 1))).all().get();
+
+        final Processor<String, String> processor = record -> {
+        };
+
+        try (final var processorManager = new ProcessorManager(() -> byteProducer)) {
+            processorManager.registerProcessor("foo", inputTopic, processor);
+
+            assertThatExceptionOfType(IllegalStateException.class)
+                    .isThrownBy(() -> processorManager.replayDeadLetters("foo", 10))
+                    .withMessage("Dead-lettering is not enabled for processor foo");
+        }
+    }
+
     @Test
     public void testBatchProcessor() throws Exception {
         final var inputTopic = new Topic<>("input", Serdes.String(), Serdes.String());
@@ -298,4 +563,25 @@ public class ProcessorManagerTest {
         }
     }
 
-}
\ No newline at end of file
+    private List<ConsumerRecord<String, String>> consumeRecords(final String topicName, final int expectedCount) {
+        final var records = new ArrayList<ConsumerRecord<String, String>>();
+        try (final var consumer = new KafkaConsumer<String, String>(Map.ofEntries(
+                Map.entry(BOOTSTRAP_SERVERS_CONFIG, kafkaContainer.getBootstrapServers()),
+                Map.entry(GROUP_ID_CONFIG, UUID.randomUUID().toString()),
+                Map.entry(AUTO_OFFSET_RESET_CONFIG, "earliest"),
+                Map.entry(KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class),
+                Map.entry(VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class)))) {
+            consumer.subscribe(List.of(topicName));
+
+            await("Consumption of %d records from %s".formatted(expectedCount, topicName))
+                    .atMost(Duration.ofSeconds(15))
+                    .untilAsserted(() -> {
+                        consumer.poll(Duration.ofMillis(100)).forEach(records::add);
+                        assertThat(records).hasSizeGreaterThanOrEqualTo(expectedCount);
+                    });
+        }
+
+        return records;
+    }
+
+}
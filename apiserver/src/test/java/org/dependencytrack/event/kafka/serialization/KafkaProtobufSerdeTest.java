@@ -19,7 +19,9 @@
 package org.dependencytrack.event.kafka.serialization;
 
 import com.google.protobuf.AbstractMessageLite;
+import com.google.protobuf.Any;
 import org.apache.kafka.common.errors.SerializationException;
+import org.dependencytrack.proto.notification.v1.Notification;
 import org.dependencytrack.proto.vulnanalysis.v1.Component;
 import org.junit.Test;
 
@@ -54,6 +56,42 @@ public class KafkaProtobufSerdeTest {
         assertThat(component.getInternal()).isTrue();
     }
 
+    @Test
+    @SuppressWarnings("resource")
+    public void testDeserializeAliasesBytesFields() throws Exception {
+        final var serde = new KafkaProtobufSerde<>(Notification.parser());
+
+        final byte[] notificationBytes = serde.serializer().serialize("topic", Notification.newBuilder()
+                .setTitle("title")
+                .setSubject(Any.pack(Component.newBuilder()
+                        .setUuid("786b9343-9b98-477d-82b5-4b12ac5f5cec")
+                        .build()))
+                .build());
+
+        final Notification notification = serde.deserializer().deserialize("topic", notificationBytes);
+        assertThat(notification.getTitle()).isEqualTo("title");
+
+        // Modify the UUID in the record's array. Because the subject's value references
+        // the array instead of holding a copy of it, the modification must be visible.
+        final byte[] uuidBytes = "786b9343".getBytes(StandardCharsets.UTF_8);
+        final int uuidOffset = indexOf(notificationBytes, uuidBytes);
+        assertThat(uuidOffset).isNotNegative();
+        System.arraycopy("00000000".getBytes(StandardCharsets.UTF_8), 0, notificationBytes, uuidOffset, uuidBytes.length);
+
+        assertThat(notification.getSubject().unpack(Component.class).getUuid())
+                .isEqualTo("00000000-9b98-477d-82b5-4b12ac5f5cec");
+    }
+
+    @Test
+    @SuppressWarnings("resource")
+    public void testDeserializationExceptionOnUnmatchedEndGroupTag() {
+        final var serde = new KafkaProtobufSerde<>(Component.parser());
+
+        // Tag of field 1 with wire type END_GROUP, which is not preceded by a START_GROUP.
+        assertThatExceptionOfType(SerializationException.class)
+                .isThrownBy(() -> serde.deserializer().deserialize("topic", new byte[]{0x0C}));
+    }
+
     @Test
     @SuppressWarnings({"resource", "rawtypes"})
     public void testSerializationException() {
@@ -93,5 +131,18 @@ public class KafkaProtobufSerdeTest {
         assertThat(serde.deserializer().deserialize("topic", null)).isEqualTo(null);
     }
 
+    private static int indexOf(final byte[] array, final byte[] target) {
+        outer:
+        for (int i = 0; i <= array.length - target.length; i++) {
+            for (int j = 0; j < target.length; j++) {
+                if (array[i + j] != target[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
 
 }
\ No newline at end of file
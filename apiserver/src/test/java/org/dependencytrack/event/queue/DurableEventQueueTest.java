@@ -0,0 +1,226 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.event.queue;
+
+import alpine.event.framework.Event;
+import alpine.event.framework.Subscriber;
+import org.dependencytrack.PersistenceCapableTest;
+import org.dependencytrack.event.ProjectMetricsUpdateEvent;
+import org.dependencytrack.persistence.jdbi.EventQueueDao;
+import org.dependencytrack.tasks.metrics.MetricsUpdateExecutor;
+import org.junit.After;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
+
+public class DurableEventQueueTest extends PersistenceCapableTest {
+
+    public static class RecordingSubscriber implements Subscriber {
+
+        private static final List<ProjectMetricsUpdateEvent> EVENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void inform(final Event event) {
+            EVENTS.add((ProjectMetricsUpdateEvent) event);
+        }
+
+    }
+
+    public static class FailingSubscriber implements Subscriber {
+
+        @Override
+        public void inform(final Event event) {
+            throw new IllegalStateException("boom");
+        }
+
+    }
+
+    private DurableEventQueue queue;
+
+    @After
+    public void after() {
+        if (queue != null) {
+            queue.shutdown(Duration.ofSeconds(5));
+        }
+        RecordingSubscriber.EVENTS.clear();
+        super.after();
+    }
+
+    @Test
+    public void testEnqueueAndProcess() {
+        queue = createQueue(3);
+        queue.register(ProjectMetricsUpdateEvent.class, new ProjectMetricsUpdateEventCodec(), RecordingSubscriber.class);
+
+        final var projectUuid = UUID.randomUUID();
+        final var event = new ProjectMetricsUpdateEvent(projectUuid, MetricsUpdateExecutor.Priority.BOM_PROCESSED);
+        queue.enqueue(event);
+        assertThat(getQueuedEvents()).hasSize(1);
+
+        queue.start();
+
+        await("Event processing")
+                .atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(RecordingSubscriber.EVENTS).satisfiesExactly(processedEvent -> {
+                    assertThat(processedEvent.getUuid()).isEqualTo(projectUuid);
+                    assertThat(processedEvent.getPriority()).isEqualTo(MetricsUpdateExecutor.Priority.BOM_PROCESSED);
+                    assertThat(processedEvent.getChainIdentifier()).isEqualTo(event.getChainIdentifier());
+                }));
+        await("Event completion")
+                .atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(getQueuedEvents()).isEmpty());
+    }
+
+    @Test
+    public void testRetryOnFailure() {
+        queue = createQueue(3);
+        queue.register(ProjectMetricsUpdateEvent.class, new ProjectMetricsUpdateEventCodec(), FailingSubscriber.class);
+        queue.enqueue(new ProjectMetricsUpdateEvent(UUID.randomUUID()));
+
+        queue.start();
+
+        await("Retry scheduling")
+                .atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(getQueuedEvents()).satisfiesExactly(row -> {
+                    assertThat(row.get("attempts")).isEqualTo(1);
+                    assertThat(row.get("last_error")).isEqualTo("boom");
+                    assertThat(row.get("locked_by")).isNull();
+                    assertThat(row.get("failed_at")).isNull();
+                }));
+    }
+
+    @Test
+    public void testFailAfterMaxAttempts() {
+        queue = createQueue(1);
+        queue.register(ProjectMetricsUpdateEvent.class, new ProjectMetricsUpdateEventCodec(), FailingSubscriber.class);
+        queue.enqueue(new ProjectMetricsUpdateEvent(UUID.randomUUID()));
+
+        queue.start();
+
+        await("Failure")
+                .atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(getQueuedEvents()).satisfiesExactly(row -> {
+                    assertThat(row.get("attempts")).isEqualTo(1);
+                    assertThat(row.get("last_error")).isEqualTo("boom");
+                    assertThat(row.get("failed_at")).isNotNull();
+                }));
+    }
+
+    @Test
+    public void testClaimSkipsLeasedEvents() {
+        final List<String> eventTypes = List.of(ProjectMetricsUpdateEvent.class.getName());
+
+        withJdbiHandle(handle -> {
+            final var dao = handle.attach(EventQueueDao.class);
+            dao.enqueue(eventTypes.getFirst(), "{}");
+            dao.enqueue(eventTypes.getFirst(), "{}");
+
+            final List<EventQueueDao.QueuedEvent> claimedByFoo = dao.claim(eventTypes, "foo", Duration.ofMinutes(1), 1);
+            assertThat(claimedByFoo).hasSize(1);
+
+            final List<EventQueueDao.QueuedEvent> claimedByBar = dao.claim(eventTypes, "bar", Duration.ofMinutes(1), 10);
+            assertThat(claimedByBar).hasSize(1);
+            assertThat(claimedByBar.getFirst().id()).isNotEqualTo(claimedByFoo.getFirst().id());
+
+            // Only the lease holder can complete the event.
+            assertThat(dao.complete(claimedByFoo.getFirst().id(), "bar")).isFalse();
+            assertThat(dao.complete(claimedByFoo.getFirst().id(), "foo")).isTrue();
+            return null;
+        });
+    }
+
+    @Test
+    public void testNoClaimAfterShutdown() {
+        queue = createQueue(3);
+        queue.register(ProjectMetricsUpdateEvent.class, new ProjectMetricsUpdateEventCodec(), RecordingSubscriber.class);
+
+        queue.start();
+        queue.shutdown(Duration.ofSeconds(5));
+        queue.enqueue(new ProjectMetricsUpdateEvent(UUID.randomUUID()));
+
+        // Events claimed after shutdown could not be processed anymore,
+        // so the poller must not claim them in the first place.
+        assertThat(queue.poll()).isZero();
+
+        assertThat(RecordingSubscriber.EVENTS).isEmpty();
+        assertThat(getQueuedEvents()).satisfiesExactly(row -> {
+            assertThat(row.get("attempts")).isEqualTo(0);
+            assertThat(row.get("locked_by")).isNull();
+        });
+    }
+
+    @Test
+    public void testRelease() {
+        final List<String> eventTypes = List.of(ProjectMetricsUpdateEvent.class.getName());
+
+        withJdbiHandle(handle -> {
+            final var dao = handle.attach(EventQueueDao.class);
+            dao.enqueue(eventTypes.getFirst(), "{}");
+
+            final List<EventQueueDao.QueuedEvent> claimed = dao.claim(eventTypes, "foo", Duration.ofMinutes(1), 1);
+            assertThat(claimed).hasSize(1);
+
+            // Only the lease holder can release the event.
+            assertThat(dao.release(List.of(claimed.getFirst().id()), "bar")).isZero();
+            assertThat(dao.release(List.of(claimed.getFirst().id()), "foo")).isEqualTo(1);
+
+            // Released events can be claimed again right away, without the release counting as attempt.
+            assertThat(dao.claim(eventTypes, "bar", Duration.ofMinutes(1), 1)).satisfiesExactly(
+                    event -> assertThat(event.attempts()).isEqualTo(1));
+            return null;
+        });
+    }
+
+    @Test
+    public void testGetRetryDelay() {
+        queue = new DurableEventQueue(true, 1, Duration.ofSeconds(1), Duration.ofMinutes(1),
+                10, Duration.ofSeconds(10), 2, Duration.ofMinutes(1));
+
+        assertThat(queue.getRetryDelay(1)).isEqualTo(Duration.ofSeconds(10));
+        assertThat(queue.getRetryDelay(2)).isEqualTo(Duration.ofSeconds(20));
+        assertThat(queue.getRetryDelay(3)).isEqualTo(Duration.ofSeconds(40));
+        assertThat(queue.getRetryDelay(4)).isEqualTo(Duration.ofMinutes(1));
+        assertThat(queue.getRetryDelay(100)).isEqualTo(Duration.ofMinutes(1));
+    }
+
+    private static DurableEventQueue createQueue(final int maxAttempts) {
+        return new DurableEventQueue(true, 1, Duration.ofMillis(100), Duration.ofMinutes(1),
+                maxAttempts, Duration.ofMinutes(5), 2, Duration.ofMinutes(30));
+    }
+
+    private static List<Map<String, Object>> getQueuedEvents() {
+        return withJdbiHandle(handle -> handle.createQuery("""
+                        SELECT "ATTEMPTS" AS "attempts"
+                             , "LOCKED_BY" AS "locked_by"
+                             , "FAILED_AT" AS "failed_at"
+                             , "LAST_ERROR" AS "last_error"
+                          FROM "EVENT_QUEUE"
+                        """)
+                .mapToMap()
+                .list());
+    }
+
+}
@@ -150,6 +150,33 @@ public class ComponentTest extends PersistenceCapableTest {
         Assert.assertEquals(purl.toString(), component.getPurl().toString());
     }
 
+    @Test
+    public void testPurlRepositoryCoordinates() {
+        final var component = new Component();
+        component.setPurl("pkg:npm/%40acme/product@1.0?foo=bar");
+        assertThat(component.getPurlRepositoryType()).isEqualTo(RepositoryType.NPM);
+        assertThat(component.getPurlNamespace()).isEqualTo("@acme");
+        assertThat(component.getPurlName()).isEqualTo("product");
+
+        component.setPurl("pkg:deb/debian/product@1.0");
+        assertThat(component.getPurlRepositoryType()).isEqualTo(RepositoryType.UNSUPPORTED);
+        assertThat(component.getPurlNamespace()).isNull();
+        assertThat(component.getPurlName()).isNull();
+
+        component.setPurl("invalid");
+        assertThat(component.getPurlRepositoryType()).isEqualTo(RepositoryType.UNSUPPORTED);
+        assertThat(component.getPurlNamespace()).isNull();
+        assertThat(component.getPurlName()).isNull();
+
+        component.setPurl("pkg:golang/github.com/acme/product@v1.0");
+        assertThat(component.getPurlRepositoryType()).isEqualTo(RepositoryType.GO_MODULES);
+        assertThat(component.getPurlNamespace()).isEqualTo("github.com/acme");
+        assertThat(component.getPurlName()).isEqualTo("product");
+
+        component.setPurl((String) null);
+        assertThat(component.getPurlRepositoryType()).isNull();
+    }
+
     @Test
     public void testDescription() {
         Component component = new Component();
@@ -0,0 +1,273 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.persistence;
+
+import alpine.model.Team;
+import org.dependencytrack.PersistenceCapableTest;
+import org.dependencytrack.model.Project;
+import org.dependencytrack.persistence.jdbi.ProjectDao;
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.HandleConsumer;
+import org.junit.Test;
+
+import javax.jdo.Query;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.openJdbiHandle;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiHandle;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
+
+public class ProjectAccessClosureMaintenanceTest extends PersistenceCapableTest {
+
+    private Team teamA;
+    private Team teamB;
+    private Project parentProject;
+    private Project childProject;
+    private Project grandChildProject;
+    private Project otherProject;
+
+    @Override
+    public void before() throws Exception {
+        super.before();
+
+        teamA = qm.createTeam("team-a");
+        teamB = qm.createTeam("team-b");
+
+        parentProject = new Project();
+        parentProject.setName("acme-app-parent");
+        parentProject.setAccessTeams(Set.of(teamA));
+        qm.persist(parentProject);
+
+        childProject = new Project();
+        childProject.setParent(parentProject);
+        childProject.setName("acme-app-child");
+        childProject.setAccessTeams(Set.of(teamB));
+        qm.persist(childProject);
+
+        grandChildProject = new Project();
+        grandChildProject.setParent(childProject);
+        grandChildProject.setName("acme-app-grandchild");
+        qm.persist(grandChildProject);
+
+        otherProject = new Project();
+        otherProject.setName("acme-app-other");
+        qm.persist(otherProject);
+    }
+
+    @Test
+    public void shouldMaintainClosureOnProjectCreation() {
+        assertThat(getAllProjectAccessClosures()).containsExactlyInAnyOrder(
+                new ProjectAccessClosureRecord(parentProject.getId(), teamA.getId()),
+                new ProjectAccessClosureRecord(childProject.getId(), teamA.getId()),
+                new ProjectAccessClosureRecord(childProject.getId(), teamB.getId()),
+                new ProjectAccessClosureRecord(grandChildProject.getId(), teamA.getId()),
+                new ProjectAccessClosureRecord(grandChildProject.getId(), teamB.getId()));
+    }
+
+    @Test
+    public void shouldMaintainClosureOnAccessRevocation() {
+        useJdbiHandle(handle -> handle.createUpdate("""
+                        DELETE
+                          FROM "PROJECT_ACCESS_TEAMS"
+                         WHERE "PROJECT_ID" = :projectId
+                        """)
+                .bind("projectId", parentProject.getId())
+                .execute());
+
+        assertThat(getAllProjectAccessClosures()).containsExactlyInAnyOrder(
+                new ProjectAccessClosureRecord(childProject.getId(), teamB.getId()),
+                new ProjectAccessClosureRecord(grandChildProject.getId(), teamB.getId()));
+    }
+
+    @Test
+    public void shouldRetainClosureWhenAccessIsStillInherited() {
+        // Grant team-a direct access to the child project, in addition to the access it inherits.
+        useJdbiHandle(handle -> handle.createUpdate("""
+                        INSERT INTO "PROJECT_ACCESS_TEAMS" ("PROJECT_ID", "TEAM_ID")
+                        VALUES (:projectId, :teamId)
+                        """)
+                .bind("projectId", childProject.getId())
+                .bind("teamId", teamA.getId())
+                .execute());
+
+        useJdbiHandle(handle -> handle.createUpdate("""
+                        DELETE
+                          FROM "PROJECT_ACCESS_TEAMS"
+                         WHERE "PROJECT_ID" = :projectId
+                           AND "TEAM_ID" = :teamId
+                        """)
+                .bind("projectId", childProject.getId())
+                .bind("teamId", teamA.getId())
+                .execute());
+
+        assertThat(getAllProjectAccessClosures()).containsExactlyInAnyOrder(
+                new ProjectAccessClosureRecord(parentProject.getId(), teamA.getId()),
+                new ProjectAccessClosureRecord(childProject.getId(), teamA.getId()),
+                new ProjectAccessClosureRecord(childProject.getId(), teamB.getId()),
+                new ProjectAccessClosureRecord(grandChildProject.getId(), teamA.getId()),
+                new ProjectAccessClosureRecord(grandChildProject.getId(), teamB.getId()));
+    }
+
+    @Test
+    public void shouldMaintainClosureOnProjectMove() {
+        qm.runInTransaction(() -> childProject.setParent(null));
+
+        assertThat(getAllProjectAccessClosures()).containsExactlyInAnyOrder(
+                new ProjectAccessClosureRecord(parentProject.getId(), teamA.getId()),
+                new ProjectAccessClosureRecord(childProject.getId(), teamB.getId()),
+                new ProjectAccessClosureRecord(grandChildProject.getId(), teamB.getId()));
+    }
+
+    @Test
+    public void shouldMaintainClosureOnProjectDeletion() {
+        withJdbiHandle(handle -> handle.attach(ProjectDao.class).deleteProject(childProject.getUuid()));
+
+        assertThat(getAllProjectAccessClosures()).containsExactlyInAnyOrder(
+                new ProjectAccessClosureRecord(parentProject.getId(), teamA.getId()));
+    }
+
+    @Test
+    public void shouldNotRetainClosureWhenAccessIsRevokedConcurrentlyWithProjectMove() throws Exception {
+        // Without serialization, the move would see the access that is about to be revoked,
+        // and the revocation would not see the hierarchy the move is about to create.
+        // Team-a would retain access to the moved project.
+        runConcurrently(
+                handle -> handle.createUpdate("""
+                                UPDATE "PROJECT"
+                                   SET "PARENT_PROJECT_ID" = :parentId
+                                 WHERE "ID" = :projectId
+                                """)
+                        .bind("parentId", parentProject.getId())
+                        .bind("projectId", otherProject.getId())
+                        .execute(),
+                handle -> handle.createUpdate("""
+                                DELETE
+                                  FROM "PROJECT_ACCESS_TEAMS"
+                                 WHERE "PROJECT_ID" = :projectId
+                                   AND "TEAM_ID" = :teamId
+                                """)
+                        .bind("projectId", parentProject.getId())
+                        .bind("teamId", teamA.getId())
+                        .execute());
+
+        assertThat(getAllProjectAccessClosures()).containsExactlyInAnyOrder(
+                new ProjectAccessClosureRecord(childProject.getId(), teamB.getId()),
+                new ProjectAccessClosureRecord(grandChildProject.getId(), teamB.getId()));
+    }
+
+    @Test
+    public void shouldNotMissClosureWhenAccessIsGrantedConcurrentlyWithProjectMove() throws Exception {
+        final Team teamC = qm.createTeam("team-c");
+
+        // Without serialization, neither the grant nor the move would see the other's changes.
+        // Team-c would not have access to the moved project, despite it inheriting it.
+        runConcurrently(
+                handle -> handle.createUpdate("""
+                                INSERT INTO "PROJECT_ACCESS_TEAMS" ("PROJECT_ID", "TEAM_ID")
+                                VALUES (:projectId, :teamId)
+                                """)
+                        .bind("projectId", parentProject.getId())
+                        .bind("teamId", teamC.getId())
+                        .execute(),
+                handle -> handle.createUpdate("""
+                                UPDATE "PROJECT"
+                                   SET "PARENT_PROJECT_ID" = :parentId
+                                 WHERE "ID" = :projectId
+                                """)
+                        .bind("parentId", parentProject.getId())
+                        .bind("projectId", otherProject.getId())
+                        .execute());
+
+        assertThat(getAllProjectAccessClosures()).containsExactlyInAnyOrder(
+                new ProjectAccessClosureRecord(parentProject.getId(), teamA.getId()),
+                new ProjectAccessClosureRecord(parentProject.getId(), teamC.getId()),
+                new ProjectAccessClosureRecord(childProject.getId(), teamA.getId()),
+                new ProjectAccessClosureRecord(childProject.getId(), teamB.getId()),
+                new ProjectAccessClosureRecord(childProject.getId(), teamC.getId()),
+                new ProjectAccessClosureRecord(grandChildProject.getId(), teamA.getId()),
+                new ProjectAccessClosureRecord(grandChildProject.getId(), teamB.getId()),
+                new ProjectAccessClosureRecord(grandChildProject.getId(), teamC.getId()),
+                new ProjectAccessClosureRecord(otherProject.getId(), teamA.getId()),
+                new ProjectAccessClosureRecord(otherProject.getId(), teamC.getId()));
+    }
+
+    /**
+     * Execute {@code first} and {@code second} in two separate transactions, such that
+     * {@code second} is executed before {@code first} commits. Asserts that closure
+     * maintenance of {@code second} waits for {@code first} to commit.
+     */
+    private static void runConcurrently(final HandleConsumer<RuntimeException> first,
+                                        final HandleConsumer<RuntimeException> second) throws Exception {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (final Handle firstHandle = openJdbiHandle();
+             final Handle secondHandle = openJdbiHandle()) {
+            firstHandle.begin();
+            first.useHandle(firstHandle);
+
+            final Future<?> secondFuture = executor.submit(() -> {
+                secondHandle.begin();
+                second.useHandle(secondHandle);
+                secondHandle.commit();
+            });
+
+            await("Closure maintenance of second transaction to wait for lock")
+                    .atMost(Duration.ofSeconds(5))
+                    .until(() -> getWaitingAdvisoryLockCount() > 0);
+
+            firstHandle.commit();
+            secondFuture.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static long getWaitingAdvisoryLockCount() {
+        return withJdbiHandle(handle -> handle.createQuery("""
+                        SELECT COUNT(*)
+                          FROM pg_locks
+                         WHERE locktype = 'advisory'
+                           AND NOT granted
+                        """)
+                .mapTo(Long.class)
+                .one());
+    }
+
+    public record ProjectAccessClosureRecord(long projectId, long teamId) {
+    }
+
+    private List<ProjectAccessClosureRecord> getAllProjectAccessClosures() {
+        final Query<?> query = qm.getPersistenceManager().newQuery(Query.SQL, /* language=SQL */ """
+                SELECT "PROJECT_ID", "TEAM_ID" FROM "PROJECT_ACCESS_CLOSURE"
+                """);
+        try {
+            return List.copyOf(query.executeResultList(ProjectAccessClosureRecord.class));
+        } finally {
+            query.closeAll();
+        }
+    }
+
+}
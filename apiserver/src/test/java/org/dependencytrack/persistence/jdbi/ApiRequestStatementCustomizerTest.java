@@ -28,6 +28,7 @@ import alpine.persistence.Pagination;
 import alpine.resources.AlpineRequest;
 import org.dependencytrack.PersistenceCapableTest;
 import org.dependencytrack.auth.Permissions;
+import org.dependencytrack.exception.InvalidPaginationCursorException;
 import org.dependencytrack.persistence.jdbi.ApiRequestConfig.OrderingColumn;
 import org.jdbi.v3.core.statement.StatementContext;
 import org.jdbi.v3.core.statement.StatementCustomizer;
@@ -51,6 +52,7 @@ public class ApiRequestStatementCustomizerTest extends PersistenceCapableTest {
             <#-- @ftlvariable name="apiOrderByClause" type="String" -->
             <#-- @ftlvariable name="apiOffsetLimitClause" type="String" -->
             <#-- @ftlvariable name="apiProjectAclCondition" type="String" -->
+            <#-- @ftlvariable name="apiCursorCondition" type="String" -->
             SELECT 1 AS "valueA"
                  , 2 AS "valueB"
               FROM "PROJECT"
@@ -58,6 +60,9 @@ public class ApiRequestStatementCustomizerTest extends PersistenceCapableTest {
             <#if apiFilterParameter??>
                AND 'foo' = ${apiFilterParameter}
             </#if>
+            <#if apiCursorCondition??>
+               AND ${apiCursorCondition}
+            </#if>
             ${apiOrderByClause!}
             ${apiOffsetLimitClause!}
             """;
@@ -124,6 +129,112 @@ public class ApiRequestStatementCustomizerTest extends PersistenceCapableTest {
                 .findOne());
     }
 
+    @Test
+    public void testWithAlpineRequestCursorPaginationFirstPage() {
+        final var request = new AlpineRequest(
+                /* principal */ null,
+                /* pagination */ new Pagination(Pagination.Strategy.CURSOR, null, "100"),
+                /* filter */ null,
+                /* orderBy */ null,
+                /* orderDirection */ null
+        );
+
+        useJdbiHandle(request, handle -> handle
+                .configure(ApiRequestConfig.class, config -> {
+                    config.setOrderingAllowedColumns(Set.of(new OrderingColumn("id", "\"PROJECT\".\"ID\"")));
+                    config.setOrderingAlwaysBy("id");
+                    config.setCursorPaginationAllowed(true);
+                })
+                .addCustomizer(inspectStatement(ctx -> {
+                    assertThat(ctx.getRenderedSql()).isEqualToIgnoringWhitespace("""
+                            SELECT 1 AS "valueA", 2 AS "valueB" FROM "PROJECT" WHERE TRUE
+                            ORDER BY "PROJECT"."ID" FETCH NEXT :paginationLimit ROWS ONLY
+                            """);
+
+                    assertThat(ctx.getBinding()).hasToString("{named:{paginationLimit:100}}");
+                }))
+                .createQuery(TEST_QUERY_TEMPLATE)
+                .mapTo(Integer.class)
+                .findOne());
+    }
+
+    @Test
+    public void testWithAlpineRequestCursorPagination() {
+        final var request = new AlpineRequest(
+                /* principal */ null,
+                /* pagination */ new Pagination(Pagination.Strategy.CURSOR, new PaginationCursor(666).encode(), "100"),
+                /* filter */ null,
+                /* orderBy */ "id",
+                /* orderDirection */ OrderDirection.DESCENDING
+        );
+
+        useJdbiHandle(request, handle -> handle
+                .configure(ApiRequestConfig.class, config -> {
+                    config.setOrderingAllowedColumns(Set.of(new OrderingColumn("id", "\"PROJECT\".\"ID\"")));
+                    config.setOrderingAlwaysBy("id");
+                    config.setCursorPaginationAllowed(true);
+                })
+                .addCustomizer(inspectStatement(ctx -> {
+                    assertThat(ctx.getRenderedSql()).isEqualToIgnoringWhitespace("""
+                            SELECT 1 AS "valueA", 2 AS "valueB" FROM "PROJECT" WHERE TRUE
+                            AND "PROJECT"."ID" < :paginationCursorKey
+                            ORDER BY "PROJECT"."ID" DESC FETCH NEXT :paginationLimit ROWS ONLY
+                            """);
+
+                    assertThat(ctx.getBinding()).hasToString("{named:{paginationCursorKey:666,paginationLimit:100}}");
+                }))
+                .createQuery(TEST_QUERY_TEMPLATE)
+                .mapTo(Integer.class)
+                .findOne());
+    }
+
+    @Test
+    public void testWithAlpineRequestCursorPaginationOrderingByOtherColumn() {
+        final var request = new AlpineRequest(
+                /* principal */ null,
+                /* pagination */ new Pagination(Pagination.Strategy.CURSOR, null, "100"),
+                /* filter */ null,
+                /* orderBy */ "name",
+                /* orderDirection */ OrderDirection.ASCENDING
+        );
+
+        assertThatExceptionOfType(InvalidPaginationCursorException.class)
+                .isThrownBy(() -> useJdbiHandle(request, handle -> handle
+                        .configure(ApiRequestConfig.class, config -> {
+                            config.setOrderingAllowedColumns(Set.of(new OrderingColumn("id"), new OrderingColumn("name")));
+                            config.setOrderingAlwaysBy("id");
+                            config.setCursorPaginationAllowed(true);
+                        })
+                        .createQuery(TEST_QUERY_TEMPLATE)
+                        .mapTo(Integer.class)
+                        .findOne()))
+                .withMessage("Cursor pagination does not support ordering by name; Ordering is only possible by id");
+    }
+
+    @Test
+    public void testWithAlpineRequestCursorPaginationNotAllowed() {
+        final var request = new AlpineRequest(
+                /* principal */ null,
+                /* pagination */ new Pagination(Pagination.Strategy.CURSOR, new PaginationCursor(666).encode(), "100"),
+                /* filter */ null,
+                /* orderBy */ null,
+                /* orderDirection */ null
+        );
+
+        useJdbiHandle(request, handle -> handle
+                .addCustomizer(inspectStatement(ctx -> {
+                    assertThat(ctx.getRenderedSql()).isEqualToIgnoringWhitespace("""
+                            SELECT 1 AS "valueA", 2 AS "valueB" FROM "PROJECT" WHERE TRUE
+                            OFFSET :paginationOffset FETCH NEXT :paginationLimit ROWS ONLY
+                            """);
+
+                    assertThat(ctx.getBinding()).hasToString("{named:{paginationOffset:0,paginationLimit:100}}");
+                }))
+                .createQuery(TEST_QUERY_TEMPLATE)
+                .mapTo(Integer.class)
+                .findOne());
+    }
+
     @Test
     public void testWithAlpineRequestOrderingWithoutAllowedColumns() {
         final var request = new AlpineRequest(
@@ -56,6 +56,7 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.util.Date;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -252,4 +253,44 @@ public class ProjectDaoTest extends PersistenceCapableTest {
         qm.persist(project);
         assertThat(projectDao.getProjectId(project.getUuid())).isEqualTo(project.getId());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testGetAccessTeams() {
+        final var teamA = qm.createTeam("team-a");
+        final var teamB = qm.createTeam("team-b");
+
+        final var projectA = new Project();
+        projectA.setName("acme-app-a");
+        projectA.setAccessTeams(Set.of(teamA, teamB));
+        qm.persist(projectA);
+
+        final var projectB = new Project();
+        projectB.setName("acme-app-b");
+        qm.persist(projectB);
+
+        assertThat(projectDao.getAccessTeams(List.of(projectA.getId(), projectB.getId()))).containsExactly(
+                new ProjectDao.ProjectAccessTeamRow(projectA.getId(), teamA.getUuid(), "team-a"),
+                new ProjectDao.ProjectAccessTeamRow(projectA.getId(), teamB.getUuid(), "team-b"));
+    }
+
+    @Test
+    public void testGetMetadata() {
+        final var project = new Project();
+        project.setName("acme-app");
+        qm.persist(project);
+
+        final var author = new OrganizationalContact();
+        author.setName("authorName");
+        final var projectMetadata = new ProjectMetadata();
+        projectMetadata.setProject(project);
+        projectMetadata.setAuthors(List.of(author));
+        qm.persist(projectMetadata);
+
+        assertThat(projectDao.getMetadata(List.of(project.getId()))).satisfiesExactly(row -> {
+            assertThat(row.projectId()).isEqualTo(project.getId());
+            assertThat(row.supplier()).isNull();
+            assertThat(row.authors()).contains("authorName");
+            assertThat(row.tools()).isNull();
+        });
+    }
+}
@@ -42,8 +42,12 @@ import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 public class CelVulnerabilityPolicyEvaluatorTest extends PersistenceCapableTest {
 
@@ -151,6 +155,49 @@ public class CelVulnerabilityPolicyEvaluatorTest extends PersistenceCapableTest
                 });
     }
 
+    @Test
+    public void testEvaluateWithApplicablePoliciesCachedPerProject() {
+        final var projectA = Project.newBuilder()
+                .setUuid(UUID.randomUUID().toString())
+                .setName("acme-app-a")
+                .build();
+        final var projectB = Project.newBuilder()
+                .setUuid(UUID.randomUUID().toString())
+                .setName("acme-app-b")
+                .build();
+        final var componentA = Component.newBuilder()
+                .setUuid(UUID.randomUUID().toString())
+                .setName("acme-lib-a")
+                .build();
+        final var componentB = Component.newBuilder()
+                .setUuid(UUID.randomUUID().toString())
+                .setName("acme-lib-b")
+                .build();
+        final UUID vulnUuid = UUID.randomUUID();
+        final var vuln = Vulnerability.newBuilder()
+                .setUuid(vulnUuid.toString())
+                .setId("CVE-123")
+                .build();
+
+        final var policy = new VulnerabilityPolicy();
+        policy.setName("policy");
+        policy.setConditions(List.of("project.name == 'acme-app-a'"));
+
+        doReturn(List.of(policy))
+                .when(policyProviderMock).getApplicablePolicies(any(Project.class));
+
+        // Components of the same project share the applicable policies.
+        assertThat(policyEvaluator.evaluate(List.of(vuln), componentA, projectA)).containsOnlyKeys(vulnUuid);
+        assertThat(policyEvaluator.evaluate(List.of(vuln), componentB, projectA)).containsOnlyKeys(vulnUuid);
+        verify(policyProviderMock, times(1)).getApplicablePolicies(any(Project.class));
+
+        // Other projects must have their own.
+        assertThat(policyEvaluator.evaluate(List.of(vuln), componentA, projectB)).isEmpty();
+        verify(policyProviderMock).getApplicablePolicies(eq(projectA));
+        verify(policyProviderMock).getApplicablePolicies(eq(projectB));
+        verifyNoMoreInteractions(policyProviderMock);
+    }
+
     @Test
     public void testEvaluateWithAdditionalRequiredFields() throws Exception {
         final var persistentProject = new org.dependencytrack.model.Project();
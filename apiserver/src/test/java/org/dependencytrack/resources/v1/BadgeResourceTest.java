@@ -610,6 +610,44 @@ public class BadgeResourceTest extends ResourceTest {
         Assert.assertEquals(403, response.getStatus(), 0);
     }
 
+    @Test
+    public void projectVulnerabilitiesByUuidConditionalRequestTest() {
+        initializeWithPermissions(Permissions.VIEW_BADGES);
+        enableUnauthenticatedBadgeAccess();
+        Project project = qm.createProject("Acme Example", null, "1.0.0", null, null, null, null, false);
+        Response response = jersey.target(V1_BADGE + "/vulns/project/" + project.getUuid()).request()
+                .get(Response.class);
+        Assert.assertEquals(200, response.getStatus(), 0);
+        Assert.assertEquals("max-age=60", response.getHeaderString("Cache-Control"));
+        String entityTag = response.getHeaderString("ETag");
+        Assert.assertNotNull(entityTag);
+        Assert.assertTrue(isLikelySvg(getPlainTextBody(response)));
+
+        response = jersey.target(V1_BADGE + "/vulns/project/" + project.getUuid()).request()
+                .header("If-None-Match", entityTag)
+                .get(Response.class);
+        Assert.assertEquals(304, response.getStatus(), 0);
+        Assert.assertEquals(entityTag, response.getHeaderString("ETag"));
+
+        response = jersey.target(V1_BADGE + "/vulns/project/" + project.getUuid()).request()
+                .header("If-None-Match", "\"foo\"")
+                .get(Response.class);
+        Assert.assertEquals(200, response.getStatus(), 0);
+        Assert.assertTrue(isLikelySvg(getPlainTextBody(response)));
+    }
+
+    @Test
+    public void projectViolationsByUuidWithAuthenticationCacheControlTest() {
+        initializeWithPermissions(Permissions.VIEW_BADGES);
+        Project project = qm.createProject("Acme Example", null, "1.0.0", null, null, null, null, false);
+        Response response = jersey.target(V1_BADGE + "/violations/project/" + project.getUuid())
+                .queryParam(API_KEY, apiKey)
+                .request()
+                .get(Response.class);
+        Assert.assertEquals(200, response.getStatus(), 0);
+        Assert.assertEquals("private, no-cache", response.getHeaderString("Cache-Control"));
+    }
+
     private boolean isLikelySvg(String body) {
         try {
             InputStream is = new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
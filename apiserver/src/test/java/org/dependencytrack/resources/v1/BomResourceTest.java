@@ -34,6 +34,7 @@ import net.javacrumbs.jsonunit.core.Option;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
 import org.apache.http.HttpStatus;
+import org.cyclonedx.CycloneDxMediaType;
 import org.cyclonedx.proto.v1_6.Bom;
 import org.dependencytrack.JerseyTestRule;
 import org.dependencytrack.ResourceTest;
@@ -149,6 +150,56 @@ public class BomResourceTest extends ResourceTest {
         Assert.assertTrue(body.startsWith("{"));
     }
 
+    @Test
+    public void exportProjectAsCycloneDxXmlTest() {
+        final var project = qm.createProject("acme-app", null, "1.0", null, null, null, null, false);
+
+        final var componentA = new Component();
+        componentA.setProject(project);
+        componentA.setName("acme-lib-a");
+        componentA.setVersion("1.0");
+        qm.persist(componentA);
+
+        final var componentAProperty = new ComponentProperty();
+        componentAProperty.setComponent(componentA);
+        componentAProperty.setGroupName("foo");
+        componentAProperty.setPropertyName("bar");
+        componentAProperty.setPropertyValue("baz");
+        componentAProperty.setPropertyType(IConfigProperty.PropertyType.STRING);
+        qm.persist(componentAProperty);
+
+        final var componentB = new Component();
+        componentB.setProject(project);
+        componentB.setName("acme-lib-b");
+        componentB.setVersion("2.0");
+        qm.persist(componentB);
+
+        project.setDirectDependencies("[{\"uuid\":\"%s\"}]".formatted(componentA.getUuid()));
+        componentA.setDirectDependencies("[{\"uuid\":\"%s\"}]".formatted(componentB.getUuid()));
+        qm.persist(project);
+        qm.persist(componentA);
+
+        final Response response = jersey.target(V1_BOM + "/cyclonedx/project/" + project.getUuid())
+                .queryParam("format", "XML")
+                .request()
+                .header(X_API_KEY, apiKey)
+                .get(Response.class);
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.SC_OK);
+        assertThat(response.getMediaType().toString()).isEqualTo(CycloneDxMediaType.APPLICATION_CYCLONEDX_XML);
+
+        final String xmlResponse = getPlainTextBody(response);
+        assertThatNoException().isThrownBy(() -> CycloneDxValidator.getInstance().validate(xmlResponse.getBytes()));
+        assertThat(xmlResponse)
+                .contains("<name>acme-lib-a</name>")
+                .contains("<name>acme-lib-b</name>")
+                .contains("<property name=\"foo:bar\">baz</property>")
+                .contains("<dependency ref=\"%s\">".formatted(project.getUuid()))
+                .contains("<dependency ref=\"%s\"".formatted(componentB.getUuid()))
+                .doesNotContain("<services>")
+                .doesNotContain("<vulnerabilities>");
+        assertThat(xmlResponse.indexOf("acme-lib-a")).isLessThan(xmlResponse.indexOf("acme-lib-b"));
+    }
+
     @Test
     public void exportProjectAsCycloneDxInvalidTest() {
         Response response = jersey.target(V1_BOM + "/cyclonedx/project/" + UUID.randomUUID()).request()
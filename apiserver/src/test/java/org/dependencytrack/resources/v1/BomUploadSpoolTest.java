@@ -0,0 +1,82 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.resources.v1;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class BomUploadSpoolTest {
+
+    @Test
+    public void shouldKeepSmallContentInMemory() throws Exception {
+        final byte[] content = "{\"bomFormat\":\"CycloneDX\"}".getBytes(StandardCharsets.UTF_8);
+
+        try (final var spool = BomUploadSpool.of(new ByteArrayInputStream(content), 1024)) {
+            assertThat(spool.isInMemory()).isTrue();
+            assertThat(spool.size()).isEqualTo(content.length);
+
+            try (final InputStream inputStream = spool.open()) {
+                assertThat(inputStream.readAllBytes()).isEqualTo(content);
+            }
+        }
+    }
+
+    @Test
+    public void shouldSpillLargeContentToDiskAndDeleteItOnClose() throws Exception {
+        final byte[] content = "a".repeat(4096).getBytes(StandardCharsets.UTF_8);
+
+        final var spool = BomUploadSpool.of(new ByteArrayInputStream(content), 1024);
+        try {
+            assertThat(spool.isInMemory()).isFalse();
+
+            // Content must be readable more than once.
+            for (int i = 0; i < 2; i++) {
+                try (final InputStream inputStream = spool.open()) {
+                    assertThat(inputStream.readAllBytes()).isEqualTo(content);
+                }
+            }
+        } finally {
+            spool.close();
+        }
+
+        assertThatExceptionOfType(NoSuchFileException.class).isThrownBy(spool::open);
+    }
+
+    @Test
+    public void shouldStripByteOrderMark() throws Exception {
+        final byte[] content = "\uFEFF<bom/>".getBytes(StandardCharsets.UTF_8);
+
+        try (final var spool = BomUploadSpool.of(new ByteArrayInputStream(content))) {
+            try (final InputStream inputStream = spool.open()) {
+                assertThat(inputStream.readAllBytes()).asString(StandardCharsets.UTF_8).isEqualTo("<bom/>");
+            }
+
+            assertThat(spool.sha256Hex()).isEqualTo(DigestUtils.sha256Hex("<bom/>"));
+        }
+    }
+
+}
@@ -141,6 +141,77 @@ public class ComponentResourceTest extends ResourceTest {
         assertThat(response.getStatus()).isEqualTo(200);
     }
 
+    @Test
+    public void getAllComponentsWithCursorPaginationTest() {
+        final var project = new Project();
+        project.setName("acme-app");
+        qm.persist(project);
+
+        // Names are deliberately in reverse order of creation,
+        // to verify that cursor pagination orders by ID.
+        for (int i = 2; i >= 0; i--) {
+            final var component = new Component();
+            component.setProject(project);
+            component.setName("acme-lib-" + i);
+            qm.persist(component);
+        }
+
+        Response response = jersey.target(V1_COMPONENT + "/project/" + project.getUuid())
+                .queryParam("cursor", "")
+                .queryParam("limit", 2)
+                .request()
+                .header(X_API_KEY, apiKey)
+                .get();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeaderString(TOTAL_COUNT_HEADER)).isEqualTo("3");
+        assertThat(response.getHeaderString("X-Next-Cursor")).isNotBlank();
+        assertThatJson(getPlainTextBody(response)).inPath("$[*].name")
+                .isEqualTo(/* language=JSON */ """
+                        ["acme-lib-2", "acme-lib-1"]
+                        """);
+
+        response = jersey.target(V1_COMPONENT + "/project/" + project.getUuid())
+                .queryParam("cursor", response.getHeaderString("X-Next-Cursor"))
+                .queryParam("limit", 2)
+                .request()
+                .header(X_API_KEY, apiKey)
+                .get();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeaderString(TOTAL_COUNT_HEADER)).isNull();
+        assertThat(response.getHeaderString("X-Next-Cursor")).isNull();
+        assertThatJson(getPlainTextBody(response)).inPath("$[*].name")
+                .isEqualTo(/* language=JSON */ """
+                        ["acme-lib-0"]
+                        """);
+
+        response = jersey.target(V1_COMPONENT + "/project/" + project.getUuid())
+                .queryParam("cursor", "")
+                .queryParam("sortName", "name")
+                .queryParam("sortOrder", "asc")
+                .request()
+                .header(X_API_KEY, apiKey)
+                .get();
+        assertThat(response.getStatus()).isEqualTo(400);
+        assertThatJson(getPlainTextBody(response)).isEqualTo(/* language=JSON */ """
+                {
+                  "status": 400,
+                  "title": "Invalid pagination cursor",
+                  "detail": "Cursor pagination does not support ordering by name"
+                }
+                """);
+    }
+
+    @Test
+    public void getComponentByHashWithCursorTest() {
+        final Response response = jersey.target(V1_COMPONENT + "/hash/" + "a".repeat(40))
+                .queryParam("cursor", "")
+                .request()
+                .header(X_API_KEY, apiKey)
+                .get();
+        assertThat(response.getStatus()).isEqualTo(400);
+        assertThat(getPlainTextBody(response)).isEqualTo("Cursor-based pagination is not supported by this endpoint");
+    }
+
     @Test
     public void getComponentByUuidWithRepositoryMetaDataTest() {
         Project project = qm.createProject("Acme Application", null, null, null, null, null, null, false);
@@ -62,6 +62,7 @@ import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.dependencytrack.model.WorkflowStatus.PENDING;
 import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
+import static org.dependencytrack.resources.v1.FindingResource.MEDIA_TYPE_CSV;
 import static org.dependencytrack.resources.v1.FindingResource.MEDIA_TYPE_SARIF_JSON;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.junit.Assert.assertEquals;
@@ -691,6 +692,61 @@ public class FindingResourceTest extends ResourceTest {
         assertEquals(p2.getUuid().toString(), json.getJsonObject(4).getJsonObject("component").getString("project"));
     }
 
+    @Test
+    public void getAllFindingsAsCsvTest() {
+        Project project = qm.createProject("Acme Example", null, "1.0", null, null, null, null, false);
+        Component c1 = createComponent(project, "Component A", "1.0");
+        Component c2 = createComponent(project, "=cmd|' /C calc'!A0", "2.0");
+        Vulnerability v1 = createVulnerability("Vuln-1", Severity.CRITICAL, "Foo, \"Bar\"", "Description", null, 80);
+        Vulnerability v2 = createVulnerability("Vuln-2", Severity.HIGH);
+        qm.addVulnerability(v1, c1, AnalyzerIdentity.NONE);
+        qm.addVulnerability(v2, c2, AnalyzerIdentity.NONE);
+
+        // Exports must not be paginated.
+        Response response = jersey.target(V1_FINDING)
+                .queryParam("pageSize", "1")
+                .request()
+                .header(HttpHeaders.ACCEPT, MEDIA_TYPE_CSV)
+                .header(X_API_KEY, apiKey)
+                .get(Response.class);
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeaderString(HttpHeaders.CONTENT_TYPE)).isEqualTo(MEDIA_TYPE_CSV);
+        assertThat(response.getHeaderString(TOTAL_COUNT_HEADER)).isNull();
+        assertThat(getPlainTextBody(response).split("\r\n")).satisfiesExactly(
+                header -> assertThat(header).startsWith("Project Name,Project Version,Project UUID,Component Name,"),
+                row -> assertThat(row)
+                        .startsWith("Acme Example,1.0,%s,Component A,,1.0,,,INTERNAL,Vuln-1,\"Foo, \"\"Bar\"\"\",CRITICAL,,,,,CWE-80,,NONE,"
+                                .formatted(project.getUuid()))
+                        .endsWith(",,false"),
+                row -> assertThat(row)
+                        .startsWith("Acme Example,1.0,%s,'=cmd|' /C calc'!A0,,2.0,,,INTERNAL,Vuln-2,,HIGH,,,,,CWE-80 CWE-666,,NONE,"
+                                .formatted(project.getUuid()))
+                        .endsWith(",,false"));
+    }
+
+    @Test
+    public void getAllFindingsAsSarifTest() {
+        Project project = qm.createProject("Acme Example", null, "1.0", null, null, null, null, false);
+        Component c1 = createComponent(project, "Component A", "1.0");
+        Component c2 = createComponent(project, "Component B", "1.0");
+        Vulnerability v1 = createVulnerability("Vuln-1", Severity.MEDIUM);
+        qm.addVulnerability(v1, c1, AnalyzerIdentity.NONE);
+        qm.addVulnerability(v1, c2, AnalyzerIdentity.NONE);
+
+        Response response = jersey.target(V1_FINDING)
+                .queryParam("pageSize", "1")
+                .request()
+                .header(HttpHeaders.ACCEPT, MEDIA_TYPE_SARIF_JSON)
+                .header(X_API_KEY, apiKey)
+                .get(Response.class);
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeaderString(HttpHeaders.CONTENT_TYPE)).isEqualTo(MEDIA_TYPE_SARIF_JSON);
+        final JSONObject run = new JSONObject(getPlainTextBody(response)).getJSONArray("runs").getJSONObject(0);
+        assertThat(run.getJSONArray("results")).hasSize(2);
+        assertThat(run.getJSONObject("tool").getJSONObject("driver").getJSONArray("rules")).hasSize(1);
+        assertThat(run.getJSONArray("results").getJSONObject(0).getString("level")).isEqualTo("warning");
+    }
+
     @Test
     public void getAllFindingsSortedBySeverity() {
         Project p1 = qm.createProject("Acme Example 1", null, "1.0", null, null, null, null, false);
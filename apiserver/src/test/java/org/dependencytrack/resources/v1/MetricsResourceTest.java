@@ -391,4 +391,38 @@ public class MetricsResourceTest extends ResourceTest {
         assertThat(json.size()).isEqualTo(1);
         assertThat(json.getJsonObject(0).getInt("vulnerabilities")).isEqualTo(2);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void getPortfolioCurrentMetricsConditionalTest() {
+        initializeWithPermissions(Permissions.VIEW_PORTFOLIO);
+
+        useJdbiHandle(handle -> {
+            var dao = handle.attach(MetricsTestDao.class);
+            dao.createPartitionForDaysAgo("PORTFOLIOMETRICS", 0);
+            var metrics = new PortfolioMetrics();
+            metrics.setVulnerabilities(3);
+            metrics.setFirstOccurrence(Date.from(Instant.now()));
+            metrics.setLastOccurrence(Date.from(Instant.now()));
+            dao.createPortfolioMetrics(metrics);
+        });
+
+        Response response = jersey.target(V1_METRICS + "/portfolio/current")
+                .request()
+                .header(X_API_KEY, apiKey)
+                .get();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeaderString("Cache-Control")).isEqualTo("private, no-cache");
+        assertThat(response.getLastModified()).isNotNull();
+        final String entityTag = response.getHeaderString("ETag");
+        assertThat(entityTag).startsWith("\"portfolio-");
+
+        response = jersey.target(V1_METRICS + "/portfolio/current")
+                .request()
+                .header(X_API_KEY, apiKey)
+                .header("If-None-Match", entityTag)
+                .get();
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getHeaderString("ETag")).isEqualTo(entityTag);
+        assertThat(response.hasEntity()).isFalse();
+    }
+}
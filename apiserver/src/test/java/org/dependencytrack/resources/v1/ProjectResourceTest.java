@@ -362,6 +362,57 @@ public class ProjectResourceTest extends ResourceTest {
                         """);
     }
 
+    @Test
+    public void getProjectsConciseWithCursorPaginationTest() {
+        for (int i = 0; i < 3; i++) {
+            final var project = new Project();
+            project.setName("acme-app-" + i);
+            qm.persist(project);
+        }
+
+        Response response = jersey.target(V1_PROJECT + "/concise")
+                .queryParam("cursor", "")
+                .queryParam("limit", 2)
+                .request()
+                .header(X_API_KEY, apiKey)
+                .get();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeaderString(TOTAL_COUNT_HEADER)).isEqualTo("3");
+        assertThat(response.getHeaderString("X-Next-Cursor")).isNotBlank();
+        assertThatJson(getPlainTextBody(response)).inPath("$[*].name")
+                .isEqualTo(/* language=JSON */ """
+                        ["acme-app-0", "acme-app-1"]
+                        """);
+
+        response = jersey.target(V1_PROJECT + "/concise")
+                .queryParam("cursor", response.getHeaderString("X-Next-Cursor"))
+                .queryParam("limit", 2)
+                .request()
+                .header(X_API_KEY, apiKey)
+                .get();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeaderString(TOTAL_COUNT_HEADER)).isNull();
+        assertThat(response.getHeaderString("X-Next-Cursor")).isNull();
+        assertThatJson(getPlainTextBody(response)).inPath("$[*].name")
+                .isEqualTo(/* language=JSON */ """
+                        ["acme-app-2"]
+                        """);
+
+        response = jersey.target(V1_PROJECT + "/concise")
+                .queryParam("cursor", "foo")
+                .request()
+                .header(X_API_KEY, apiKey)
+                .get();
+        assertThat(response.getStatus()).isEqualTo(400);
+        assertThatJson(getPlainTextBody(response)).isEqualTo(/* language=JSON */ """
+                {
+                  "status": 400,
+                  "title": "Invalid pagination cursor",
+                  "detail": "The provided cursor is not valid"
+                }
+                """);
+    }
+
     @Test
     public void getProjectsConciseWithAclTest() {
         enablePortfolioAccessControl();
@@ -2271,6 +2322,129 @@ public class ProjectResourceTest extends ResourceTest {
         Assert.assertThrows(IndexOutOfBoundsException.class, () -> json.getJsonObject(1));
     }
 
+    @Test
+    public void getProjectsWithTagsParentAndMetricsTest() {
+        final Project parent = qm.createProject("acme-app", null, "1.0", null, null, null, null, false);
+        final Project child = qm.createProject("acme-lib", null, "2.0", null, parent, null, null, false);
+        qm.bind(parent, List.of(qm.createTag("foo"), qm.createTag("bar")));
+
+        useJdbiHandle(handle -> {
+            final var metrics = new ProjectMetrics();
+            metrics.setProjectId(parent.getId());
+            metrics.setCritical(3);
+            metrics.setVulnerabilities(3);
+            metrics.setFirstOccurrence(new Date());
+            metrics.setLastOccurrence(new Date());
+            handle.attach(MetricsTestDao.class).createProjectMetrics(metrics);
+        });
+
+        Response response = jersey.target(V1_PROJECT)
+                .request()
+                .header(X_API_KEY, apiKey)
+                .get(Response.class);
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeaderString(TOTAL_COUNT_HEADER)).isEqualTo("2");
+        final String responseJson = getPlainTextBody(response);
+        assertThatJson(responseJson).inPath("$[*].name").isArray().containsExactly("acme-app", "acme-lib");
+        assertThatJson(responseJson).inPath("$[0].tags").isEqualTo(/* language=JSON */ """
+                [
+                  { "name": "bar" },
+                  { "name": "foo" }
+                ]
+                """);
+        assertThatJson(responseJson).inPath("$[0].metrics.critical").isEqualTo(3);
+        assertThatJson(responseJson).inPath("$[0].parent").isAbsent();
+        assertThatJson(responseJson).inPath("$[1].parent").isEqualTo(/* language=JSON */ """
+                {
+                  "uuid": "%s",
+                  "name": "acme-app",
+                  "version": "1.0"
+                }
+                """.formatted(parent.getUuid()));
+        assertThatJson(responseJson).inPath("$[1].tags").isArray().isEmpty();
+        assertThatJson(responseJson).inPath("$[1].metrics").isAbsent();
+
+        response = jersey.target(V1_PROJECT)
+                .queryParam("onlyRoot", true)
+                .request()
+                .header(X_API_KEY, apiKey)
+                .get(Response.class);
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeaderString(TOTAL_COUNT_HEADER)).isEqualTo("1");
+        assertThatJson(getPlainTextBody(response)).inPath("$[0].children[*].name")
+                .isArray().containsExactly("acme-lib");
+        assertThatJson(getPlainTextBody(response)).inPath("$[0].children[0].uuid")
+                .isEqualTo(child.getUuid().toString());
+    }
+
+    @Test
+    public void getProjectsWithMetadataTest() {
+        final var project = new Project();
+        project.setName("acme-app");
+        project.setVersion("1.0.0");
+        qm.persist(project);
+
+        final var supplier = new OrganizationalEntity();
+        supplier.setName("supplierName");
+        final var author = new OrganizationalContact();
+        author.setName("authorName");
+        author.setEmail("author@example.com");
+        final var projectMetadata = new ProjectMetadata();
+        projectMetadata.setProject(project);
+        projectMetadata.setSupplier(supplier);
+        projectMetadata.setAuthors(List.of(author));
+        qm.persist(projectMetadata);
+
+        // Response shape must match that of the former JDO query with the ALL fetch group.
+        final Response response = jersey.target(V1_PROJECT)
+                .queryParam("onlyRoot", true)
+                .request()
+                .header(X_API_KEY, apiKey)
+                .get(Response.class);
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeaderString(TOTAL_COUNT_HEADER)).isEqualTo("1");
+        assertThatJson(getPlainTextBody(response))
+                .withMatcher("projectUuid", equalTo(project.getUuid().toString()))
+                .isEqualTo(/* language=JSON */ """
+                        [
+                          {
+                            "name": "acme-app",
+                            "version": "1.0.0",
+                            "uuid": "${json-unit.matches:projectUuid}",
+                            "metadata": {
+                              "supplier": {
+                                "name": "supplierName"
+                              },
+                              "authors": [
+                                {
+                                  "name": "authorName",
+                                  "email": "author@example.com"
+                                }
+                              ]
+                            },
+                            "tags": [],
+                            "isLatest": false,
+                            "active": true
+                          }
+                        ]
+                        """);
+    }
+
+    @Test
+    public void getProjectsByNameIgnoresSearchTextTest() {
+        qm.createProject("acme-app", null, "1.0", null, null, null, null, false);
+
+        final Response response = jersey.target(V1_PROJECT)
+                .queryParam("name", "acme-app")
+                .queryParam("searchText", "foo")
+                .request()
+                .header(X_API_KEY, apiKey)
+                .get(Response.class);
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeaderString(TOTAL_COUNT_HEADER)).isEqualTo("1");
+        assertThatJson(getPlainTextBody(response)).inPath("$[*].name").isArray().containsExactly("acme-app");
+    }
+
     @Test
     public void getChildrenProjectsTest() {
         Project parent = qm.createProject("ABC", null, "1.0", null, null, null, null, false);
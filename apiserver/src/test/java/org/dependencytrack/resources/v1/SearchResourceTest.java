@@ -0,0 +1,192 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.resources.v1;
+
+import alpine.server.filters.ApiFilter;
+import alpine.server.filters.AuthenticationFilter;
+import alpine.server.filters.AuthorizationFilter;
+import org.dependencytrack.JerseyTestRule;
+import org.dependencytrack.ResourceTest;
+import org.dependencytrack.auth.Permissions;
+import org.dependencytrack.model.Component;
+import org.dependencytrack.model.Project;
+import org.dependencytrack.model.Vulnerability;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import jakarta.ws.rs.core.Response;
+
+import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SearchResourceTest extends ResourceTest {
+
+    @ClassRule
+    public static JerseyTestRule jersey = new JerseyTestRule(
+            new ResourceConfig(SearchResource.class)
+                    .register(ApiFilter.class)
+                    .register(AuthenticationFilter.class)
+                    .register(AuthorizationFilter.class));
+
+    @Test
+    public void searchTest() {
+        initializeWithPermissions(Permissions.VIEW_PORTFOLIO);
+
+        final var projectA = new Project();
+        projectA.setName("acme-app");
+        projectA.setVersion("1.0");
+        qm.persist(projectA);
+
+        final var projectB = new Project();
+        projectB.setName("acme-application-suite");
+        qm.persist(projectB);
+
+        final var projectC = new Project();
+        projectC.setName("other-app");
+        qm.persist(projectC);
+
+        final var component = new Component();
+        component.setProject(projectC);
+        component.setGroup("com.acme");
+        component.setName("acme-lib");
+        component.setVersion("2.0");
+        qm.persist(component);
+
+        final var vuln = new Vulnerability();
+        vuln.setVulnId("ACME-123");
+        vuln.setSource(Vulnerability.Source.INTERNAL);
+        qm.persist(vuln);
+
+        final Response response = jersey.target(V1_SEARCH)
+                .queryParam("query", "ACME-APP")
+                .request()
+                .header(X_API_KEY, apiKey)
+                .get();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThatJson(getPlainTextBody(response)).isEqualTo(/* language=JSON */ """
+                {
+                  "projects": [
+                    {
+                      "uuid": "%s",
+                      "name": "acme-app",
+                      "version": "1.0",
+                      "score": "${json-unit.any-number}"
+                    },
+                    {
+                      "uuid": "%s",
+                      "name": "acme-application-suite",
+                      "score": "${json-unit.any-number}"
+                    }
+                  ],
+                  "components": [],
+                  "vulnerabilities": []
+                }
+                """.formatted(projectA.getUuid(), projectB.getUuid()));
+
+        final Response componentResponse = jersey.target(V1_SEARCH)
+                .queryParam("query", "acme")
+                .request()
+                .header(X_API_KEY, apiKey)
+                .get();
+        assertThat(componentResponse.getStatus()).isEqualTo(200);
+        assertThatJson(getPlainTextBody(componentResponse))
+                .inPath("$.components")
+                .isEqualTo(/* language=JSON */ """
+                        [
+                          {
+                            "uuid": "%s",
+                            "group": "com.acme",
+                            "name": "acme-lib",
+                            "version": "2.0",
+                            "projectUuid": "%s",
+                            "projectName": "other-app",
+                            "score": "${json-unit.any-number}"
+                          }
+                        ]
+                        """.formatted(component.getUuid(), projectC.getUuid()));
+        assertThatJson(getPlainTextBody(componentResponse))
+                .inPath("$.vulnerabilities[*].vulnId")
+                .isEqualTo(/* language=JSON */ """
+                        ["ACME-123"]
+                        """);
+    }
+
+    @Test
+    public void searchShouldTreatWildcardsLiterallyTest() {
+        initializeWithPermissions(Permissions.VIEW_PORTFOLIO);
+
+        final var project = new Project();
+        project.setName("acme-app");
+        qm.persist(project);
+
+        final Response response = jersey.target(V1_SEARCH)
+                .queryParam("query", "acme_app")
+                .request()
+                .header(X_API_KEY, apiKey)
+                .get();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThatJson(getPlainTextBody(response)).inPath("$.projects").isArray().isEmpty();
+    }
+
+    @Test
+    public void searchAclTest() {
+        initializeWithPermissions(Permissions.VIEW_PORTFOLIO);
+        enablePortfolioAccessControl();
+
+        final var accessibleProject = new Project();
+        accessibleProject.setName("acme-app-accessible");
+        accessibleProject.addAccessTeam(team);
+        qm.persist(accessibleProject);
+
+        final var inaccessibleProject = new Project();
+        inaccessibleProject.setName("acme-app-inaccessible");
+        qm.persist(inaccessibleProject);
+
+        final var component = new Component();
+        component.setProject(inaccessibleProject);
+        component.setName("acme-lib");
+        qm.persist(component);
+
+        final Response response = jersey.target(V1_SEARCH)
+                .queryParam("query", "acme")
+                .request()
+                .header(X_API_KEY, apiKey)
+                .get();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThatJson(getPlainTextBody(response))
+                .inPath("$.projects[*].name")
+                .isEqualTo(/* language=JSON */ """
+                        ["acme-app-accessible"]
+                        """);
+        assertThatJson(getPlainTextBody(response)).inPath("$.components").isArray().isEmpty();
+    }
+
+    @Test
+    public void searchWithoutQueryTest() {
+        initializeWithPermissions(Permissions.VIEW_PORTFOLIO);
+
+        final Response response = jersey.target(V1_SEARCH)
+                .request()
+                .header(X_API_KEY, apiKey)
+                .get();
+        assertThat(response.getStatus()).isEqualTo(400);
+    }
+
+}
@@ -635,6 +635,39 @@ public class VulnerabilityResourceTest extends ResourceTest {
         Assert.assertNull(json.getJsonObject(4).getJsonObject("components"));
     }
 
+    @Test
+    public void getAllVulnerabilitiesWithCursorPaginationTest() {
+        new SampleData();
+
+        Response response = jersey.target(V1_VULNERABILITY)
+                .queryParam("cursor", "")
+                .queryParam("limit", 3)
+                .request()
+                .header(X_API_KEY, apiKey)
+                .get();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeaderString(TOTAL_COUNT_HEADER)).isEqualTo("5");
+        assertThat(response.getHeaderString("X-Next-Cursor")).isNotBlank();
+        assertThatJson(getPlainTextBody(response)).inPath("$[*].vulnId")
+                .isEqualTo(/* language=JSON */ """
+                        ["INT-1", "INT-2", "INT-3"]
+                        """);
+
+        response = jersey.target(V1_VULNERABILITY)
+                .queryParam("cursor", response.getHeaderString("X-Next-Cursor"))
+                .queryParam("limit", 3)
+                .request()
+                .header(X_API_KEY, apiKey)
+                .get();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeaderString(TOTAL_COUNT_HEADER)).isNull();
+        assertThat(response.getHeaderString("X-Next-Cursor")).isNull();
+        assertThatJson(getPlainTextBody(response)).inPath("$[*].vulnId")
+                .isEqualTo(/* language=JSON */ """
+                        ["INT-4", "INT-5"]
+                        """);
+    }
+
     @Test
     public void getAllVulnerabilitiesWithAclEnabledTest() {
         qm.createConfigProperty(
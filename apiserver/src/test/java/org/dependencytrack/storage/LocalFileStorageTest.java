@@ -18,23 +18,34 @@
  */
 package org.dependencytrack.storage;
 
+import com.github.luben.zstd.Zstd;
 import org.apache.commons.codec.digest.DigestUtils;
 import org.dependencytrack.plugin.MockConfigRegistry;
 import org.dependencytrack.proto.storage.v1alpha1.FileMetadata;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.HexFormat;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.dependencytrack.storage.LocalFileStorageFactory.CONFIG_COMPRESSION_THRESHOLD_BYTES;
 import static org.dependencytrack.storage.LocalFileStorageFactory.CONFIG_DIRECTORY;
+import static org.dependencytrack.storage.LocalFileStorageFactory.CONFIG_READ_MODE;
 
 public class LocalFileStorageTest {
 
@@ -114,6 +125,141 @@ public class LocalFileStorageTest {
         assertThat(retrievedFileContent).isEqualTo(fileContent);
     }
 
+    @Test
+    @SuppressWarnings("resource")
+    public void shouldStoreAndGetFileAsStream() throws Exception {
+        final var storageFactory = new LocalFileStorageFactory();
+        storageFactory.init(new MockConfigRegistry(Map.ofEntries(
+                Map.entry(CONFIG_DIRECTORY.name(), tempDirPath.toAbsolutePath().toString()),
+                Map.entry(CONFIG_COMPRESSION_THRESHOLD_BYTES.name(), "64"))));
+
+        final var storage = (LocalFileStorage) storageFactory.create();
+
+        final byte[] fileContent = "foo-bar-baz-".repeat(100_000).getBytes();
+
+        final FileMetadata fileMetadata = storage.store("foo", "application/json", new ByteArrayInputStream(fileContent));
+        assertThat(fileMetadata.getMediaType()).isEqualTo("application/json");
+        assertThat(fileMetadata.getSha256Digest()).isEqualTo(
+                DigestUtils.sha256Hex(Files.readAllBytes(storage.resolveFilePath(fileMetadata))));
+
+        // No temporary files must be left behind.
+        try (final Stream<Path> files = Files.list(tempDirPath)) {
+            assertThat(files).containsOnly(tempDirPath.resolve("foo"));
+        }
+
+        try (final InputStream inputStream = storage.getInputStream(fileMetadata)) {
+            assertThat(inputStream.readAllBytes()).isEqualTo(fileContent);
+        }
+
+        final var outputStream = new ByteArrayOutputStream();
+        storage.get(fileMetadata, outputStream);
+        assertThat(outputStream.toByteArray()).isEqualTo(fileContent);
+    }
+
+    @Test
+    @SuppressWarnings("resource")
+    public void getShouldDecompressFileCompressedInSingleFrame() throws Exception {
+        final var storageFactory = new LocalFileStorageFactory();
+        storageFactory.init(new MockConfigRegistry(Map.of(
+                CONFIG_DIRECTORY.name(), tempDirPath.toAbsolutePath().toString())));
+
+        final var storage = (LocalFileStorage) storageFactory.create();
+
+        // Files stored by earlier versions were compressed in one shot,
+        // and must remain readable.
+        final byte[] fileContent = "a".repeat(256).getBytes();
+        final byte[] compressedFileContent = Zstd.compress(fileContent, 5);
+        Files.write(tempDirPath.resolve("foo"), compressedFileContent);
+
+        final byte[] retrievedFileContent = storage.get(
+                FileMetadata.newBuilder()
+                        .setLocation("local:///foo")
+                        .setSha256Digest(DigestUtils.sha256Hex(compressedFileContent))
+                        .build());
+        assertThat(retrievedFileContent).isEqualTo(fileContent);
+    }
+
+    @Test
+    @SuppressWarnings("resource")
+    public void getInputStreamShouldThrowAtEndOfStreamWhenDigestMismatches() throws Exception {
+        final var storageFactory = new LocalFileStorageFactory();
+        storageFactory.init(new MockConfigRegistry(Map.ofEntries(
+                Map.entry(CONFIG_DIRECTORY.name(), tempDirPath.toAbsolutePath().toString()),
+                Map.entry(CONFIG_COMPRESSION_THRESHOLD_BYTES.name(), "64"))));
+
+        final FileStorage storage = storageFactory.create();
+
+        final FileMetadata fileMetadata = storage.store("foo", "a".repeat(256).getBytes());
+        final FileMetadata modifiedFileMetadata = fileMetadata.toBuilder()
+                .setSha256Digest(HexFormat.of().formatHex("mismatch".getBytes()))
+                .build();
+
+        try (final InputStream inputStream = storage.getInputStream(modifiedFileMetadata)) {
+            assertThat(inputStream.readNBytes(256)).hasSize(256);
+            assertThatExceptionOfType(IOException.class)
+                    .isThrownBy(inputStream::read)
+                    .withMessageStartingWith("SHA256 digest mismatch");
+        }
+    }
+
+    @Test
+    @SuppressWarnings("resource")
+    public void getByteBufferShouldMapAndDecompressFileWhenReadModeIsMmap() throws Exception {
+        final var storageFactory = new LocalFileStorageFactory();
+        storageFactory.init(new MockConfigRegistry(Map.ofEntries(
+                Map.entry(CONFIG_DIRECTORY.name(), tempDirPath.toAbsolutePath().toString()),
+                Map.entry(CONFIG_COMPRESSION_THRESHOLD_BYTES.name(), "64"),
+                Map.entry(CONFIG_READ_MODE.name(), "mmap"))));
+
+        final var storage = (LocalFileStorage) storageFactory.create();
+
+        final byte[] compressedFileContent = "a".repeat(256 * 1024).getBytes();
+        final byte[] uncompressedFileContent = "b".repeat(32).getBytes();
+
+        final FileMetadata compressedFileMetadata = storage.store("foo", compressedFileContent);
+        final FileMetadata uncompressedFileMetadata = storage.store("bar", uncompressedFileContent);
+
+        // The content length is known, so it must be recorded in the frame header.
+        assertThat(Zstd.getFrameContentSize(Files.readAllBytes(storage.resolveFilePath(compressedFileMetadata))))
+                .isEqualTo(compressedFileContent.length);
+
+        final ByteBuffer compressedBuffer = storage.getByteBuffer(compressedFileMetadata);
+        assertThat(compressedBuffer.isDirect()).isTrue();
+        assertThat(compressedBuffer.isReadOnly()).isTrue();
+        assertThat(compressedBuffer.capacity()).isEqualTo(compressedFileContent.length);
+        assertThat(compressedBuffer).isEqualTo(ByteBuffer.wrap(compressedFileContent));
+
+        // Without a known content length, the decompression buffer must grow.
+        final FileMetadata streamedFileMetadata = storage.store(
+                "baz", "application/octet-stream", new ByteArrayInputStream(compressedFileContent));
+        final ByteBuffer streamedBuffer = storage.getByteBuffer(streamedFileMetadata);
+        assertThat(streamedBuffer).isEqualTo(ByteBuffer.wrap(compressedFileContent));
+
+        final ByteBuffer uncompressedBuffer = storage.getByteBuffer(uncompressedFileMetadata);
+        assertThat(uncompressedBuffer.isDirect()).isTrue();
+        assertThat(uncompressedBuffer).isEqualTo(ByteBuffer.wrap(uncompressedFileContent));
+    }
+
+    @Test
+    @SuppressWarnings("resource")
+    public void getByteBufferShouldThrowWhenDigestMismatchesAndReadModeIsMmap() throws Exception {
+        final var storageFactory = new LocalFileStorageFactory();
+        storageFactory.init(new MockConfigRegistry(Map.ofEntries(
+                Map.entry(CONFIG_DIRECTORY.name(), tempDirPath.toAbsolutePath().toString()),
+                Map.entry(CONFIG_READ_MODE.name(), "mmap"))));
+
+        final FileStorage storage = storageFactory.create();
+
+        final FileMetadata fileMetadata = storage.store("foo", "a".repeat(256).getBytes());
+        final FileMetadata modifiedFileMetadata = fileMetadata.toBuilder()
+                .setSha256Digest(HexFormat.of().formatHex("mismatch".getBytes()))
+                .build();
+
+        assertThatExceptionOfType(IOException.class)
+                .isThrownBy(() -> storage.getByteBuffer(modifiedFileMetadata))
+                .withMessageStartingWith("SHA256 digest mismatch");
+    }
+
     @Test
     @SuppressWarnings("resource")
     public void storeShouldOverwriteExistingFile() throws Exception {
@@ -245,6 +391,35 @@ public class LocalFileStorageTest {
                         expected=6d69736d61746368""");
     }
 
+    @Test
+    @SuppressWarnings("resource")
+    public void shouldListAndDeleteManyFiles() throws Exception {
+        final var storageFactory = new LocalFileStorageFactory();
+        storageFactory.init(new MockConfigRegistry(Map.of(
+                CONFIG_DIRECTORY.name(), tempDirPath.toAbsolutePath().toString())));
+
+        final FileStorage storage = storageFactory.create();
+
+        storage.store("foo/old", "a".getBytes());
+        storage.store("foo/new", "b".getBytes());
+        storage.store("bar/old", "c".getBytes());
+
+        final var modifiedTime = FileTime.from(Instant.now().minus(Duration.ofHours(1)));
+        Files.setLastModifiedTime(tempDirPath.resolve("foo/old"), modifiedTime);
+        Files.setLastModifiedTime(tempDirPath.resolve("bar/old"), modifiedTime);
+
+        final List<FileMetadata> fileMetadatas = storage.list("foo/", Instant.now().minus(Duration.ofMinutes(1)));
+        assertThat(fileMetadatas).extracting(FileMetadata::getLocation).containsOnly("local:///foo/old");
+
+        storage.deleteMany(List.of(
+                fileMetadatas.getFirst(),
+                FileMetadata.newBuilder().setLocation("local:///foo/doesNotExist").build()));
+
+        assertThat(tempDirPath.resolve("foo/old")).doesNotExist();
+        assertThat(tempDirPath.resolve("foo/new")).exists();
+        assertThat(tempDirPath.resolve("bar/old")).exists();
+    }
+
     @Test
     @SuppressWarnings("resource")
     public void deleteShouldReturnFalseWhenFileDoesNotExist() throws Exception {
@@ -24,6 +24,7 @@ import jakarta.json.Json;
 import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonReader;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.cyclonedx.proto.v1_6.Classification;
 import org.cyclonedx.proto.v1_6.Dependency;
@@ -56,6 +57,7 @@ import org.dependencytrack.proto.notification.v1.BomProcessingFailedSubject;
 import org.dependencytrack.proto.notification.v1.Group;
 import org.dependencytrack.proto.notification.v1.Notification;
 import org.dependencytrack.proto.storage.v1alpha1.FileMetadata;
+import org.dependencytrack.storage.BomUploadFiles;
 import org.dependencytrack.storage.FileStorage;
 import org.junit.Before;
 import org.junit.Rule;
@@ -63,9 +65,11 @@ import org.junit.Test;
 import org.junit.contrib.java.lang.system.EnvironmentVariables;
 
 import javax.jdo.JDOObjectNotFoundException;
+import java.io.ByteArrayInputStream;
 import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Instant;
@@ -1982,6 +1986,114 @@ public class BomUploadProcessingTaskTest extends PersistenceCapableTest {
         });
     }
 
+    @Test
+    public void informWithUnchangedBomAndDeduplicationEnabledTest() throws Exception {
+        qm.createConfigProperty(
+                ConfigPropertyConstants.BOM_DEDUPLICATION_ENABLED.getGroupName(),
+                ConfigPropertyConstants.BOM_DEDUPLICATION_ENABLED.getPropertyName(),
+                "true",
+                ConfigPropertyConstants.BOM_DEDUPLICATION_ENABLED.getPropertyType(),
+                ConfigPropertyConstants.BOM_DEDUPLICATION_ENABLED.getDescription());
+
+        final var project = new Project();
+        project.setName("acme-app");
+        qm.persist(project);
+
+        final byte[] bomBytes = """
+                {
+                  "bomFormat": "CycloneDX",
+                  "specVersion": "1.6",
+                  "version": 1,
+                  "components": [
+                    {
+                      "type": "library",
+                      "name": "acme-lib-x"
+                    }
+                  ]
+                }
+                """.getBytes(StandardCharsets.UTF_8);
+        final String bomDigest = DigestUtils.sha256Hex(bomBytes);
+
+        final var firstToken = UUID.randomUUID();
+        final var secondToken = UUID.randomUUID();
+        final FileMetadata firstFileMetadata;
+        final FileMetadata secondFileMetadata;
+        try (final var fileStorage = PluginManager.getInstance().getExtension(FileStorage.class)) {
+            firstFileMetadata = BomUploadFiles.acquire(fileStorage, bomDigest, firstToken, bomBytes.length, () -> new ByteArrayInputStream(bomBytes));
+            secondFileMetadata = BomUploadFiles.acquire(fileStorage, bomDigest, secondToken, bomBytes.length, () -> new ByteArrayInputStream(bomBytes));
+        }
+        assertThat(secondFileMetadata).isEqualTo(firstFileMetadata);
+
+        var bomUploadEvent = new BomUploadEvent(qm.detach(Project.class, project.getId()), firstFileMetadata, bomDigest);
+        bomUploadEvent.setChainIdentifier(firstToken);
+        qm.createWorkflowSteps(bomUploadEvent.getChainIdentifier());
+        new BomUploadProcessingTask().inform(bomUploadEvent);
+        assertBomProcessedNotification();
+
+        // The file must be retained, as it is still referenced by the second upload.
+        // Releasing the first upload's reference again, e.g. because its event
+        // was delivered again, must not change that.
+        try (final var fileStorage = PluginManager.getInstance().getExtension(FileStorage.class)) {
+            BomUploadFiles.release(fileStorage, bomDigest, firstToken);
+            assertThat(fileStorage.get(secondFileMetadata)).isEqualTo(bomBytes);
+        }
+
+        kafkaMockProducer.clear();
+
+        bomUploadEvent = new BomUploadEvent(qm.detach(Project.class, project.getId()), secondFileMetadata, bomDigest);
+        bomUploadEvent.setChainIdentifier(secondToken);
+        qm.createWorkflowSteps(bomUploadEvent.getChainIdentifier());
+        new BomUploadProcessingTask().inform(bomUploadEvent);
+        assertBomProcessedNotification();
+
+        // Processing is skipped, but the project's components must still be analyzed,
+        // as vulnerability data or policies may have changed since the last import.
+        assertThat(kafkaMockProducer.history()).anySatisfy(
+                record -> assertThat(record.topic()).isEqualTo(KafkaTopics.VULN_ANALYSIS_COMMAND.name()));
+
+        qm.getPersistenceManager().refreshAll(qm.getAllWorkflowStatesForAToken(bomUploadEvent.getChainIdentifier()));
+        assertThat(qm.getAllWorkflowStatesForAToken(bomUploadEvent.getChainIdentifier())).satisfiesExactlyInAnyOrder(
+                state -> {
+                    assertThat(state.getStep()).isEqualTo(BOM_CONSUMPTION);
+                    assertThat(state.getStatus()).isEqualTo(COMPLETED);
+                },
+                state -> {
+                    assertThat(state.getStep()).isEqualTo(BOM_PROCESSING);
+                    assertThat(state.getStatus()).isEqualTo(COMPLETED);
+                },
+                state -> {
+                    assertThat(state.getStep()).isEqualTo(VULN_ANALYSIS);
+                    assertThat(state.getStatus()).isEqualTo(PENDING);
+                    assertThat(state.getStartedAt()).isNotNull();
+                },
+                state -> {
+                    assertThat(state.getStep()).isEqualTo(POLICY_EVALUATION);
+                    assertThat(state.getStatus()).isEqualTo(PENDING);
+                },
+                state -> {
+                    assertThat(state.getStep()).isEqualTo(METRICS_UPDATE);
+                    assertThat(state.getStatus()).isEqualTo(PENDING);
+                }
+        );
+
+        // Delivering the second event again must not record another import.
+        kafkaMockProducer.clear();
+        new BomUploadProcessingTask().inform(bomUploadEvent);
+        assertBomProcessedNotification();
+
+        qm.getPersistenceManager().evictAll();
+        assertThat(qm.getAllBoms(project)).hasSize(2).allSatisfy(
+                bom -> assertThat(bom.getSha256()).isEqualTo(bomDigest));
+        assertThat(qm.getAllBoms(project)).anySatisfy(
+                bom -> assertThat(bom.getUuid()).isEqualTo(secondToken));
+
+        // The last reference has been released, so the file must be gone.
+        try (final var fileStorage = PluginManager.getInstance().getExtension(FileStorage.class)) {
+            assertThatExceptionOfType(NoSuchFileException.class)
+                    .isThrownBy(() -> fileStorage.get(secondFileMetadata));
+        }
+    }
+
     private void assertBomProcessedNotification() throws Exception {
         try {
             assertThat(kafkaMockProducer.history()).anySatisfy(record -> {
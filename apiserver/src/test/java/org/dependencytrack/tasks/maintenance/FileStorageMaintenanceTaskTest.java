@@ -0,0 +1,81 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.tasks.maintenance;
+
+import org.dependencytrack.PersistenceCapableTest;
+import org.dependencytrack.event.maintenance.FileStorageMaintenanceEvent;
+import org.dependencytrack.plugin.PluginManager;
+import org.dependencytrack.storage.FileStorage;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.contrib.java.lang.system.EnvironmentVariables;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.dependencytrack.model.ConfigPropertyConstants.MAINTENANCE_BOM_UPLOADS_RETENTION_HOURS;
+
+public class FileStorageMaintenanceTaskTest extends PersistenceCapableTest {
+
+    private final Path storageDirPath = Path.of(System.getProperty("java.io.tmpdir"), "dtrack-test-" + UUID.randomUUID());
+
+    @Rule
+    public final EnvironmentVariables environmentVariables = new EnvironmentVariables()
+            .set("FILE_STORAGE_DEFAULT_EXTENSION", "local")
+            .set("FILE_STORAGE_EXTENSION_LOCAL_DIRECTORY", storageDirPath.toString());
+
+    @Test
+    public void test() throws Exception {
+        qm.createConfigProperty(
+                MAINTENANCE_BOM_UPLOADS_RETENTION_HOURS.getGroupName(),
+                MAINTENANCE_BOM_UPLOADS_RETENTION_HOURS.getPropertyName(),
+                "24",
+                MAINTENANCE_BOM_UPLOADS_RETENTION_HOURS.getPropertyType(),
+                MAINTENANCE_BOM_UPLOADS_RETENTION_HOURS.getDescription());
+
+        try (final var fileStorage = PluginManager.getInstance().getExtension(FileStorage.class)) {
+            fileStorage.store("bom-upload/orphaned", "foo".getBytes());
+            fileStorage.store("bom-upload/recent", "bar".getBytes());
+            fileStorage.store("other/orphaned", "baz".getBytes());
+        }
+
+        // Simulate a crashed store that left a temporary file behind.
+        Files.writeString(storageDirPath.resolve("bom-upload/.123.tmp"), "qux");
+
+        final var modifiedTime = FileTime.from(Instant.now().minus(Duration.ofHours(48)));
+        Files.setLastModifiedTime(storageDirPath.resolve("bom-upload/orphaned"), modifiedTime);
+        Files.setLastModifiedTime(storageDirPath.resolve("bom-upload/.123.tmp"), modifiedTime);
+        Files.setLastModifiedTime(storageDirPath.resolve("other/orphaned"), modifiedTime);
+
+        final var task = new FileStorageMaintenanceTask();
+        assertThatNoException().isThrownBy(() -> task.inform(new FileStorageMaintenanceEvent()));
+
+        assertThat(storageDirPath.resolve("bom-upload/orphaned")).doesNotExist();
+        assertThat(storageDirPath.resolve("bom-upload/.123.tmp")).doesNotExist();
+        assertThat(storageDirPath.resolve("bom-upload/recent")).exists();
+        assertThat(storageDirPath.resolve("other/orphaned")).exists();
+    }
+
+}
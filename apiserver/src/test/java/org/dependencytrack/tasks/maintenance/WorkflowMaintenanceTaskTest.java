@@ -29,6 +29,7 @@ import javax.jdo.JDOObjectNotFoundException;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Date;
+import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -36,6 +37,8 @@ import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.dependencytrack.model.ConfigPropertyConstants.MAINTENANCE_WORKFLOW_RETENTION_HOURS;
 import static org.dependencytrack.model.ConfigPropertyConstants.MAINTENANCE_WORKFLOW_STEP_TIMEOUT_MINUTES;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiHandle;
+import static org.dependencytrack.persistence.jdbi.JdbiFactory.withJdbiHandle;
 
 public class WorkflowMaintenanceTaskTest extends PersistenceCapableTest {
 
@@ -227,4 +230,40 @@ public class WorkflowMaintenanceTaskTest extends PersistenceCapableTest {
         assertThatNoException().isThrownBy(() -> qm.getObjectById(WorkflowState.class, parentStateC.getId()));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testWithDeleteExpiredFailedEvents() {
+        qm.createConfigProperty(
+                MAINTENANCE_WORKFLOW_RETENTION_HOURS.getGroupName(),
+                MAINTENANCE_WORKFLOW_RETENTION_HOURS.getPropertyName(),
+                "6",
+                MAINTENANCE_WORKFLOW_RETENTION_HOURS.getPropertyType(),
+                MAINTENANCE_WORKFLOW_RETENTION_HOURS.getDescription()
+        );
+
+        qm.createConfigProperty(
+                MAINTENANCE_WORKFLOW_STEP_TIMEOUT_MINUTES.getGroupName(),
+                MAINTENANCE_WORKFLOW_STEP_TIMEOUT_MINUTES.getPropertyName(),
+                "39960", // 666 hours; Not relevant for this test.
+                MAINTENANCE_WORKFLOW_STEP_TIMEOUT_MINUTES.getPropertyType(),
+                MAINTENANCE_WORKFLOW_STEP_TIMEOUT_MINUTES.getDescription()
+        );
+
+        useJdbiHandle(handle -> handle.createUpdate("""
+                        INSERT INTO "EVENT_QUEUE" ("EVENT_TYPE", "PAYLOAD", "FAILED_AT")
+                        VALUES ('expired', '{}', NOW() - INTERVAL '7 hours')
+                             , ('recent', '{}', NOW() - INTERVAL '5 hours')
+                             , ('pending', '{}', NULL)
+                        """)
+                .execute());
+
+        final var task = new WorkflowMaintenanceTask();
+        assertThatNoException().isThrownBy(() -> task.inform(new WorkflowMaintenanceEvent()));
+
+        final List<String> remainingEventTypes = withJdbiHandle(handle -> handle
+                .createQuery("SELECT \"EVENT_TYPE\" FROM \"EVENT_QUEUE\"")
+                .mapTo(String.class)
+                .list());
+        assertThat(remainingEventTypes).containsExactlyInAnyOrder("recent", "pending");
+    }
+
+}
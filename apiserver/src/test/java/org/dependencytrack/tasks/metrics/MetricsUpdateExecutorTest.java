@@ -0,0 +1,134 @@
+/*
+ * This file is part of Dependency-Track.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) OWASP Foundation. All Rights Reserved.
+ */
+package org.dependencytrack.tasks.metrics;
+
+import org.dependencytrack.tasks.metrics.MetricsUpdateExecutor.Priority;
+import org.junit.After;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.awaitility.Awaitility.await;
+
+public class MetricsUpdateExecutorTest {
+
+    private MetricsUpdateExecutor executor;
+
+    @After
+    public void tearDown() {
+        if (executor != null) {
+            executor.shutdown(Duration.ofSeconds(5));
+        }
+    }
+
+    @Test
+    public void testExecutionOrderByPriority() throws Exception {
+        executor = new MetricsUpdateExecutor(1, 10);
+
+        // Occupy the only worker thread so that subsequent submissions are queued.
+        final var blockingLatch = new CountDownLatch(1);
+        executor.submit(Priority.PERIODIC, () -> awaitUninterruptibly(blockingLatch));
+        await("Worker thread occupied")
+                .atMost(Duration.ofSeconds(5))
+                .until(() -> executor.getQueueSize() == 0);
+
+        final List<String> executed = new CopyOnWriteArrayList<>();
+        executor.submit(Priority.PERIODIC, () -> executed.add("periodic-1"));
+        executor.submit(Priority.BOM_PROCESSED, () -> executed.add("bom-1"));
+        executor.submit(Priority.PERIODIC, () -> executed.add("periodic-2"));
+        executor.submit(Priority.USER_TRIGGERED, () -> executed.add("user-1"));
+        final CompletableFuture<Void> lastFuture =
+                executor.submit(Priority.BOM_PROCESSED, () -> executed.add("bom-2"));
+        assertThat(executor.getQueueSize()).isEqualTo(5);
+
+        blockingLatch.countDown();
+        lastFuture.get(5, TimeUnit.SECONDS);
+
+        await("All updates executed")
+                .atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(executed).containsExactly(
+                        "user-1", "bom-1", "bom-2", "periodic-1", "periodic-2"));
+    }
+
+    @Test
+    public void testBackPressureForPeriodicUpdates() throws Exception {
+        executor = new MetricsUpdateExecutor(1, 1);
+
+        final var blockingLatch = new CountDownLatch(1);
+        executor.submit(Priority.PERIODIC, () -> awaitUninterruptibly(blockingLatch));
+        await("Worker thread occupied")
+                .atMost(Duration.ofSeconds(5))
+                .until(() -> executor.getQueueSize() == 0);
+
+        // Queue capacity is exhausted by this submission.
+        executor.submit(Priority.PERIODIC, () -> {
+        });
+
+        // Updates of higher priority are not subject to the queue capacity.
+        final CompletableFuture<Void> userFuture = executor.submit(Priority.USER_TRIGGERED, () -> {
+        });
+
+        final var submitterThread = new Thread(() -> {
+            try {
+                executor.submit(Priority.PERIODIC, () -> {
+                });
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        submitterThread.start();
+
+        await("Submitter blocked")
+                .atMost(Duration.ofSeconds(5))
+                .until(() -> submitterThread.getState() == Thread.State.WAITING);
+        assertThat(executor.getQueueSize()).isEqualTo(2);
+
+        blockingLatch.countDown();
+        submitterThread.join(5000);
+        assertThat(submitterThread.isAlive()).isFalse();
+        assertThat(userFuture).succeedsWithin(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void testExecutePropagatesException() {
+        executor = new MetricsUpdateExecutor(1, 1);
+
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> executor.execute(Priority.USER_TRIGGERED, () -> {
+                    throw new IllegalStateException("boom");
+                }))
+                .withMessage("boom");
+    }
+
+    private static void awaitUninterruptibly(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -30,16 +30,19 @@ import org.dependencytrack.model.ProjectMetrics;
 import org.dependencytrack.model.Severity;
 import org.dependencytrack.model.ViolationAnalysisState;
 import org.dependencytrack.model.Vulnerability;
+import org.dependencytrack.model.WorkflowState;
 import org.dependencytrack.persistence.jdbi.AnalysisDao;
 import org.dependencytrack.persistence.jdbi.MetricsDao;
 import org.dependencytrack.persistence.jdbi.MetricsTestDao;
 import org.junit.Test;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Date;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 import static org.dependencytrack.model.WorkflowStatus.COMPLETED;
 import static org.dependencytrack.model.WorkflowStep.METRICS_UPDATE;
 import static org.dependencytrack.persistence.jdbi.JdbiFactory.useJdbiHandle;
@@ -56,7 +59,7 @@ public class ProjectMetricsUpdateTaskTest extends AbstractMetricsUpdateTaskTest
         // Create risk score configproperties
         createTestConfigProperties();
 
-        new ProjectMetricsUpdateTask().inform(new ProjectMetricsUpdateEvent(project.getUuid()));
+        new ProjectMetricsUpdateTask().submit(new ProjectMetricsUpdateEvent(project.getUuid())).join();
 
         final ProjectMetrics metrics = withJdbiHandle(handle -> handle.attach(MetricsDao.class).getMostRecentProjectMetrics(project.getId()));
         assertThat(metrics.getComponents()).isZero();
@@ -92,6 +95,31 @@ public class ProjectMetricsUpdateTaskTest extends AbstractMetricsUpdateTaskTest
         assertThat(project.getLastInheritedRiskScore()).isZero();
     }
 
+    @Test
+    public void testInformCompletesWorkflowStepAsynchronously() {
+        final var project = new Project();
+        project.setName("acme-app");
+        qm.createProject(project, List.of(), false);
+
+        createTestConfigProperties();
+
+        final var event = new ProjectMetricsUpdateEvent(project.getUuid());
+        qm.createWorkflowSteps(event.getChainIdentifier());
+        new ProjectMetricsUpdateTask().inform(event);
+
+        await("Metrics update workflow step completed")
+                .atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> {
+                    final WorkflowState state = qm.getWorkflowStateByTokenAndStep(event.getChainIdentifier(), METRICS_UPDATE);
+                    qm.getPersistenceManager().refresh(state);
+                    assertThat(state.getStartedAt()).isNotNull();
+                    assertThat(state.getStatus()).isEqualTo(COMPLETED);
+                });
+
+        final ProjectMetrics metrics = withJdbiHandle(handle -> handle.attach(MetricsDao.class).getMostRecentProjectMetrics(project.getId()));
+        assertThat(metrics).isNotNull();
+    }
+
     @Test
     public void testUpdateMetricsUnchanged() {
         final var project = new Project();
@@ -102,13 +130,13 @@ public class ProjectMetricsUpdateTaskTest extends AbstractMetricsUpdateTaskTest
         createTestConfigProperties();
 
         // Record initial project metrics
-        new ProjectMetricsUpdateTask().inform(new ProjectMetricsUpdateEvent(project.getUuid()));
+        new ProjectMetricsUpdateTask().submit(new ProjectMetricsUpdateEvent(project.getUuid())).join();
         final ProjectMetrics metrics = withJdbiHandle(handle -> handle.attach(MetricsDao.class).getMostRecentProjectMetrics(project.getId()));
         assertThat(metrics.getLastOccurrence()).isEqualTo(metrics.getFirstOccurrence());
 
         // Run the task a second time, without any metric being changed
         final var beforeSecondRun = new Date();
-        new ProjectMetricsUpdateTask().inform(new ProjectMetricsUpdateEvent(project.getUuid()));
+        new ProjectMetricsUpdateTask().submit(new ProjectMetricsUpdateEvent(project.getUuid())).join();
 
         // Two records should be created in today's partition since it's append-only
         var recentMetrics = withJdbiHandle(handle -> handle.attach(MetricsDao.class).getMostRecentProjectMetrics(project.getId()));
@@ -189,7 +217,7 @@ public class ProjectMetricsUpdateTaskTest extends AbstractMetricsUpdateTaskTest
 
         var projectMetricsUpdateEvent = new ProjectMetricsUpdateEvent(project.getUuid());
         qm.createWorkflowSteps(projectMetricsUpdateEvent.getChainIdentifier());
-        new ProjectMetricsUpdateTask().inform(projectMetricsUpdateEvent);
+        new ProjectMetricsUpdateTask().submit(projectMetricsUpdateEvent).join();
 
         final ProjectMetrics metrics = withJdbiHandle(handle -> handle.attach(MetricsDao.class).getMostRecentProjectMetrics(project.getId()));
         assertThat(metrics.getComponents()).isEqualTo(3);
@@ -299,7 +327,7 @@ public class ProjectMetricsUpdateTaskTest extends AbstractMetricsUpdateTaskTest
             dao.createDependencyMetrics(componentSuppressedOldMetrics);
         });
 
-        new ProjectMetricsUpdateTask().inform(new ProjectMetricsUpdateEvent(project.getUuid()));
+        new ProjectMetricsUpdateTask().submit(new ProjectMetricsUpdateEvent(project.getUuid())).join();
 
         final ProjectMetrics metrics = withJdbiHandle(handle -> handle.attach(MetricsDao.class).getMostRecentProjectMetrics(project.getId()));
         assertThat(metrics.getComponents()).isEqualTo(3);
@@ -7,12 +7,12 @@ CREATE OR REPLACE FUNCTION has_project_access(
   STABLE
 AS
 $$
+-- PROJECT_ACCESS_CLOSURE already accounts for access inherited from ancestor projects.
+-- It is maintained by triggers on PROJECT_ACCESS_TEAMS and PROJECT_HIERARCHY.
 SELECT EXISTS(
   SELECT 1
-    FROM "PROJECT_ACCESS_TEAMS"
-   INNER JOIN "PROJECT_HIERARCHY"
-      ON "PROJECT_HIERARCHY"."PARENT_PROJECT_ID" = "PROJECT_ACCESS_TEAMS"."PROJECT_ID"
-   WHERE "PROJECT_ACCESS_TEAMS"."TEAM_ID" = ANY(team_ids)
-     AND "PROJECT_HIERARCHY"."CHILD_PROJECT_ID" = project_id
+    FROM "PROJECT_ACCESS_CLOSURE"
+   WHERE "PROJECT_ACCESS_CLOSURE"."PROJECT_ID" = project_id
+     AND "PROJECT_ACCESS_CLOSURE"."TEAM_ID" = ANY(team_ids)
 )
-$$;
\ No newline at end of file
+$$;